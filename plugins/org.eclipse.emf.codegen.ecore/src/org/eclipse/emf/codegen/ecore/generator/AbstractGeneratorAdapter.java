@@ -28,6 +28,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -2048,98 +2049,36 @@ public abstract class AbstractGeneratorAdapter extends SingletonAdapterImpl impl
 
       setLineDelimiter(getLineDelimiter(targetFile, targetFileEncoding));
       String emitterResult = jetEmitter.generate(createMonitor(monitor, 1), arguments, getLineDelimiter());
-      boolean changed = true;
-      String newContents = emitterResult;
 
-      Options options = getGenerator().getOptions();
-
-      if (jMerger != null)
-      {
-        jMerger.setFixInterfaceBrace(jControlModel.getFacadeHelper().fixInterfaceBrace());
-        
-        try
-        {
-          jMerger.setSourceCompilationUnit(emitterResult);
-        }
-        catch (RuntimeException runtimeException)
-        {
-          if (targetFileContents != null)
-          {
-            throw runtimeException;
-          }
-          else
-          {
-            jMerger = null;
-          }
-        }
-
-        if (jMerger != null)
-        {
-          // Create a code formatter for this compilation unit, if needed.
-          //
-          Object codeFormatter = options.codeFormatting ?
-            createCodeFormatter(options.codeFormatterOptions, targetFile) : null;
-  
-          if (targetFileContents != null)
-          {
-            monitor.subTask(CodeGenEcorePlugin.INSTANCE.getString("_UI_ExaminingOld_message", new Object[] { targetFile }));
-  
-            monitor.subTask(CodeGenEcorePlugin.INSTANCE.getString("_UI_PreparingNew_message", new Object[] { targetFile }));
-            jMerger.merge();
-  
-            newContents = formatCode(jMerger.getTargetCompilationUnitContents(), codeFormatter, options.commentFormatting);
-            if (options.importOrganizing)
-            {
-              newContents = organizeImports(targetFile.toString(), newContents);
-            }
-            changed = !targetFileContents.equals(newContents);
-  
-            // If the target is read-only, we can ask the platform to release it, and it may be updated in the process.
-            //
-            if (changed && isReadOnly(targetFile) && validateEdit(targetFile, createMonitor(monitor, 1)))
-            {
-              jMerger.setTargetCompilationUnit(jMerger.createCompilationUnitForInputStream(createInputStream(targetFile), targetFileEncoding));
-              jMerger.remerge();
-              newContents = formatCode(jMerger.getTargetCompilationUnitContents(), codeFormatter, options.commentFormatting);
-              if (options.importOrganizing)
-              {
-                newContents = organizeImports(targetFile.toString(), newContents);
-              }
-            }
-          }
-          else
-          {
-            changed = true;
-            monitor.subTask(CodeGenEcorePlugin.INSTANCE.getString("_UI_PreparingNew_message", new Object[] { targetFile }));
-
-            jMerger.merge();
-            newContents = formatCode(jMerger.getTargetCompilationUnitContents(), codeFormatter, options.commentFormatting);
-          }
-  
-          if (jControlModel.getFacadeHelper() != null)
-          {
-            jControlModel.getFacadeHelper().reset();
-          }
-        }
-      }
-
-      if (jMerger == null)
-      {
-        newContents = 
-          CodeGenUtil.convertFormat(jControlModel.getLeadingTabReplacement(), jControlModel.convertToStandardBraceStyle(), emitterResult);
-        if (targetFileContents != null)
-        {
-          monitor.subTask(CodeGenEcorePlugin.INSTANCE.getString("_UI_ExaminingOld_message", new Object[] { targetFile }));
-          changed = !targetFileContents.equals(newContents);
-        }
-        else
-        {
-          changed = true;
-        }
-      }
+      // Merging and formatting don't involve the model, so they can proceed in parallel with the generation for other objects.
+      //
+      final URI mergeTargetFile = targetFile;
+      final String mergeTargetFileEncoding = targetFileEncoding;
+      final String mergeTargetFileContents = targetFileContents;
+      final JMerger mergeJMerger = jMerger;
+      final String mergeEmitterResult = emitterResult;
+      final Monitor mergeMonitor = monitor;
+      String newContents =
+        getGenerator().runConcurrently
+          (new Callable<String>()
+           {
+             public String call() throws Exception
+             {
+               return
+                 mergeJava
+                   (mergeTargetFile,
+                    mergeTargetFileEncoding,
+                    mergeTargetFileContents,
+                    jControlModel,
+                    mergeJMerger,
+                    mergeEmitterResult,
+                    mergeMonitor);
+             }
+           });
       monitor.worked(1);
 
-      if (changed)
+      Options options = getGenerator().getOptions();
+      if (newContents != null)
       {
         String encoding = targetFileEncoding;
         byte[] bytes = encoding == null ? newContents.getBytes() : newContents.getBytes(encoding);
@@ -2186,6 +2125,124 @@ public abstract class AbstractGeneratorAdapter extends SingletonAdapterImpl impl
     }
   }
 
+  /**
+   * Merges the contents emitted for a Java source file with the existing contents of the target file, if any,
+   * and formats the result, as {@link #generateJava(String, String, String, JETEmitter, Object[], Monitor) generateJava}
+   * requires.
+   * This doesn't access the model, so when the generator is {@link Generator#setExecutor(java.util.concurrent.Executor) generating in parallel},
+   * it's {@link Generator#runConcurrently(Callable) run concurrently} with the generation for other objects.
+   * 
+   * @param targetFile the workspace path of the target file.
+   * @param targetFileEncoding the encoding of the target file.
+   * @param targetFileContents the existing contents of the target file, or <code>null</code> if it isn't being merged.
+   * @param jControlModel the generator's <code>JControlModel</code>.
+   * @param jMerger the merger, primed with the existing target compilation unit if it's being merged, or <code>null</code>.
+   * @param emitterResult the contents emitted for the file.
+   * @param monitor the <code>Monitor</code> through which to report progress.
+   * @return the new contents, or <code>null</code> if they're the same as the existing contents.
+   * @since 2.41
+   */
+  protected String mergeJava
+    (URI targetFile,
+     String targetFileEncoding,
+     String targetFileContents,
+     JControlModel jControlModel,
+     JMerger jMerger,
+     String emitterResult,
+     Monitor monitor) throws Exception
+  {
+    boolean changed = true;
+    String newContents = emitterResult;
+    Options options = getGenerator().getOptions();
+
+    if (jMerger != null)
+    {
+      jMerger.setFixInterfaceBrace(jControlModel.getFacadeHelper().fixInterfaceBrace());
+      
+      try
+      {
+        jMerger.setSourceCompilationUnit(emitterResult);
+      }
+      catch (RuntimeException runtimeException)
+      {
+        if (targetFileContents != null)
+        {
+          throw runtimeException;
+        }
+        else
+        {
+          jMerger = null;
+        }
+      }
+
+      if (jMerger != null)
+      {
+        // Create a code formatter for this compilation unit, if needed.
+        //
+        Object codeFormatter = options.codeFormatting ?
+          createCodeFormatter(options.codeFormatterOptions, targetFile) : null;
+
+        if (targetFileContents != null)
+        {
+          monitor.subTask(CodeGenEcorePlugin.INSTANCE.getString("_UI_ExaminingOld_message", new Object[] { targetFile }));
+
+          monitor.subTask(CodeGenEcorePlugin.INSTANCE.getString("_UI_PreparingNew_message", new Object[] { targetFile }));
+          jMerger.merge();
+
+          newContents = formatCode(jMerger.getTargetCompilationUnitContents(), codeFormatter, options.commentFormatting);
+          if (options.importOrganizing)
+          {
+            newContents = organizeImports(targetFile.toString(), newContents);
+          }
+          changed = !targetFileContents.equals(newContents);
+
+          // If the target is read-only, we can ask the platform to release it, and it may be updated in the process.
+          //
+          if (changed && isReadOnly(targetFile) && validateEdit(targetFile, createMonitor(monitor, 1)))
+          {
+            jMerger.setTargetCompilationUnit(jMerger.createCompilationUnitForInputStream(createInputStream(targetFile), targetFileEncoding));
+            jMerger.remerge();
+            newContents = formatCode(jMerger.getTargetCompilationUnitContents(), codeFormatter, options.commentFormatting);
+            if (options.importOrganizing)
+            {
+              newContents = organizeImports(targetFile.toString(), newContents);
+            }
+          }
+        }
+        else
+        {
+          changed = true;
+          monitor.subTask(CodeGenEcorePlugin.INSTANCE.getString("_UI_PreparingNew_message", new Object[] { targetFile }));
+
+          jMerger.merge();
+          newContents = formatCode(jMerger.getTargetCompilationUnitContents(), codeFormatter, options.commentFormatting);
+        }
+
+        if (jControlModel.getFacadeHelper() != null)
+        {
+          jControlModel.getFacadeHelper().reset();
+        }
+      }
+    }
+
+    if (jMerger == null)
+    {
+      newContents = 
+        CodeGenUtil.convertFormat(jControlModel.getLeadingTabReplacement(), jControlModel.convertToStandardBraceStyle(), emitterResult);
+      if (targetFileContents != null)
+      {
+        monitor.subTask(CodeGenEcorePlugin.INSTANCE.getString("_UI_ExaminingOld_message", new Object[] { targetFile }));
+        changed = !targetFileContents.equals(newContents);
+      }
+      else
+      {
+        changed = true;
+      }
+    }
+
+    return changed ? newContents : null;
+  }
+
   /**
    * Converts the given workspace path to a <code>URI</code>. No encoding is performed, so the URI may contain invalid
    * characters. Such a URI is only used to easily access and manipulate parts of the workspace path. It can then be
@@ -16,10 +16,20 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IWorkspaceRoot;
@@ -33,6 +43,7 @@ import org.eclipse.emf.codegen.util.CodeGenUtil;
 import org.eclipse.emf.common.CommonPlugin;
 import org.eclipse.emf.common.notify.AdapterFactory;
 import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.BasicMonitor;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.Monitor;
 import org.eclipse.emf.common.util.URI;
@@ -78,6 +89,9 @@ import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
  * <p>
  * The adapter factories for the input object handle initializing the generator's {@link #getOptions() options}, and the
  * generator walks the tree of objects defined by the relevant adapters, invoking code generation for each one.
+ * 
+ * <p>
+ * If an {@link #setExecutor(Executor) executor} is specified, code is generated in parallel for the objects at each level of the tree.
  *
  * @since 2.2.0
  */
@@ -208,6 +222,29 @@ public class Generator
    */
   protected Set<URI> generatedOutputs = new LinkedHashSet<URI>();
 
+  /**
+   * The executor used to generate code in parallel, or <code>null</code> if code is generated sequentially.
+   * 
+   * @see #setExecutor(Executor)
+   * @since 2.41
+   */
+  protected Executor executor;
+
+  /**
+   * The lock that serializes all access to the model while generating code in parallel, or <code>null</code>.
+   * 
+   * @see #runConcurrently(Callable)
+   * @since 2.41
+   */
+  protected Lock lock;
+
+  /**
+   * The generator for which this generator was {@link #createParallelGenerator() created} to generate code in parallel, or <code>null</code>.
+   * 
+   * @since 2.41
+   */
+  protected Generator parallelGeneratorOwner;
+
   /**
    * Creates a generator that delegates directly to the {@link GeneratorAdapterFactory.Descriptor.Registry#INSTANCE global}
    * adapter factory descriptor registry.
@@ -286,6 +323,82 @@ public class Generator
     }
   }
 
+  /**
+   * Returns the executor used to generate code in parallel, or <code>null</code> if code is generated sequentially.
+   * 
+   * @see #setExecutor(Executor)
+   * @since 2.41
+   */
+  public Executor getExecutor()
+  {
+    return executor;
+  }
+
+  /**
+   * Sets the executor used to generate code in parallel; <code>null</code>, the default, specifies that code be generated sequentially.
+   * 
+   * <p>When generating in parallel, the {@link GeneratorAdapter#generate(Object, Object, Monitor) generate(Object, Object, Monitor)}
+   * invocations for the objects at each level of the tree, e.g., for all the packages and then for all the classes of a model,
+   * are submitted to the executor, each object as a separate task,
+   * and the next level is started only when all the tasks for the previous level are done.
+   * Each task uses the adapters of a {@link #createParallelGenerator() parallel generator} that's used by only one task at a time,
+   * so the state of the adapters isn't shared between threads.
+   * All the tasks hold the generator's lock while they access the model and write files,
+   * so they proceed in parallel only while doing work that is {@link #runConcurrently(Callable) explicitly run concurrently},
+   * such as {@link AbstractGeneratorAdapter#mergeJava(URI, String, String, JControlModel, org.eclipse.emf.codegen.merge.java.JMerger, String, Monitor) merging}
+   * and formatting Java source files.
+   * 
+   * @see #getExecutor()
+   * @since 2.41
+   */
+  public void setExecutor(Executor executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Calls the callable, which must not access the model, and returns its result.
+   * When generating code in parallel, the generator's lock is released while the callable runs,
+   * so that it runs concurrently with the generation for other objects.
+   * 
+   * @see #setExecutor(Executor)
+   * @since 2.41
+   */
+  public <T> T runConcurrently(Callable<T> callable) throws Exception
+  {
+    Lock lock = this.lock;
+    if (lock == null)
+    {
+      return callable.call();
+    }
+    else
+    {
+      lock.unlock();
+      try
+      {
+        return callable.call();
+      }
+      finally
+      {
+        lock.lock();
+      }
+    }
+  }
+
+  /**
+   * Creates a generator that's used to generate code for some of the objects when {@link #setExecutor(Executor) generating in parallel}.
+   * It shares this generator's input, options, lock, and generated outputs, but it has its own adapter factories, and hence its own adapters,
+   * as well as its own {@link #getJControlModel() JControlModel}.
+   * This implementation creates a generator with the same adapter factory descriptor registry;
+   * a subclass that specializes how adapters are obtained should override it to create an instance of that subclass.
+   * 
+   * @since 2.41
+   */
+  protected Generator createParallelGenerator()
+  {
+    return new Generator(getAdapterFactoryDescriptorRegistry());
+  }
+
   /**
    * Returns the {@link Options} for this generator. Note that these are accessible to (and can be set by) all of the
    * adapter factories and adapters supporting this generator and by clients of the generator itself.
@@ -566,11 +679,13 @@ public class Generator
   {
     public Object object;
     public GeneratorAdapter adapter;
+    public int depth;
 
-    public GeneratorData(Object object, GeneratorAdapter adapter)
+    public GeneratorData(Object object, GeneratorAdapter adapter, int depth)
     {
       this.object = object;
       this.adapter = adapter;
+      this.depth = depth;
     }
   }
 
@@ -600,6 +715,11 @@ public class Generator
     List<Object> result  = new ArrayList<Object>();
     result.add(object);
 
+    // Record the depth of each child, so that the objects at each level can be generated in parallel; parents have no depth.
+    //
+    Map<Object, Integer> depths = new HashMap<Object, Integer>();
+    depths.put(object, forChildren ? 0 : -1);
+
     for (int i = 0; i < result.size(); skipFirst = false)
     {
       Object o = result.get(i);
@@ -618,6 +738,7 @@ public class Generator
               if (objects.add(child))
               {
                 result.add(child);
+                depths.put(child, depths.get(o) + 1);
               }
             }
           }
@@ -627,12 +748,13 @@ public class Generator
             if (parent != null && objects.add(parent))
             {
               result.add(parent);
+              depths.put(parent, -1);
             }
           }
 
           if (!skipFirst)
           {
-            result.add(i++, new GeneratorData(o, adapter));
+            result.add(i++, new GeneratorData(o, adapter, depths.get(o)));
           }
         }
       }
@@ -783,14 +905,21 @@ public class Generator
 
       // Invoke generator adapters for each object.
       //
-      for (int i = 0; i < data.length && canContinue(result); i++)
+      if (executor == null)
       {
-        result.add(data[i].adapter.generate(data[i].object, projectType, CodeGenUtil.createMonitor(monitor, 1)));
-        if (monitor.isCanceled())
+        for (int i = 0; i < data.length && canContinue(result); i++)
         {
-          result.add(Diagnostic.CANCEL_INSTANCE);
+          result.add(data[i].adapter.generate(data[i].object, projectType, CodeGenUtil.createMonitor(monitor, 1)));
+          if (monitor.isCanceled())
+          {
+            result.add(Diagnostic.CANCEL_INSTANCE);
+          }
         }
       }
+      else
+      {
+        generateInParallel(data, projectType, monitor, result);
+      }
 
       // Give all generator adapters the chance to do tear down.
       //
@@ -816,6 +945,176 @@ public class Generator
     }
   }
 
+  private void generateInParallel(GeneratorData[] data, final Object projectType, final Monitor monitor, BasicDiagnostic result)
+  {
+    lock = new ReentrantLock();
+    final Queue<Generator> idleGenerators = new ConcurrentLinkedQueue<Generator>();
+    final List<Generator> parallelGenerators = new ArrayList<Generator>();
+    final AtomicBoolean canceled = new AtomicBoolean();
+    try
+    {
+      for (int i = 0; i < data.length && canContinue(result); )
+      {
+        // Gather the data for the objects at the next level of the tree, grouped by object, so that each object's adapters are invoked in order.
+        // Each parent is handled on its own.
+        //
+        Map<Object, List<GeneratorData>> levelData = new LinkedHashMap<Object, List<GeneratorData>>();
+        int depth = data[i].depth;
+        do
+        {
+          List<GeneratorData> objectData = levelData.get(data[i].object);
+          if (objectData == null)
+          {
+            objectData = new ArrayList<GeneratorData>();
+            levelData.put(data[i].object, objectData);
+          }
+          objectData.add(data[i]);
+        }
+        while (++i < data.length && depth >= 0 && data[i].depth == depth);
+
+        List<FutureTask<List<Diagnostic>>> tasks = new ArrayList<FutureTask<List<Diagnostic>>>(levelData.size());
+        for (final List<GeneratorData> objectData : levelData.values())
+        {
+          FutureTask<List<Diagnostic>> task =
+            new FutureTask<List<Diagnostic>>
+              (new Callable<List<Diagnostic>>()
+               {
+                 public List<Diagnostic> call() throws Exception
+                 {
+                   return generateObject(objectData, projectType, monitor, idleGenerators, parallelGenerators, canceled);
+                 }
+               });
+          tasks.add(task);
+          executor.execute(task);
+        }
+
+        // Collect the results in order, as sequential generation would produce them.
+        //
+        int index = 0;
+        for (List<GeneratorData> objectData : levelData.values())
+        {
+          try
+          {
+            for (Diagnostic diagnostic : tasks.get(index++).get())
+            {
+              result.add(diagnostic);
+            }
+          }
+          catch (InterruptedException exception)
+          {
+            Thread.currentThread().interrupt();
+            canceled.set(true);
+            result.add(Diagnostic.CANCEL_INSTANCE);
+          }
+          catch (ExecutionException exception)
+          {
+            result.add(BasicDiagnostic.toDiagnostic(exception.getCause()));
+          }
+          monitor.worked(objectData.size());
+          if (monitor.isCanceled())
+          {
+            canceled.set(true);
+            result.add(Diagnostic.CANCEL_INSTANCE);
+          }
+        }
+      }
+    }
+    finally
+    {
+      lock = null;
+      for (Generator parallelGenerator : parallelGenerators)
+      {
+        parallelGenerator.dispose();
+      }
+    }
+  }
+
+  /**
+   * Invokes the adapters of an idle parallel generator for the object of the given data,
+   * holding the lock except while the adapters {@link #runConcurrently(Callable) run concurrently}.
+   */
+  private List<Diagnostic> generateObject
+    (List<GeneratorData> objectData,
+     Object projectType,
+     final Monitor monitor,
+     Queue<Generator> idleGenerators,
+     List<Generator> parallelGenerators,
+     final AtomicBoolean canceled)
+  {
+    List<Diagnostic> result = new ArrayList<Diagnostic>(objectData.size());
+    lock.lock();
+    Generator parallelGenerator = idleGenerators.poll();
+    try
+    {
+      if (parallelGenerator == null)
+      {
+        parallelGenerator = createParallelGenerator();
+        parallelGenerator.parallelGeneratorOwner = this;
+        parallelGenerator.input = input;
+        parallelGenerator.options = getOptions();
+        parallelGenerator.initializeNeeded = false;
+        parallelGenerators.add(parallelGenerator);
+      }
+      parallelGenerator.lock = lock;
+
+      // The monitor of each task reports only cancellation; the progress is reported as each task is done.
+      //
+      Monitor taskMonitor =
+        new BasicMonitor()
+        {
+          @Override
+          public boolean isCanceled()
+          {
+            return canceled.get() || monitor.isCanceled();
+          }
+        };
+      for (GeneratorData generatorData : objectData)
+      {
+        if (taskMonitor.isCanceled())
+        {
+          break;
+        }
+        GeneratorAdapter adapter = parallelGenerator.getParallelAdapter(this, generatorData.object, generatorData.adapter);
+        Diagnostic diagnostic = adapter.generate(generatorData.object, projectType, CodeGenUtil.createMonitor(taskMonitor, 1));
+        result.add(diagnostic);
+        if (!canContinue(diagnostic))
+        {
+          canceled.set(true);
+        }
+      }
+    }
+    finally
+    {
+      idleGenerators.add(parallelGenerator);
+      lock.unlock();
+    }
+    return result;
+  }
+
+  /**
+   * Returns this parallel generator's counterpart of the owner's adapter for the object,
+   * i.e., the adapter created for the object by this generator's corresponding adapter factory,
+   * or the owner's adapter itself if it wasn't created by one of the owner's adapter factories.
+   */
+  private GeneratorAdapter getParallelAdapter(Generator owner, Object object, GeneratorAdapter adapter)
+  {
+    List<GeneratorAdapterFactory> ownerAdapterFactories = new ArrayList<GeneratorAdapterFactory>(owner.getAdapterFactories(object));
+    int index = ownerAdapterFactories.indexOf(adapter.getAdapterFactory());
+    if (index != -1)
+    {
+      List<GeneratorAdapterFactory> adapterFactories = new ArrayList<GeneratorAdapterFactory>(getAdapterFactories(object));
+      if (index < adapterFactories.size())
+      {
+        Object result = adapterFactories.get(index).adapt(object, GeneratorAdapter.class);
+        if (result instanceof GeneratorAdapter)
+        {
+          return (GeneratorAdapter)result;
+        }
+      }
+    }
+    return adapter;
+  }
+
   /**
    * Clients are not expect to implement this interface.
    * It can only be implemented if the JDT UI is available, because source cleanup actions are implemented there.
@@ -892,7 +1191,14 @@ public class Generator
    */
   public void generatedOutput(URI workspacePath)
   {
-    generatedOutputs.add(workspacePath);
+    if (parallelGeneratorOwner != null)
+    {
+      parallelGeneratorOwner.generatedOutput(workspacePath);
+    }
+    else
+    {
+      generatedOutputs.add(workspacePath);
+    }
   }
 
   /**
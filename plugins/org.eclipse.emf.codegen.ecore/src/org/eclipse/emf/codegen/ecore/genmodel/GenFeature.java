@@ -42,6 +42,7 @@ import org.eclipse.emf.ecore.EStructuralFeature;
  *   <li>{@link org.eclipse.emf.codegen.ecore.genmodel.GenFeature#isSuppressedIsSetVisibility <em>Suppressed Is Set Visibility</em>}</li>
  *   <li>{@link org.eclipse.emf.codegen.ecore.genmodel.GenFeature#isSuppressedUnsetVisibility <em>Suppressed Unset Visibility</em>}</li>
  *   <li>{@link org.eclipse.emf.codegen.ecore.genmodel.GenFeature#getPropertyEditorFactory <em>Property Editor Factory</em>}</li>
+ *   <li>{@link org.eclipse.emf.codegen.ecore.genmodel.GenFeature#isPrimitiveList <em>Primitive List</em>}</li>
  * </ul>
  *
  * @see org.eclipse.emf.codegen.ecore.genmodel.GenModelPackage#getGenFeature()
@@ -495,6 +496,39 @@ public interface GenFeature extends GenTypedElement
    */
   void setPropertyEditorFactory(String value);
 
+  /**
+   * Returns the value of the '<em><b>Primitive List</b></em>' attribute.
+   * <!-- begin-user-doc -->
+   * <p>
+   * Whether the values of a many-valued attribute of type <code>int</code>, <code>long</code>, <code>double</code>, or <code>boolean</code>
+   * are stored in an array of that primitive type, i.e., in an {@link org.eclipse.emf.ecore.util.EDataTypePrimitiveEList},
+   * rather than as boxed objects.
+   * It has no effect for any other kind of feature.
+   * </p>
+   * <!-- end-user-doc -->
+   * <!-- begin-model-doc -->
+   * @since 2.41
+   * <!-- end-model-doc -->
+   * @return the value of the '<em>Primitive List</em>' attribute.
+   * @see #setPrimitiveList(boolean)
+   * @see org.eclipse.emf.codegen.ecore.genmodel.GenModelPackage#getGenFeature_PrimitiveList()
+   * @see #isPrimitiveListType()
+   * @model
+   * @generated
+   */
+  boolean isPrimitiveList();
+
+  /**
+   * Sets the value of the '{@link org.eclipse.emf.codegen.ecore.genmodel.GenFeature#isPrimitiveList <em>Primitive List</em>}' attribute.
+   * <!-- begin-user-doc -->
+   * <!-- end-user-doc -->
+   * @param value the new value of the '<em>Primitive List</em>' attribute.
+   * @see #isPrimitiveList()
+   * @since 2.41
+   * @generated
+   */
+  void setPrimitiveList(boolean value);
+
   void initialize(EStructuralFeature eFeature);
 
   //
@@ -549,4 +583,19 @@ public interface GenFeature extends GenTypedElement
    * @since 2.8
    */
   String getGetterBody(String indentation);
+
+  /**
+   * Returns whether the values of this feature are stored in a {@link org.eclipse.emf.ecore.util.EDataTypePrimitiveEList primitive list},
+   * i.e., whether it's a many-valued attribute of type <code>int</code>, <code>long</code>, <code>double</code>, or <code>boolean</code>
+   * for which that's been {@link #isPrimitiveList() requested}.
+   * @since 2.41
+   */
+  boolean isPrimitiveListType();
+
+  /**
+   * Returns the qualified name of the primitive list class used to store the values of this feature,
+   * or <code>null</code> if it's not a {@link #isPrimitiveListType() primitive list type}.
+   * @since 2.41
+   */
+  String getQualifiedPrimitiveListClassName();
 }
@@ -3451,6 +3451,18 @@ public class GenClassImpl extends GenClassifierImpl implements GenClass
           sb.append(")");
         }
       }
+      else if (genFeature.isPrimitiveListType())
+      {
+        sb.append(getGenModel().getImportedName(genFeature.getQualifiedPrimitiveListClassName()));
+        sb.append("(this, ");
+        sb.append(getQualifiedFeatureID(genFeature));
+        sb.append(offsetCorrectionField);
+        if (genFeature.isUnsettable())
+        {
+          sb.append(", true");
+        }
+        sb.append(")");
+      }
       else
       { //data type
         if (genFeature.isUnique())
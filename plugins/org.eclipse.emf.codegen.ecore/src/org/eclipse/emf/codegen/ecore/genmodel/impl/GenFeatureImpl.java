@@ -75,6 +75,7 @@ import org.eclipse.emf.ecore.xml.type.XMLTypePackage;
  *   <li>{@link org.eclipse.emf.codegen.ecore.genmodel.impl.GenFeatureImpl#isSuppressedUnsetVisibility <em>Suppressed Unset Visibility</em>}</li>
  *   <li>{@link org.eclipse.emf.codegen.ecore.genmodel.impl.GenFeatureImpl#getGet <em>Get</em>}</li>
  *   <li>{@link org.eclipse.emf.codegen.ecore.genmodel.impl.GenFeatureImpl#getPropertyEditorFactory <em>Property Editor Factory</em>}</li>
+ *   <li>{@link org.eclipse.emf.codegen.ecore.genmodel.impl.GenFeatureImpl#isPrimitiveList <em>Primitive List</em>}</li>
  * </ul>
  *
  * @generated
@@ -462,6 +463,28 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
    */
   protected boolean propertyEditorFactoryESet;
 
+  /**
+   * The default value of the '{@link #isPrimitiveList() <em>Primitive List</em>}' attribute.
+   * <!-- begin-user-doc -->
+   * <!-- end-user-doc -->
+   * @see #isPrimitiveList()
+   * @since 2.41
+   * @generated
+   * @ordered
+   */
+  protected static final boolean PRIMITIVE_LIST_EDEFAULT = false;
+
+  /**
+   * The cached value of the '{@link #isPrimitiveList() <em>Primitive List</em>}' attribute.
+   * <!-- begin-user-doc -->
+   * <!-- end-user-doc -->
+   * @see #isPrimitiveList()
+   * @since 2.41
+   * @generated
+   * @ordered
+   */
+  protected boolean primitiveList = PRIMITIVE_LIST_EDEFAULT;
+
   /**
    * <!-- begin-user-doc -->
    * <!-- end-user-doc -->
@@ -943,6 +966,8 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
         return getGet();
       case GenModelPackage.GEN_FEATURE__PROPERTY_EDITOR_FACTORY:
         return getPropertyEditorFactory();
+      case GenModelPackage.GEN_FEATURE__PRIMITIVE_LIST:
+        return isPrimitiveList();
     }
     return super.eGet(featureID, resolve, coreType);
   }
@@ -1010,6 +1035,9 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
       case GenModelPackage.GEN_FEATURE__PROPERTY_EDITOR_FACTORY:
         setPropertyEditorFactory((String)newValue);
         return;
+      case GenModelPackage.GEN_FEATURE__PRIMITIVE_LIST:
+        setPrimitiveList((Boolean)newValue);
+        return;
     }
     super.eSet(featureID, newValue);
   }
@@ -1075,6 +1103,9 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
       case GenModelPackage.GEN_FEATURE__PROPERTY_EDITOR_FACTORY:
         unsetPropertyEditorFactory();
         return;
+      case GenModelPackage.GEN_FEATURE__PRIMITIVE_LIST:
+        setPrimitiveList(PRIMITIVE_LIST_EDEFAULT);
+        return;
     }
     super.eUnset(featureID);
   }
@@ -1123,6 +1154,8 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
         return isSetGet();
       case GenModelPackage.GEN_FEATURE__PROPERTY_EDITOR_FACTORY:
         return isSetPropertyEditorFactory();
+      case GenModelPackage.GEN_FEATURE__PRIMITIVE_LIST:
+        return primitiveList != PRIMITIVE_LIST_EDEFAULT;
     }
     return super.eIsSet(featureID);
   }
@@ -1168,6 +1201,8 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
     if (getESet) result.append(get); else result.append("<unset>");
     result.append(", propertyEditorFactory: ");
     if (propertyEditorFactoryESet) result.append(propertyEditorFactory); else result.append("<unset>");
+    result.append(", primitiveList: ");
+    result.append(primitiveList);
     result.append(')');
     return result.toString();
   }
@@ -2220,6 +2255,31 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
     return propertyEditorFactoryESet;
   }
 
+  /**
+   * <!-- begin-user-doc -->
+   * <!-- end-user-doc -->
+   * @since 2.41
+   * @generated
+   */
+  public boolean isPrimitiveList()
+  {
+    return primitiveList;
+  }
+
+  /**
+   * <!-- begin-user-doc -->
+   * <!-- end-user-doc -->
+   * @since 2.41
+   * @generated
+   */
+  public void setPrimitiveList(boolean newPrimitiveList)
+  {
+    boolean oldPrimitiveList = primitiveList;
+    primitiveList = newPrimitiveList;
+    if (eNotificationRequired())
+      eNotify(new ENotificationImpl(this, Notification.SET, GenModelPackage.GEN_FEATURE__PRIMITIVE_LIST, oldPrimitiveList, primitiveList));
+  }
+
   /**
    * <!-- begin-user-doc -->
    * <!-- end-user-doc -->
@@ -2550,6 +2610,7 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
     setPropertyDescription(oldGenFeatureVersion.getPropertyDescription());
     setPropertyMultiLine(oldGenFeatureVersion.isPropertyMultiLine());
     setPropertySortChoices(oldGenFeatureVersion.isPropertySortChoices());
+    setPrimitiveList(oldGenFeatureVersion.isPrimitiveList());
 
     getPropertyFilterFlags().addAll(oldGenFeatureVersion.getPropertyFilterFlags());
     reconcileGenAnnotations(oldGenFeatureVersion);
@@ -2676,6 +2737,36 @@ public class GenFeatureImpl extends GenTypedElementImpl implements GenFeature
     return isVolatile() || isDerived();
   }
 
+  public boolean isPrimitiveListType()
+  {
+    return getQualifiedPrimitiveListClassName() != null;
+  }
+
+  public String getQualifiedPrimitiveListClassName()
+  {
+    if (isPrimitiveList() && isListType() && !isReferenceType() && !isFeatureMapType() && !isMapType())
+    {
+      Class<?> instanceClass = getInstanceClass(getEcoreFeature().getEType());
+      if (instanceClass == Integer.TYPE)
+      {
+        return "org.eclipse.emf.ecore.util.EDataTypeIntEList";
+      }
+      else if (instanceClass == Long.TYPE)
+      {
+        return "org.eclipse.emf.ecore.util.EDataTypeLongEList";
+      }
+      else if (instanceClass == Double.TYPE)
+      {
+        return "org.eclipse.emf.ecore.util.EDataTypeDoubleEList";
+      }
+      else if (instanceClass == Boolean.TYPE)
+      {
+        return "org.eclipse.emf.ecore.util.EDataTypeBooleanEList";
+      }
+    }
+    return null;
+  }
+
   public boolean hasSettingDelegate()
   {
     EStructuralFeature ecoreFeature = getEcoreFeature();
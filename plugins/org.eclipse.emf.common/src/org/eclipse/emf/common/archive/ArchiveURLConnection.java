@@ -21,6 +21,11 @@ import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
@@ -63,11 +68,437 @@ import org.eclipse.emf.common.util.URI;
  * The logic for accessing archives can be tailored and reused independant from its usage as a URL connection.
  * This is normally done by using the constructor {@link #ArchiveURLConnection(String)}
  * and overriding {@link #createInputStream(String)} and {@link #createOutputStream(String)}.
- * The behavior can be tailored by overriding {@link #emulateArchiveScheme()} and {@link #useZipFile()}.
+ * The behavior can be tailored by overriding {@link #emulateArchiveScheme()}, {@link #useZipFile()}, and {@link #useZipFileCache()}.
  * </p>
  */
 public class ArchiveURLConnection extends URLConnection
 {
+  /**
+   * A shared cache of open {@link ZipFile zip files}, i.e., of their indexed central directories,
+   * so that repeatedly accessing the entries of an archive doesn't reopen and rescan the archive each time.
+   * Each zip file is validated against the time stamp and length of its file whenever it's accessed, and is reopened if the file has changed.
+   * An archive nested within another archive is extracted once, without holding the cache's lock, to a temporary file that's then opened as a cached zip file.
+   * When there are more than the maximum number of zip files open, including those of nested archives,
+   * the least recently used ones are evicted, and each evicted zip file is closed as soon as no stream of its entries remains open;
+   * the temporary file of an evicted nested archive is deleted once it's closed.
+   * @see ArchiveURLConnection#useZipFileCache()
+   * @since 2.41
+   */
+  public static class ZipFileCache
+  {
+    /**
+     * The cache shared by all connections.
+     */
+    public static final ZipFileCache INSTANCE = new ZipFileCache(16);
+
+    /**
+     * An open zip file along with the state of its file when it was opened.
+     */
+    protected static class CachedZipFile
+    {
+      protected final File file;
+
+      protected final long timeStamp;
+
+      protected final long length;
+
+      protected final ZipFile zipFile;
+
+      /**
+       * The nested archive whose temporary file this zip file reads, or <code>null</code>.
+       */
+      protected NestedArchive nestedArchive;
+
+      /**
+       * The number of streams of its entries that are open.
+       */
+      protected int references;
+
+      protected boolean isEvicted;
+
+      public CachedZipFile(File file) throws IOException
+      {
+        this.file = file;
+        timeStamp = file.lastModified();
+        length = file.length();
+        zipFile = new ZipFile(file);
+      }
+
+      /**
+       * Returns the file of the zip file, which, for a nested archive, remains available only while a reference to it is held.
+       */
+      public File getFile()
+      {
+        return file;
+      }
+
+      /**
+       * Returns whether the file is unchanged since the zip file was opened.
+       */
+      public boolean isValid()
+      {
+        return file.lastModified() == timeStamp && file.length() == length;
+      }
+
+      public void close()
+      {
+        try
+        {
+          zipFile.close();
+        }
+        catch (IOException exception)
+        {
+          // Ignore.
+        }
+      }
+    }
+
+    /**
+     * A nested archive extracted to a temporary file, along with the state of the containing archive's file when it was extracted.
+     */
+    protected static class NestedArchive
+    {
+      protected final String key;
+
+      protected final long sourceTimeStamp;
+
+      protected final long sourceLength;
+
+      protected final File file;
+
+      public NestedArchive(String key, CachedZipFile source, File file)
+      {
+        this.key = key;
+        sourceTimeStamp = source.timeStamp;
+        sourceLength = source.length;
+        this.file = file;
+      }
+
+      /**
+       * Returns whether the archive was extracted from the same state of the containing archive's file as that of the given zip file.
+       */
+      public boolean isValid(CachedZipFile source)
+      {
+        return sourceTimeStamp == source.timeStamp && sourceLength == source.length && file.exists();
+      }
+    }
+
+    /**
+     * The maximum number of zip files retained before the least recently used ones are evicted.
+     */
+    protected final int maximumSize;
+
+    /**
+     * The open zip files, keyed by their file, in least recently used order.
+     */
+    protected final LinkedHashMap<File, CachedZipFile> zipFiles = new LinkedHashMap<File, CachedZipFile>(16, 0.75f, true);
+
+    /**
+     * The extracted nested archives, keyed by the path of the containing archive's file followed by <code>!/</code> and the entry name.
+     * Each one's zip file is in the {@link #zipFiles open zip files}, so the nested archives are evicted along with them.
+     */
+    protected final Map<String, NestedArchive> nestedArchives = new HashMap<String, NestedArchive>();
+
+    /**
+     * Creates an instance that retains at most the given number of open zip files.
+     */
+    public ZipFileCache(int maximumSize)
+    {
+      this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the valid open zip file for the file, opening it if necessary, and records a reference to it.
+     * Each call must be balanced by a call to {@link #release(CachedZipFile)}.
+     */
+    protected synchronized CachedZipFile acquire(File file) throws IOException
+    {
+      CachedZipFile cachedZipFile = zipFiles.get(file);
+      if (cachedZipFile != null && !cachedZipFile.isValid())
+      {
+        evict(cachedZipFile);
+        cachedZipFile = null;
+      }
+      if (cachedZipFile == null)
+      {
+        cachedZipFile = new CachedZipFile(file);
+        zipFiles.put(file, cachedZipFile);
+        for (Iterator<CachedZipFile> i = zipFiles.values().iterator(); zipFiles.size() > maximumSize && i.hasNext(); )
+        {
+          CachedZipFile eldest = i.next();
+          if (eldest != cachedZipFile)
+          {
+            i.remove();
+            evict(eldest);
+          }
+        }
+      }
+      ++cachedZipFile.references;
+      return cachedZipFile;
+    }
+
+    /**
+     * Releases a reference recorded by {@link #acquire(File)}, closing the zip file if it's been evicted and is no longer referenced.
+     */
+    protected synchronized void release(CachedZipFile cachedZipFile)
+    {
+      if (--cachedZipFile.references == 0 && cachedZipFile.isEvicted)
+      {
+        close(cachedZipFile);
+      }
+    }
+
+    /**
+     * Removes the zip file from the cache and closes it, or arranges for it to be closed once it's no longer referenced.
+     */
+    protected synchronized void evict(CachedZipFile cachedZipFile)
+    {
+      if (zipFiles.get(cachedZipFile.file) == cachedZipFile)
+      {
+        zipFiles.remove(cachedZipFile.file);
+      }
+      NestedArchive nestedArchive = cachedZipFile.nestedArchive;
+      if (nestedArchive != null && nestedArchives.get(nestedArchive.key) == nestedArchive)
+      {
+        nestedArchives.remove(nestedArchive.key);
+      }
+      cachedZipFile.isEvicted = true;
+      if (cachedZipFile.references == 0)
+      {
+        close(cachedZipFile);
+      }
+    }
+
+    /**
+     * Closes the evicted zip file and deletes the temporary file of its nested archive, if it has one.
+     */
+    protected void close(CachedZipFile cachedZipFile)
+    {
+      cachedZipFile.close();
+      if (cachedZipFile.nestedArchive != null)
+      {
+        cachedZipFile.file.delete();
+      }
+    }
+
+    /**
+     * Evicts any zip file open for the file, e.g., because the file is about to be replaced.
+     */
+    public synchronized void evict(File file)
+    {
+      CachedZipFile cachedZipFile = zipFiles.get(file);
+      if (cachedZipFile != null)
+      {
+        evict(cachedZipFile);
+      }
+    }
+
+    /**
+     * Returns the number of zip files in the cache, including those of the extracted nested archives.
+     */
+    public synchronized int size()
+    {
+      return zipFiles.size();
+    }
+
+    /**
+     * Evicts all the zip files, and so all the extracted nested archives,
+     * each of which is deleted once no stream of its entries remains open.
+     */
+    public synchronized void clear()
+    {
+      for (CachedZipFile cachedZipFile : new ArrayList<CachedZipFile>(zipFiles.values()))
+      {
+        evict(cachedZipFile);
+      }
+    }
+
+    /**
+     * Returns the entry of the archive file, or <code>null</code> if there is no such entry.
+     */
+    protected ZipEntry getEntry(File file, String entryName) throws IOException
+    {
+      CachedZipFile cachedZipFile = acquire(file);
+      try
+      {
+        return cachedZipFile.zipFile.getEntry(entryName);
+      }
+      finally
+      {
+        release(cachedZipFile);
+      }
+    }
+
+    /**
+     * Returns an input stream for the entry of the archive file.
+     * The zip file remains open at least until the stream is closed.
+     */
+    protected InputStream getInputStream(File file, ZipEntry zipEntry) throws IOException
+    {
+      CachedZipFile cachedZipFile = acquire(file);
+      try
+      {
+        return getInputStream(cachedZipFile, zipEntry);
+      }
+      finally
+      {
+        release(cachedZipFile);
+      }
+    }
+
+    /**
+     * Returns an input stream for the entry of the {@link #acquire(File) acquired} zip file,
+     * recording another reference to the zip file that's released when the stream is closed.
+     */
+    protected InputStream getInputStream(final CachedZipFile cachedZipFile, ZipEntry zipEntry) throws IOException
+    {
+      synchronized (this)
+      {
+        ++cachedZipFile.references;
+      }
+      InputStream inputStream = null;
+      try
+      {
+        inputStream = cachedZipFile.zipFile.getInputStream(zipEntry);
+        if (inputStream == null)
+        {
+          throw new IOException("Archive entry not found " + zipEntry.getName());
+        }
+      }
+      finally
+      {
+        if (inputStream == null)
+        {
+          release(cachedZipFile);
+        }
+      }
+      return
+        new FilterInputStream(inputStream)
+        {
+          protected boolean isClosed;
+
+          @Override
+          public void close() throws IOException
+          {
+            if (!isClosed)
+            {
+              isClosed = true;
+              try
+              {
+                super.close();
+              }
+              finally
+              {
+                release(cachedZipFile);
+              }
+            }
+          }
+        };
+    }
+
+    /**
+     * Returns the valid open zip file of the archive that's the given entry of the {@link #acquire(File) acquired} zip file,
+     * extracting the entry to a temporary file if necessary, and records a reference to it.
+     * The extraction is done without holding this cache's lock.
+     * Each call must be balanced by a call to {@link #release(CachedZipFile)}.
+     */
+    protected CachedZipFile acquireNestedArchive(CachedZipFile source, String entryName) throws IOException
+    {
+      String key = source.file.getPath() + "!/" + entryName;
+      synchronized (this)
+      {
+        CachedZipFile result = getValidNestedArchive(key, source);
+        if (result != null)
+        {
+          return result;
+        }
+      }
+
+      ZipEntry zipEntry = source.zipFile.getEntry(entryName);
+      if (zipEntry == null)
+      {
+        throw new IOException("Archive entry not found " + entryName);
+      }
+      File temporaryFile = File.createTempFile("Archive", ".zip");
+      temporaryFile.deleteOnExit();
+      boolean isExtracted = false;
+      try
+      {
+        InputStream inputStream = source.zipFile.getInputStream(zipEntry);
+        try
+        {
+          OutputStream outputStream = new FileOutputStream(temporaryFile);
+          try
+          {
+            byte [] bytes = new byte [8192];
+            for (int size; (size = inputStream.read(bytes, 0, bytes.length)) > -1; )
+            {
+              outputStream.write(bytes, 0, size);
+            }
+          }
+          finally
+          {
+            outputStream.close();
+          }
+        }
+        finally
+        {
+          inputStream.close();
+        }
+
+        synchronized (this)
+        {
+          // Another thread may have extracted the same archive in the meantime.
+          //
+          CachedZipFile result = getValidNestedArchive(key, source);
+          if (result == null)
+          {
+            result = acquire(temporaryFile);
+            NestedArchive nestedArchive = new NestedArchive(key, source, temporaryFile);
+            result.nestedArchive = nestedArchive;
+            nestedArchives.put(key, nestedArchive);
+            isExtracted = true;
+          }
+          return result;
+        }
+      }
+      finally
+      {
+        if (!isExtracted)
+        {
+          temporaryFile.delete();
+        }
+      }
+    }
+
+    /**
+     * Returns the valid open zip file of the nested archive with the given key, recording a reference to it, or <code>null</code>,
+     * evicting the nested archive if it was extracted from a different state of the containing archive's file.
+     */
+    private CachedZipFile getValidNestedArchive(String key, CachedZipFile source) throws IOException
+    {
+      NestedArchive nestedArchive = nestedArchives.get(key);
+      if (nestedArchive != null)
+      {
+        CachedZipFile cachedZipFile = zipFiles.get(nestedArchive.file);
+        if (nestedArchive.isValid(source) && cachedZipFile != null)
+        {
+          return acquire(nestedArchive.file);
+        }
+        nestedArchives.remove(key);
+        if (cachedZipFile != null)
+        {
+          evict(cachedZipFile);
+        }
+        else
+        {
+          nestedArchive.file.delete();
+        }
+      }
+      return null;
+    }
+  }
+
   /**
    * The cached string version of the {@link #url URL}.
    */
@@ -131,6 +562,30 @@ public class ArchiveURLConnection extends URLConnection
   {
     return false;
   }
+
+  /**
+   * Returns whether, when {@link #useZipFile() using a zip file},
+   * the zip files should be retained in the {@link #getZipFileCache() zip file cache},
+   * so that repeated access to the entries of an archive, and to the entries of the archives nested within it,
+   * is direct rather than requiring the archive to be reopened and scanned.
+   * @return whether to use the zip file cache.
+   * @since 2.41
+   */
+  protected boolean useZipFileCache()
+  {
+    return false;
+  }
+
+  /**
+   * Returns the cache used when {@link #useZipFileCache() using the zip file cache}.
+   * This implementation returns the {@link ZipFileCache#INSTANCE shared instance}.
+   * @return the zip file cache.
+   * @since 2.41
+   */
+  protected ZipFileCache getZipFileCache()
+  {
+    return ZipFileCache.INSTANCE;
+  }
         
   /**
    * Record that this is connected.
@@ -213,6 +668,44 @@ public class ArchiveURLConnection extends URLConnection
       //
       inputStream =  createInputStream(nestedURL);
     }
+    else if (useZipFileCache())
+    {
+      // Go directly to the right entry in the cached zip file, extracting nested archives as needed.
+      //
+      // Each zip file remains referenced until the next one is, so that a nested archive can't be deleted while it's being accessed.
+      //
+      ZipFileCache zipFileCache = getZipFileCache();
+      ZipFileCache.CachedZipFile cachedZipFile = zipFileCache.acquire(new File(URI.decode(nestedURL.substring(5))));
+      try
+      {
+        for (;;)
+        {
+          String entry = 
+            URI.decode(nextArchiveSeparator < 0 ?
+                         urlString.substring(archiveSeparator + 2) :
+                         urlString.substring(archiveSeparator + 2, nextArchiveSeparator));
+          if (nextArchiveSeparator < 0)
+          {
+            inputZipEntry = cachedZipFile.zipFile.getEntry(entry);
+            if (inputZipEntry == null)
+            {
+              throw new IOException("Archive entry not found " + urlString);
+            }
+            return yield(inputZipEntry, zipFileCache.getInputStream(cachedZipFile, inputZipEntry));
+          }
+
+          ZipFileCache.CachedZipFile nestedZipFile = zipFileCache.acquireNestedArchive(cachedZipFile, entry);
+          zipFileCache.release(cachedZipFile);
+          cachedZipFile = nestedZipFile;
+          archiveSeparator = nextArchiveSeparator;
+          nextArchiveSeparator = urlString.indexOf("!/", archiveSeparator + 2);
+        }
+      }
+      finally
+      {
+        zipFileCache.release(cachedZipFile);
+      }
+    }
     else
     {
       // The name to be used for the entry.
@@ -520,6 +1013,10 @@ public class ArchiveURLConnection extends URLConnection
               if (useRenameTo)
               {
                 File targetFile = new File(URI.decode(nestedURL.substring(5)));
+                if (useZipFileCache())
+                {
+                  getZipFileCache().evict(targetFile);
+                }
                 if (deleteRequired && !targetFile.delete())
                 {
                   throw new IOException("cannot delete " + targetFile.getPath());
@@ -68,4 +68,18 @@ public interface Adapter
      */
     void unsetTarget(Notifier oldTarget);
   }
+
+  /**
+   * An interface implemented by adapters that support the {@link org.eclipse.emf.common.notify.impl.NotificationBatch batching} of notifications.
+   * While a batch is active on the thread making the changes,
+   * such an adapter isn't notified of each change as it happens;
+   * instead, the notifications are buffered per notifier and are coalesced,
+   * e.g., consecutive sets of the same feature are merged and consecutive adds are merged into a single {@link Notification#ADD_MANY},
+   * and the adapter is notified of the coalesced notifications when the batch ends.
+   * @since 2.41
+   */
+  interface Batching extends Adapter
+  {
+    // Only a marker interface.
+  }
 }
@@ -11,7 +11,16 @@
 package org.eclipse.emf.common.notify.impl;
 
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Array;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
@@ -357,6 +366,753 @@ public class BasicNotifierImpl implements Notifier
      }
   }
 
+  /**
+   * A thread-safe {@link EAdapterList adapter list} for notifiers whose adapters are added and removed by threads other than the one making changes.
+   * The adapters are held in an immutable array that's replaced, via compare-and-set, on each modification,
+   * so {@link BasicNotifierImpl#eNotify(Notification) notification} dispatch, and any other read, works on a consistent snapshot without locking.
+   * Iterators are also over a snapshot and hence never throw a {@link java.util.ConcurrentModificationException};
+   * only the {@link #iterator() iterator} supports removal.
+   * A notifier that uses this list must create it eagerly, e.g., in its constructor, rather than lazily in {@link BasicNotifierImpl#eAdapters() eAdapters()},
+   * and {@link #addListener(org.eclipse.emf.common.notify.impl.BasicNotifierImpl.EObservableAdapterList.Listener) listeners}
+   * should be added before the notifier is shared between threads.
+   * Unlike an {@link EAdapterList}, the list is {@link #isUnique() unique}:
+   * an adapter that's {@link #add(Object) added} while it's already in the list isn't added again, even when threads add it concurrently.
+   * <p>
+   * Assigning the list to an adapters field, such as {@link NotifierImpl#eAdapters}, only works for a notifier whose {@link BasicNotifierImpl#eBasicAdapters() eBasicAdapters()} returns that field.
+   * In particular, {@code MinimalEObjectImpl} ignores the field and instead creates, on each call to {@link BasicNotifierImpl#eAdapters() eAdapters()},
+   * a new list over an adapter array in its own storage, which can't be updated atomically.
+   * A derived implementation of it that wishes to use this list must hold the list in a field of its own
+   * and must override {@link BasicNotifierImpl#eAdapters() eAdapters()} and {@link BasicNotifierImpl#eBasicAdapters() eBasicAdapters()} to return it,
+   * and {@link BasicNotifierImpl#eBasicAdapterArray() eBasicAdapterArray()} and {@link BasicNotifierImpl#eBasicHasAdapters() eBasicHasAdapters()} to delegate to it.
+   * </p>
+   * @since 2.41
+   */
+  public static class ConcurrentEAdapterList<E extends Object & Adapter> extends EAdapterList<E>
+  {
+    private static final long serialVersionUID = 1L;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentEAdapterList, Object[]> ADAPTERS =
+      AtomicReferenceFieldUpdater.newUpdater(ConcurrentEAdapterList.class, Object[].class, "adapters");
+
+    /**
+     * The adapters, where <code>null</code> represents the lack of any adapters;
+     * an array is never modified once it's been assigned.
+     */
+    private transient volatile Object [] adapters;
+
+    public ConcurrentEAdapterList(Notifier notifier)
+    {
+      super(notifier);
+    }
+
+    private boolean compareAndSetAdapters(Object [] expectedAdapters, Object [] newAdapters)
+    {
+      return ADAPTERS.compareAndSet(this, expectedAdapters, newAdapters);
+    }
+
+    private static int indexOf(Object [] adapters, Object object)
+    {
+      if (adapters != null)
+      {
+        for (int i = 0; i < adapters.length; ++i)
+        {
+          if (adapters[i] == object)
+          {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Returns a copy of the adapters with the object at the source index moved to the target index,
+     * or the adapters themselves if the indices are the same.
+     */
+    private Object [] move(Object [] adapters, int targetIndex, int sourceIndex)
+    {
+      int size = adapters == null ? 0 : adapters.length;
+      if (targetIndex >= size)
+      {
+        throw new IndexOutOfBoundsException("targetIndex=" + targetIndex + ", size=" + size);
+      }
+      if (sourceIndex >= size)
+      {
+        throw new IndexOutOfBoundsException("sourceIndex=" + sourceIndex + ", size=" + size);
+      }
+      if (targetIndex == sourceIndex)
+      {
+        return adapters;
+      }
+
+      Object [] newAdapters = newData(size);
+      System.arraycopy(adapters, 0, newAdapters, 0, size);
+      Object object = adapters[sourceIndex];
+      if (targetIndex < sourceIndex)
+      {
+        System.arraycopy(adapters, targetIndex, newAdapters, targetIndex + 1, sourceIndex - targetIndex);
+      }
+      else if (targetIndex > sourceIndex)
+      {
+        System.arraycopy(adapters, sourceIndex + 1, newAdapters, sourceIndex, targetIndex - sourceIndex);
+      }
+      newAdapters[targetIndex] = object;
+      return newAdapters;
+    }
+
+    /**
+     * Returns the objects that aren't among the adapters, omitting any repeated object.
+     */
+    private static Object [] getNonDuplicates(Object [] adapters, Object [] objects)
+    {
+      Object [] nonDuplicates = new Object [objects.length];
+      int count = 0;
+      for (Object object : objects)
+      {
+        if (indexOf(adapters, object) == -1 && indexOf(nonDuplicates, object) == -1)
+        {
+          nonDuplicates[count++] = object;
+        }
+      }
+      if (count == objects.length)
+      {
+        return objects;
+      }
+      Object [] result = new Object [count];
+      System.arraycopy(nonDuplicates, 0, result, 0, count);
+      return result;
+    }
+
+    /**
+     * Inserts the objects at the index, or at the end if the index is <code>-1</code>, and returns the number of objects inserted.
+     * If the objects must be unique, those already in the list, as determined for the same snapshot of the adapters that's replaced, aren't inserted.
+     */
+    @SuppressWarnings("unchecked")
+    private int insertAll(int index, Object [] objects, int start, int end, boolean unique)
+    {
+      int count = end - start;
+      if (count <= 0)
+      {
+        return 0;
+      }
+
+      Object [] validatedObjects = new Object [count];
+      for (int i = 0; i < count; ++i)
+      {
+        validatedObjects[i] = validate(i, (E)objects[start + i]);
+      }
+
+      for (;;)
+      {
+        Object [] oldAdapters = adapters;
+        int size = oldAdapters == null ? 0 : oldAdapters.length;
+        int insertionIndex = index == -1 ? size : index;
+        if (insertionIndex > size)
+        {
+          throw new BasicIndexOutOfBoundsException(insertionIndex, size);
+        }
+
+        Object [] insertedObjects = unique ? getNonDuplicates(oldAdapters, validatedObjects) : validatedObjects;
+        int insertedCount = insertedObjects.length;
+        if (insertedCount == 0)
+        {
+          return 0;
+        }
+
+        Object [] newAdapters = newData(size + insertedCount);
+        if (oldAdapters != null)
+        {
+          System.arraycopy(oldAdapters, 0, newAdapters, 0, insertionIndex);
+          System.arraycopy(oldAdapters, insertionIndex, newAdapters, insertionIndex + insertedCount, size - insertionIndex);
+        }
+        System.arraycopy(insertedObjects, 0, newAdapters, insertionIndex, insertedCount);
+        if (compareAndSetAdapters(oldAdapters, newAdapters))
+        {
+          ++modCount;
+          for (int i = 0; i < insertedCount; ++i)
+          {
+            didAdd(insertionIndex + i, (E)insertedObjects[i]);
+          }
+          didChange();
+          return insertedCount;
+        }
+      }
+    }
+
+    /**
+     * Removes the adapters that are, or aren't, contained by the collection.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean removeAll(Collection<?> collection, boolean contained)
+    {
+      for (;;)
+      {
+        Object [] oldAdapters = adapters;
+        if (oldAdapters == null)
+        {
+          return false;
+        }
+
+        Object [] retainedAdapters = newData(oldAdapters.length);
+        int retainedCount = 0;
+        for (Object adapter : oldAdapters)
+        {
+          if (collection.contains(adapter) != contained)
+          {
+            retainedAdapters[retainedCount++] = adapter;
+          }
+        }
+
+        if (retainedCount == oldAdapters.length)
+        {
+          return false;
+        }
+
+        Object [] newAdapters = null;
+        if (retainedCount != 0)
+        {
+          newAdapters = newData(retainedCount);
+          System.arraycopy(retainedAdapters, 0, newAdapters, 0, retainedCount);
+        }
+
+        if (compareAndSetAdapters(oldAdapters, newAdapters))
+        {
+          ++modCount;
+          int removedCount = 0;
+          for (int i = 0; i < oldAdapters.length; ++i)
+          {
+            Object adapter = oldAdapters[i];
+            if (collection.contains(adapter) == contained)
+            {
+              didRemove(i - removedCount++, (E)adapter);
+              didChange();
+            }
+          }
+          return true;
+        }
+      }
+    }
+
+    @Override
+    public int size()
+    {
+      Object [] adapters = this.adapters;
+      return adapters == null ? 0 : adapters.length;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+      return adapters == null;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+      return indexOf(adapters, object) != -1;
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+      return indexOf(adapters, object);
+    }
+
+    @Override
+    public int lastIndexOf(Object object)
+    {
+      Object [] adapters = this.adapters;
+      if (adapters != null)
+      {
+        for (int i = adapters.length - 1; i >= 0; --i)
+        {
+          if (adapters[i] == object)
+          {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+      Object [] adapters = this.adapters;
+      Object [] result = new Object [adapters == null ? 0 : adapters.length];
+      if (adapters != null)
+      {
+        System.arraycopy(adapters, 0, result, 0, adapters.length);
+      }
+      return result;
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array)
+    {
+      Object [] adapters = this.adapters;
+      int size = adapters == null ? 0 : adapters.length;
+      if (size > 0)
+      {
+        if (array.length < size)
+        {
+          @SuppressWarnings("unchecked") T[] newArray = (T[])Array.newInstance(array.getClass().getComponentType(), size);
+          array = newArray;
+        }
+        System.arraycopy(adapters, 0, array, 0, size);
+      }
+      if (array.length > size)
+      {
+        array[size] = null;
+      }
+      return array;
+    }
+
+    /**
+     * Returns the current array of adapters, which is never modified.
+     */
+    @Override
+    public Object [] data()
+    {
+      return adapters;
+    }
+
+    @Override
+    public void setData(int size, Object [] data)
+    {
+      Object [] newAdapters = null;
+      if (size > 0)
+      {
+        newAdapters = newData(size);
+        System.arraycopy(data, 0, newAdapters, 0, size);
+      }
+      adapters = newAdapters;
+      ++modCount;
+    }
+
+    @Override
+    public E get(int index)
+    {
+      return primitiveGet(index);
+    }
+
+    @Override
+    public E basicGet(int index)
+    {
+      return primitiveGet(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected E primitiveGet(int index)
+    {
+      Object [] adapters = this.adapters;
+      int size = adapters == null ? 0 : adapters.length;
+      if (index >= size)
+      {
+        throw new BasicIndexOutOfBoundsException(index, size);
+      }
+      return (E)adapters[index];
+    }
+
+    /**
+     * Returns <code>true</code> because an adapter is added only if it's not already in the list,
+     * as determined atomically with its addition.
+     */
+    @Override
+    protected boolean isUnique()
+    {
+      return true;
+    }
+
+    @Override
+    public boolean add(E object)
+    {
+      return insertAll(-1, new Object [] { object }, 0, 1, true) != 0;
+    }
+
+    @Override
+    public void add(int index, E object)
+    {
+      if (insertAll(index, new Object [] { object }, 0, 1, true) == 0)
+      {
+        throw new IllegalArgumentException("The 'no duplicates' constraint is violated");
+      }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection)
+    {
+      Object [] objects = collection.toArray();
+      return insertAll(-1, objects, 0, objects.length, true) != 0;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection)
+    {
+      Object [] objects = collection.toArray();
+      return insertAll(index, objects, 0, objects.length, true) != 0;
+    }
+
+    @Override
+    public void addUnique(E object)
+    {
+      insertAll(-1, new Object [] { object }, 0, 1, false);
+    }
+
+    @Override
+    public void addUnique(int index, E object)
+    {
+      insertAll(index, new Object [] { object }, 0, 1, false);
+    }
+
+    @Override
+    public boolean addAllUnique(Collection<? extends E> collection)
+    {
+      Object [] objects = collection.toArray();
+      return insertAll(-1, objects, 0, objects.length, false) != 0;
+    }
+
+    @Override
+    public boolean addAllUnique(int index, Collection<? extends E> collection)
+    {
+      Object [] objects = collection.toArray();
+      return insertAll(index, objects, 0, objects.length, false) != 0;
+    }
+
+    @Override
+    public boolean addAllUnique(Object [] objects, int start, int end)
+    {
+      return insertAll(-1, objects, start, end, false) != 0;
+    }
+
+    @Override
+    public boolean addAllUnique(int index, Object [] objects, int start, int end)
+    {
+      return insertAll(index, objects, start, end, false) != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E setUnique(int index, E object)
+    {
+      validate(index, object);
+      for (;;)
+      {
+        Object [] oldAdapters = adapters;
+        int size = oldAdapters == null ? 0 : oldAdapters.length;
+        if (index >= size)
+        {
+          throw new BasicIndexOutOfBoundsException(index, size);
+        }
+
+        Object [] newAdapters = newData(size);
+        System.arraycopy(oldAdapters, 0, newAdapters, 0, size);
+        newAdapters[index] = object;
+        if (compareAndSetAdapters(oldAdapters, newAdapters))
+        {
+          ++modCount;
+          E oldObject = (E)oldAdapters[index];
+          didSet(index, object, oldObject);
+          didChange();
+          return oldObject;
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index)
+    {
+      for (;;)
+      {
+        Object [] oldAdapters = adapters;
+        int size = oldAdapters == null ? 0 : oldAdapters.length;
+        if (index >= size)
+        {
+          throw new BasicIndexOutOfBoundsException(index, size);
+        }
+
+        Object [] newAdapters = null;
+        if (size != 1)
+        {
+          newAdapters = newData(size - 1);
+          System.arraycopy(oldAdapters, 0, newAdapters, 0, index);
+          System.arraycopy(oldAdapters, index + 1, newAdapters, index, size - index - 1);
+        }
+
+        if (compareAndSetAdapters(oldAdapters, newAdapters))
+        {
+          ++modCount;
+          E oldObject = (E)oldAdapters[index];
+          didRemove(index, oldObject);
+          didChange();
+          return oldObject;
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object object)
+    {
+      for (;;)
+      {
+        Object [] oldAdapters = adapters;
+        int index = indexOf(oldAdapters, object);
+        if (index == -1)
+        {
+          return false;
+        }
+
+        int size = oldAdapters.length;
+        Object [] newAdapters = null;
+        if (size != 1)
+        {
+          newAdapters = newData(size - 1);
+          System.arraycopy(oldAdapters, 0, newAdapters, 0, index);
+          System.arraycopy(oldAdapters, index + 1, newAdapters, index, size - index - 1);
+        }
+
+        if (compareAndSetAdapters(oldAdapters, newAdapters))
+        {
+          ++modCount;
+          didRemove(index, (E)object);
+          didChange();
+          return true;
+        }
+      }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+      return removeAll(collection, true);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+      return removeAll(collection, false);
+    }
+
+    @Override
+    public void clear()
+    {
+      Object [] oldAdapters;
+      do
+      {
+        oldAdapters = adapters;
+      }
+      while (!compareAndSetAdapters(oldAdapters, null));
+
+      ++modCount;
+      didClear(oldAdapters == null ? 0 : oldAdapters.length, oldAdapters);
+      didChange();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E move(int targetIndex, int sourceIndex)
+    {
+      for (;;)
+      {
+        Object [] oldAdapters = adapters;
+        Object [] newAdapters = move(oldAdapters, targetIndex, sourceIndex);
+        if (newAdapters == oldAdapters)
+        {
+          return (E)oldAdapters[sourceIndex];
+        }
+        if (compareAndSetAdapters(oldAdapters, newAdapters))
+        {
+          ++modCount;
+          E object = (E)oldAdapters[sourceIndex];
+          didMove(targetIndex, object, sourceIndex);
+          didChange();
+          return object;
+        }
+      }
+    }
+
+    @Override
+    public void move(int targetIndex, E object)
+    {
+      for (;;)
+      {
+        Object [] oldAdapters = adapters;
+        int sourceIndex = indexOf(oldAdapters, object);
+        if (sourceIndex == -1)
+        {
+          throw new IllegalArgumentException("The object is not in the list");
+        }
+        Object [] newAdapters = move(oldAdapters, targetIndex, sourceIndex);
+        if (newAdapters == oldAdapters)
+        {
+          return;
+        }
+        if (compareAndSetAdapters(oldAdapters, newAdapters))
+        {
+          ++modCount;
+          didMove(targetIndex, object, sourceIndex);
+          didChange();
+          return;
+        }
+      }
+    }
+
+    @Override
+    public void shrink()
+    {
+      // The adapter array always has exactly the right length.
+    }
+
+    @Override
+    public void grow(int minimumCapacity)
+    {
+      // The adapter array always has exactly the right length.
+    }
+
+    /**
+     * Returns a shallow copy of this list, which initially shares the array of adapters, since it's never modified.
+     */
+    @Override
+    public Object clone()
+    {
+      @SuppressWarnings("unchecked") ConcurrentEAdapterList<E> clone = (ConcurrentEAdapterList<E>)super.clone();
+      clone.adapters = adapters;
+      return clone;
+    }
+
+    private void writeObject(ObjectOutputStream objectOutputStream) throws IOException
+    {
+      objectOutputStream.defaultWriteObject();
+      Object [] adapters = this.adapters;
+      if (adapters == null)
+      {
+        objectOutputStream.writeInt(0);
+      }
+      else
+      {
+        objectOutputStream.writeInt(adapters.length);
+        for (Object adapter : adapters)
+        {
+          objectOutputStream.writeObject(adapter);
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException
+    {
+      objectInputStream.defaultReadObject();
+      int size = objectInputStream.readInt();
+      if (size > 0)
+      {
+        Object [] adapters = newData(size);
+        for (int i = 0; i < size; ++i)
+        {
+          adapters[i] = objectInputStream.readObject();
+        }
+        this.adapters = adapters;
+        for (int i = 0; i < size; ++i)
+        {
+          didAdd(i, (E)adapters[i]);
+        }
+      }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the adapters;
+     * {@link Iterator#remove() removing} an adapter removes it from this list.
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+      final Object [] adapters = this.adapters;
+      return
+        new Iterator<E>()
+        {
+          protected int cursor;
+
+          protected int lastCursor = -1;
+
+          public boolean hasNext()
+          {
+            return adapters != null && cursor < adapters.length;
+          }
+
+          @SuppressWarnings("unchecked")
+          public E next()
+          {
+            if (!hasNext())
+            {
+              throw new NoSuchElementException();
+            }
+            lastCursor = cursor++;
+            return (E)adapters[lastCursor];
+          }
+
+          public void remove()
+          {
+            if (lastCursor == -1)
+            {
+              throw new IllegalStateException();
+            }
+            ConcurrentEAdapterList.this.remove(adapters[lastCursor]);
+            lastCursor = -1;
+          }
+        };
+    }
+
+    @Override
+    protected Iterator<E> basicIterator()
+    {
+      return iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator()
+    {
+      return basicList().listIterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index)
+    {
+      return basicList().listIterator(index);
+    }
+
+    @Override
+    protected ListIterator<E> basicListIterator()
+    {
+      return basicList().listIterator();
+    }
+
+    @Override
+    protected ListIterator<E> basicListIterator(int index)
+    {
+      return basicList().listIterator(index);
+    }
+
+    /**
+     * Returns an unmodifiable list of a snapshot of the adapters.
+     */
+    @Override
+    protected List<E> basicList()
+    {
+      Object [] adapters = this.adapters;
+      if (adapters == null)
+      {
+        return ECollections.emptyEList();
+      }
+      else
+      {
+        return new UnmodifiableEList<E>(adapters.length, adapters);
+      }
+    }
+  }
+
   public EList<Adapter> eAdapters()
   {
     return ECollections.emptyEList();
@@ -419,9 +1175,17 @@ public class BasicNotifierImpl implements Notifier
     Adapter[] eAdapters = eBasicAdapterArray();
     if (eAdapters != null && eDeliver())
     {
-      for (int i = 0, size = eAdapters.length; i < size; ++i)
+      NotificationBatch notificationBatch = NotificationBatch.getActiveBatch();
+      if (notificationBatch != null)
+      {
+        notificationBatch.eNotify(this, notification, eAdapters);
+      }
+      else
       {
-        eAdapters[i].notifyChanged(notification);
+        for (int i = 0, size = eAdapters.length; i < size; ++i)
+        {
+          eAdapters[i].notifyChanged(notification);
+        }
       }
     }
   }
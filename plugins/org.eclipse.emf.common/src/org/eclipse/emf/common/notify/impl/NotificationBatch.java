@@ -0,0 +1,437 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.common.notify.impl;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.NotificationWrapper;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.WrappedException;
+
+
+/**
+ * A scope, per thread, in which the notifications to {@link Adapter.Batching batching adapters} are deferred.
+ * A batch is used as follows:
+ *<pre>
+ *  NotificationBatch.begin();
+ *  try
+ *  {
+ *    // Make changes.
+ *  }
+ *  finally
+ *  {
+ *    NotificationBatch.end();
+ *  }
+ *</pre>
+ * While a batch is active, a {@link BasicNotifierImpl notifier} {@link BasicNotifierImpl#eNotify(Notification) notifies}
+ * its other adapters immediately, as usual,
+ * but buffers the notification for its batching adapters.
+ * When the outermost batch ends, the notifications of each notifier, in the order in which the notifiers were first changed,
+ * are {@link #coalesce(List) coalesced} and are delivered to the batching adapters then attached to that notifier.
+ * Batches can be nested, and nested batches have no effect.
+ * @since 2.41
+ */
+public final class NotificationBatch
+{
+  /**
+   * The number of threads with an active batch, so that {@link #getActiveBatch()} is cheap when batching isn't used at all.
+   */
+  private static final AtomicInteger ACTIVE_BATCH_COUNT = new AtomicInteger();
+
+  private static final ThreadLocal<NotificationBatch> ACTIVE_BATCH = new ThreadLocal<NotificationBatch>();
+
+  /**
+   * The buffered notifications of each notifier.
+   */
+  private final Map<Notifier, List<Notification>> notifications = new LinkedHashMap<Notifier, List<Notification>>();
+
+  /**
+   * The nesting depth of the batch.
+   */
+  private int depth;
+
+  private NotificationBatch()
+  {
+    super();
+  }
+
+  /**
+   * Begins a batch on the current thread, or nests within the batch that's already active.
+   */
+  public static void begin()
+  {
+    NotificationBatch notificationBatch = ACTIVE_BATCH.get();
+    if (notificationBatch == null)
+    {
+      notificationBatch = new NotificationBatch();
+      ACTIVE_BATCH.set(notificationBatch);
+      ACTIVE_BATCH_COUNT.incrementAndGet();
+    }
+    ++notificationBatch.depth;
+  }
+
+  /**
+   * Ends the batch of the current thread and, if it's the outermost batch, delivers the buffered notifications.
+   * The notifications produced by the batching adapters while they're being notified aren't batched.
+   * All the notifications are delivered even if an adapter throws an exception, which is rethrown once they have been.
+   * @throws IllegalStateException if there is no active batch.
+   */
+  public static void end()
+  {
+    NotificationBatch notificationBatch = ACTIVE_BATCH.get();
+    if (notificationBatch == null)
+    {
+      throw new IllegalStateException("There is no active batch");
+    }
+
+    if (--notificationBatch.depth == 0)
+    {
+      ACTIVE_BATCH.remove();
+      ACTIVE_BATCH_COUNT.decrementAndGet();
+      notificationBatch.deliver();
+    }
+  }
+
+  /**
+   * Returns whether a batch is active on the current thread.
+   */
+  public static boolean isActive()
+  {
+    return getActiveBatch() != null;
+  }
+
+  /**
+   * Returns the batch that's active on the current thread, or <code>null</code>.
+   */
+  static NotificationBatch getActiveBatch()
+  {
+    return ACTIVE_BATCH_COUNT.get() == 0 ? null : ACTIVE_BATCH.get();
+  }
+
+  /**
+   * Notifies the adapters that aren't batching and buffers the notification for the batching adapters, if there are any.
+   */
+  void eNotify(Notifier notifier, Notification notification, Adapter[] eAdapters)
+  {
+    boolean isBatched = false;
+    for (int i = 0, size = eAdapters.length; i < size; ++i)
+    {
+      Adapter adapter = eAdapters[i];
+      if (adapter instanceof Adapter.Batching)
+      {
+        isBatched = true;
+      }
+      else
+      {
+        adapter.notifyChanged(notification);
+      }
+    }
+
+    if (isBatched)
+    {
+      List<Notification> notifierNotifications = notifications.get(notifier);
+      if (notifierNotifications == null)
+      {
+        notifierNotifications = new ArrayList<Notification>();
+        notifications.put(notifier, notifierNotifications);
+      }
+      notifierNotifications.add(notification);
+    }
+  }
+
+  /**
+   * Delivers the coalesced notifications.
+   * If an adapter throws an exception, the remaining notifications are still delivered,
+   * and then the first exception is rethrown, with any others {@link Throwable#addSuppressed(Throwable) suppressed}.
+   */
+  private void deliver()
+  {
+    Throwable failure = null;
+    for (Map.Entry<Notifier, List<Notification>> entry : notifications.entrySet())
+    {
+      Notifier notifier = entry.getKey();
+      Collection<Adapter> eAdapters = notifier.eAdapters();
+      if (!eAdapters.isEmpty())
+      {
+        Adapter[] adapters = eAdapters.toArray(new Adapter [eAdapters.size()]);
+        for (Notification notification : coalesce(entry.getValue()))
+        {
+          for (Adapter adapter : adapters)
+          {
+            if (adapter instanceof Adapter.Batching)
+            {
+              try
+              {
+                adapter.notifyChanged(notification);
+              }
+              catch (Throwable throwable)
+              {
+                if (failure == null)
+                {
+                  failure = throwable;
+                }
+                else
+                {
+                  failure.addSuppressed(throwable);
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+
+    if (failure instanceof RuntimeException)
+    {
+      throw (RuntimeException)failure;
+    }
+    else if (failure instanceof Error)
+    {
+      throw (Error)failure;
+    }
+    else if (failure != null)
+    {
+      throw new WrappedException((Exception)failure);
+    }
+  }
+
+  /**
+   * Returns the coalesced notifications of a single notifier.
+   * A {@link Notification#SET set} or {@link Notification#UNSET unset} followed by another one of the same feature, at the same position, is merged into one,
+   * and an {@link Notification#ADD add} or {@link Notification#ADD_MANY add many}
+   * followed by another one of the same feature, at the position just after the added values, is merged into an add many.
+   * The notifications themselves aren't modified, because the other adapters may have retained them.
+   */
+  public static List<Notification> coalesce(List<Notification> notifications)
+  {
+    List<Notification> result = new ArrayList<Notification>(notifications.size());
+    Notification previousNotification = null;
+    for (Notification notification : notifications)
+    {
+      Notification coalescedNotification = previousNotification == null ? null : coalesce(previousNotification, notification);
+      if (coalescedNotification == null)
+      {
+        result.add(notification);
+        previousNotification = notification;
+      }
+      else
+      {
+        result.set(result.size() - 1, coalescedNotification);
+        previousNotification = coalescedNotification;
+      }
+    }
+    return result;
+  }
+
+  private static Notification coalesce(Notification previousNotification, Notification notification)
+  {
+    if (previousNotification.getFeature() == notification.getFeature() && previousNotification.getFeatureID(null) == notification.getFeatureID(null))
+    {
+      int eventType = notification.getEventType();
+      switch (previousNotification.getEventType())
+      {
+        case Notification.SET:
+        case Notification.UNSET:
+        {
+          if ((eventType == Notification.SET || eventType == Notification.UNSET) && previousNotification.getPosition() == notification.getPosition())
+          {
+            return
+              new CoalescedNotification
+                (previousNotification, notification, eventType, previousNotification.getOldValue(), notification.getNewValue(), notification.getPosition());
+          }
+          break;
+        }
+        case Notification.ADD:
+        case Notification.ADD_MANY:
+        {
+          if (eventType == Notification.ADD || eventType == Notification.ADD_MANY)
+          {
+            List<?> previousValues = getNewValues(previousNotification);
+            int position = previousNotification.getPosition();
+            if (position != Notification.NO_INDEX && notification.getPosition() == position + previousValues.size())
+            {
+              List<?> values = getNewValues(notification);
+              BasicEList<Object> newValues = new BasicEList<Object>(previousValues.size() + values.size());
+              newValues.addAll(previousValues);
+              newValues.addAll(values);
+              return new CoalescedNotification(previousNotification, notification, Notification.ADD_MANY, null, newValues, position);
+            }
+          }
+          break;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static List<?> getNewValues(Notification notification)
+  {
+    return
+      notification.getEventType() == Notification.ADD_MANY ?
+        new ArrayList<Object>((Collection<?>)notification.getNewValue()) :
+        Collections.singletonList(notification.getNewValue());
+  }
+
+  /**
+   * A notification that combines two or more notifications of the same notifier and feature.
+   * The old state is that of the first notification and the new state is that of the last notification,
+   * so it's a {@link #isTouch() touch} if combined sets restore the original value and set state.
+   */
+  private static final class CoalescedNotification extends NotificationWrapper
+  {
+    private final Notification firstNotification;
+
+    private final int eventType;
+
+    private final Object oldValue;
+
+    private final Object newValue;
+
+    private final int position;
+
+    private final boolean isTouch;
+
+    public CoalescedNotification(Notification previousNotification, Notification notification, int eventType, Object oldValue, Object newValue, int position)
+    {
+      super(notification);
+      this.firstNotification =
+        previousNotification instanceof CoalescedNotification ? ((CoalescedNotification)previousNotification).firstNotification : previousNotification;
+      this.eventType = eventType;
+      this.oldValue = oldValue;
+      this.newValue = newValue;
+      this.position = position;
+      isTouch =
+        (eventType == Notification.SET || eventType == Notification.UNSET) &&
+          (oldValue == null ? newValue == null : oldValue.equals(newValue)) &&
+          !isSetStateChanged(notification, eventType);
+    }
+
+    /**
+     * Returns whether the set state of an unsettable feature differs after the last notification from what it was before the first one.
+     */
+    private boolean isSetStateChanged(Notification notification, int eventType)
+    {
+      return
+        notification instanceof NotificationImpl &&
+          ((NotificationImpl)notification).isFeatureUnsettable() &&
+          firstNotification.wasSet() != (eventType == Notification.SET);
+    }
+
+    @Override
+    public int getEventType()
+    {
+      return eventType;
+    }
+
+    @Override
+    public Object getOldValue()
+    {
+      return oldValue;
+    }
+
+    @Override
+    public Object getNewValue()
+    {
+      return newValue;
+    }
+
+    @Override
+    public boolean wasSet()
+    {
+      return firstNotification.wasSet();
+    }
+
+    @Override
+    public boolean isTouch()
+    {
+      return isTouch;
+    }
+
+    @Override
+    public boolean isReset()
+    {
+      return false;
+    }
+
+    @Override
+    public int getPosition()
+    {
+      return position;
+    }
+
+    @Override
+    public boolean merge(Notification notification)
+    {
+      return false;
+    }
+
+    @Override
+    public boolean getOldBooleanValue()
+    {
+      return firstNotification.getOldBooleanValue();
+    }
+
+    @Override
+    public byte getOldByteValue()
+    {
+      return firstNotification.getOldByteValue();
+    }
+
+    @Override
+    public char getOldCharValue()
+    {
+      return firstNotification.getOldCharValue();
+    }
+
+    @Override
+    public double getOldDoubleValue()
+    {
+      return firstNotification.getOldDoubleValue();
+    }
+
+    @Override
+    public float getOldFloatValue()
+    {
+      return firstNotification.getOldFloatValue();
+    }
+
+    @Override
+    public int getOldIntValue()
+    {
+      return firstNotification.getOldIntValue();
+    }
+
+    @Override
+    public long getOldLongValue()
+    {
+      return firstNotification.getOldLongValue();
+    }
+
+    @Override
+    public short getOldShortValue()
+    {
+      return firstNotification.getOldShortValue();
+    }
+
+    @Override
+    public String getOldStringValue()
+    {
+      return firstNotification.getOldStringValue();
+    }
+  }
+}
@@ -0,0 +1,755 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.change.util;
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.ChangeKind;
+import org.eclipse.emf.ecore.change.FeatureChange;
+import org.eclipse.emf.ecore.change.ListChange;
+import org.eclipse.emf.ecore.change.ResourceChange;
+import org.eclipse.emf.ecore.resource.ContentHandler;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.FeatureMap;
+import org.eclipse.emf.ecore.util.InternalEList;
+
+
+/**
+ * A compact binary format for {@link ChangeDescription change descriptions},
+ * based on the encoding of a {@link BinaryResourceImpl binary resource}.
+ * <p>
+ * A change description is {@link ChangeDescriptionOutputStream#saveChangeDescription(ChangeDescription) saved}
+ * while the objects it describes are in the state to which it {@link ChangeDescription#apply() applies}.
+ * Objects in a resource are referenced by URI, while all other objects, i.e., the ones that will be attached by the change,
+ * are serialized in full.
+ * Features are encoded by ID,
+ * and each URI, class, and feature is written only once per stream,
+ * so any number of deltas can be streamed, one after the other, over a single stream.
+ * </p>
+ * <p>
+ * A delta is {@link ChangeDescriptionInputStream#applyChangeDescription(ResourceSet) applied}
+ * directly to the objects of a resource set that is in the same state as the one from which it was saved,
+ * with the same effect as {@link ChangeDescription#apply()},
+ * but without creating a change description.
+ * </p>
+ * @since 2.17
+ */
+public final class BinaryChangeDescriptionIO
+{
+  private static final int END = 0;
+
+  private static final int OBJECT_CHANGE = 1;
+
+  private static final int RESOURCE_CHANGE = 2;
+
+  private static final int UNSET = 1;
+
+  private static final int SET = 2;
+
+  private static final int SET_NULL = 3;
+
+  private static final int LIST = 4;
+
+  private static final int SET_LIST = 5;
+
+  private static final int SET_CONTENTS = 6;
+
+  private BinaryChangeDescriptionIO()
+  {
+    super();
+  }
+
+  /**
+   * Saves the change description to the output stream.
+   * The objects it describes must be in the state to which the change description applies.
+   * @see ChangeDescriptionOutputStream
+   */
+  public static void save(ChangeDescription changeDescription, OutputStream outputStream, Map<?, ?> options) throws IOException
+  {
+    boolean buffer = !(outputStream instanceof BufferedOutputStream);
+    if (buffer)
+    {
+      int bufferCapacity = BinaryResourceImpl.getBufferCapacity(options);
+      if (bufferCapacity > 0)
+      {
+        outputStream = new BufferedOutputStream(outputStream, bufferCapacity);
+      }
+      else
+      {
+        buffer = false;
+      }
+    }
+
+    try
+    {
+      new ChangeDescriptionOutputStream(outputStream, options).saveChangeDescription(changeDescription);
+    }
+    finally
+    {
+      if (buffer)
+      {
+        outputStream.flush();
+      }
+    }
+  }
+
+  /**
+   * Applies the change description saved in the input stream to the objects of the resource set.
+   * @see ChangeDescriptionInputStream
+   */
+  public static void apply(InputStream inputStream, ResourceSet resourceSet, Map<?, ?> options) throws IOException
+  {
+    if (!(inputStream instanceof BufferedInputStream))
+    {
+      int bufferCapacity = BinaryResourceImpl.getBufferCapacity(options);
+      if (bufferCapacity > 0)
+      {
+        inputStream = new BufferedInputStream(inputStream, bufferCapacity);
+      }
+    }
+
+    ChangeDescriptionInputStream changeDescriptionInputStream = new ChangeDescriptionInputStream(inputStream, options);
+    changeDescriptionInputStream.applyChangeDescription(resourceSet);
+    changeDescriptionInputStream.flush();
+  }
+
+  /**
+   * An output stream that saves change descriptions in the binary format.
+   * The {@link BinaryResourceImpl#OPTION_STYLE_PROXY_ATTRIBUTES proxy attributes} and
+   * {@link BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS indexed contents} styles don't apply to this format and are ignored.
+   */
+  public static class ChangeDescriptionOutputStream extends BinaryResourceImpl.EObjectOutputStream
+  {
+    public ChangeDescriptionOutputStream(OutputStream outputStream, Map<?, ?> options) throws IOException
+    {
+      super(outputStream, options, Version.VERSION_1_1, getStyle(options) & ~(STYLE_PROXY_ATTRIBUTES | STYLE_INDEXED_CONTENTS));
+    }
+
+    /**
+     * Saves the changes of the change description, followed by the changes of its resources,
+     * and flushes the internal buffer, if there is one.
+     */
+    public void saveChangeDescription(ChangeDescription changeDescription) throws IOException
+    {
+      for (Map.Entry<EObject, EList<FeatureChange>> entry : changeDescription.getObjectChanges())
+      {
+        writeCompressedInt(OBJECT_CHANGE);
+        InternalEObject internalEObject = (InternalEObject)entry.getKey();
+        saveEObject(internalEObject, Check.RESOURCE);
+        for (FeatureChange featureChange : entry.getValue())
+        {
+          EStructuralFeature.Internal feature = (EStructuralFeature.Internal)featureChange.getFeature();
+          if (feature != null && feature.isChangeable() && !feature.isContainer())
+          {
+            saveFeatureChange(internalEObject, feature, featureChange);
+          }
+        }
+        writeCompressedInt(END);
+      }
+
+      for (ResourceChange resourceChange : changeDescription.getResourceChanges())
+      {
+        String resourceURI = resourceChange.getResourceURI();
+        if (resourceURI != null)
+        {
+          writeCompressedInt(RESOURCE_CHANGE);
+          writeURI(URI.createURI(resourceURI));
+          saveListChanges(null, null, resourceChange.getListChanges());
+        }
+      }
+
+      writeCompressedInt(END);
+      flush();
+    }
+
+    protected void saveFeatureChange(InternalEObject internalEObject, EStructuralFeature.Internal feature, FeatureChange featureChange) throws IOException
+    {
+      if (!featureChange.isSet())
+      {
+        writeCompressedInt(UNSET);
+        writeEStructuralFeature(feature);
+      }
+      else if (feature.isFeatureMap())
+      {
+        // The entries of a feature map are replaced as a whole, so the resulting entries are saved.
+        //
+        writeCompressedInt(SET);
+        EStructuralFeatureData eStructuralFeatureData = writeEStructuralFeature(feature);
+        List<?> values = (List<?>)featureChange.getValue();
+        writeCompressedInt(values.size());
+        for (Object value : values)
+        {
+          saveValue(internalEObject, eStructuralFeatureData, value);
+        }
+      }
+      else if (feature.isMany())
+      {
+        writeCompressedInt(LIST);
+        EStructuralFeatureData eStructuralFeatureData = writeEStructuralFeature(feature);
+        saveListChanges(internalEObject, eStructuralFeatureData, featureChange.getListChanges());
+      }
+      else
+      {
+        Object value = featureChange.getValue();
+        if (value == null)
+        {
+          writeCompressedInt(SET_NULL);
+          writeEStructuralFeature(feature);
+        }
+        else
+        {
+          writeCompressedInt(SET);
+          EStructuralFeatureData eStructuralFeatureData = writeEStructuralFeature(feature);
+          saveValue(internalEObject, eStructuralFeatureData, value);
+        }
+      }
+    }
+
+    protected void saveListChanges(InternalEObject internalEObject, EStructuralFeatureData eStructuralFeatureData, List<ListChange> listChanges) throws IOException
+    {
+      writeCompressedInt(listChanges.size());
+      for (ListChange listChange : listChanges)
+      {
+        int kind = listChange.getKind().getValue();
+        writeCompressedInt(kind);
+        writeCompressedInt(listChange.getIndex());
+        switch (kind)
+        {
+          case ChangeKind.ADD:
+          {
+            List<Object> values = listChange.getValues();
+            writeCompressedInt(values.size());
+            for (Object value : values)
+            {
+              saveValue(internalEObject, eStructuralFeatureData, value);
+            }
+            break;
+          }
+          case ChangeKind.REMOVE:
+          {
+            // Only the number of objects removed at the index is needed.
+            //
+            int size = listChange.getValues().size();
+            writeCompressedInt(size == 0 ? 1 : size);
+            break;
+          }
+          case ChangeKind.MOVE:
+          {
+            writeCompressedInt(listChange.getMoveToIndex());
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Saves a single value, or a single element of a many-valued feature.
+     * The feature data is <code>null</code> for the contents of a resource.
+     */
+    protected void saveValue(InternalEObject internalEObject, EStructuralFeatureData eStructuralFeatureData, Object value) throws IOException
+    {
+      if (eStructuralFeatureData == null || eStructuralFeatureData.eDataType == null)
+      {
+        saveEObject((InternalEObject)value, Check.RESOURCE);
+      }
+      else if (eStructuralFeatureData.kind == FeatureKind.FEATURE_MAP)
+      {
+        saveFeatureMapEntry((FeatureMap.Entry.Internal)value);
+      }
+      else if (eStructuralFeatureData.kind == FeatureKind.DATA_LIST)
+      {
+        if (eStructuralFeatureData.dataConverter != null)
+        {
+          eStructuralFeatureData.dataConverter.write(this, value);
+        }
+        else
+        {
+          writeSegmentedString(eStructuralFeatureData.eFactory.convertToString(eStructuralFeatureData.eDataType, value));
+        }
+      }
+      else
+      {
+        saveFeatureValue(internalEObject, value, -1, eStructuralFeatureData);
+      }
+    }
+
+    /**
+     * Saves a reference to an object in a resource, or to a proxy, as a URI, and saves any other object in full.
+     */
+    @Override
+    public void saveEObject(InternalEObject internalEObject, Check check) throws IOException
+    {
+      super.saveEObject(internalEObject, Check.RESOURCE);
+    }
+
+    /**
+     * Saves the feature value of an object that's saved in full,
+     * excluding the objects in a resource from the value of a containment or bidirectional reference.
+     * The applier must not update the other end of such a reference while it's still resolving URIs,
+     * so any change to it must be recorded by the change description itself.
+     */
+    @Override
+    protected void saveFeatureValue(InternalEObject internalEObject, int featureID, EStructuralFeatureData eStructuralFeatureData) throws IOException
+    {
+      EStructuralFeature eStructuralFeature = internalEObject.eClass().getEStructuralFeature(featureID);
+      if (eStructuralFeature instanceof EReference && internalEObject.eIsSet(featureID))
+      {
+        EReference eReference = (EReference)eStructuralFeature;
+        if (eReference.isContainment() || eReference.getEOpposite() != null)
+        {
+          Object value = internalEObject.eGet(featureID, false, true);
+          if (eReference.isMany())
+          {
+            InternalEList<?> values = (InternalEList<?>)value;
+            BasicEList<InternalEObject> detachedValues = new BasicEList<InternalEObject>(values.size());
+            for (Object object : values.basicList())
+            {
+              if (!isAttached((InternalEObject)object))
+              {
+                detachedValues.add((InternalEObject)object);
+              }
+            }
+            if (detachedValues.size() != values.size())
+            {
+              if (!detachedValues.isEmpty())
+              {
+                saveFeatureValueHeader(featureID, eStructuralFeatureData);
+                writeCompressedInt(detachedValues.size());
+                for (InternalEObject detachedValue : detachedValues)
+                {
+                  saveEObject(detachedValue, Check.RESOURCE);
+                }
+              }
+              return;
+            }
+          }
+          else if (isAttached((InternalEObject)value))
+          {
+            return;
+          }
+        }
+      }
+
+      super.saveFeatureValue(internalEObject, featureID, eStructuralFeatureData);
+    }
+
+    private void saveFeatureValueHeader(int featureID, EStructuralFeatureData eStructuralFeatureData) throws IOException
+    {
+      writeCompressedInt(featureID + 1);
+      if (eStructuralFeatureData.name != null)
+      {
+        writeString(eStructuralFeatureData.name);
+        eStructuralFeatureData.name = null;
+      }
+    }
+
+    protected boolean isAttached(InternalEObject internalEObject)
+    {
+      return internalEObject.eIsProxy() || internalEObject.eResource() != null;
+    }
+  }
+
+  /**
+   * An input stream that applies change descriptions saved in the binary format to the objects of a resource set.
+   * All the URIs of a delta are resolved before any change is made,
+   * because the change may affect the fragments of the objects.
+   * The changes are then made in the same order as {@link ChangeDescription#apply()}.
+   */
+  public static class ChangeDescriptionInputStream extends BinaryResourceImpl.EObjectInputStream
+  {
+    /**
+     * The resolved changes of the delta being applied, four entries per change: the kind, the object or resource, the feature, and the value.
+     */
+    protected BasicEList<Object> changes = new BasicEList<Object>();
+
+    public ChangeDescriptionInputStream(InputStream inputStream, Map<?, ?> options) throws IOException
+    {
+      super(inputStream, options);
+    }
+
+    /**
+     * Reads the next change description from the stream and applies it to the objects of the resource set.
+     */
+    public void applyChangeDescription(ResourceSet resourceSet) throws IOException
+    {
+      this.resourceSet = resourceSet;
+      try
+      {
+        for (int changeKind = readCompressedInt(); changeKind != END; changeKind = readCompressedInt())
+        {
+          switch (changeKind)
+          {
+            case OBJECT_CHANGE:
+            {
+              loadObjectChanges();
+              break;
+            }
+            case RESOURCE_CHANGE:
+            {
+              Resource resource = getResource(readURI());
+              EList<Object> value = new BasicEList<Object>(resource.getContents());
+              applyListChanges(value, loadListChanges(null));
+              addChange(SET_CONTENTS, resource, null, value);
+              break;
+            }
+            default:
+            {
+              throw new IOException("Invalid change kind " + changeKind);
+            }
+          }
+        }
+
+        Object[] data = changes.data();
+        for (int i = 0, size = changes.size(); i < size; i += 4)
+        {
+          int kind = (Integer)data[i];
+          Object value = data[i + 3];
+          if (kind == SET_CONTENTS)
+          {
+            @SuppressWarnings("unchecked")
+            EList<Object> contents = (EList<Object>)(EList<?>)((Resource)data[i + 1]).getContents();
+            @SuppressWarnings("unchecked")
+            List<Object> newContents = (List<Object>)value;
+            ECollections.setEList(contents, newContents);
+          }
+          else
+          {
+            applyFeatureChange(kind, (InternalEObject)data[i + 1], (EStructuralFeature)data[i + 2], value);
+          }
+        }
+      }
+      finally
+      {
+        changes.clear();
+      }
+    }
+
+    protected void loadObjectChanges() throws IOException
+    {
+      InternalEObject internalEObject = loadEObject();
+      for (int featureChangeKind = readCompressedInt(); featureChangeKind != END; featureChangeKind = readCompressedInt())
+      {
+        EStructuralFeatureData eStructuralFeatureData = readEStructuralFeature();
+        EStructuralFeature.Internal feature = (EStructuralFeature.Internal)eStructuralFeatureData.eStructuralFeature;
+        switch (featureChangeKind)
+        {
+          case UNSET:
+          {
+            addChange(UNSET, internalEObject, feature, null);
+            break;
+          }
+          case SET_NULL:
+          {
+            addChange(SET, internalEObject, feature, null);
+            break;
+          }
+          case SET:
+          {
+            if (feature.isMany())
+            {
+              int size = readCompressedInt();
+              EList<Object> values = new BasicEList<Object>(size);
+              for (int i = 0; i < size; ++i)
+              {
+                values.add(loadValue(eStructuralFeatureData));
+              }
+              addChange(SET_LIST, internalEObject, feature, values);
+            }
+            else
+            {
+              addChange(SET, internalEObject, feature, loadValue(eStructuralFeatureData));
+            }
+            break;
+          }
+          case LIST:
+          {
+            EList<Object> listChanges = loadListChanges(eStructuralFeatureData);
+            if (feature.getEOpposite() != null || feature.isContainment())
+            {
+              // Bidirectional references need to be replaced as a whole
+              // because some or all of the changes may already have been made from the other end,
+              // so the resulting list is computed before anything is changed.
+              //
+              EList<Object> value = new BasicEList<Object>((List<?>)internalEObject.eGet(feature));
+              applyListChanges(value, listChanges);
+              addChange(SET_LIST, internalEObject, feature, value);
+            }
+            else
+            {
+              addChange(LIST, internalEObject, feature, listChanges);
+            }
+            break;
+          }
+          default:
+          {
+            throw new IOException("Invalid feature change kind " + featureChangeKind);
+          }
+        }
+      }
+    }
+
+    protected void addChange(int kind, Object target, EStructuralFeature feature, Object value)
+    {
+      changes.add(kind);
+      changes.add(target);
+      changes.add(feature);
+      changes.add(value);
+    }
+
+    protected void applyFeatureChange(int kind, InternalEObject internalEObject, EStructuralFeature feature, Object value)
+    {
+      switch (kind)
+      {
+        case UNSET:
+        {
+          internalEObject.eUnset(feature);
+          break;
+        }
+        case SET:
+        {
+          internalEObject.eSet(feature, value);
+          break;
+        }
+        case SET_LIST:
+        {
+          @SuppressWarnings("unchecked")
+          EList<Object> list = (EList<Object>)internalEObject.eGet(feature);
+          @SuppressWarnings("unchecked")
+          List<Object> newList = (List<Object>)value;
+          ECollections.setEList(list, newList);
+          break;
+        }
+        case LIST:
+        {
+          @SuppressWarnings("unchecked")
+          EList<Object> list = (EList<Object>)internalEObject.eGet(feature);
+          applyListChanges(list, (List<?>)value);
+          break;
+        }
+      }
+    }
+
+    /**
+     * Loads the list changes, encoding each one as its kind, its index, and either the added values, the number of removed values, or the index to which to move.
+     */
+    protected EList<Object> loadListChanges(EStructuralFeatureData eStructuralFeatureData) throws IOException
+    {
+      int size = readCompressedInt();
+      EList<Object> result = new BasicEList<Object>(3 * size);
+      for (int i = 0; i < size; ++i)
+      {
+        int kind = readCompressedInt();
+        result.add(kind);
+        result.add(readCompressedInt());
+        switch (kind)
+        {
+          case ChangeKind.ADD:
+          {
+            int count = readCompressedInt();
+            EList<Object> values = new BasicEList<Object>(count);
+            for (int j = 0; j < count; ++j)
+            {
+              values.add(loadValue(eStructuralFeatureData));
+            }
+            result.add(values);
+            break;
+          }
+          case ChangeKind.REMOVE:
+          case ChangeKind.MOVE:
+          {
+            result.add(readCompressedInt());
+            break;
+          }
+          default:
+          {
+            throw new IOException("Invalid list change kind " + kind);
+          }
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Applies the list changes {@link #loadListChanges(EStructuralFeatureData) loaded} from the stream to the list.
+     */
+    protected void applyListChanges(EList<Object> list, List<?> listChanges)
+    {
+      for (int i = 0, size = listChanges.size(); i < size; i += 3)
+      {
+        int kind = (Integer)listChanges.get(i);
+        int index = (Integer)listChanges.get(i + 1);
+        switch (kind)
+        {
+          case ChangeKind.ADD:
+          {
+            Collection<?> values = (Collection<?>)listChanges.get(i + 2);
+            if (index == -1)
+            {
+              list.addAll(values);
+            }
+            else
+            {
+              list.addAll(index, values);
+            }
+            break;
+          }
+          case ChangeKind.REMOVE:
+          {
+            for (int count = (Integer)listChanges.get(i + 2); count > 0; --count)
+            {
+              list.remove(index);
+            }
+            break;
+          }
+          case ChangeKind.MOVE:
+          {
+            int moveToIndex = (Integer)listChanges.get(i + 2);
+            list.move(moveToIndex, index);
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Loads a single value, or a single element of a many-valued feature.
+     * The feature data is <code>null</code> for the contents of a resource.
+     */
+    protected Object loadValue(EStructuralFeatureData eStructuralFeatureData) throws IOException
+    {
+      if (eStructuralFeatureData == null || eStructuralFeatureData.eDataType == null)
+      {
+        return loadEObject();
+      }
+
+      FeatureKind kind = eStructuralFeatureData.kind;
+      if (kind == FeatureKind.FEATURE_MAP)
+      {
+        return loadFeatureMapEntry();
+      }
+      else if (kind == FeatureKind.STRING)
+      {
+        return readSegmentedString();
+      }
+      else if (kind == FeatureKind.DATE || kind == FeatureKind.ENUMERATOR || kind == FeatureKind.DATA || kind == FeatureKind.DATA_LIST)
+      {
+        if (eStructuralFeatureData.dataConverter != null)
+        {
+          return eStructuralFeatureData.dataConverter.read(this);
+        }
+        else if (kind == FeatureKind.DATE && (style & STYLE_BINARY_DATE) != 0)
+        {
+          return readDate();
+        }
+        else if (kind == FeatureKind.ENUMERATOR)
+        {
+          return
+            (style & STYLE_BINARY_ENUMERATOR) != 0 ?
+              ((EEnum)eStructuralFeatureData.eDataType).getEEnumLiteral(readInt()).getInstance() :
+              eStructuralFeatureData.eFactory.createFromString(eStructuralFeatureData.eDataType, readString());
+        }
+        else
+        {
+          return eStructuralFeatureData.eFactory.createFromString(eStructuralFeatureData.eDataType, readSegmentedString());
+        }
+      }
+      else if (kind == FeatureKind.BOOLEAN)
+      {
+        return readBoolean();
+      }
+      else if (kind == FeatureKind.BYTE)
+      {
+        return readByte();
+      }
+      else if (kind == FeatureKind.CHAR)
+      {
+        return readChar();
+      }
+      else if (kind == FeatureKind.DOUBLE)
+      {
+        return readDouble();
+      }
+      else if (kind == FeatureKind.FLOAT)
+      {
+        return readFloat();
+      }
+      else if (kind == FeatureKind.INT)
+      {
+        return readInt();
+      }
+      else if (kind == FeatureKind.LONG)
+      {
+        return readLong();
+      }
+      else if (kind == FeatureKind.SHORT)
+      {
+        return readShort();
+      }
+      else
+      {
+        throw new IOException("Unhandled case " + kind);
+      }
+    }
+
+    /**
+     * Loads an object and resolves it, if it's a reference to an object in the resource set,
+     * so that repeated references to the same object, even in subsequent deltas, yield the resolved object.
+     */
+    @Override
+    public InternalEObject loadEObject() throws IOException
+    {
+      int index = eObjectList.size();
+      InternalEObject internalEObject = super.loadEObject();
+      if (internalEObject != null && internalEObject.eIsProxy() && index < eObjectList.size() && eObjectList.get(index) == internalEObject)
+      {
+        InternalEObject resolvedEObject = (InternalEObject)EcoreUtil.resolve(internalEObject, resourceSet);
+        eObjectList.set(index, resolvedEObject);
+        return resolvedEObject;
+      }
+      return internalEObject;
+    }
+
+    protected Resource getResource(URI uri)
+    {
+      Resource resource = resourceSet.getResource(uri, false);
+      if (resource == null)
+      {
+        if (resourceSet.getURIConverter().exists(uri, resourceSet.getLoadOptions()))
+        {
+          resource = resourceSet.getResource(uri, true);
+        }
+        else
+        {
+          resource = resourceSet.createResource(uri, ContentHandler.UNSPECIFIED_CONTENT_TYPE);
+        }
+      }
+      return resource;
+    }
+  }
+}
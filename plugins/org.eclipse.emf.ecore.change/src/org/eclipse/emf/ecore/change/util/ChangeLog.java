@@ -0,0 +1,864 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.change.util;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.ChangeFactory;
+import org.eclipse.emf.ecore.change.FeatureChange;
+import org.eclipse.emf.ecore.change.ResourceChange;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.InternalEList;
+
+
+/**
+ * A compact, append-only log of the changes made to objects and resources,
+ * as an alternative to the {@link ChangeDescription change model} produced by a {@link ChangeRecorder}.
+ * Each change is encoded as a few <code>int</code>s, i.e., its kind, the index of the notifier in a table of notifiers,
+ * the feature ID, and the position in the list, along with its old and new values,
+ * so no objects are created per change
+ * and the size of the log is proportional to the number of changes rather than to the size of the changed lists.
+ * <p>
+ * The log can be {@link #applyAndReverse() applied and reversed} directly, undoing and then redoing the changes,
+ * and can be {@link #toChangeDescription() converted} to an equivalent change description on demand.
+ * It's typically populated by a {@link ChangeLogRecorder}.
+ * </p>
+ * @since 2.17
+ */
+public class ChangeLog
+{
+  /**
+   * The kind of change that sets or unsets the value of a feature.
+   */
+  private static final int VALUE = 0;
+
+  /**
+   * The kind of change that sets the value at a position in a list.
+   */
+  private static final int SET = 1;
+
+  /**
+   * The kind of change that adds a value at a position in a list.
+   */
+  private static final int ADD = 2;
+
+  /**
+   * The kind of change that removes the value at a position in a list.
+   */
+  private static final int REMOVE = 3;
+
+  /**
+   * The kind of change that adds values at positions in a list.
+   */
+  private static final int ADD_MANY = 4;
+
+  /**
+   * The kind of change that removes values at positions in a list.
+   */
+  private static final int REMOVE_MANY = 5;
+
+  /**
+   * The kind of change that moves a value from one position in a list to another.
+   */
+  private static final int MOVE = 6;
+
+  private static final int KIND_MASK = 0xF;
+
+  /**
+   * The flag indicating that a {@link #VALUE value} was set before the change.
+   */
+  private static final int WAS_SET = 0x10;
+
+  /**
+   * The flag indicating that a {@link #VALUE value} is set after the change.
+   */
+  private static final int IS_SET = 0x20;
+
+  /**
+   * The number of <code>int</code>s used to encode each change:
+   * the kind and flags, the index of the notifier, the feature ID, and the position.
+   */
+  private static final int CHANGE_SIZE = 4;
+
+  /**
+   * The encoded changes.
+   */
+  protected int[] changes = new int [0];
+
+  /**
+   * The old and new value of each change.
+   * For changes involving many values, the old value is an array of the values and the new value is an array of their positions,
+   * or <code>null</code> if the values are at consecutive positions.
+   */
+  protected Object[] values = new Object [0];
+
+  /**
+   * The number of changes.
+   */
+  protected int size;
+
+  /**
+   * The notifiers that have changed.
+   */
+  protected final List<Notifier> notifiers = new ArrayList<Notifier>();
+
+  /**
+   * The index of each notifier in {@link #notifiers}.
+   */
+  protected final Map<Notifier, Integer> notifierIndices = new HashMap<Notifier, Integer>();
+
+  public ChangeLog()
+  {
+    super();
+  }
+
+  /**
+   * Returns the number of changes in the log.
+   */
+  public int size()
+  {
+    return size;
+  }
+
+  public boolean isEmpty()
+  {
+    return size == 0;
+  }
+
+  /**
+   * Returns an unmodifiable view of the notifiers that have changed.
+   */
+  public List<Notifier> getNotifiers()
+  {
+    return Collections.unmodifiableList(notifiers);
+  }
+
+  /**
+   * Discards all the changes.
+   */
+  public void clear()
+  {
+    changes = new int [0];
+    values = new Object [0];
+    size = 0;
+    notifiers.clear();
+    notifierIndices.clear();
+  }
+
+  /**
+   * Appends the change described by the notification, if it's a change to a feature of an object or to the contents of a resource.
+   * Touch notifications, changes to container references, which are implied by changes to the corresponding containment references,
+   * and changes to features that aren't changeable are ignored.
+   * @return whether the change was appended.
+   */
+  public boolean add(Notification notification)
+  {
+    if (notification.isTouch())
+    {
+      return false;
+    }
+
+    Object notifier = notification.getNotifier();
+    int featureID;
+    boolean isMany;
+    if (notifier instanceof EObject)
+    {
+      Object feature = notification.getFeature();
+      if (!(feature instanceof EStructuralFeature) ||
+            !((EStructuralFeature)feature).isChangeable() ||
+            feature instanceof EReference && ((EReference)feature).isContainer())
+      {
+        return false;
+      }
+      featureID = ((EObject)notifier).eClass().getFeatureID((EStructuralFeature)feature);
+      if (featureID == -1)
+      {
+        return false;
+      }
+      isMany = ((EStructuralFeature)feature).isMany();
+    }
+    else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS)
+    {
+      featureID = Resource.RESOURCE__CONTENTS;
+      isMany = true;
+    }
+    else
+    {
+      return false;
+    }
+
+    int position = notification.getPosition();
+    Object oldValue = notification.getOldValue();
+    Object newValue = notification.getNewValue();
+    int header;
+    switch (notification.getEventType())
+    {
+      case Notification.SET:
+      case Notification.UNSET:
+      {
+        if (position != Notification.NO_INDEX)
+        {
+          header = SET;
+        }
+        else if (isMany)
+        {
+          // Only the set state of a list changes; its values change via other notifications.
+          //
+          header = VALUE;
+          if (oldValue == Boolean.TRUE)
+          {
+            header |= WAS_SET;
+          }
+          if (notification.getEventType() == Notification.SET)
+          {
+            header |= IS_SET;
+          }
+          oldValue = null;
+          newValue = null;
+        }
+        else
+        {
+          header = VALUE;
+          if (notification.wasSet())
+          {
+            header |= WAS_SET;
+          }
+          if (notification.getEventType() == Notification.SET)
+          {
+            header |= IS_SET;
+          }
+        }
+        break;
+      }
+      case Notification.ADD:
+      {
+        header = ADD;
+        oldValue = null;
+        break;
+      }
+      case Notification.REMOVE:
+      {
+        // If there's no position, the list is being cleared.
+        //
+        header = REMOVE;
+        if (position == Notification.NO_INDEX)
+        {
+          position = 0;
+        }
+        newValue = oldValue;
+        oldValue = null;
+        break;
+      }
+      case Notification.ADD_MANY:
+      {
+        header = ADD_MANY;
+        oldValue = ((Collection<?>)newValue).toArray();
+        newValue = null;
+        break;
+      }
+      case Notification.REMOVE_MANY:
+      {
+        // If there are no positions, the list is being cleared.
+        //
+        header = REMOVE_MANY;
+        oldValue = ((Collection<?>)oldValue).toArray();
+        if (newValue == null)
+        {
+          position = 0;
+        }
+        break;
+      }
+      case Notification.MOVE:
+      {
+        header = MOVE;
+        break;
+      }
+      default:
+      {
+        return false;
+      }
+    }
+
+    if (size * CHANGE_SIZE == changes.length)
+    {
+      int capacity = size + size / 2 + 16;
+      changes = Arrays.copyOf(changes, capacity * CHANGE_SIZE);
+      values = Arrays.copyOf(values, capacity * 2);
+    }
+
+    int offset = size * CHANGE_SIZE;
+    changes[offset] = header;
+    changes[offset + 1] = getNotifierIndex((Notifier)notifier);
+    changes[offset + 2] = featureID;
+    changes[offset + 3] = position;
+    values[2 * size] = oldValue;
+    values[2 * size + 1] = newValue;
+    ++size;
+    return true;
+  }
+
+  private int getNotifierIndex(Notifier notifier)
+  {
+    Integer index = notifierIndices.get(notifier);
+    if (index == null)
+    {
+      index = notifiers.size();
+      notifiers.add(notifier);
+      notifierIndices.put(notifier, index);
+    }
+    return index;
+  }
+
+  /**
+   * Undoes the changes, in the reverse of the order in which they were made,
+   * and reverses the log so that applying it again redoes them.
+   * The log must not be recorded while it's being applied.
+   */
+  public void applyAndReverse()
+  {
+    for (int i = size; --i >= 0; )
+    {
+      reverse(i);
+      apply(i);
+    }
+
+    for (int i = 0, j = size - 1; i < j; ++i, --j)
+    {
+      for (int k = 0; k < CHANGE_SIZE; ++k)
+      {
+        int change = changes[i * CHANGE_SIZE + k];
+        changes[i * CHANGE_SIZE + k] = changes[j * CHANGE_SIZE + k];
+        changes[j * CHANGE_SIZE + k] = change;
+      }
+      for (int k = 0; k < 2; ++k)
+      {
+        Object value = values[2 * i + k];
+        values[2 * i + k] = values[2 * j + k];
+        values[2 * j + k] = value;
+      }
+    }
+  }
+
+  /**
+   * Replaces the change at the index with the change that undoes it.
+   */
+  private void reverse(int index)
+  {
+    int offset = index * CHANGE_SIZE;
+    int header = changes[offset];
+    switch (header & KIND_MASK)
+    {
+      case VALUE:
+      {
+        int flags = 0;
+        if ((header & WAS_SET) != 0)
+        {
+          flags |= IS_SET;
+        }
+        if ((header & IS_SET) != 0)
+        {
+          flags |= WAS_SET;
+        }
+        changes[offset] = VALUE | flags;
+        swapValues(index);
+        break;
+      }
+      case SET:
+      {
+        swapValues(index);
+        break;
+      }
+      case ADD:
+      {
+        changes[offset] = REMOVE;
+        break;
+      }
+      case REMOVE:
+      {
+        changes[offset] = ADD;
+        break;
+      }
+      case ADD_MANY:
+      {
+        changes[offset] = REMOVE_MANY;
+        break;
+      }
+      case REMOVE_MANY:
+      {
+        changes[offset] = ADD_MANY;
+        break;
+      }
+      case MOVE:
+      {
+        int position = changes[offset + 3];
+        changes[offset + 3] = (Integer)values[2 * index];
+        values[2 * index] = position;
+        break;
+      }
+    }
+  }
+
+  private void swapValues(int index)
+  {
+    Object oldValue = values[2 * index];
+    values[2 * index] = values[2 * index + 1];
+    values[2 * index + 1] = oldValue;
+  }
+
+  /**
+   * Makes the change at the index.
+   * Changes to containment and bidirectional references, and to the contents of resources,
+   * are made based on the identity of the values rather than just on their positions,
+   * because some or all of the change may already have been made from the other end.
+   */
+  private void apply(int index)
+  {
+    int offset = index * CHANGE_SIZE;
+    int header = changes[offset];
+    Notifier notifier = notifiers.get(changes[offset + 1]);
+    int featureID = changes[offset + 2];
+    int position = changes[offset + 3];
+    Object oldValue = values[2 * index];
+    Object newValue = values[2 * index + 1];
+
+    EList<Object> list;
+    boolean isIdentity;
+    if (notifier instanceof EObject)
+    {
+      EObject eObject = (EObject)notifier;
+      EStructuralFeature feature = eObject.eClass().getEStructuralFeature(featureID);
+      if ((header & KIND_MASK) == VALUE)
+      {
+        applyValue(eObject, feature, header, newValue);
+        return;
+      }
+
+      @SuppressWarnings("unchecked") EList<Object> featureList = (EList<Object>)eObject.eGet(feature);
+      list = featureList;
+      isIdentity = feature instanceof EReference && (((EReference)feature).isContainment() || ((EReference)feature).getEOpposite() != null);
+    }
+    else
+    {
+      @SuppressWarnings("unchecked") EList<Object> contents = (EList<Object>)(EList<?>)((Resource)notifier).getContents();
+      list = contents;
+      isIdentity = true;
+    }
+
+    switch (header & KIND_MASK)
+    {
+      case SET:
+      {
+        set(list, isIdentity, position, oldValue, newValue);
+        break;
+      }
+      case ADD:
+      {
+        add(list, isIdentity, position, newValue);
+        break;
+      }
+      case REMOVE:
+      {
+        remove(list, isIdentity, position, newValue);
+        break;
+      }
+      case ADD_MANY:
+      {
+        Object[] manyValues = (Object[])oldValue;
+        int[] positions = (int[])newValue;
+        if (positions == null && !isIdentity)
+        {
+          list.addAll(position, Arrays.asList(manyValues));
+        }
+        else
+        {
+          for (int i = 0; i < manyValues.length; ++i)
+          {
+            add(list, isIdentity, positions == null ? position + i : positions[i], manyValues[i]);
+          }
+        }
+        break;
+      }
+      case REMOVE_MANY:
+      {
+        Object[] manyValues = (Object[])oldValue;
+        int[] positions = (int[])newValue;
+        for (int i = manyValues.length; --i >= 0; )
+        {
+          remove(list, isIdentity, positions == null ? position + i : positions[i], manyValues[i]);
+        }
+        break;
+      }
+      case MOVE:
+      {
+        if (isIdentity)
+        {
+          int currentPosition = ((InternalEList<?>)list).basicIndexOf(newValue);
+          if (currentPosition != -1)
+          {
+            int targetPosition = Math.min(position, list.size() - 1);
+            if (currentPosition != targetPosition)
+            {
+              list.move(targetPosition, currentPosition);
+            }
+          }
+        }
+        else
+        {
+          list.move(position, ((Integer)oldValue).intValue());
+        }
+        break;
+      }
+    }
+  }
+
+  private static void applyValue(EObject eObject, EStructuralFeature feature, int header, Object value)
+  {
+    if ((header & IS_SET) == 0)
+    {
+      if (eObject.eIsSet(feature))
+      {
+        eObject.eUnset(feature);
+      }
+    }
+    else if (feature.isMany())
+    {
+      if (!eObject.eIsSet(feature))
+      {
+        eObject.eSet(feature, new BasicEList<Object>((Collection<?>)eObject.eGet(feature)));
+      }
+    }
+    else
+    {
+      Object currentValue = eObject.eGet(feature, false);
+      if (!eObject.eIsSet(feature) || (value == null ? currentValue != null : !value.equals(currentValue)))
+      {
+        eObject.eSet(feature, value);
+      }
+    }
+  }
+
+  private static void set(EList<Object> list, boolean isIdentity, int position, Object oldValue, Object newValue)
+  {
+    if (isIdentity)
+    {
+      // Unless the old value is still at the position and the new value isn't in the list,
+      // remove the old value, if it's still in the list, and add the new value, if it isn't already in the list.
+      //
+      InternalEList<?> internalList = (InternalEList<?>)list;
+      if (position >= list.size() || internalList.basicGet(position) != oldValue || internalList.basicIndexOf(newValue) != -1)
+      {
+        remove(list, true, position, oldValue);
+        add(list, true, position, newValue);
+        return;
+      }
+    }
+    list.set(position, newValue);
+  }
+
+  private static void add(EList<Object> list, boolean isIdentity, int position, Object value)
+  {
+    if (isIdentity)
+    {
+      int currentPosition = ((InternalEList<?>)list).basicIndexOf(value);
+      if (currentPosition != -1)
+      {
+        int targetPosition = Math.min(position, list.size() - 1);
+        if (currentPosition != targetPosition)
+        {
+          list.move(targetPosition, currentPosition);
+        }
+        return;
+      }
+      position = Math.min(position, list.size());
+    }
+    list.add(position, value);
+  }
+
+  private static void remove(EList<Object> list, boolean isIdentity, int position, Object value)
+  {
+    if (isIdentity)
+    {
+      InternalEList<?> internalList = (InternalEList<?>)list;
+      if (position >= list.size() || internalList.basicGet(position) != value)
+      {
+        position = internalList.basicIndexOf(value);
+        if (position == -1)
+        {
+          return;
+        }
+      }
+    }
+    list.remove(position);
+  }
+
+  /**
+   * Returns a change description equivalent to this log,
+   * i.e., one that {@link ChangeDescription#applyAndReverse() undoes} the same changes.
+   * The description is computed from the log alone,
+   * by undoing the changes, in the reverse of the order in which they were made, on a copy of the current state of each changed feature,
+   * so the objects and resources aren't changed, and aren't notified, while it's being converted.
+   * As for a description produced by a {@link ChangeRecorder},
+   * the removed objects that are no longer contained are {@link ChangeDescription#getObjectsToAttach() contained by the description}.
+   */
+  public ChangeDescription toChangeDescription()
+  {
+    // Capture the current state of each changed feature, in the order in which the features were first changed.
+    //
+    Map<Long, FeatureState> featureStates = new LinkedHashMap<Long, FeatureState>();
+    for (int i = 0; i < size; ++i)
+    {
+      Long key = getFeatureStateKey(i);
+      if (!featureStates.containsKey(key))
+      {
+        int offset = i * CHANGE_SIZE;
+        featureStates.put(key, new FeatureState(notifiers.get(changes[offset + 1]), changes[offset + 2]));
+      }
+    }
+
+    // Undo the changes on the copies, in the reverse of the order in which they were made.
+    //
+    for (int i = size; --i >= 0; )
+    {
+      undo(i, featureStates.get(getFeatureStateKey(i)));
+    }
+
+    ChangeDescription changeDescription = ChangeFactory.eINSTANCE.createChangeDescription();
+    ListDifferenceAnalyzer listDifferenceAnalyzer = new ListDifferenceAnalyzer();
+    Set<EObject> objectsToAttach = new LinkedHashSet<EObject>();
+    for (FeatureState featureState : featureStates.values())
+    {
+      if (featureState.feature == null)
+      {
+        if (!featureState.list.equals(featureState.currentList))
+        {
+          ResourceChange resourceChange = ChangeFactory.eINSTANCE.createResourceChange((Resource)featureState.notifier, featureState.list);
+          listDifferenceAnalyzer.analyzeLists(featureState.currentList, featureState.list, resourceChange.getListChanges());
+          changeDescription.getResourceChanges().add(resourceChange);
+          collectOrphans(featureState.list, objectsToAttach);
+        }
+      }
+      else
+      {
+        EObject eObject = (EObject)featureState.notifier;
+        EStructuralFeature feature = featureState.feature;
+        boolean isSet = featureState.isSet();
+        Object value = feature.isMany() ? featureState.list : featureState.value;
+        Object currentValue = feature.isMany() ? featureState.currentList : featureState.currentValue;
+        if (isSet != featureState.currentIsSet || (value == null ? currentValue != null : !value.equals(currentValue)))
+        {
+          FeatureChange featureChange = ChangeFactory.eINSTANCE.createFeatureChange(feature, value, isSet);
+          if (isSet && feature.isMany())
+          {
+            listDifferenceAnalyzer.analyzeLists(featureState.currentList, featureState.list, featureChange.getListChanges());
+          }
+          EList<FeatureChange> featureChanges = changeDescription.getObjectChanges().get(eObject);
+          if (featureChanges == null)
+          {
+            Map.Entry<EObject, EList<FeatureChange>> entry = ChangeFactory.eINSTANCE.createEObjectToChangesMapEntry(eObject);
+            changeDescription.getObjectChanges().add(entry);
+            featureChanges = entry.getValue();
+          }
+          featureChanges.add(featureChange);
+
+          if (feature instanceof EReference && ((EReference)feature).isContainment())
+          {
+            collectOrphans(feature.isMany() ? featureState.list : Collections.singleton(value), objectsToAttach);
+          }
+        }
+      }
+    }
+    changeDescription.getObjectsToAttach().addAll(objectsToAttach);
+    return changeDescription;
+  }
+
+  private long getFeatureStateKey(int index)
+  {
+    int offset = index * CHANGE_SIZE;
+    return (long)changes[offset + 1] << 32 | changes[offset + 2] & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Undoes the change at the index on the copy of the state of its feature.
+   * The positions of the log's changes to each list are consistent with one another, so they're undone purely by position.
+   */
+  private void undo(int index, FeatureState featureState)
+  {
+    int offset = index * CHANGE_SIZE;
+    int header = changes[offset];
+    int position = changes[offset + 3];
+    Object oldValue = values[2 * index];
+    Object newValue = values[2 * index + 1];
+    EList<Object> list = featureState.list;
+    switch (header & KIND_MASK)
+    {
+      case VALUE:
+      {
+        featureState.wasSet = (header & WAS_SET) != 0;
+        featureState.isSetChanged = true;
+        if (list == null)
+        {
+          featureState.value = oldValue;
+        }
+        break;
+      }
+      case SET:
+      {
+        list.set(position, oldValue);
+        break;
+      }
+      case ADD:
+      {
+        list.remove(position);
+        break;
+      }
+      case REMOVE:
+      {
+        list.add(position, newValue);
+        break;
+      }
+      case ADD_MANY:
+      {
+        int[] positions = (int[])newValue;
+        for (int i = ((Object[])oldValue).length; --i >= 0; )
+        {
+          list.remove(positions == null ? position + i : positions[i]);
+        }
+        break;
+      }
+      case REMOVE_MANY:
+      {
+        Object[] manyValues = (Object[])oldValue;
+        int[] positions = (int[])newValue;
+        for (int i = 0; i < manyValues.length; ++i)
+        {
+          list.add(positions == null ? position + i : positions[i], manyValues[i]);
+        }
+        break;
+      }
+      case MOVE:
+      {
+        list.move(((Integer)oldValue).intValue(), position);
+        break;
+      }
+    }
+  }
+
+  private static void collectOrphans(Collection<?> values, Set<EObject> orphans)
+  {
+    for (Object value : values)
+    {
+      if (value instanceof InternalEObject)
+      {
+        InternalEObject eObject = (InternalEObject)value;
+        if (eObject.eInternalContainer() == null && eObject.eResource() == null)
+        {
+          orphans.add(eObject);
+        }
+      }
+    }
+  }
+
+  /**
+   * The current state of a changed feature of an object, or of the contents of a resource, and a copy of it on which the changes are undone.
+   * The state is read without resolving proxies.
+   */
+  private static final class FeatureState
+  {
+    final Notifier notifier;
+
+    /**
+     * The feature, or <code>null</code> for the contents of a resource.
+     */
+    final EStructuralFeature feature;
+
+    final EList<Object> currentList;
+
+    final Object currentValue;
+
+    final boolean currentIsSet;
+
+    /**
+     * The copy of the current list on which the changes are undone, or <code>null</code> for a single-valued feature.
+     */
+    final EList<Object> list;
+
+    Object value;
+
+    boolean wasSet;
+
+    /**
+     * Whether a change of the set state has been undone.
+     */
+    boolean isSetChanged;
+
+    FeatureState(Notifier notifier, int featureID)
+    {
+      this.notifier = notifier;
+      if (notifier instanceof EObject)
+      {
+        EObject eObject = (EObject)notifier;
+        feature = eObject.eClass().getEStructuralFeature(featureID);
+        currentIsSet = eObject.eIsSet(feature);
+        if (feature.isMany())
+        {
+          Object featureValue = eObject.eGet(feature, false);
+          currentList = new BasicEList<Object>(featureValue instanceof InternalEList<?> ? ((InternalEList<?>)featureValue).basicList() : (Collection<?>)featureValue);
+          list = new BasicEList<Object>(currentList);
+          currentValue = null;
+        }
+        else
+        {
+          currentValue = eObject.eGet(feature, false);
+          value = currentValue;
+          currentList = null;
+          list = null;
+        }
+      }
+      else
+      {
+        feature = null;
+        currentIsSet = true;
+        currentList = new BasicEList.FastCompare<Object>(((Resource)notifier).getContents());
+        list = new BasicEList.FastCompare<Object>(currentList);
+        currentValue = null;
+      }
+    }
+
+    /**
+     * Returns whether the feature was set before the changes.
+     */
+    boolean isSet()
+    {
+      return
+        isSetChanged ?
+          wasSet :
+          feature == null || !feature.isMany() || feature.isUnsettable() ?
+            currentIsSet :
+            !list.isEmpty();
+    }
+  }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.change.util;
+
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+
+/**
+ * A change recorder that records the changes in a compact {@link ChangeLog change log}
+ * rather than in a {@link ChangeDescription change model}.
+ * It monitors the specified objects in the same way as a {@link ChangeRecorder},
+ * but rather than maintaining the old state of each changed feature, it appends each change to the log,
+ * which is far less expensive for long recordings, such as undo histories.
+ * The log can be {@link #endRecordingChangeLog() retrieved} directly
+ * and can be {@link ChangeLog#toChangeDescription() converted} to a change description only when one is needed.
+ * @since 2.17
+ */
+public class ChangeLogRecorder extends ChangeRecorder
+{
+  protected ChangeLog changeLog;
+
+  public ChangeLogRecorder()
+  {
+    super();
+  }
+
+  public ChangeLogRecorder(EObject rootObject)
+  {
+    beginRecording(Collections.singleton(rootObject));
+  }
+
+  public ChangeLogRecorder(Resource resource)
+  {
+    beginRecording(Collections.singleton(resource));
+  }
+
+  public ChangeLogRecorder(ResourceSet resourceSet)
+  {
+    beginRecording(Collections.singleton(resourceSet));
+  }
+
+  public ChangeLogRecorder(Collection<?> rootObjects)
+  {
+    beginRecording(rootObjects);
+  }
+
+  /**
+   * Returns the change log to which changes are being recorded.
+   */
+  public ChangeLog getChangeLog()
+  {
+    return changeLog;
+  }
+
+  protected ChangeLog createChangeLog()
+  {
+    return new ChangeLog();
+  }
+
+  /**
+   * Begins recording any changes made to the elements of the specified collection, appending them to a new change log.
+   * @param rootObjects A collection of instances of {@link Notifier}
+   */
+  @Override
+  public void beginRecording(Collection<?> rootObjects)
+  {
+    changeLog = createChangeLog();
+    super.beginRecording(rootObjects);
+  }
+
+  /**
+   * Begins recording any changes made to the elements of the specified collection,
+   * appending them to the existing change log, if there is one, so that a previous recording is resumed.
+   * The change description is ignored.
+   */
+  @Override
+  public void beginRecording(ChangeDescription changeDescription, Collection<?> rootObjects)
+  {
+    if (changeLog == null)
+    {
+      changeLog = createChangeLog();
+    }
+    super.beginRecording(null, rootObjects);
+  }
+
+  /**
+   * Ends the recording and returns the change log.
+   * @return the {@link ChangeLog} or <tt class="code">null</tt> if there is nothing being recorded.
+   */
+  public ChangeLog endRecordingChangeLog()
+  {
+    if (isRecording())
+    {
+      setRecording(false);
+      return changeLog;
+    }
+    return null;
+  }
+
+  /**
+   * Ends the recording and returns the change log {@link ChangeLog#toChangeDescription() converted} to a change description.
+   * Use {@link #endRecordingChangeLog()} to avoid the cost of the conversion.
+   */
+  @Override
+  public ChangeDescription endRecording()
+  {
+    ChangeLog changeLog = endRecordingChangeLog();
+    return changeLog == null ? null : changeLog.toChangeDescription();
+  }
+
+  /**
+   * Returns the change log {@link ChangeLog#toChangeDescription() converted} to a change description without ending the recording.
+   */
+  @Override
+  public ChangeDescription summarize()
+  {
+    if (isRecording())
+    {
+      setRecording(false);
+      try
+      {
+        return changeLog.toChangeDescription();
+      }
+      finally
+      {
+        setRecording(true);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Does nothing because the changes are recorded in the change log.
+   */
+  @Override
+  protected void consolidateChanges()
+  {
+    // Nothing to consolidate.
+  }
+
+  @Override
+  protected void handleFeature(EStructuralFeature feature, EReference containment, Notification notification, EObject eObject)
+  {
+    if (shouldRecord(feature, containment, notification, eObject))
+    {
+      changeLog.add(notification);
+    }
+
+    if (containment != null)
+    {
+      handleContainment(notification);
+    }
+  }
+
+  @Override
+  protected void handleResource(Notification notification)
+  {
+    if (isRecording())
+    {
+      changeLog.add(notification);
+    }
+
+    handleContainment(notification);
+  }
+
+  /**
+   * Adds the adapter to the objects that have been added to a containment reference or to the contents of a resource.
+   * The adapter isn't removed from the objects that are removed, so that any changes to them continue to be recorded.
+   */
+  protected void handleContainment(Notification notification)
+  {
+    switch (notification.getEventType())
+    {
+      case Notification.SET:
+      case Notification.UNSET:
+      case Notification.ADD:
+      {
+        Object newValue = notification.getNewValue();
+        if (newValue instanceof Notifier)
+        {
+          addAdapter((Notifier)newValue);
+        }
+        break;
+      }
+      case Notification.ADD_MANY:
+      {
+        for (Object newValue : (Collection<?>)notification.getNewValue())
+        {
+          addAdapter((Notifier)newValue);
+        }
+        break;
+      }
+    }
+  }
+}
@@ -10,6 +10,9 @@
  */
 package org.eclipse.emf.ecore.change.util;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.change.ChangeFactory;
@@ -24,6 +27,32 @@ import org.eclipse.emf.ecore.change.ListChange;
  */
 public class ListDifferenceAnalyzer
 {
+  /**
+   * Whether {@link #createListChanges(EList, EList, EList)} uses {@link #createListChangesUsingHashing(EList, EList, EList) hashing}.
+   * @since 2.17
+   */
+  protected boolean hashing;
+
+  /**
+   * Returns whether the differences are analyzed using {@link #createListChangesUsingHashing(EList, EList, EList) hashing}.
+   * @since 2.17
+   */
+  public boolean isHashing()
+  {
+    return hashing;
+  }
+
+  /**
+   * Sets whether the differences are analyzed using {@link #createListChangesUsingHashing(EList, EList, EList) hashing}.
+   * This is appropriate only if {@link #equal(Object, Object)} isn't specialized,
+   * i.e., only if the {@link Object#hashCode() hash codes} of the values are consistent with it.
+   * @since 2.17
+   */
+  public void setHashing(boolean hashing)
+  {
+    this.hashing = hashing;
+  }
+
   /**
    * Analyzes the differences between two lists, returning the {@link ListChange list changes}
    * that describe how the <code>newList</code> could be changed to the contents of
@@ -52,6 +81,12 @@ public class ListDifferenceAnalyzer
 
   protected void createListChanges(EList<Object> oldList, EList<?> newList, EList<ListChange> listChanges)
   {
+    if (hashing)
+    {
+      createListChangesUsingHashing(oldList, newList, listChanges);
+      return;
+    }
+
     // Keep track of the list sizes.
     //
     int oldListSize = oldList.size();
@@ -315,6 +350,180 @@ public class ListDifferenceAnalyzer
     }
   }
 
+  /**
+   * Creates the same kinds of list changes as {@link #createListChanges(EList, EList, EList)},
+   * matching the values in the same way,
+   * but in time proportional to <code>n log n</code> rather than <code>n * n</code>, apart from the cost of the changes themselves.
+   * The values are matched by looking them up in a hash map
+   * and only the values that aren't part of the longest sequence of matched values that's already in the right order are moved.
+   * @see #setHashing(boolean)
+   * @since 2.17
+   */
+  protected void createListChangesUsingHashing(EList<Object> oldList, EList<?> newList, EList<ListChange> listChanges)
+  {
+    int oldListSize = oldList.size();
+    int newListSize = newList.size();
+
+    // Map each new value to the first index at which it occurs,
+    // and chain each index to the next index at which that same value occurs, or to -1 if there is no such index.
+    //
+    Map<Object, Integer> newListIndices = new HashMap<Object, Integer>();
+    int[] nextNewListIndices = new int [newListSize];
+    for (int j = newListSize - 1; j >= 0; --j)
+    {
+      Integer nextIndex = newListIndices.put(newList.get(j), j);
+      nextNewListIndices[j] = nextIndex == null ? -1 : nextIndex;
+    }
+
+    // Match each old value with the first unmatched occurrence of that value in the new list, as the quadratic algorithm does,
+    // and remove the unmatched old values as we proceed.
+    // A zero indicates an unmatched item while an index is offset by one to avoid using the zero index.
+    //
+    int[] newListSources = new int [newListSize];
+    for (int i = 0; i < oldListSize; )
+    {
+      Object oldValue = oldList.get(i);
+      Integer newListIndex = newListIndices.get(oldValue);
+      if (newListIndex == null)
+      {
+        createRemoveListChange(oldList, listChanges, oldValue, i);
+        --oldListSize;
+      }
+      else
+      {
+        int j = newListIndex;
+        newListSources[j] = i + 1;
+        int nextIndex = nextNewListIndices[j];
+        if (nextIndex == -1)
+        {
+          newListIndices.remove(oldValue);
+        }
+        else
+        {
+          newListIndices.put(oldValue, nextIndex);
+        }
+        ++i;
+      }
+    }
+
+    // Determine the target index at which the value at each index in the old list should end up,
+    // and the current index of the value for each target index.
+    //
+    int[] oldListTargets = new int [oldListSize];
+    int[] oldListIndices = new int [oldListSize];
+    int count = 0;
+    for (int i = 0; i < newListSize; ++i)
+    {
+      int newListSource = newListSources[i];
+      if (newListSource != 0)
+      {
+        oldListTargets[newListSource - 1] = count;
+        oldListIndices[count] = newListSource - 1;
+        ++count;
+      }
+    }
+
+    // The values in the longest increasing sequence of targets are already in the right relative order, so they're never moved.
+    // Each other value is moved, in the order of their targets, to just after the value that must precede it.
+    // That value is already in its final relative position, so each value is moved at most once.
+    //
+    boolean[] ordered = getLongestIncreasingSubsequence(oldListTargets);
+    for (int target = 0; target < count; ++target)
+    {
+      if (!ordered[target])
+      {
+        int index = oldListIndices[target];
+        int previousIndex = target == 0 ? -1 : oldListIndices[target - 1];
+        int targetIndex = index > previousIndex ? previousIndex + 1 : previousIndex;
+        if (targetIndex != index)
+        {
+          createMoveListChange(oldList, listChanges, oldList.get(index), index, targetIndex);
+
+          // Update the targets and the indices of the values that have shifted.
+          //
+          if (targetIndex < index)
+          {
+            System.arraycopy(oldListTargets, targetIndex, oldListTargets, targetIndex + 1, index - targetIndex);
+            for (int i = targetIndex + 1; i <= index; ++i)
+            {
+              ++oldListIndices[oldListTargets[i]];
+            }
+          }
+          else
+          {
+            System.arraycopy(oldListTargets, index + 1, oldListTargets, index, targetIndex - index);
+            for (int i = index; i < targetIndex; ++i)
+            {
+              --oldListIndices[oldListTargets[i]];
+            }
+          }
+          oldListTargets[targetIndex] = target;
+          oldListIndices[target] = targetIndex;
+        }
+      }
+    }
+
+    // Add the missing new values in increasing index order.
+    //
+    if (count != newListSize)
+    {
+      for (int i = 0; i < newListSize; ++i)
+      {
+        if (newListSources[i] == 0)
+        {
+          createAddListChange(oldList, listChanges, newList.get(i), i);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns, for each of the given distinct targets, which is also an index into the result,
+   * whether it's part of a longest increasing subsequence of the targets.
+   */
+  private static boolean[] getLongestIncreasingSubsequence(int[] targets)
+  {
+    int size = targets.length;
+
+    // The index of the smallest last target of an increasing subsequence of each length,
+    // and the index of the previous target in the subsequence ending with each target.
+    //
+    int[] tails = new int [size];
+    int[] predecessors = new int [size];
+    int length = 0;
+    for (int i = 0; i < size; ++i)
+    {
+      int target = targets[i];
+      int low = 0;
+      int high = length;
+      while (low < high)
+      {
+        int middle = (low + high) >>> 1;
+        if (targets[tails[middle]] < target)
+        {
+          low = middle + 1;
+        }
+        else
+        {
+          high = middle;
+        }
+      }
+      predecessors[i] = low == 0 ? -1 : tails[low - 1];
+      tails[low] = i;
+      if (low == length)
+      {
+        ++length;
+      }
+    }
+
+    boolean[] result = new boolean [size];
+    for (int i = length == 0 ? -1 : tails[length - 1]; i != -1; i = predecessors[i])
+    {
+      result[targets[i]] = true;
+    }
+    return result;
+  }
+
   /**
    * Used by {@link #createListChanges(EList, EList, EList)} to decide whether the old value is considered equal to the new value.
    * @since 2.8
@@ -568,6 +568,72 @@ public interface XMLResource extends Resource
    */
   String OPTION_RESOLVE_ENTITIES = "RESOLVED_ENTITIES";
 
+  /**
+   * A load option that specifies a {@link RootObjectHandler root object handler}
+   * to which each root object is handed, along with its complete containment tree, as soon as the end of its element is reached,
+   * i.e., before the rest of the document has been read.
+   * The handler can direct the loader to evict the root object,
+   * so that a document with many root objects can be processed in a single pass with memory bounded by the size of the largest root object's tree.
+   * @see RootObjectHandler
+   * @since 2.38
+   */
+  String OPTION_ROOT_OBJECT_HANDLER = "ROOT_OBJECT_HANDLER";
+
+  /**
+   * A save option that specifies whether the qualified name of each feature should be computed only once per save,
+   * rather than each time the feature is saved,
+   * and whether the {@link ExtendedMetaData#getContentKind(EClass) content kind} of each class
+   * should be cached in the {@link #OPTION_USE_CACHED_LOOKUP_TABLE lookup table} along with its features.
+   * The qualified names are discarded at the end of each save, since they depend on the namespace prefixes of the document.
+   * The lookup table is only shared by subsequent saves if it's specified via {@link #OPTION_USE_CACHED_LOOKUP_TABLE},
+   * in which case, as for the features it caches, it's the client's responsibility to discard it when the model changes.
+   * This can improve the performance of saving models with many instances of few classes,
+   * particularly when {@link #OPTION_EXTENDED_META_DATA extended metadata} is used.
+   * The default value is false.
+   * @since 2.38
+   */
+  String OPTION_CACHE_QUALIFIED_NAMES = "CACHE_QUALIFIED_NAMES";
+
+  /**
+   * A load option that specifies whether same document references should be resolved in batches.
+   * This implies {@link #OPTION_DEFER_IDREF_RESOLUTION deferred resolution},
+   * so all the references of the document are resolved together once the end of the document is reached.
+   * Each distinct ID or fragment path is then looked up only once,
+   * and objects identified by the value of their ID attribute are indexed in a single traversal of the resource's contents
+   * rather than found by traversing the contents for each reference.
+   * This can significantly improve the performance of loading heavily cross-linked documents.
+   * If IDs aren't unique within the document, it's unspecified which of the objects with the same ID will be referenced.
+   * The default value is false.
+   * @since 2.38
+   */
+  String OPTION_BATCH_IDREF_RESOLUTION = "BATCH_IDREF_RESOLUTION";
+
+  /**
+   * A handler for root objects as they are completely read from a streaming load.
+   * <p>
+   * Before the handler is called, all references within the root object's tree to objects that have already been read are resolved.
+   * References to objects that appear later in the document are resolved at the end of the document,
+   * unless the root object is evicted, in which case they are left unset.
+   * An evicted root object is removed from the resource's {@link Resource#getContents() contents},
+   * and the {@link XMLResource#getID(EObject) IDs} of the objects in its tree are removed from the resource,
+   * so that nothing retained by the loader or the resource refers to the evicted tree.
+   * References from retained objects earlier in the document to objects in an evicted tree are resolved just before the tree is evicted,
+   * whereas references from objects later in the document to objects in an evicted tree can't be resolved and are reported as errors.
+   * </p>
+   * @see XMLResource#OPTION_ROOT_OBJECT_HANDLER
+   * @since 2.38
+   */
+  interface RootObjectHandler
+  {
+    /**
+     * Called when a root object's element ends.
+     * @param resource the resource being loaded.
+     * @param rootObject the root object whose tree is now complete.
+     * @return whether the loader should evict the root object.
+     */
+    boolean handleRootObject(XMLResource resource, EObject rootObject);
+  }
+
   String HREF = "href";
   String NIL = "nil";
   String TYPE = "type";
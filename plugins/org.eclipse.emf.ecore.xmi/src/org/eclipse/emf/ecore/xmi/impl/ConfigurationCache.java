@@ -11,8 +11,10 @@
 package org.eclipse.emf.ecore.xmi.impl;
 
 
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -24,6 +26,14 @@ import org.eclipse.emf.ecore.xmi.impl.XMLSaveImpl.Escape;
  * This class represents a configuration that can be used to enable caching and therefore improves performance 
  * of EMF serialization. 
  * This class is considered an INTERNAL API and might change in the future.
+ * <p>
+ * The cache takes no locks:
+ * the pooled instances are held in lock-free stacks and the document roots in a concurrent map,
+ * so any number of threads can load and save concurrently.
+ * As of 2.38, the printers and escapes are held in {@link Deque deques}
+ * rather than in arrays managed via the <code>freePrinterIndex</code>, <code>freeEscapeIndex</code>, and <code>currentSize</code> fields,
+ * which have been removed.
+ * </p>
  * @since 2.1.0
  */
 public class ConfigurationCache
@@ -32,93 +42,68 @@ public class ConfigurationCache
 
   protected static final int SIZE = 100;
   
-  protected Map<EPackage, EObject> documentRoots = new HashMap<EPackage, EObject>();
+  protected Map<EPackage, EObject> documentRoots = new ConcurrentHashMap<EPackage, EObject>();
 
-  protected XMLString printers[] = new XMLString [SIZE];
+  /**
+   * The pooled printers.
+   * @since 2.38
+   */
+  protected Deque<XMLString> printers = new ConcurrentLinkedDeque<XMLString>();
 
-  protected Escape escapes[] = new Escape [SIZE];
-
-  protected int freePrinterIndex = -1;
-
-  protected int freeEscapeIndex = -1;
-
-  protected int currentSize = SIZE;
+  /**
+   * The pooled escapes.
+   * @since 2.38
+   */
+  protected Deque<Escape> escapes = new ConcurrentLinkedDeque<Escape>();
 
   protected ConfigurationCache()
   {
     super();
   }
 
-  protected synchronized XMLString getPrinter()
+  protected XMLString getPrinter()
   {
-    if (freePrinterIndex < 0)
-    {
-      return new XMLString();
-    }
-    XMLString printer = printers[freePrinterIndex];
-    printers[freePrinterIndex--] = null;
-    return printer;
+    XMLString printer = printers.pollFirst();
+    return printer == null ? new XMLString() : printer;
   }
 
-  protected synchronized void releasePrinter(XMLString printer)
+  protected void releasePrinter(XMLString printer)
   {
-    ++freePrinterIndex;
-    if (printers.length == freePrinterIndex)
-    {
-      currentSize += SIZE;
-      XMLString newarray[] = new XMLString [currentSize];
-      System.arraycopy(printers, 0, newarray, 0, printers.length);
-      printers = newarray;
-    }
-    printers[freePrinterIndex] = printer;
+    printers.addFirst(printer);
   }
 
-  protected synchronized Escape getEscape()
+  protected Escape getEscape()
   {
-    if (freeEscapeIndex < 0)
-    {
-      return new Escape();
-    }
-    Escape escape = escapes[freeEscapeIndex];
-    escapes[freeEscapeIndex--] = null;
-    return escape;
+    Escape escape = escapes.pollFirst();
+    return escape == null ? new Escape() : escape;
   }
 
-  protected synchronized void releaseEscape(Escape escape)
+  protected void releaseEscape(Escape escape)
   {
-    ++freeEscapeIndex;
-    if (escapes.length == freeEscapeIndex)
-    {
-      currentSize += SIZE;
-      Escape newarray[] = new Escape [currentSize];
-      System.arraycopy(escapes, 0, newarray, 0, escapes.length);
-      escapes = newarray;
-    }
-    escapes[freeEscapeIndex] = escape;
+    escapes.addFirst(escape);
   }
 
-  public synchronized void release()
+  public void release()
   {
-    freeEscapeIndex = -1;
-    freePrinterIndex = -1;
-    for (int i = 0; i < printers.length; i++)
-    {
-      printers[i] = null;
-    }
-    for (int i = 0; i < escapes.length; i++)
-    {
-      escapes[i] = null;
-    }
+    printers.clear();
+    escapes.clear();
   }
   
-  public synchronized EClass getDocumentRoot(EPackage ePackage)
+  public EClass getDocumentRoot(EPackage ePackage)
   {
     return (EClass)documentRoots.get(ePackage);
   }
   
-  public synchronized void putDocumentRoot(EPackage ePackage, EClass documentRoot)
+  public void putDocumentRoot(EPackage ePackage, EClass documentRoot)
   {
-    documentRoots.put(ePackage, documentRoot);
+    if (documentRoot == null)
+    {
+      documentRoots.remove(ePackage);
+    }
+    else
+    {
+      documentRoots.put(ePackage, documentRoot);
+    }
   }
 
 }
@@ -20,7 +20,11 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
 import java.util.ListIterator;
 
@@ -62,6 +66,30 @@ public class StringSegment extends BasicEList<StringSegment.Element>
 
   protected Writer temporaryFile;
 
+  /**
+   * The channel to which the UTF-8 encoded contents are written once {@link #startFileBuffering() file buffering} has started.
+   * @since 2.38
+   */
+  protected FileChannel temporaryFileChannel;
+
+  /**
+   * The reusable buffer of UTF-8 encoded bytes, which wraps {@link #encodedBytes}.
+   * @since 2.38
+   */
+  protected ByteBuffer encodedBuffer;
+
+  /**
+   * The array of UTF-8 encoded bytes.
+   * @since 2.38
+   */
+  protected byte[] encodedBytes;
+
+  /**
+   * The number of bytes in the {@link #encodedBytes}.
+   * @since 2.38
+   */
+  protected int encodedPosition;
+
   protected int bufferPosition;
 
   protected String firstString;
@@ -136,6 +164,25 @@ public class StringSegment extends BasicEList<StringSegment.Element>
   {
     // System.err.println("add = ["+newString+"]");
 
+    // If there is a temporary file channel, encode directly to it.
+    //
+    if (temporaryFileChannel != null)
+    {
+      if (firstString == null)
+      {
+        firstString = newString;
+      }
+      try
+      {
+        encode(newString, temporaryFileChannel);
+      }
+      catch (IOException exception)
+      {
+        XMIPlugin.INSTANCE.log(exception);
+      }
+      return;
+    }
+
     // If there is a temporary file...
     //
     if (temporaryFile != null)
@@ -242,11 +289,12 @@ public class StringSegment extends BasicEList<StringSegment.Element>
 
   public void startFileBuffering()
   {
-    if (temporaryFileName != null && temporaryFile == null)
+    if (temporaryFileName != null && temporaryFile == null && temporaryFileChannel == null)
     {
       try
       {
-        temporaryFile = new OutputStreamWriter(new FileOutputStream(temporaryFileName), StandardCharsets.UTF_8);
+        temporaryFileChannel = FileChannel.open(Paths.get(temporaryFileName), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        encodedPosition = 0;
       }
       catch (IOException exception)
       {
@@ -257,7 +305,21 @@ public class StringSegment extends BasicEList<StringSegment.Element>
 
   public void resetToMark(Object mark)
   {
-    if (temporaryFile != null)
+    if (temporaryFileChannel != null)
+    {
+      cursor.add("");
+      try
+      {
+        drain(temporaryFileChannel);
+        temporaryFileChannel.close();
+      }
+      catch (IOException exception)
+      {
+        XMIPlugin.INSTANCE.log(exception);
+      }
+      temporaryFileChannel = null;
+    }
+    else if (temporaryFile != null)
     {
       cursor.add("");
       try
@@ -458,6 +520,178 @@ public class StringSegment extends BasicEList<StringSegment.Element>
 
   }
 
+  /**
+   * Writes the contents, encoded as UTF-8, to the output stream.
+   * Unlike {@link #write(Writer, int) writing} via an {@link OutputStreamWriter},
+   * the characters are encoded directly into a reusable {@link #encodedBuffer buffer},
+   * and the contents of the temporary file, which is always UTF-8 encoded, are copied without being decoded and re-encoded;
+   * when the output stream is a {@link FileOutputStream}, they're transferred directly to its {@link FileOutputStream#getChannel() channel}.
+   * @param os the output stream.
+   * @param flushThreshold the number of bytes after which the output stream is flushed.
+   * @since 2.38
+   */
+  public void writeUTF8(OutputStream os, int flushThreshold) throws IOException
+  {
+    Element[] elements = (Element[])data;
+    int count = 0;
+    encodedPosition = 0;
+    for (int i = 0; i < size; ++i)
+    {
+      Element element = elements[i];
+      int segmentSize = element.size;
+      for (int j = 0; j < segmentSize; ++j)
+      {
+        int start = encodedPosition;
+        encode(element.data[j], os);
+        count += encodedPosition - start;
+        if (count > flushThreshold)
+        {
+          drain(os);
+          os.flush();
+          count = 0;
+        }
+      }
+    }
+    drain(os);
+
+    String temporaryFileName = this.temporaryFileName;
+    if (temporaryFileName != null)
+    {
+      FileChannel inputChannel = FileChannel.open(Paths.get(temporaryFileName), StandardOpenOption.READ);
+      try
+      {
+        long length = inputChannel.size();
+        if (os instanceof FileOutputStream)
+        {
+          os.flush();
+          FileChannel outputChannel = ((FileOutputStream)os).getChannel();
+          for (long position = 0; position < length; )
+          {
+            position += inputChannel.transferTo(position, length - position, outputChannel);
+          }
+        }
+        else
+        {
+          ByteBuffer encodedBuffer = getEncodedBuffer();
+          byte[] encodedBytes = this.encodedBytes;
+          encodedBuffer.clear();
+          while (inputChannel.read(encodedBuffer) > 0)
+          {
+            int bytes = encodedBuffer.position();
+            os.write(encodedBytes, 0, bytes);
+            encodedBuffer.clear();
+            count += bytes;
+            if (count > flushThreshold)
+            {
+              os.flush();
+              count = 0;
+            }
+          }
+        }
+      }
+      finally
+      {
+        inputChannel.close();
+      }
+      new File(temporaryFileName).delete();
+    }
+  }
+
+  /**
+   * Returns the reusable buffer of encoded bytes, creating it if necessary.
+   * @since 2.38
+   */
+  protected ByteBuffer getEncodedBuffer()
+  {
+    if (encodedBuffer == null)
+    {
+      encodedBytes = new byte [BUFFER_SIZE];
+      encodedBuffer = ByteBuffer.wrap(encodedBytes);
+    }
+    return encodedBuffer;
+  }
+
+  /**
+   * Encodes the string as UTF-8 into the {@link #encodedBytes}, draining them to the target whenever they're full.
+   * An unpaired surrogate is encoded as <code>?</code>, as is the case for a {@link java.nio.charset.CharsetEncoder} that replaces malformed input.
+   */
+  private void encode(String string, Object target) throws IOException
+  {
+    getEncodedBuffer();
+    byte[] bytes = encodedBytes;
+    int position = encodedPosition;
+    int limit = bytes.length - 4;
+    for (int i = 0, length = string.length(); i < length; ++i)
+    {
+      if (position > limit)
+      {
+        encodedPosition = position;
+        drain(target);
+        position = 0;
+      }
+      char character = string.charAt(i);
+      if (character < 0x80)
+      {
+        bytes[position++] = (byte)character;
+      }
+      else if (character < 0x800)
+      {
+        bytes[position++] = (byte)(0xC0 | character >> 6);
+        bytes[position++] = (byte)(0x80 | character & 0x3F);
+      }
+      else if (Character.isSurrogate(character))
+      {
+        char low;
+        if (Character.isHighSurrogate(character) && i + 1 < length && Character.isLowSurrogate(low = string.charAt(i + 1)))
+        {
+          ++i;
+          int codePoint = Character.toCodePoint(character, low);
+          bytes[position++] = (byte)(0xF0 | codePoint >> 18);
+          bytes[position++] = (byte)(0x80 | codePoint >> 12 & 0x3F);
+          bytes[position++] = (byte)(0x80 | codePoint >> 6 & 0x3F);
+          bytes[position++] = (byte)(0x80 | codePoint & 0x3F);
+        }
+        else
+        {
+          bytes[position++] = '?';
+        }
+      }
+      else
+      {
+        bytes[position++] = (byte)(0xE0 | character >> 12);
+        bytes[position++] = (byte)(0x80 | character >> 6 & 0x3F);
+        bytes[position++] = (byte)(0x80 | character & 0x3F);
+      }
+    }
+    encodedPosition = position;
+  }
+
+  /**
+   * Writes the {@link #encodedBytes} to the target, which is either a {@link FileChannel} or an {@link OutputStream}, and empties them.
+   */
+  private void drain(Object target) throws IOException
+  {
+    if (encodedPosition > 0)
+    {
+      if (target instanceof FileChannel)
+      {
+        ByteBuffer encodedBuffer = this.encodedBuffer;
+        encodedBuffer.limit(encodedPosition);
+        encodedBuffer.position(0);
+        while (encodedBuffer.hasRemaining())
+        {
+          ((FileChannel)target).write(encodedBuffer);
+        }
+        encodedBuffer.clear();
+      }
+      else
+      {
+        ((OutputStream)target).write(encodedBytes, 0, encodedPosition);
+      }
+      encodedPosition = 0;
+    }
+  }
+
   protected static class Element
   {
     int size;
@@ -47,6 +47,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.ExtensibleURIConverterImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.eclipse.emf.ecore.util.BasicExtendedMetaData;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.ExtendedMetaData;
@@ -351,6 +352,42 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
    */
   protected boolean resolveEntities;
 
+  /**
+   * The handler to which each completely read root object is handed.
+   * @see XMLResource#OPTION_ROOT_OBJECT_HANDLER
+   * @since 2.38
+   */
+  protected XMLResource.RootObjectHandler rootObjectHandler;
+
+  /**
+   * The sizes of the {@link #sameDocumentProxies}, {@link #forwardSingleReferences}, and {@link #forwardManyReferences} lists
+   * when the previous root object was {@link #handleRootObject(EObject) handled}.
+   */
+  private int rootSameDocumentProxyIndex;
+  private int rootForwardSingleReferenceIndex;
+  private int rootForwardManyReferenceIndex;
+
+  /**
+   * Whether same document references are {@link #resolveIDREF(String) resolved} in batches.
+   * @see XMLResource#OPTION_BATCH_IDREF_RESOLUTION
+   * @since 2.38
+   */
+  protected boolean batchIDREFResolution;
+
+  /**
+   * The objects resolved so far, keyed by ID or fragment path, while a batch of same document references is being resolved.
+   * @see #resolveIDREF(String)
+   * @since 2.38
+   */
+  protected Map<String, EObject> resolvedIDREFs;
+
+  /**
+   * The intrinsic ID map installed on the resource for the duration of a batch, if the resource didn't already have one.
+   * @see #startIDREFResolution()
+   * @since 2.38
+   */
+  protected Map<String, EObject> batchIntrinsicIDToEObjectMap;
+
   public XMLHandler(XMLResource xmlResource, XMLHelper helper, Map<?, ?> options)
   {
     this.xmlResource = xmlResource;
@@ -481,6 +518,11 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
       helper.setCheckForDuplicates(deferIDREFResolution = true);
     }
 
+    if (Boolean.TRUE.equals(options.get(XMLResource.OPTION_BATCH_IDREF_RESOLUTION)))
+    {
+      helper.setCheckForDuplicates(deferIDREFResolution = batchIDREFResolution = true);
+    }
+
     if (Boolean.TRUE.equals(options.get(XMLResource.OPTION_CONFIGURATION_CACHE)))
     {
       useConfigurationCache = true;
@@ -514,6 +556,7 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
     usePackageNsURIAsLocation = !Boolean.FALSE.equals(options.get(XMLResource.OPTION_USE_PACKAGE_NS_URI_AS_LOCATION));
     missingPackageHandler = (XMLResource.MissingPackageHandler)options.get(XMLResource.OPTION_MISSING_PACKAGE_HANDLER);
     resolveEntities = Boolean.TRUE.equals(options.get(XMLResource.OPTION_RESOLVE_ENTITIES));
+    rootObjectHandler = (XMLResource.RootObjectHandler)options.get(XMLResource.OPTION_ROOT_OBJECT_HANDLER);
   }
 
   protected void setExtendedMetaDataOption(Object extendedMetaDataOption)
@@ -605,6 +648,8 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
         uriHandler.setBaseURI(resourceURI);
       }
     }
+
+    rootObjectHandler = (XMLResource.RootObjectHandler)options.get(XMLResource.OPTION_ROOT_OBJECT_HANDLER);
   }
 
   public void reset()
@@ -664,6 +709,10 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
     documentRoot = null;
     usedNullNamespacePackage = false;
     isNamespaceAware = false;
+    rootObjectHandler = null;
+    rootSameDocumentProxyIndex = 0;
+    rootForwardSingleReferenceIndex = 0;
+    rootForwardManyReferenceIndex = 0;
   }
 
   //
@@ -1074,11 +1123,33 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
    */
   protected void handleForwardReferences(boolean isEndDocument)
   {
+    handleForwardReferences(isEndDocument, 0, 0, 0);
+  }
+
+  /**
+   * Handles the same document proxies and forward references starting at the given indices of their respective lists.
+   */
+  private void handleForwardReferences(boolean isEndDocument, int sameDocumentProxyIndex, int forwardSingleReferenceIndex, int forwardManyReferenceIndex)
+  {
+    if (batchIDREFResolution && resolvedIDREFs == null)
+    {
+      startIDREFResolution();
+      try
+      {
+        handleForwardReferences(isEndDocument, sameDocumentProxyIndex, forwardSingleReferenceIndex, forwardManyReferenceIndex);
+      }
+      finally
+      {
+        endIDREFResolution();
+      }
+      return;
+    }
+
     // Handle the same document proxies, which may have problems resulting from the
     // other end of a bidirectional reference being handled as an IDREF rather than as a proxy.
     // When we are done with these, we know that funny proxies are now resolved as if they were handled as IDREFs.
     //
-    for (Iterator<InternalEObject> i = sameDocumentProxies.iterator(); i.hasNext(); )
+    for (Iterator<InternalEObject> i = sameDocumentProxies.listIterator(sameDocumentProxyIndex); i.hasNext(); )
     {
       InternalEObject proxy = i.next();
 
@@ -1098,7 +1169,7 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
           
           try
           {
-            resolvedEObject = xmlResource.getEObject(proxy.eProxyURI().fragment());
+            resolvedEObject = resolveIDREF(proxy.eProxyURI().fragment());
           }
           catch (RuntimeException exception)
           {
@@ -1178,14 +1249,14 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
       }
     }
 
-    for (Iterator<SingleReference> i = forwardSingleReferences.iterator(); i.hasNext(); )
+    for (Iterator<SingleReference> i = forwardSingleReferences.listIterator(forwardSingleReferenceIndex); i.hasNext(); )
     {
       SingleReference ref = i.next();
       EObject obj = null;
       RuntimeException cause = null;
       try
       {
-        obj = xmlResource.getEObject((String) ref.getValue());
+        obj = resolveIDREF((String) ref.getValue());
       }
       catch (RuntimeException exception)
       {
@@ -1213,7 +1284,7 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
       }
     }
 
-    for (Iterator<ManyReference> i = forwardManyReferences.iterator(); i.hasNext(); )
+    for (Iterator<ManyReference> i = forwardManyReferences.listIterator(forwardManyReferenceIndex); i.hasNext(); )
     {
       ManyReference ref =  i.next();
       Object[] values = ref.getValues();
@@ -1227,7 +1298,7 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
         
         try
         {
-          obj = xmlResource.getEObject(id);
+          obj = resolveIDREF(id);
           values[j] = obj;
         }
         catch (RuntimeException exception)
@@ -1267,6 +1338,72 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
     }
   }
 
+  /**
+   * Prepares to resolve a batch of same document references.
+   * If the resource is a {@link ResourceImpl} without an {@link ResourceImpl#getIntrinsicIDToEObjectMap() intrinsic ID map},
+   * one is installed for the duration of the batch,
+   * so that all the objects with intrinsic IDs are indexed in a single traversal of the resource's contents
+   * rather than in a traversal for each reference.
+   * @see #endIDREFResolution()
+   * @since 2.38
+   */
+  protected void startIDREFResolution()
+  {
+    resolvedIDREFs = new HashMap<String, EObject>();
+    if (xmlResource instanceof ResourceImpl)
+    {
+      ResourceImpl resourceImpl = (ResourceImpl)xmlResource;
+      if (resourceImpl.getIntrinsicIDToEObjectMap() == null)
+      {
+        batchIntrinsicIDToEObjectMap = new HashMap<String, EObject>();
+        resourceImpl.setIntrinsicIDToEObjectMap(batchIntrinsicIDToEObjectMap);
+      }
+    }
+  }
+
+  /**
+   * Discards the state of the batch of same document references,
+   * including the intrinsic ID map installed by {@link #startIDREFResolution()}.
+   * @since 2.38
+   */
+  protected void endIDREFResolution()
+  {
+    resolvedIDREFs = null;
+    if (batchIntrinsicIDToEObjectMap != null)
+    {
+      ResourceImpl resourceImpl = (ResourceImpl)xmlResource;
+      if (resourceImpl.getIntrinsicIDToEObjectMap() == batchIntrinsicIDToEObjectMap)
+      {
+        resourceImpl.setIntrinsicIDToEObjectMap(null);
+      }
+      batchIntrinsicIDToEObjectMap = null;
+    }
+  }
+
+  /**
+   * Returns the object in the resource identified by the given ID or fragment path.
+   * While a batch is being resolved, each distinct value is looked up in the resource only once,
+   * no matter how many references there are to it.
+   * @since 2.38
+   */
+  protected EObject resolveIDREF(String id)
+  {
+    if (resolvedIDREFs == null)
+    {
+      return xmlResource.getEObject(id);
+    }
+    else
+    {
+      EObject result = resolvedIDREFs.get(id);
+      if (result == null && !resolvedIDREFs.containsKey(id))
+      {
+        result = xmlResource.getEObject(id);
+        resolvedIDREFs.put(id, result);
+      }
+      return result;
+    }
+  }
+
   /**
    * Check if the values of the forward references have been set (they may
    * have been set due to a bi-directional reference being set).  If not,
@@ -1582,16 +1719,17 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
   {
     elements.pop();
     Object type = types.pop();
+    EObject rootObject = null;
     if (type == OBJECT_TYPE)
     {
       if (text == null)
       {
-        objects.pop();
+        rootObject = objects.popEObject();
         mixedTargets.pop();
       }
       else
       {
-        EObject object = objects.popEObject();
+        EObject object = rootObject = objects.popEObject();
         if (mixedTargets.peek() != null &&
               (object.eContainer() != null ||
                  suppressDocumentRoot ||
@@ -1643,6 +1781,133 @@ public abstract class XMLHandler extends DefaultHandler implements XMLDefaultHan
       isSimpleFeature = false;
     }
     helper.popContext(prefixesToFactories);
+
+    if (rootObjectHandler != null && rootObject != null && objects.isEmpty())
+    {
+      handleRootObject(rootObject);
+    }
+  }
+
+  /**
+   * Hands the completely read root object to the {@link #rootObjectHandler root object handler},
+   * after resolving those forward references of the root object's tree that can be resolved,
+   * and {@link #evictRootObject(EObject) evicts} it if the handler so directs.
+   * Only the forward references recorded since the previous root object was handled are considered,
+   * so the cost is proportional to the size of the tree rather than to the number of references pending for the whole document.
+   * Before a tree is evicted, the pending forward references of earlier retained trees are resolved,
+   * because they may refer to objects in the evicted tree;
+   * otherwise they're resolved at the end of the document, as usual.
+   * @param rootObject the root object whose element has ended.
+   * @see XMLResource#OPTION_ROOT_OBJECT_HANDLER
+   * @since 2.38
+   */
+  protected void handleRootObject(EObject rootObject)
+  {
+    rootSameDocumentProxyIndex = Math.min(rootSameDocumentProxyIndex, sameDocumentProxies.size());
+    rootForwardSingleReferenceIndex = Math.min(rootForwardSingleReferenceIndex, forwardSingleReferences.size());
+    rootForwardManyReferenceIndex = Math.min(rootForwardManyReferenceIndex, forwardManyReferences.size());
+    handleForwardReferences(false, rootSameDocumentProxyIndex, rootForwardSingleReferenceIndex, rootForwardManyReferenceIndex);
+
+    if (disableNotify)
+    {
+      rootObject.eSetDeliver(true);
+      for (Iterator<EObject> i = EcoreUtil.getAllProperContents(rootObject, false); i.hasNext(); )
+      {
+        i.next().eSetDeliver(true);
+      }
+    }
+
+    if (rootObjectHandler.handleRootObject(xmlResource, rootObject))
+    {
+      if (rootSameDocumentProxyIndex != 0 || rootForwardSingleReferenceIndex != 0 || rootForwardManyReferenceIndex != 0)
+      {
+        // The references of this tree that remain can't be resolved, so only the earlier references can be removed;
+        // adjust the indices to account for those.
+        //
+        int sameDocumentProxyCount = sameDocumentProxies.size() - rootSameDocumentProxyIndex;
+        int forwardSingleReferenceCount = forwardSingleReferences.size() - rootForwardSingleReferenceIndex;
+        int forwardManyReferenceCount = forwardManyReferences.size() - rootForwardManyReferenceIndex;
+        handleForwardReferences(false, 0, 0, 0);
+        rootSameDocumentProxyIndex = sameDocumentProxies.size() - sameDocumentProxyCount;
+        rootForwardSingleReferenceIndex = forwardSingleReferences.size() - forwardSingleReferenceCount;
+        rootForwardManyReferenceIndex = forwardManyReferences.size() - forwardManyReferenceCount;
+      }
+      evictRootObject(rootObject);
+    }
+
+    rootSameDocumentProxyIndex = sameDocumentProxies.size();
+    rootForwardSingleReferenceIndex = forwardSingleReferences.size();
+    rootForwardManyReferenceIndex = forwardManyReferences.size();
+  }
+
+  /**
+   * Removes the root object from the resource
+   * and discards everything retained by the resource and by this handler for the objects of the root object's tree,
+   * i.e., their IDs, extensions, and unresolved forward references.
+   * @param rootObject the root object to evict.
+   * @see XMLResource.RootObjectHandler
+   * @since 2.38
+   */
+  protected void evictRootObject(EObject rootObject)
+  {
+    if (deferredExtent != null)
+    {
+      deferredExtent.remove(rootObject);
+    }
+    else
+    {
+      extent.remove(rootObject);
+    }
+
+    Set<EObject> evictedObjects = new HashSet<EObject>();
+    evictedObjects.add(rootObject);
+    for (Iterator<EObject> i = EcoreUtil.getAllProperContents(rootObject, false); i.hasNext(); )
+    {
+      evictedObjects.add(i.next());
+    }
+
+    for (EObject eObject : evictedObjects)
+    {
+      if (xmlResource.getID(eObject) != null)
+      {
+        xmlResource.setID(eObject, null);
+      }
+      eObjectToExtensionMap.remove(eObject);
+    }
+
+    // Only the references recorded since the previous root object was handled can be held by the tree.
+    //
+    for (Iterator<SingleReference> i = forwardSingleReferences.listIterator(Math.min(rootForwardSingleReferenceIndex, forwardSingleReferences.size())); i.hasNext(); )
+    {
+      if (evictedObjects.contains(i.next().getObject()))
+      {
+        i.remove();
+      }
+    }
+    for (Iterator<ManyReference> i = forwardManyReferences.listIterator(Math.min(rootForwardManyReferenceIndex, forwardManyReferences.size())); i.hasNext(); )
+    {
+      if (evictedObjects.contains(i.next().getObject()))
+      {
+        i.remove();
+      }
+    }
+    for (Iterator<InternalEObject> i = sameDocumentProxies.listIterator(Math.min(rootSameDocumentProxyIndex, sameDocumentProxies.size())); i.hasNext(); )
+    {
+      InternalEObject proxy = i.next();
+      for (EReference eReference : proxy.eClass().getEAllReferences())
+      {
+        EReference oppositeEReference = eReference.getEOpposite();
+        if (oppositeEReference != null && oppositeEReference.isChangeable() && proxy.eIsSet(eReference))
+        {
+          Object proxyHolder = eReference.isMany() ? ((List<?>)proxy.eGet(eReference)).get(0) : proxy.eGet(eReference);
+          if (evictedObjects.contains(proxyHolder))
+          {
+            i.remove();
+            break;
+          }
+        }
+      }
+    }
   }
 
   protected boolean isTextFeatureValue(Object type)
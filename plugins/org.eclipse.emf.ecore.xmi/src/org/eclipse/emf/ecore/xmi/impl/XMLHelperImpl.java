@@ -114,6 +114,10 @@ public class XMLHelperImpl implements XMLHelper
     
     ((XMLHelperImpl)helper).processDanglingHREF = (String)options.get(XMLResource.OPTION_PROCESS_DANGLING_HREF);
     save.traverse(contents);
+
+    // Extract the characters before releasing the printer, which another thread may immediately reuse.
+    //
+    char[] chars = save.toChar();
     if (save.useCache)
     {
       if (save.doc != null)
@@ -125,7 +129,6 @@ public class XMLHelperImpl implements XMLHelper
         ConfigurationCache.INSTANCE.releaseEscape(save.escape);
       } 
     }
-    char[] chars = save.toChar();
     return new String(chars);
   }
 
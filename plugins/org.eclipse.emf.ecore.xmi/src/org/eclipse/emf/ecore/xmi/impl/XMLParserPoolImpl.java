@@ -11,10 +11,12 @@
 package org.eclipse.emf.ecore.xmi.impl;
 
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
@@ -34,12 +36,51 @@ import org.xml.sax.SAXException;
  * To avoid possible memory leak (in case user is trying to parse documents using different options for every parse), 
  * there is a restriction on the size of the pool. 
  * The key used for handler caching is based on the option map passed to load.
+ * <p>
+ * The pool takes no locks:
+ * the instances for each configuration are held in a lock-free queue in a concurrent map,
+ * so any number of threads can get and release parsers and handlers concurrently.
+ * </p>
  */
 public class XMLParserPoolImpl implements XMLParserPool
 {
-  private final Map<Map<?, ?>, List<SAXParser>> parserCache = new HashMap<Map<?, ?>, List<SAXParser>>();
+  /**
+   * A bounded lock-free stack of pooled instances.
+   */
+  private static final class Pool<T>
+  {
+    private final ConcurrentLinkedDeque<T> instances = new ConcurrentLinkedDeque<T>();
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    public T get()
+    {
+      T result = instances.pollFirst();
+      if (result != null)
+      {
+        count.decrementAndGet();
+      }
+      return result;
+    }
+
+    public void release(T instance, int capacity)
+    {
+      // Reserve a slot before adding so that the capacity is never exceeded.
+      //
+      for (int current = count.get(); current < capacity; current = count.get())
+      {
+        if (count.compareAndSet(current, current + 1))
+        {
+          instances.addFirst(instance);
+          return;
+        }
+      }
+    }
+  }
 
-  private final Map<Map<?, ?>, List<XMLDefaultHandler>> handlersCache;
+  private final ConcurrentMap<Map<?, ?>, Pool<SAXParser>> parserCache = new ConcurrentHashMap<Map<?, ?>, Pool<SAXParser>>();
+
+  private final ConcurrentMap<Map<?, ?>, Pool<XMLDefaultHandler>> handlersCache;
   
   private final int size;
   
@@ -71,56 +112,52 @@ public class XMLParserPoolImpl implements XMLParserPool
   public XMLParserPoolImpl(int size, boolean useHandlerCache)
   {
     this.size = size;
-    handlersCache = useHandlerCache ? new HashMap<Map<?, ?>, List<XMLDefaultHandler>>() : null;
+    handlersCache = useHandlerCache ? new ConcurrentHashMap<Map<?, ?>, Pool<XMLDefaultHandler>>() : null;
   }
-  
-  /**
-   * @see XMLParserPool#get(Map, Map, boolean)
-   */
-  public synchronized SAXParser get(Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler) throws ParserConfigurationException, SAXException
+
+  private static Map<?, ?> getKey(Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler)
   {
     Map<Object, Object> map = new HashMap<Object, Object>();
     map.putAll(features);
     map.putAll(properties);
     map.put(XMLResource.OPTION_USE_LEXICAL_HANDLER, useLexicalHandler ? Boolean.TRUE : Boolean.FALSE);
-    if (parserCache.size() > size)
-    {
-      parserCache.clear();
-    }
-    List<SAXParser> list = parserCache.get(map);
-    if (list != null)
+    return map;
+  }
+
+  private <T> Pool<T> getPool(ConcurrentMap<Map<?, ?>, Pool<T>> cache, Map<?, ?> key)
+  {
+    Pool<T> pool = cache.get(key);
+    if (pool == null)
     {
-      int size = list.size();
-      if (size > 0)
+      if (cache.size() > size)
       {
-        return list.remove(size - 1);
+        cache.clear();
       }
-      else
+      Pool<T> newPool = new Pool<T>();
+      pool = cache.putIfAbsent(key, newPool);
+      if (pool == null)
       {
-        return makeParser(features, properties);
+        pool = newPool;
       }
     }
-    else
-    {
-      parserCache.put(map, new ArrayList<SAXParser>());
-      return makeParser(features, properties);
-    }
+    return pool;
+  }
+  
+  /**
+   * @see XMLParserPool#get(Map, Map, boolean)
+   */
+  public SAXParser get(Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler) throws ParserConfigurationException, SAXException
+  {
+    SAXParser parser = getPool(parserCache, getKey(features, properties, useLexicalHandler)).get();
+    return parser == null ? makeParser(features, properties) : parser;
   }
 
   /**
    * @see XMLParserPool#release(SAXParser, Map, Map, boolean)
    */
-  public synchronized void release(SAXParser parser, Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler)
+  public void release(SAXParser parser, Map<String, Boolean> features, Map<String, ?> properties, boolean useLexicalHandler)
   {
-    Map<Object, Object> map = new HashMap<Object, Object>();
-    map.putAll(features);
-    map.putAll(properties);
-    map.put(XMLResource.OPTION_USE_LEXICAL_HANDLER, useLexicalHandler ? Boolean.TRUE : Boolean.FALSE);
-    List<SAXParser> list = parserCache.get(map);
-    if (list.size() < size)
-    {
-      list.add(parser);
-    }
+    getPool(parserCache, getKey(features, properties, useLexicalHandler)).release(parser, size);
   }
 
   protected SAXParser makeParser(Map<String, Boolean> features, Map<String, ?> properties) throws ParserConfigurationException, SAXException
@@ -148,48 +185,26 @@ public class XMLParserPoolImpl implements XMLParserPool
     return parser;
   }
 
-  public synchronized XMLDefaultHandler getDefaultHandler(XMLResource resource, XMLLoad xmlLoad, XMLHelper helper, Map<?, ?> options)
+  public XMLDefaultHandler getDefaultHandler(XMLResource resource, XMLLoad xmlLoad, XMLHelper helper, Map<?, ?> options)
   {
     if (handlersCache != null)
     {
-      if (handlersCache.size() > size)
+      XMLDefaultHandler handler = getPool(handlersCache, options).get();
+      if (handler != null)
       {
-        handlersCache.clear();
-      }
-      List<XMLDefaultHandler> list = handlersCache.get(options);
-      if (list != null)
-      {
-        int size = list.size();
-        if (size > 0)
-        {
-          XMLDefaultHandler handler = list.remove(size - 1);
-          handler.prepare(resource, helper, options);
-          return handler;
-        }
-      }
-      else
-      {
-        handlersCache.put(options, new ArrayList<XMLDefaultHandler>());
+        handler.prepare(resource, helper, options);
+        return handler;
       }
     }
     return xmlLoad.createDefaultHandler();
   }
 
-  public synchronized void releaseDefaultHandler(XMLDefaultHandler handler, Map<?, ?> options)
+  public void releaseDefaultHandler(XMLDefaultHandler handler, Map<?, ?> options)
   {
     if (handlersCache != null)
     {
       handler.reset();
-      List<XMLDefaultHandler> list = handlersCache.get(options);
-      if (list == null)
-      {
-        list = new ArrayList<XMLDefaultHandler>();
-        handlersCache.put(options, list);
-      }
-      else if (list.size() < size)
-      {
-        list.add(handler);
-      }
+      getPool(handlersCache, options).release(handler, size);
     }
   }
 }
@@ -18,6 +18,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -110,6 +111,12 @@ public class XMLSaveImpl implements XMLSave
   protected Node currentNode;
   protected NameInfo nameInfo;
   protected boolean useCache;
+
+  /**
+   * The qualified name of each feature computed during this save, if {@link XMLResource#OPTION_CACHE_QUALIFIED_NAMES qualified names are cached}.
+   * @since 2.38
+   */
+  protected Map<EStructuralFeature, String> featureQNames;
   protected EObject root;
   protected XMLResource xmlResource;
   protected List<? extends EObject> roots;
@@ -252,6 +259,11 @@ public class XMLSaveImpl implements XMLSave
       writeAscii(outputStream);
       outputStream.flush();
     }
+    else if (isUTF8(helper.getJavaEncoding(encoding)))
+    {
+      writeUTF8(outputStream);
+      outputStream.flush();
+    }
     else
     {
       OutputStreamWriter outputStreamWriter = new OutputStreamWriter(outputStream, helper.getJavaEncoding(encoding));
@@ -311,6 +323,7 @@ public class XMLSaveImpl implements XMLSave
       }     
     }
     featureTable = null;
+    featureQNames = null;
     doc = null;
     helper = null;
   }
@@ -567,6 +580,11 @@ public class XMLSaveImpl implements XMLSave
     helper.setOptions(options);
     
     proxyAttributes = Boolean.TRUE.equals(options.get(XMLResource.OPTION_PROXY_ATTRIBUTES));
+
+    if (Boolean.TRUE.equals(options.get(XMLResource.OPTION_CACHE_QUALIFIED_NAMES)))
+    {
+      featureQNames = new HashMap<EStructuralFeature, String>();
+    }
   }
 
   public void traverse(List<? extends EObject> contents)
@@ -1018,6 +1036,25 @@ public class XMLSaveImpl implements XMLSave
     os.flush();
   }
 
+  /**
+   * Writes the document, encoded as UTF-8, directly to the output stream.
+   * @since 2.38
+   */
+  public void writeUTF8(OutputStream os) throws IOException
+  {
+    doc.writeUTF8(os, flushThreshold);
+    os.flush();
+  }
+
+  /**
+   * Returns whether the Java encoding is UTF-8, in which case the document is {@link #writeUTF8(OutputStream) written} without using a {@link Writer}.
+   * @since 2.38
+   */
+  protected boolean isUTF8(String javaEncoding)
+  {
+    return "UTF-8".equalsIgnoreCase(javaEncoding) || "UTF8".equalsIgnoreCase(javaEncoding);
+  }
+
   public char[] toChar()
   {
     int size = doc.getLength();
@@ -1141,7 +1178,9 @@ public class XMLSaveImpl implements XMLSave
 
     if (!toDOM)
     {
-      String featureName = helper.getQName(f);
+      // Within the namespace context of an any type, the prefixes may differ from those of the document.
+      //
+      String featureName = isAnyType ? helper.getQName(f) : getQName(f);
       doc.startElement(featureName);
     }
     else
@@ -1214,6 +1253,26 @@ public class XMLSaveImpl implements XMLSave
     return o.eIsSet(f) || keepDefaults && f.getDefaultValueLiteral() != null;
   }
 
+  /**
+   * Returns the qualified name of the feature,
+   * which is computed by the {@link #helper} only once per save if {@link XMLResource#OPTION_CACHE_QUALIFIED_NAMES qualified names are cached}.
+   * @since 2.38
+   */
+  protected String getQName(EStructuralFeature f)
+  {
+    if (featureQNames == null)
+    {
+      return helper.getQName(f);
+    }
+    String result = featureQNames.get(f);
+    if (result == null)
+    {
+      result = helper.getQName(f);
+      featureQNames.put(f, result);
+    }
+    return result;
+  }
+
   protected boolean saveFeatures(EObject o)
   {
     return saveFeatures(o, false);
@@ -1225,7 +1284,10 @@ public class XMLSaveImpl implements XMLSave
   protected boolean saveFeatures(EObject o, boolean attributesOnly)
   {
     EClass eClass = o.eClass();   
-    int contentKind = extendedMetaData == null ? ExtendedMetaData.UNSPECIFIED_CONTENT : extendedMetaData.getContentKind(eClass);     
+    int contentKind =
+      extendedMetaData == null ?
+        ExtendedMetaData.UNSPECIFIED_CONTENT :
+        featureQNames != null ? featureTable.getContentKind(eClass) : extendedMetaData.getContentKind(eClass);
     if (!toDOM)
     {
       switch (contentKind)
@@ -1693,7 +1755,7 @@ public class XMLSaveImpl implements XMLSave
     {
       if (!toDOM)
       {
-        doc.addAttribute(helper.getQName(f), svalue);
+        doc.addAttribute(getQName(f), svalue);
       }
       else
       {
@@ -1736,7 +1798,7 @@ public class XMLSaveImpl implements XMLSave
   protected void saveNil(EStructuralFeature f)
   {
     declareXSI = true;
-    doc.saveNilElement(helper.getQName(f));
+    doc.saveNilElement(getQName(f));
   }
   
   protected void saveManyEmpty(EObject o, EStructuralFeature f)
@@ -1756,7 +1818,7 @@ public class XMLSaveImpl implements XMLSave
   
   protected void saveManyEmpty(EStructuralFeature f)
   {
-      doc.addAttribute(helper.getQName(f), "");
+      doc.addAttribute(getQName(f), "");
   }
 
   protected void saveDataTypeMany(EObject o, EStructuralFeature f)
@@ -1771,7 +1833,7 @@ public class XMLSaveImpl implements XMLSave
         EDataType d = (EDataType)f.getEType();
         EPackage ePackage = d.getEPackage();
         EFactory fac = ePackage.getEFactoryInstance();
-        String name = helper.getQName(f);
+        String name = getQName(f);
         for (int i = 0; i < size; ++i)
         {
           Object value = values.get(i);
@@ -1853,7 +1915,7 @@ public class XMLSaveImpl implements XMLSave
       }
       if (!toDOM)
       {
-        String name = helper.getQName(f);
+        String name = getQName(f);
         doc.startAttribute(name);
         doc.addAttributeContent(stringValues.toString());
         doc.endAttribute();
@@ -1893,7 +1955,7 @@ public class XMLSaveImpl implements XMLSave
         buffer.append(id);
         if (!toDOM)
         {
-          String name = helper.getQName(f);
+          String name = getQName(f);
           doc.startAttribute(name);
           doc.addAttributeContent(buffer.toString());
           doc.endAttribute();
@@ -1960,7 +2022,7 @@ public class XMLSaveImpl implements XMLSave
       {
         if (!toDOM)
         {
-          String name = helper.getQName(f);
+          String name = getQName(f);
           doc.startAttribute(name);
           doc.addAttributeContent(string);
           doc.endAttribute();
@@ -1987,7 +2049,7 @@ public class XMLSaveImpl implements XMLSave
       {
         if (!toDOM)
         {
-          String name = helper.getQName(f);       
+          String name = getQName(f);       
           doc.addAttribute(name, id);
         }
         else
@@ -2040,7 +2102,7 @@ public class XMLSaveImpl implements XMLSave
       {
         if (!toDOM)
         {
-          String name = helper.getQName(f);
+          String name = getQName(f);
           doc.addAttribute(name, idsString);
         }
         else
@@ -2078,7 +2140,7 @@ public class XMLSaveImpl implements XMLSave
       }
       if (!toDOM)
       {
-        doc.startElement(helper.getQName(f));        
+        doc.startElement(getQName(f));        
       }
       else
       {
@@ -2205,7 +2267,7 @@ public class XMLSaveImpl implements XMLSave
 
   protected void saveElementIDRef(EObject target, EStructuralFeature f)
   {
-    String name = helper.getQName(f);
+    String name = getQName(f);
     String id = helper.getIDREF(target);
     if (id != null)
     {
@@ -2314,7 +2376,7 @@ public class XMLSaveImpl implements XMLSave
       }
       if (!toDOM)
       {
-        String name = helper.getQName(f);
+        String name = getQName(f);
         doc.startElement(name);
       }
       else
@@ -2584,7 +2646,7 @@ public class XMLSaveImpl implements XMLSave
         String svalue = getDatatypeValue(value, entryFeature, true);
         if (!toDOM)
         {
-          doc.addAttribute(helper.getQName(entryFeature), svalue);
+          doc.addAttribute(getQName(entryFeature), svalue);
         }
         else
         {
@@ -2718,6 +2780,13 @@ public class XMLSaveImpl implements XMLSave
     protected EClass[] classes;
     protected EStructuralFeature[][] features;
     protected int[][] featureKinds;
+
+    /**
+     * The {@link ExtendedMetaData#getContentKind(EClass) content kind} of each class, or -1 if it's not yet been determined.
+     * @since 2.38
+     */
+    protected int[] contentKinds;
+
     protected XMLResource.XMLMap map;
     protected ExtendedMetaData extendedMetaData;
     protected ArrayList<EObject> docRoots = new ArrayList<EObject>();
@@ -2774,6 +2843,8 @@ public class XMLSaveImpl implements XMLSave
       classes = new EClass[SIZE];
       features = new EStructuralFeature[SIZE][];
       featureKinds = new int[SIZE][];
+      contentKinds = new int[SIZE];
+      Arrays.fill(contentKinds, -1);
       if (elementHandler != null)
       {
         featureClassifierPair = new FeatureClassifierPair();
@@ -2836,6 +2907,33 @@ public class XMLSaveImpl implements XMLSave
       return kindsList;
     }
 
+    /**
+     * Returns the {@link ExtendedMetaData#getContentKind(EClass) content kind} of the class,
+     * which is determined only once for each class for which the {@link #getFeatures(EClass) features} are cached.
+     * @since 2.38
+     */
+    public int getContentKind(EClass cls)
+    {
+      if (extendedMetaData == null)
+      {
+        return ExtendedMetaData.UNSPECIFIED_CONTENT;
+      }
+
+      int index = getIndex(cls);
+      if (classes[index] != cls)
+      {
+        return extendedMetaData.getContentKind(cls);
+      }
+
+      int result = contentKinds[index];
+      if (result == -1)
+      {
+        result = extendedMetaData.getContentKind(cls);
+        contentKinds[index] = result;
+      }
+      return result;
+    }
+
     public EStructuralFeature getSubstitutionGroup(EStructuralFeature eStructuralFeature, EClassifier eClassifier)
     {
       if (elementHandler == null)
@@ -3124,7 +3222,7 @@ public class XMLSaveImpl implements XMLSave
       String svalue =  getDatatypeValue(value, f, false);
       if (!toDOM)
       {
-        doc.saveDataValueElement(helper.getQName(f), svalue);
+        doc.saveDataValueElement(getQName(f), svalue);
       }
       else
       {
@@ -23,8 +23,10 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -735,4 +737,36 @@ public interface URIConverter
    * @since 2.4
    */
   URIConverter INSTANCE = new ExtensibleURIConverterImpl();
+
+  /**
+   * An optional interface implemented by a URI converter that can read and write the contents of a URI asynchronously.
+   * Each operation {@link URIConverter#normalize(URI) normalizes} the URI
+   * and delegates to the {@link URIHandler.Asynchronous asynchronous} support of the appropriate {@link #getURIHandlers() URI handler}.
+   * If the handler has no such support,
+   * the handler's blocking operations are performed by the {@link URIHandler.Asynchronous#OPTION_EXECUTOR executor}.
+   * @since 2.38
+   */
+  interface Asynchronous
+  {
+    /**
+     * Reads the contents of the URI.
+     * @param uri the URI to read.
+     * @param options a map of options to influence how the contents are read, or <code>null</code> if there are no options.
+     * @return a future that completes with a buffer, ready to be read, holding the contents,
+     * or completes exceptionally with the {@link IOException} that prevented them from being read.
+     * @see URIHandler.Asynchronous#read(URI, Map)
+     */
+    CompletableFuture<ByteBuffer> read(URI uri, Map<?, ?> options);
+
+    /**
+     * Writes the remaining contents of the buffer as the new contents of the URI.
+     * @param uri the URI to write.
+     * @param contents the buffer holding the contents to write.
+     * @param options a map of options to influence how the contents are written, or <code>null</code> if there are no options.
+     * @return a future that completes once the contents have been written,
+     * or completes exceptionally with the {@link IOException} that prevented them from being written.
+     * @see URIHandler.Asynchronous#write(URI, ByteBuffer, Map)
+     */
+    CompletableFuture<Void> write(URI uri, ByteBuffer contents, Map<?, ?> options);
+  }
 }
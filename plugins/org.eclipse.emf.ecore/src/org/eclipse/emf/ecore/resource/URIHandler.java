@@ -13,10 +13,12 @@ package org.eclipse.emf.ecore.resource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.impl.ArchiveURIHandlerImpl;
@@ -134,4 +136,47 @@ public interface URIHandler
    * @throws IOException if there is a problem updating the attributes.
    */
   void setAttributes(URI uri, Map<String, ?> attributes, Map<?, ?> options) throws IOException;
+
+  /**
+   * An optional interface implemented by a URI handler that can read and write the contents of a URI asynchronously,
+   * i.e., without blocking the calling thread while the I/O is in progress.
+   * @see URIConverter.Asynchronous
+   * @since 2.38
+   */
+  interface Asynchronous
+  {
+    /**
+     * An option that specifies the {@link java.util.concurrent.Executor executor} used for I/O that can only be done by blocking a thread,
+     * i.e., by a handler that has no non-blocking support for a particular kind of URI,
+     * and used to process the contents once they've been read, e.g., to parse them when a resource is loaded asynchronously.
+     * If it's an {@link java.util.concurrent.ExecutorService executor service},
+     * the {@link java.nio.channels.AsynchronousFileChannel asynchronous file channels} used for file URIs are associated with it,
+     * and on platforms where such channels emulate asynchronous I/O, it's the one that performs their blocking I/O.
+     * The default is {@link java.util.concurrent.ForkJoinPool#commonPool() the common pool}.
+     */
+    String OPTION_EXECUTOR = "EXECUTOR";
+
+    /**
+     * Reads the contents of the URI.
+     * The {@link URIConverter#OPTION_RESPONSE response option} is updated before the returned future completes.
+     * @param uri the URI to read.
+     * @param options a map of options to influence how the contents are read; unrecognized options are ignored and <code>null</code> is not permitted.
+     * @return a future that completes with a buffer, ready to be read, holding the contents,
+     * or completes exceptionally with the {@link IOException} that prevented them from being read.
+     * @see URIConverter.Asynchronous#read(URI, Map)
+     */
+    CompletableFuture<ByteBuffer> read(URI uri, Map<?, ?> options);
+
+    /**
+     * Writes the remaining contents of the buffer as the new contents of the URI.
+     * The {@link URIConverter#OPTION_RESPONSE response option} is updated before the returned future completes.
+     * @param uri the URI to write.
+     * @param contents the buffer holding the contents to write.
+     * @param options a map of options to influence how the contents are written; unrecognized options are ignored and <code>null</code> is not permitted.
+     * @return a future that completes once the contents have been written,
+     * or completes exceptionally with the {@link IOException} that prevented them from being written.
+     * @see URIConverter.Asynchronous#write(URI, ByteBuffer, Map)
+     */
+    CompletableFuture<Void> write(URI uri, ByteBuffer contents, Map<?, ?> options);
+  }
 }
@@ -27,6 +27,17 @@ import org.eclipse.emf.ecore.resource.URIConverter;
 
 public class ArchiveURIHandlerImpl extends URIHandlerImpl
 {
+  /**
+   * An option to specify whether to retain the archives that are read in the {@link ArchiveURLConnection.ZipFileCache#INSTANCE shared zip file cache},
+   * so that repeated access to the entries of an archive, and to those of the archives nested within it,
+   * doesn't reopen and rescan the archive each time.
+   * The value is {@link Boolean#TRUE} to use the cache; the default is not to use it.
+   * A cached archive remains open until it's evicted, or until the cache is {@link ArchiveURLConnection.ZipFileCache#clear() cleared},
+   * which on some platforms prevents the archive's file from being replaced or deleted by other means.
+   * @since 2.38
+   */
+  public static final String OPTION_USE_ZIP_FILE_CACHE = "USE_ZIP_FILE_CACHE";
+
   /**
    * Creates an instance.
    */
@@ -111,6 +122,12 @@ public class ArchiveURIHandlerImpl extends URIHandlerImpl
     {
       return true;
     }
+
+    @Override
+    protected boolean useZipFileCache()
+    {
+      return options != null && Boolean.TRUE.equals(options.get(OPTION_USE_ZIP_FILE_CACHE));
+    }
     
     @Override
     protected InputStream createInputStream(String nestedURL) throws IOException
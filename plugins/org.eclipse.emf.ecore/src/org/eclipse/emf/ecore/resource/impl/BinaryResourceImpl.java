@@ -12,19 +12,33 @@ package org.eclipse.emf.ecore.resource.impl;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 
+import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.CommonUtil;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.Enumerator;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EDataType;
@@ -109,6 +123,25 @@ public class BinaryResourceImpl extends ResourceImpl
    */
   public static final String OPTION_STYLE_DATA_CONVERTER = "DATA_CONVERTER";
 
+  /**
+   * A save option to specify whether each object in the {@link #getContents() contents}, along with its content tree,
+   * is serialized as a separate segment that can be decoded independently of the others,
+   * with the segments preceded by an index of the objects' classes and the segments' sizes.
+   * Loading such a serialization creates each object in the contents immediately,
+   * but loads its content tree only when the object is first retrieved from the contents,
+   * e.g., via {@link List#get(int)}, via an iterator, or via {@link #getEObject(String)} when a proxy is resolved.
+   * A reference to an object in the content tree of another object in the contents is serialized as a proxy with a positional fragment path;
+   * it's resolved on demand via the resource set, or, for a reference that doesn't {@link EReference#isResolveProxies() resolve proxies} or a resource not in a resource set,
+   * as soon as the content tree containing the reference is loaded.
+   * Only a resource that loads such a serialization uses a {@link SegmentedContentsEList contents list} that loads content trees on demand,
+   * and, until all its content trees are loaded, that resource must not be accessed concurrently, even for reading, without external synchronization.
+   * The value must be a boolean; the default is false.
+   * This style option is only supported for serializations with {@link BinaryIO.Version#VERSION_1_1 version 1.1} or higher.
+   * @see BinaryIO#STYLE_INDEXED_CONTENTS
+   * @since 2.38
+   */
+  public static final String OPTION_STYLE_INDEXED_CONTENTS = "INDEXED_CONTENTS";
+
   /**
    * A Boolean load option to specify whether proxies should be eagerly resolved during loading.
    * This can improve subsequent performance by saving the cost of repeatedly resolving the same proxy for each different use of that proxy.
@@ -185,6 +218,44 @@ public class BinaryResourceImpl extends ResourceImpl
     return 0;
   }
 
+  /**
+   * A load option to specify that the content of a resource with a {@link URI#isFile() file} URI,
+   * after {@link URIConverter#normalize(URI) normalization},
+   * should be read directly from a memory-mapped view of the file, via a {@link MappedFileInputStream},
+   * rather than from a stream created by the {@link URIConverter}.
+   * The value must be a boolean; the default is false.
+   * The option is ignored for resources that {@link #useZip() use zip} or when a {@link Resource#OPTION_CIPHER cipher} is specified.
+   * @see MappedFileInputStream
+   * @since 2.38
+   */
+  public static final String OPTION_MEMORY_MAPPED_FILE = "MEMORY_MAPPED_FILE";
+
+  /**
+   * The segments of an {@link #OPTION_STYLE_INDEXED_CONTENTS indexed} serialization that have not yet been loaded,
+   * keyed by the object in the contents whose content tree they serialize,
+   * or <code>null</code> if there are no such segments.
+   * @see #loadSegment(EObject)
+   * @since 2.38
+   */
+  protected Map<EObject, ByteBuffer> unloadedSegments;
+
+  /**
+   * The options used to load the {@link #unloadedSegments unloaded segments}.
+   * @since 2.38
+   */
+  protected Map<?, ?> segmentLoadOptions;
+
+  /**
+   * Whether a {@link #loadSegment(EObject) segment} is being loaded.
+   */
+  private boolean isLoadingSegment;
+
+  /**
+   * Whether loading the segments may have left proxies with positional fragment paths to be resolved on demand.
+   * @see #resolveSegmentProxies()
+   */
+  private boolean hasSegmentProxies;
+
   public BinaryResourceImpl()
   {
     super();
@@ -195,9 +266,371 @@ public class BinaryResourceImpl extends ResourceImpl
     super(uri);
   }
 
+  /**
+   * Replaces the contents with a {@link SegmentedContentsEList segmented contents list}, if they aren't already such a list,
+   * so that the content tree of each object is {@link #loadSegment(EObject) loaded} when it's first retrieved.
+   * This is called only when an {@link #OPTION_STYLE_INDEXED_CONTENTS indexed} serialization is loaded,
+   * so the contents of any other resource are an ordinary {@link ResourceImpl.ContentsEList contents list}.
+   * @since 2.38
+   */
+  protected void useSegmentedContents()
+  {
+    if (!(contents instanceof SegmentedContentsEList))
+    {
+      SegmentedContentsEList segmentedContents = new SegmentedContentsEList();
+      if (contents != null && !contents.isEmpty())
+      {
+        segmentedContents.setData(contents.size(), contents.toArray());
+      }
+      contents = segmentedContents;
+    }
+  }
+
+  /**
+   * A contents list that {@link BinaryResourceImpl#loadSegment(EObject) loads} the content tree of each of its objects when it's first retrieved.
+   * Retrieving an object via {@link #basicGet(int)} also loads its content tree,
+   * and retrieving the objects in bulk, e.g., via {@link #toArray()}, {@link #data()}, or {@link #basicList()}, loads all the content trees.
+   * Before the objects are removed, replaced, or reordered,
+   * all the content trees are loaded and the proxies with {@link #OPTION_STYLE_INDEXED_CONTENTS positional fragment paths} to objects in them are resolved,
+   * because those paths would no longer refer to the same objects.
+   * <p>
+   * Because retrieving an object can load its content tree, which modifies the resource, the list is not thread-safe even for reading:
+   * while any content trees remain unloaded, concurrent access to the resource must be externally synchronized.
+   * Once they've all been loaded, e.g., via {@link #toArray()}, the list behaves like an ordinary contents list.
+   * </p>
+   * @see BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS
+   * @see BinaryResourceImpl#useSegmentedContents()
+   * @since 2.38
+   */
+  protected class SegmentedContentsEList extends ContentsEList<EObject>
+  {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected EObject resolve(int index, EObject object)
+    {
+      if (unloadedSegments != null)
+      {
+        loadSegment(object);
+      }
+      return object;
+    }
+
+    /**
+     * Loads all the content trees and resolves the proxies with positional fragment paths
+     * before the positions of the objects in the contents change.
+     */
+    protected void prepareToChange()
+    {
+      if (unloadedSegments != null || hasSegmentProxies)
+      {
+        loadSegments();
+        resolveSegmentProxies();
+      }
+    }
+
+    @Override
+    public EObject basicGet(int index)
+    {
+      EObject result = super.basicGet(index);
+      if (unloadedSegments != null)
+      {
+        loadSegment(result);
+      }
+      return result;
+    }
+
+    @Override
+    public Object[] data()
+    {
+      loadSegments();
+      return super.data();
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+      loadSegments();
+      return super.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array)
+    {
+      loadSegments();
+      return super.toArray(array);
+    }
+
+    @Override
+    public Object[] basicToArray()
+    {
+      loadSegments();
+      return super.basicToArray();
+    }
+
+    @Override
+    public <T> T[] basicToArray(T[] array)
+    {
+      loadSegments();
+      return super.basicToArray(array);
+    }
+
+    @Override
+    public List<EObject> basicList()
+    {
+      loadSegments();
+      return super.basicList();
+    }
+
+    @Override
+    public Iterator<EObject> basicIterator()
+    {
+      loadSegments();
+      return super.basicIterator();
+    }
+
+    @Override
+    public ListIterator<EObject> basicListIterator()
+    {
+      loadSegments();
+      return super.basicListIterator();
+    }
+
+    @Override
+    public ListIterator<EObject> basicListIterator(int index)
+    {
+      loadSegments();
+      return super.basicListIterator(index);
+    }
+
+    @Override
+    public void addUnique(int index, EObject object)
+    {
+      if (index != size)
+      {
+        prepareToChange();
+      }
+      super.addUnique(index, object);
+    }
+
+    @Override
+    public boolean addAllUnique(int index, Collection<? extends EObject> collection)
+    {
+      if (index != size)
+      {
+        prepareToChange();
+      }
+      return super.addAllUnique(index, collection);
+    }
+
+    @Override
+    public boolean addAllUnique(int index, Object[] objects, int start, int end)
+    {
+      if (index != size)
+      {
+        prepareToChange();
+      }
+      return super.addAllUnique(index, objects, start, end);
+    }
+
+    @Override
+    public EObject setUnique(int index, EObject object)
+    {
+      prepareToChange();
+      return super.setUnique(index, object);
+    }
+
+    @Override
+    public NotificationChain basicSet(int index, EObject object, NotificationChain notifications)
+    {
+      prepareToChange();
+      return super.basicSet(index, object, notifications);
+    }
+
+    @Override
+    public EObject remove(int index)
+    {
+      prepareToChange();
+      return super.remove(index);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+      prepareToChange();
+      return super.removeAll(collection);
+    }
+
+    @Override
+    public NotificationChain basicRemove(Object object, NotificationChain notifications)
+    {
+      prepareToChange();
+      return super.basicRemove(object, notifications);
+    }
+
+    @Override
+    public EObject move(int targetIndex, int sourceIndex)
+    {
+      prepareToChange();
+      return super.move(targetIndex, sourceIndex);
+    }
+
+    @Override
+    public void clear()
+    {
+      prepareToChange();
+      super.clear();
+    }
+  }
+
+  /**
+   * Loads the content tree of the object in the contents from its {@link #unloadedSegments segment}, if it's not yet been loaded.
+   * The content tree is loaded with {@link EObject#eDeliver() delivery} of the object's notifications disabled
+   * and without affecting whether the resource is {@link #isModified() modified},
+   * so the object's adapters are not notified of the loading, just as they aren't for the objects loaded when the resource is loaded.
+   * This method is not thread-safe.
+   * @param eObject an object in the contents.
+   * @see #OPTION_STYLE_INDEXED_CONTENTS
+   * @since 2.38
+   */
+  protected void loadSegment(EObject eObject)
+  {
+    ByteBuffer segment = unloadedSegments.remove(eObject);
+    if (segment != null)
+    {
+      if (unloadedSegments.isEmpty())
+      {
+        unloadedSegments = null;
+      }
+
+      boolean wasLoading = isLoading;
+      boolean wasLoadingSegment = isLoadingSegment;
+      boolean wasDelivering = eObject.eDeliver();
+      isLoading = true;
+      isLoadingSegment = true;
+      eObject.eSetDeliver(false);
+      try
+      {
+        EObjectInputStream eObjectInputStream = createEObjectInputStream(new ByteBufferInputStream(segment), segmentLoadOptions);
+        eObjectInputStream.loadSegment(this, (InternalEObject)eObject);
+      }
+      catch (IOException exception)
+      {
+        throw new WrappedException(exception);
+      }
+      finally
+      {
+        eObject.eSetDeliver(wasDelivering);
+        isLoadingSegment = wasLoadingSegment;
+        isLoading = wasLoading;
+      }
+    }
+  }
+
+  /**
+   * Loads the content trees of all the objects in the contents that have not yet been loaded.
+   * @see #OPTION_STYLE_INDEXED_CONTENTS
+   * @since 2.38
+   */
+  protected void loadSegments()
+  {
+    while (unloadedSegments != null)
+    {
+      loadSegment(unloadedSegments.keySet().iterator().next());
+    }
+  }
+
+  /**
+   * Resolves the proxies, with {@link #OPTION_STYLE_INDEXED_CONTENTS positional fragment paths} to objects in the content trees of other objects in the contents,
+   * that were left to be resolved on demand when the content trees were loaded.
+   * The content trees must all be loaded.
+   * @see #loadSegments()
+   * @since 2.38
+   */
+  protected void resolveSegmentProxies()
+  {
+    if (hasSegmentProxies)
+    {
+      hasSegmentProxies = false;
+      URI uri = getURI();
+      for (TreeIterator<EObject> i = getAllProperContents(getContents()); i.hasNext(); )
+      {
+        InternalEObject internalEObject = (InternalEObject)i.next();
+        for (EReference eReference : internalEObject.eClass().getEAllReferences())
+        {
+          if (!eReference.isContainment() && !eReference.isContainer() && !eReference.isTransient() && eReference.isResolveProxies() && internalEObject.eIsSet(eReference))
+          {
+            if (eReference.isMany())
+            {
+              @SuppressWarnings("unchecked")
+              InternalEList<EObject> values = (InternalEList<EObject>)internalEObject.eGet(eReference, false);
+              for (int j = 0, size = values.size(); j < size; ++j)
+              {
+                if (isSegmentProxy(values.basicGet(j), uri))
+                {
+                  values.get(j);
+                }
+              }
+            }
+            else if (isSegmentProxy((EObject)internalEObject.eGet(eReference, false), uri))
+            {
+              internalEObject.eGet(eReference, true);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean isSegmentProxy(EObject eObject, URI uri)
+  {
+    return eObject != null && eObject.eIsProxy() && uri != null && uri.equals(((InternalEObject)eObject).eProxyURI().trimFragment());
+  }
+
+  /**
+   * Ignores changes to whether the resource is modified while a {@link #loadSegment(EObject) segment is loading}.
+   * @since 2.38
+   */
+  @Override
+  public void setModified(boolean isModified)
+  {
+    if (!isLoadingSegment)
+    {
+      super.setModified(isModified);
+    }
+  }
+
+  /**
+   * Discards the {@link #unloadedSegments unloaded segments} so that determining the contents to unload doesn't load them.
+   * @since 2.38
+   */
+  @Override
+  protected List<EObject> getUnloadingContents()
+  {
+    unloadedSegments = null;
+    segmentLoadOptions = null;
+    hasSegmentProxies = false;
+    return super.getUnloadingContents();
+  }
+
+  /**
+   * Discards the {@link #unloadedSegments unloaded segments} before unloading the contents as usual.
+   * @since 2.38
+   */
+  @Override
+  protected void doUnload()
+  {
+    unloadedSegments = null;
+    segmentLoadOptions = null;
+    hasSegmentProxies = false;
+    super.doUnload();
+  }
+
   @Override
   protected void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException
   {
+    loadSegments();
+
     if (outputStream instanceof URIConverter.Saveable)
     {
       ((URIConverter.Saveable)outputStream).saveResource(this);
@@ -242,6 +675,73 @@ public class BinaryResourceImpl extends ResourceImpl
     return new EObjectOutputStream(outputStream, options);
   }
 
+  /**
+   * Loads the resource from a {@link MappedFileInputStream} if the {@link #OPTION_MEMORY_MAPPED_FILE} option applies,
+   * or as {@link ResourceImpl#load(Map) usual} otherwise.
+   * @see #OPTION_MEMORY_MAPPED_FILE
+   * @since 2.38
+   */
+  @Override
+  public void load(Map<?, ?> options) throws IOException
+  {
+    if (!isLoaded)
+    {
+      File file = getMemoryMappedFile(mergeMaps(options, defaultLoadOptions));
+      if (file != null)
+      {
+        InputStream inputStream = createMappedFileInputStream(file);
+        try
+        {
+          load(inputStream, options);
+        }
+        finally
+        {
+          inputStream.close();
+        }
+        setTimeStamp(file.lastModified());
+        return;
+      }
+    }
+
+    super.load(options);
+  }
+
+  /**
+   * Returns the existing file to be memory-mapped for loading this resource,
+   * or <code>null</code> if the resource should be loaded from a stream created by the {@link URIConverter}.
+   * @param options the load options, merged with the {@link #getDefaultLoadOptions() default load options}.
+   * @return the file to be memory-mapped, or <code>null</code>.
+   * @see #OPTION_MEMORY_MAPPED_FILE
+   * @since 2.38
+   */
+  protected File getMemoryMappedFile(Map<?, ?> options)
+  {
+    if (options != null && Boolean.TRUE.equals(options.get(OPTION_MEMORY_MAPPED_FILE)) && options.get(Resource.OPTION_CIPHER) == null && !useZip())
+    {
+      URI normalizedURI = getURIConverter().normalize(getURI());
+      if (normalizedURI.isFile() && !normalizedURI.hasFragment())
+      {
+        File file = new File(normalizedURI.toFileString());
+        if (file.isFile())
+        {
+          return file;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Creates the stream over the memory-mapped content of the file.
+   * @param file the file to be memory-mapped.
+   * @return a new stream over the memory-mapped content of the file.
+   * @since 2.38
+   */
+  protected MappedFileInputStream createMappedFileInputStream(File file) throws IOException
+  {
+    return new MappedFileInputStream(file);
+  }
+
   @Override
   protected void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException
   {
@@ -251,7 +751,7 @@ public class BinaryResourceImpl extends ResourceImpl
     }
     else
     {
-      if (!(inputStream instanceof BufferedInputStream))
+      if (!(inputStream instanceof BufferedInputStream) && !(inputStream instanceof ByteBufferInputStream))
       {
         int bufferCapacity = getBufferCapacity(options);
         if (bufferCapacity > 0)
@@ -274,6 +774,187 @@ public class BinaryResourceImpl extends ResourceImpl
     return new EObjectInputStream(inputStream, options);
   }
 
+  /**
+   * An input stream over the content of a {@link ByteBuffer}, or of a sequence of byte buffers.
+   * An {@link EObjectInputStream} created for such a stream decodes directly from the {@link #getBuffer() current buffer}
+   * rather than copying bytes into an intermediate array.
+   * @since 2.38
+   */
+  public static class ByteBufferInputStream extends InputStream
+  {
+    protected ByteBuffer buffer;
+
+    protected ByteBufferInputStream()
+    {
+      super();
+    }
+
+    public ByteBufferInputStream(ByteBuffer buffer)
+    {
+      this.buffer = buffer;
+    }
+
+    /**
+     * Returns the current buffer.
+     * Consuming bytes from this buffer consumes them from this stream.
+     * @return the current buffer.
+     */
+    public ByteBuffer getBuffer()
+    {
+      return buffer;
+    }
+
+    /**
+     * Returns the buffer following the current buffer, if there is one, and makes it the current buffer.
+     * This implementation returns <code>null</code> because there is just a single buffer.
+     * @return the next buffer, or <code>null</code> if the end of the content has been reached.
+     */
+    public ByteBuffer nextBuffer() throws IOException
+    {
+      return null;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+      if (!buffer.hasRemaining() && nextBuffer() == null)
+      {
+        return -1;
+      }
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException
+    {
+      if (length == 0)
+      {
+        return 0;
+      }
+      if (!buffer.hasRemaining() && nextBuffer() == null)
+      {
+        return -1;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long count) throws IOException
+    {
+      int result = (int)Math.min(buffer.remaining(), Math.max(0, count));
+      buffer.position(buffer.position() + result);
+      return result;
+    }
+
+    @Override
+    public int available() throws IOException
+    {
+      return buffer.remaining();
+    }
+  }
+
+  /**
+   * An input stream over the memory-mapped content of a file.
+   * The file is mapped read-only in consecutive regions of at most {@link #REGION_SIZE} bytes, by default,
+   * so files larger than the maximum capacity of a {@link ByteBuffer} are supported.
+   * Once established, a mapping remains valid after the stream is closed,
+   * so buffers {@link ByteBuffer#slice() sliced} from the {@link #getBuffer() buffer of a region} remain usable.
+   * @see BinaryResourceImpl#OPTION_MEMORY_MAPPED_FILE
+   * @since 2.38
+   */
+  public static class MappedFileInputStream extends ByteBufferInputStream
+  {
+    /**
+     * The default maximum number of bytes mapped by a single region.
+     */
+    public static final int REGION_SIZE = 1 << 30;
+
+    protected FileChannel fileChannel;
+
+    protected int regionSize;
+
+    protected long size;
+
+    protected long regionStart;
+
+    public MappedFileInputStream(File file) throws IOException
+    {
+      this(file, REGION_SIZE);
+    }
+
+    public MappedFileInputStream(File file, int regionSize) throws IOException
+    {
+      this.regionSize = regionSize;
+      RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+      try
+      {
+        fileChannel = randomAccessFile.getChannel();
+        size = fileChannel.size();
+        buffer = map(0);
+      }
+      catch (IOException exception)
+      {
+        randomAccessFile.close();
+        throw exception;
+      }
+    }
+
+    protected ByteBuffer map(long position) throws IOException
+    {
+      regionStart = position;
+      return fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position));
+    }
+
+    /**
+     * Maps the region following the current region, if there is one, and returns its buffer.
+     * @return the buffer of the next region, or <code>null</code> if the end of the file has been reached.
+     */
+    @Override
+    public ByteBuffer nextBuffer() throws IOException
+    {
+      long position = regionStart + buffer.limit();
+      if (position >= size)
+      {
+        return null;
+      }
+      else
+      {
+        buffer = map(position);
+        return buffer;
+      }
+    }
+
+    @Override
+    public long skip(long count) throws IOException
+    {
+      long position = regionStart + buffer.position();
+      long newPosition = Math.min(size, position + Math.max(0, count));
+      if (newPosition < regionStart + buffer.limit())
+      {
+        buffer.position((int)(newPosition - regionStart));
+      }
+      else
+      {
+        buffer = map(newPosition);
+      }
+      return newPosition - position;
+    }
+
+    @Override
+    public int available() throws IOException
+    {
+      return (int)Math.min(Integer.MAX_VALUE, size - regionStart - buffer.position());
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+      fileChannel.close();
+    }
+  }
+
   /**
    * Generally this abstract class is extended as a stateless singleton returned by a generated factory that implements the {@link DataConverter.Factory factory} interface.
    * The default implementation of {@link EFactoryImpl#create(EDataType)} returns <code>null</code>.
@@ -365,6 +1046,17 @@ public class BinaryResourceImpl extends ResourceImpl
      */
     public static final int STYLE_DATA_CONVERTER = 1 << 4;
 
+    /**
+     * @see BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS
+     * @since 2.38
+     */
+    public static final int STYLE_INDEXED_CONTENTS = 1 << 5;
+
+    /**
+     * The URI, less the fragment, of the proxies serialized for references between the segments of an {@link BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS indexed} serialization.
+     */
+    static final URI SEGMENT_PROXY_URI = URI.createURI("");
+
     protected Version version;
 
     /**
@@ -405,6 +1097,10 @@ public class BinaryResourceImpl extends ResourceImpl
         {
           result |= STYLE_DATA_CONVERTER;
         }
+        if (Boolean.TRUE.equals(options.get(OPTION_STYLE_INDEXED_CONTENTS)))
+        {
+          result |= STYLE_INDEXED_CONTENTS;
+        }
       }
       return result;
     }
@@ -746,6 +1442,9 @@ public class BinaryResourceImpl extends ResourceImpl
     private Map<String, Integer> segmentToIDMap;
     private String[] segments;
 
+    private InternalEObject segmentRootObject;
+    private Map<EObject, Integer> rootObjectIndices;
+
     public EObjectOutputStream(OutputStream outputStream, Map<?, ?> options) throws IOException
     {
       this(outputStream, options, options != null && options.containsKey(OPTION_VERSION)? (Version)options.get(OPTION_VERSION) : Version.VERSION_1_0);
@@ -988,7 +1687,128 @@ public class BinaryResourceImpl extends ResourceImpl
       }
       @SuppressWarnings("unchecked")
       InternalEList<? extends InternalEObject> internalEList = (InternalEList<? extends InternalEObject>)(InternalEList<?>)resource.getContents();
-      saveEObjects(internalEList, Check.CONTAINER);
+      if ((style & STYLE_INDEXED_CONTENTS) != 0)
+      {
+        saveIndexedContents(internalEList);
+      }
+      else
+      {
+        saveEObjects(internalEList, Check.CONTAINER);
+      }
+    }
+
+    /**
+     * Saves the index of the classes of the objects and the sizes of their segments,
+     * followed by a segment for each object that serializes it along with its content tree.
+     * @see BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS
+     * @since 2.38
+     */
+    protected void saveIndexedContents(InternalEList<? extends InternalEObject> internalEObjects) throws IOException
+    {
+      int size = internalEObjects.size();
+      InternalEObject [] values = new InternalEObject[size];
+      internalEObjects.basicToArray(values);
+      Map<EObject, Integer> rootObjectIndices = new HashMap<EObject, Integer>();
+      writeCompressedInt(size);
+      for (int i = 0; i < size; ++i)
+      {
+        InternalEObject internalEObject = values[i];
+        writeEClass(internalEObject.eClass());
+        rootObjectIndices.put(internalEObject, i);
+      }
+
+      byte[][] segments = new byte[size][];
+      for (int i = 0; i < size; ++i)
+      {
+        ByteArrayOutputStream segment = new ByteArrayOutputStream();
+        EObjectOutputStream eObjectOutputStream = createSegmentOutputStream(segment);
+        eObjectOutputStream.saveSegment(resource, values[i], rootObjectIndices);
+        eObjectOutputStream.flush();
+        segments[i] = segment.toByteArray();
+        writeInt(segments[i].length);
+      }
+
+      flush();
+      for (byte[] segment : segments)
+      {
+        outputStream.write(segment);
+      }
+    }
+
+    /**
+     * Creates the stream for saving a segment of an {@link BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS indexed} serialization,
+     * using the same options, except for the indexed contents style.
+     * @since 2.38
+     */
+    protected EObjectOutputStream createSegmentOutputStream(OutputStream outputStream) throws IOException
+    {
+      Map<Object, Object> segmentOptions = new HashMap<Object, Object>(options);
+      segmentOptions.put(OPTION_STYLE_INDEXED_CONTENTS, Boolean.FALSE);
+      return
+        resource instanceof BinaryResourceImpl ?
+          ((BinaryResourceImpl)resource).createEObjectOutputStream(outputStream, segmentOptions) :
+          new EObjectOutputStream(outputStream, segmentOptions);
+    }
+
+    /**
+     * Saves the object in the contents of the resource along with its content tree,
+     * serializing references to objects in the content trees of the other objects in the contents as proxies.
+     * @param resource the resource being saved.
+     * @param rootObject the object in the contents to save.
+     * @param rootObjectIndices the index of each object in the contents of the resource.
+     * @see BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS
+     * @since 2.38
+     */
+    public void saveSegment(Resource resource, InternalEObject rootObject, Map<EObject, Integer> rootObjectIndices) throws IOException
+    {
+      this.resource = resource;
+      URI uri = resource.getURI();
+      if (uri != null && uri.isHierarchical() && !uri.isRelative())
+      {
+        baseURI = uri;
+      }
+      segmentRootObject = rootObject;
+      this.rootObjectIndices = rootObjectIndices;
+      saveEObject(rootObject, Check.CONTAINER);
+    }
+
+    /**
+     * Returns the positional fragment path of the object
+     * if it's in the content tree of an object in the resource contents other than the one whose segment is being saved,
+     * or <code>null</code> otherwise.
+     */
+    private String getSegmentProxyFragment(InternalEObject internalEObject)
+    {
+      InternalEObject rootObject = internalEObject;
+      for (InternalEObject container; rootObject.eDirectResource() == null && (container = rootObject.eInternalContainer()) != null; )
+      {
+        rootObject = container;
+      }
+      if (rootObject == segmentRootObject)
+      {
+        return null;
+      }
+      Integer index = rootObjectIndices.get(rootObject);
+      if (index == null)
+      {
+        return null;
+      }
+
+      List<String> uriFragmentPath = new ArrayList<String>();
+      for (InternalEObject eObject = internalEObject; eObject != rootObject; )
+      {
+        InternalEObject container = eObject.eInternalContainer();
+        uriFragmentPath.add(container.eURIFragmentSegment(eObject.eContainingFeature(), eObject));
+        eObject = container;
+      }
+      StringBuilder result = new StringBuilder("/");
+      result.append(index);
+      for (int i = uriFragmentPath.size() - 1; i >= 0; --i)
+      {
+        result.append('/');
+        result.append(uriFragmentPath.get(i));
+      }
+      return result.toString();
     }
 
     public void saveEObjects(InternalEList<? extends InternalEObject> internalEObjects, Check check) throws IOException
@@ -1190,6 +2010,7 @@ public class BinaryResourceImpl extends ResourceImpl
             case RESOURCE:
             {
               Resource resource = internalEObject.eResource();
+              String segmentProxyFragment;
               if (resource != this.resource && resource != null)
               {
                 writeCompressedInt(-1);
@@ -1210,9 +2031,33 @@ public class BinaryResourceImpl extends ResourceImpl
                 }
                 checkIsTransientProxy = true;
               }
+              else if (segmentRootObject != null && (segmentProxyFragment = getSegmentProxyFragment(internalEObject)) != null)
+              {
+                writeCompressedInt(-1);
+                writeURI(SEGMENT_PROXY_URI, segmentProxyFragment);
+                if ((style & STYLE_PROXY_ATTRIBUTES) == 0)
+                {
+                  return;
+                }
+                checkIsTransientProxy = true;
+              }
               break;
             }
             case NOTHING:
+            {
+              String segmentProxyFragment;
+              if (segmentRootObject != null && (segmentProxyFragment = getSegmentProxyFragment(internalEObject)) != null)
+              {
+                writeCompressedInt(-1);
+                writeURI(SEGMENT_PROXY_URI, segmentProxyFragment);
+                if ((style & STYLE_PROXY_ATTRIBUTES) == 0)
+                {
+                  return;
+                }
+                checkIsTransientProxy = true;
+              }
+              break;
+            }
             case CONTAINER:
             {
               break;
@@ -1924,6 +2769,9 @@ public class BinaryResourceImpl extends ResourceImpl
     private byte[] bytes;
     private int index;
     private int count;
+    private ByteBufferInputStream byteBufferInputStream;
+    private ByteBuffer buffer;
+    private InternalEObject segmentRootObject;
 
     protected ResourceSet resourceSet;
     protected InputStream inputStream;
@@ -1954,12 +2802,22 @@ public class BinaryResourceImpl extends ResourceImpl
       this.inputStream = inputStream;
       this.options = options;
 
-      int bufferCapacity = getInternalBufferCapacity(options);
-      if (bufferCapacity > 1)
+      if (inputStream instanceof ByteBufferInputStream)
       {
-       bytes = new byte[bufferCapacity];
+        // Decode directly from the byte buffer, which makes any other buffering redundant.
+        //
+        byteBufferInputStream = (ByteBufferInputStream)inputStream;
+        buffer = byteBufferInputStream.getBuffer();
+      }
+      else
+      {
+        int bufferCapacity = getInternalBufferCapacity(options);
+        if (bufferCapacity > 1)
+        {
+         bytes = new byte[bufferCapacity];
+        }
+        isMarkSupported = inputStream.markSupported();
       }
-      isMarkSupported = inputStream.markSupported();
 
       if (options != null)
       {
@@ -2212,6 +3070,11 @@ public class BinaryResourceImpl extends ResourceImpl
       {
         baseURI = uri;
       }
+      if ((style & STYLE_INDEXED_CONTENTS) != 0)
+      {
+        loadIndexedContents(resource);
+        return;
+      }
       int size = readCompressedInt();
       InternalEObject[] values = allocateInternalEObjectArray(size);
       for (int i = 0; i < size; ++i)
@@ -2225,6 +3088,206 @@ public class BinaryResourceImpl extends ResourceImpl
       recycle(values);
     }
 
+    /**
+     * Loads the index of the classes of the objects in the contents and the sizes of their segments,
+     * creates the objects and adds them to the contents,
+     * and retains the segments in the resource for {@link BinaryResourceImpl#loadSegment(EObject) loading on demand}.
+     * The segments are loaded immediately if the resource isn't a {@link BinaryResourceImpl}.
+     * @see BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS
+     * @since 2.38
+     */
+    protected void loadIndexedContents(Resource resource) throws IOException
+    {
+      int size = readCompressedInt();
+      InternalEObject[] values = new InternalEObject[size];
+      for (int i = 0; i < size; ++i)
+      {
+        EClassData eClassData = readEClass();
+        values[i] = (InternalEObject)eClassData.eFactory.create(eClassData.eClass);
+      }
+      int[] lengths = new int[size];
+      for (int i = 0; i < size; ++i)
+      {
+        lengths[i] = readInt();
+      }
+      Map<EObject, ByteBuffer> segments = new LinkedHashMap<EObject, ByteBuffer>();
+      for (int i = 0; i < size; ++i)
+      {
+        segments.put(values[i], readSegment(lengths[i]));
+      }
+
+      if (resource instanceof BinaryResourceImpl && size > 0)
+      {
+        BinaryResourceImpl binaryResource = (BinaryResourceImpl)resource;
+        binaryResource.useSegmentedContents();
+        binaryResource.unloadedSegments = segments;
+        binaryResource.segmentLoadOptions = options;
+      }
+
+      internalEObjectList.setData(size, values);
+      @SuppressWarnings("unchecked")
+      InternalEList<InternalEObject> internalEObjects = (InternalEList<InternalEObject>)(InternalEList<?>)resource.getContents();
+      internalEObjects.addAllUnique(internalEObjectList);
+
+      if (!(resource instanceof BinaryResourceImpl))
+      {
+        for (Map.Entry<EObject, ByteBuffer> entry : segments.entrySet())
+        {
+          new EObjectInputStream(new ByteBufferInputStream(entry.getValue()), options).loadSegment(resource, (InternalEObject)entry.getKey());
+        }
+      }
+    }
+
+    private ByteBuffer readSegment(int length) throws IOException
+    {
+      if (buffer != null && buffer.remaining() >= length)
+      {
+        // Retain a view of the buffer's bytes, which, for a memory-mapped file, are not even copied onto the heap.
+        //
+        ByteBuffer result = buffer.slice();
+        result.limit(length);
+        buffer.position(buffer.position() + length);
+        return result;
+      }
+      else
+      {
+        byte[] result = new byte[length];
+        int offset = 0;
+        if (index < count)
+        {
+          offset = Math.min(length, count - index);
+          System.arraycopy(bytes, index, result, 0, offset);
+          index += offset;
+        }
+        if (buffer != null)
+        {
+          while (offset < length)
+          {
+            if (!buffer.hasRemaining())
+            {
+              fillBuffer();
+            }
+            int chunk = Math.min(length - offset, buffer.remaining());
+            buffer.get(result, offset, chunk);
+            offset += chunk;
+          }
+        }
+        else
+        {
+          while (offset < length)
+          {
+            int chunk = inputStream.read(result, offset, length - offset);
+            if (chunk == -1)
+            {
+              throw new IOException("Unexpected end of stream");
+            }
+            offset += chunk;
+          }
+        }
+        return ByteBuffer.wrap(result);
+      }
+    }
+
+    /**
+     * Loads the content tree of the object in the resource contents from a segment of an {@link BinaryResourceImpl#OPTION_STYLE_INDEXED_CONTENTS indexed} serialization.
+     * The object itself was created when the index was loaded.
+     * @param resource the resource being loaded.
+     * @param rootObject the object in the contents whose content tree to load.
+     * @see #resolveSegmentProxies(InternalEObject)
+     * @since 2.38
+     */
+    public void loadSegment(Resource resource, InternalEObject rootObject) throws IOException
+    {
+      this.resource = resource;
+      this.resourceSet = resource.getResourceSet();
+      URI uri = resource.getURI();
+      if (uri != null && uri.isHierarchical() && !uri.isRelative())
+      {
+        baseURI = uri;
+      }
+      segmentRootObject = rootObject;
+      loadEObject();
+      resolveSegmentProxies(rootObject);
+    }
+
+    /**
+     * Processes the proxies loaded for references to objects in the content trees of the other objects in the resource contents.
+     * Those of references that don't {@link EReference#isResolveProxies() resolve proxies},
+     * or all of them if the resource isn't in a resource set,
+     * are resolved immediately, which loads the content trees containing the referenced objects;
+     * the others are given the resource's URI so they're resolved on demand via the resource set.
+     * @param rootObject the object in the contents whose content tree was just loaded.
+     * @since 2.38
+     */
+    protected void resolveSegmentProxies(InternalEObject rootObject)
+    {
+      for (Iterator<EObject> i = EcoreUtil.getAllProperContents(Collections.singleton(rootObject), false); i.hasNext(); )
+      {
+        InternalEObject internalEObject = (InternalEObject)i.next();
+        for (EReference eReference : internalEObject.eClass().getEAllReferences())
+        {
+          if (!eReference.isContainment() && !eReference.isContainer() && !eReference.isTransient() && internalEObject.eIsSet(eReference))
+          {
+            boolean resolve = resourceSet == null || !eReference.isResolveProxies();
+            if (eReference.isMany())
+            {
+              @SuppressWarnings("unchecked")
+              InternalEList<EObject> values = (InternalEList<EObject>)internalEObject.eGet(eReference, false);
+              for (int j = 0, size = values.size(); j < size; ++j)
+              {
+                EObject value = values.basicGet(j);
+                EObject resolvedValue = resolveSegmentProxy(value, resolve);
+                if (resolvedValue != value)
+                {
+                  values.set(j, resolvedValue);
+                }
+              }
+            }
+            else
+            {
+              EObject value = (EObject)internalEObject.eGet(eReference, false);
+              EObject resolvedValue = resolveSegmentProxy(value, resolve);
+              if (resolvedValue != value)
+              {
+                internalEObject.eSet(eReference, resolvedValue);
+              }
+            }
+          }
+        }
+      }
+    }
+
+    private EObject resolveSegmentProxy(EObject eObject, boolean resolve)
+    {
+      if (eObject != null && eObject.eIsProxy())
+      {
+        InternalEObject internalEObject = (InternalEObject)eObject;
+        URI proxyURI = internalEObject.eProxyURI();
+        URI uri = resource.getURI();
+        URI trimmedProxyURI = proxyURI.trimFragment();
+        if (trimmedProxyURI.isEmpty() || trimmedProxyURI.equals(baseURI))
+        {
+          if (resolve || uri == null)
+          {
+            EObject resolvedEObject = resource.getEObject(proxyURI.fragment());
+            if (resolvedEObject != null)
+            {
+              return resolvedEObject;
+            }
+          }
+          else
+          {
+            internalEObject.eSetProxyURI(uri.appendFragment(proxyURI.fragment()));
+            if (resource instanceof BinaryResourceImpl)
+            {
+              ((BinaryResourceImpl)resource).hasSegmentProxies = true;
+            }
+          }
+        }
+      }
+      return eObject;
+    }
+
     public void loadEObjects(InternalEList<InternalEObject> internalEObjects) throws IOException
     {
       // Read all the values into an array.
@@ -2493,7 +3556,18 @@ public class BinaryResourceImpl extends ResourceImpl
         if (internalInternalEObjectList.size() <= id)
         {
           EClassData eClassData = readEClass();
-          InternalEObject internalEObject =  (InternalEObject)eClassData.eFactory.create(eClassData.eClass);
+          InternalEObject internalEObject;
+          if (segmentRootObject == null)
+          {
+            internalEObject = (InternalEObject)eClassData.eFactory.create(eClassData.eClass);
+          }
+          else
+          {
+            // The first object of a segment is the object in the resource contents that was created when the index was loaded.
+            //
+            internalEObject = segmentRootObject;
+            segmentRootObject = null;
+          }
           InternalEObject result = internalEObject;
 
           // Check if we have a "feature" representing the proxy URI...
@@ -2695,9 +3769,24 @@ public class BinaryResourceImpl extends ResourceImpl
 
     public byte readByte() throws IOException
     {
+      if (buffer != null)
+      {
+        return buffer.hasRemaining() ? buffer.get() : fillBuffer().get();
+      }
       return index < count ? bytes[index++] : fill();
     }
 
+    private ByteBuffer fillBuffer() throws IOException
+    {
+      ByteBuffer nextBuffer = byteBufferInputStream.nextBuffer();
+      if (nextBuffer == null)
+      {
+        throw new IOException("Unexpected end of stream");
+      }
+      buffer = nextBuffer;
+      return nextBuffer;
+    }
+
     private byte fill() throws IOException
     {
       if (bytes == null)
@@ -2756,21 +3845,37 @@ public class BinaryResourceImpl extends ResourceImpl
 
     public char readChar() throws IOException
     {
+      if (buffer != null && buffer.remaining() >= 2)
+      {
+        return buffer.getChar();
+      }
       return (char)((readByte() << 8) & 0xFF00 | readByte() & 0xFF);
     }
 
     public short readShort() throws IOException
     {
+      if (buffer != null && buffer.remaining() >= 2)
+      {
+        return buffer.getShort();
+      }
       return (short)((readByte() << 8) & 0xFF00 | readByte() & 0xFF);
     }
 
     public int readInt() throws IOException
     {
+      if (buffer != null && buffer.remaining() >= 4)
+      {
+        return buffer.getInt();
+      }
       return (readByte() << 24) | (readByte() << 16) & 0xFF0000 | (readByte() << 8) & 0xFF00 | readByte() & 0xFF;
     }
 
     public long readLong() throws IOException
     {
+      if (buffer != null && buffer.remaining() >= 8)
+      {
+        return buffer.getLong();
+      }
       return (long)readInt() << 32 | readInt() & 0xFFFFFFFFL;
     }
 
@@ -2800,9 +3905,38 @@ public class BinaryResourceImpl extends ResourceImpl
 
     public int readCompressedInt() throws IOException
     {
+      // If the byte buffer holds all the bytes we could potentially need, i.e., all 4 bytes...
+      //
+      ByteBuffer buffer = this.buffer;
+      if (buffer != null && buffer.remaining() >= 4)
+      {
+        // Do all the processing directly from the byte buffer rather than by calling readByte.
+        //
+        int initialByte = buffer.get();
+        int code = (initialByte >> 6) & 0x3;
+        switch (code)
+        {
+          case 0:
+          {
+            return initialByte - 1;
+          }
+          case 1:
+          {
+            return (initialByte << 8 & 0x3F00 | buffer.get() & 0xFF) - 1;
+          }
+          case 2:
+          {
+            return ((initialByte << 16) & 0x3F0000 | (buffer.get() << 8) & 0xFF00 | buffer.get() & 0xFF) - 1;
+          }
+          default:
+          {
+            return ((initialByte << 24) & 0x3F000000 | (buffer.get() << 16) & 0xFF0000 | (buffer.get() << 8) & 0xFF00 | buffer.get() & 0xFF) - 1;
+          }
+        }
+      }
       // If the internal buffer holds all the bytes we could potentially need, i.e., all 4 bytes...
       //
-      if (index + 4 < count)
+      else if (index + 4 < count)
       {
         // Do all the processing directly from the buffered bytes rather than by calling readByte.
         //
@@ -2958,6 +4092,27 @@ public class BinaryResourceImpl extends ResourceImpl
         {
           characters = new char[length];
         }
+        ByteBuffer buffer = this.buffer;
+        if (buffer != null && buffer.remaining() >= length)
+        {
+          // Each character needs at least one byte, so decode the leading single byte characters directly from the byte buffer.
+          //
+          int i = 0;
+          for (; i < length; ++i)
+          {
+            byte value = buffer.get();
+            if (value == 0)
+            {
+              break;
+            }
+            characters[i] = (char)(value & 0xFF);
+          }
+          while (i < length)
+          {
+            characters[i++] = readChar();
+          }
+          return new String(characters, 0, length);
+        }
         LOOP:
         for (int i = 0; i < length; ++i)
         {
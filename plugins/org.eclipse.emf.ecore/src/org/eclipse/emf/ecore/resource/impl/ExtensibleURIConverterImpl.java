@@ -11,14 +11,24 @@
 package org.eclipse.emf.ecore.resource.impl;
 
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
@@ -40,7 +50,7 @@ import org.eclipse.emf.ecore.resource.URIHandler;
  * Clients of this implementation must be cautious if they wish to maintain this platform neutral behaviour.
  * </p>
  */
-public class ExtensibleURIConverterImpl implements URIConverter
+public class ExtensibleURIConverterImpl implements URIConverter, URIConverter.Asynchronous
 {
   /**
    * A map that remaps URIs.
@@ -125,6 +135,570 @@ public class ExtensibleURIConverterImpl implements URIConverter
 
   protected ContentHandlerList contentHandlers;
 
+  /**
+   * A cache of the {@link URIConverter#contentDescription(URI, Map) content descriptions} of URIs,
+   * each of which remains valid only as long as the {@link URIConverter#getAttributes(URI, Map) attributes} of the URI's contents are unchanged.
+   * @see ExtensibleURIConverterImpl#setContentDescriptionCache(ContentDescriptionCache)
+   * @see ContentDescriptionCacheImpl
+   * @since 2.38
+   */
+  public interface ContentDescriptionCache
+  {
+    /**
+     * Returns the attributes of a URI's contents that are needed to determine whether a cached content description is still valid.
+     * These are fetched via the {@link URIConverter#OPTION_REQUESTED_ATTRIBUTES requested attributes option}.
+     * @return the attributes needed to validate a cached content description.
+     */
+    Set<String> getRequestedAttributes();
+
+    /**
+     * Returns the cached content description of the normalized URI,
+     * or <code>null</code> if there isn't one that's valid for the given attributes of the URI's contents and the given options.
+     * @param uri the normalized URI.
+     * @param attributes the current {@link #getRequestedAttributes() requested attributes} of the URI's contents.
+     * @param options the options used to compute the content description.
+     * @return the cached content description, or <code>null</code>.
+     */
+    Map<String, ?> getContentDescription(URI uri, Map<String, ?> attributes, Map<?, ?> options);
+
+    /**
+     * Records the content description computed for the normalized URI.
+     * The cache may ignore it, e.g., if the attributes don't include a time stamp that can later be used to validate it.
+     * @param uri the normalized URI.
+     * @param attributes the {@link #getRequestedAttributes() requested attributes} of the URI's contents.
+     * @param options the options used to compute the content description.
+     * @param contentDescription the computed content description.
+     */
+    void putContentDescription(URI uri, Map<String, ?> attributes, Map<?, ?> options, Map<String, ?> contentDescription);
+
+    /**
+     * Discards any cached content description of the normalized URI,
+     * e.g., because its contents are being modified or deleted.
+     * @param uri the normalized URI.
+     */
+    void removeContentDescription(URI uri);
+  }
+
+  /**
+   * A thread-safe {@link ContentDescriptionCache content description cache}
+   * that validates each content description against the {@link URIConverter#ATTRIBUTE_TIME_STAMP time stamp}
+   * and the {@link URIConverter#ATTRIBUTE_LENGTH length} of the URI's contents,
+   * against the {@link ContentHandler#OPTION_REQUESTED_PROPERTIES requested properties} with which it was computed,
+   * and against the {@link #getContentHandlersKey(Map) content handlers} of the converter that computed it.
+   * When it holds more than its maximum number of entries, the least recently used ones are {@link #isEvictable(URI, CacheEntry, int) evicted}.
+   * The cache can be {@link #save(OutputStream) saved} and {@link #load(InputStream) loaded} so that it can be reused across sessions;
+   * content descriptions whose values can't be {@link #isSavable(Object) saved} are not saved.
+   * The content descriptions it returns are unmodifiable.
+   * @since 2.38
+   */
+  public static class ContentDescriptionCacheImpl implements ContentDescriptionCache
+  {
+    /**
+     * The attributes used to validate an entry.
+     */
+    protected static final Set<String> REQUESTED_ATTRIBUTES =
+      Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(ATTRIBUTE_TIME_STAMP, ATTRIBUTE_LENGTH)));
+
+    /**
+     * A cached content description along with the state for which it's valid.
+     */
+    protected static class CacheEntry
+    {
+      protected final long timeStamp;
+
+      protected final long length;
+
+      protected final Object requestedProperties;
+
+      protected final Object contentHandlersKey;
+
+      protected final Map<String, ?> contentDescription;
+
+      /**
+       * Creates an entry for an unmodifiable copy of the content description.
+       */
+      public CacheEntry(long timeStamp, long length, Object requestedProperties, Object contentHandlersKey, Map<String, ?> contentDescription)
+      {
+        this.timeStamp = timeStamp;
+        this.length = length;
+        this.requestedProperties = requestedProperties;
+        this.contentHandlersKey = contentHandlersKey;
+        this.contentDescription = Collections.unmodifiableMap(new LinkedHashMap<String, Object>(contentDescription));
+      }
+
+      /**
+       * Returns whether this entry is valid for the given state.
+       */
+      public boolean isValid(long timeStamp, long length, Object requestedProperties, Object contentHandlersKey)
+      {
+        return
+          this.timeStamp == timeStamp &&
+            this.length == length &&
+            (this.requestedProperties == null ? requestedProperties == null : this.requestedProperties.equals(requestedProperties)) &&
+            (this.contentHandlersKey == null ? contentHandlersKey == null : this.contentHandlersKey.equals(contentHandlersKey));
+      }
+    }
+
+    /**
+     * The tags that identify the type of each value in the saved form of the cache.
+     */
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte ENUM = 6;
+    private static final byte LIST = 7;
+    private static final byte SET = 8;
+    private static final byte MAP = 9;
+
+    /**
+     * The version of the saved form of the cache.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The maximum number of entries retained before the least recently used ones are evicted.
+     */
+    protected final int maximumSize;
+
+    /**
+     * The entries, in least recently used order.
+     */
+    protected final LinkedHashMap<URI, CacheEntry> entries;
+
+    /**
+     * Creates an instance that retains at most 10,000 entries.
+     */
+    public ContentDescriptionCacheImpl()
+    {
+      this(10000);
+    }
+
+    /**
+     * Creates an instance that retains at most the given number of entries.
+     */
+    public ContentDescriptionCacheImpl(int maximumSize)
+    {
+      this.maximumSize = maximumSize;
+      entries =
+        new LinkedHashMap<URI, CacheEntry>(16, 0.75f, true)
+        {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<URI, CacheEntry> eldest)
+          {
+            return isEvictable(eldest.getKey(), eldest.getValue(), size());
+          }
+        };
+    }
+
+    /**
+     * Returns whether the given least recently used entry should be evicted from a cache of the given size.
+     * This implementation evicts it when the size exceeds the {@link #maximumSize maximum size}.
+     */
+    protected boolean isEvictable(URI uri, CacheEntry entry, int size)
+    {
+      return size > maximumSize;
+    }
+
+    public Set<String> getRequestedAttributes()
+    {
+      return REQUESTED_ATTRIBUTES;
+    }
+
+    /**
+     * Returns the value of the given attribute, or {@link URIConverter#NULL_TIME_STAMP -1} if it isn't available.
+     */
+    protected long getLongAttribute(Map<String, ?> attributes, String attribute)
+    {
+      Object value = attributes.get(attribute);
+      return value instanceof Long ? (Long)value : -1;
+    }
+
+    /**
+     * Returns a key that identifies the content handlers of the {@link URIConverter#OPTION_URI_CONVERTER converter} in the options,
+     * so that a content description computed by one converter isn't returned to a converter with different content handlers.
+     * This implementation returns the list of the class names of the content handlers, in order,
+     * so that the key remains valid when the cache is saved and loaded in another session;
+     * converters that share a cache must therefore configure content handlers of the same class alike.
+     * The key must be {@link #isSavable(Object) savable} for the entries to be saved.
+     */
+    protected Object getContentHandlersKey(Map<?, ?> options)
+    {
+      Object uriConverter = options.get(OPTION_URI_CONVERTER);
+      if (uriConverter instanceof URIConverter)
+      {
+        List<String> result = new ArrayList<String>();
+        for (ContentHandler contentHandler : ((URIConverter)uriConverter).getContentHandlers())
+        {
+          result.add(contentHandler.getClass().getName());
+        }
+        return result;
+      }
+      else
+      {
+        return null;
+      }
+    }
+
+    public synchronized Map<String, ?> getContentDescription(URI uri, Map<String, ?> attributes, Map<?, ?> options)
+    {
+      CacheEntry entry = entries.get(uri);
+      if (entry != null)
+      {
+        if (entry.isValid
+              (getLongAttribute(attributes, ATTRIBUTE_TIME_STAMP),
+               getLongAttribute(attributes, ATTRIBUTE_LENGTH),
+               options.get(ContentHandler.OPTION_REQUESTED_PROPERTIES),
+               getContentHandlersKey(options)))
+        {
+          return entry.contentDescription;
+        }
+        entries.remove(uri);
+      }
+      return null;
+    }
+
+    public synchronized void putContentDescription(URI uri, Map<String, ?> attributes, Map<?, ?> options, Map<String, ?> contentDescription)
+    {
+      long timeStamp = getLongAttribute(attributes, ATTRIBUTE_TIME_STAMP);
+      if (timeStamp != NULL_TIME_STAMP)
+      {
+        entries.put
+          (uri,
+           new CacheEntry
+             (timeStamp,
+              getLongAttribute(attributes, ATTRIBUTE_LENGTH),
+              options.get(ContentHandler.OPTION_REQUESTED_PROPERTIES),
+              getContentHandlersKey(options),
+              contentDescription));
+      }
+    }
+
+    public synchronized void removeContentDescription(URI uri)
+    {
+      entries.remove(uri);
+    }
+
+    /**
+     * Discards all the entries.
+     */
+    public synchronized void clear()
+    {
+      entries.clear();
+    }
+
+    /**
+     * Returns the number of entries.
+     */
+    public synchronized int size()
+    {
+      return entries.size();
+    }
+
+    /**
+     * Writes the entries whose state can be {@link #isSavable(Object) saved} to the stream, in least recently used order.
+     * The entries are written in a simple data format rather than via Java serialization,
+     * so that {@link #load(InputStream) loading} them never instantiates arbitrary classes.
+     */
+    public synchronized void save(OutputStream outputStream) throws IOException
+    {
+      List<Map.Entry<URI, CacheEntry>> savableEntries = new ArrayList<Map.Entry<URI, CacheEntry>>();
+      for (Map.Entry<URI, CacheEntry> entry : entries.entrySet())
+      {
+        CacheEntry value = entry.getValue();
+        if (isSavable(value.requestedProperties) && isSavable(value.contentHandlersKey) && isSavable(value.contentDescription))
+        {
+          savableEntries.add(entry);
+        }
+      }
+
+      DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+      dataOutputStream.writeInt(VERSION);
+      dataOutputStream.writeInt(savableEntries.size());
+      for (Map.Entry<URI, CacheEntry> entry : savableEntries)
+      {
+        CacheEntry value = entry.getValue();
+        writeString(dataOutputStream, entry.getKey().toString());
+        dataOutputStream.writeLong(value.timeStamp);
+        dataOutputStream.writeLong(value.length);
+        writeValue(dataOutputStream, value.requestedProperties);
+        writeValue(dataOutputStream, value.contentHandlersKey);
+        writeValue(dataOutputStream, value.contentDescription);
+      }
+      dataOutputStream.flush();
+    }
+
+    /**
+     * Returns whether the value can be saved:
+     * <code>null</code>, a string, a boolean, an integer, a long, a double, an enum literal of a {@link #getEnumType(String) known enum type},
+     * or a list, set, or map of such values.
+     */
+    protected boolean isSavable(Object value)
+    {
+      if (value instanceof Collection<?>)
+      {
+        if (!(value instanceof List<?>) && !(value instanceof Set<?>))
+        {
+          return false;
+        }
+        for (Object element : (Collection<?>)value)
+        {
+          if (!isSavable(element))
+          {
+            return false;
+          }
+        }
+        return true;
+      }
+      else if (value instanceof Map<?, ?>)
+      {
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>)value).entrySet())
+        {
+          if (!isSavable(entry.getKey()) || !isSavable(entry.getValue()))
+          {
+            return false;
+          }
+        }
+        return true;
+      }
+      else if (value instanceof Enum<?>)
+      {
+        Class<?> enumType = ((Enum<?>)value).getDeclaringClass();
+        return getEnumType(enumType.getName()) == enumType;
+      }
+      else
+      {
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Double;
+      }
+    }
+
+    /**
+     * Returns the enum type with the given name whose literals may be saved and loaded, or <code>null</code>.
+     * This implementation supports {@link ContentHandler.Validity} and {@link ContentHandler.ByteOrderMark};
+     * no other class is ever loaded by name.
+     */
+    protected Class<? extends Enum<?>> getEnumType(String name)
+    {
+      if (ContentHandler.Validity.class.getName().equals(name))
+      {
+        return ContentHandler.Validity.class;
+      }
+      else if (ContentHandler.ByteOrderMark.class.getName().equals(name))
+      {
+        return ContentHandler.ByteOrderMark.class;
+      }
+      else
+      {
+        return null;
+      }
+    }
+
+    private void writeString(DataOutputStream dataOutputStream, String value) throws IOException
+    {
+      byte[] bytes = value.getBytes("UTF-8");
+      dataOutputStream.writeInt(bytes.length);
+      dataOutputStream.write(bytes);
+    }
+
+    private void writeValue(DataOutputStream dataOutputStream, Object value) throws IOException
+    {
+      if (value == null)
+      {
+        dataOutputStream.writeByte(NULL);
+      }
+      else if (value instanceof String)
+      {
+        dataOutputStream.writeByte(STRING);
+        writeString(dataOutputStream, (String)value);
+      }
+      else if (value instanceof Boolean)
+      {
+        dataOutputStream.writeByte(BOOLEAN);
+        dataOutputStream.writeBoolean((Boolean)value);
+      }
+      else if (value instanceof Integer)
+      {
+        dataOutputStream.writeByte(INTEGER);
+        dataOutputStream.writeInt((Integer)value);
+      }
+      else if (value instanceof Long)
+      {
+        dataOutputStream.writeByte(LONG);
+        dataOutputStream.writeLong((Long)value);
+      }
+      else if (value instanceof Double)
+      {
+        dataOutputStream.writeByte(DOUBLE);
+        dataOutputStream.writeDouble((Double)value);
+      }
+      else if (value instanceof Enum<?>)
+      {
+        Enum<?> literal = (Enum<?>)value;
+        dataOutputStream.writeByte(ENUM);
+        writeString(dataOutputStream, literal.getDeclaringClass().getName());
+        writeString(dataOutputStream, literal.name());
+      }
+      else if (value instanceof Map<?, ?>)
+      {
+        Map<?, ?> map = (Map<?, ?>)value;
+        dataOutputStream.writeByte(MAP);
+        dataOutputStream.writeInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet())
+        {
+          writeValue(dataOutputStream, entry.getKey());
+          writeValue(dataOutputStream, entry.getValue());
+        }
+      }
+      else
+      {
+        Collection<?> collection = (Collection<?>)value;
+        dataOutputStream.writeByte(collection instanceof Set<?> ? SET : LIST);
+        dataOutputStream.writeInt(collection.size());
+        for (Object element : collection)
+        {
+          writeValue(dataOutputStream, element);
+        }
+      }
+    }
+
+    /**
+     * Reads the entries written by {@link #save(OutputStream)} from the stream, adding them to the existing entries.
+     * @throws IOException if the stream isn't in the expected format.
+     */
+    public synchronized void load(InputStream inputStream) throws IOException
+    {
+      DataInputStream dataInputStream = new DataInputStream(inputStream);
+      int version = dataInputStream.readInt();
+      if (version != VERSION)
+      {
+        throw new IOException("Unsupported content description cache version " + version);
+      }
+      for (int i = 0, size = readSize(dataInputStream); i < size; ++i)
+      {
+        URI uri = URI.createURI(readString(dataInputStream));
+        long timeStamp = dataInputStream.readLong();
+        long length = dataInputStream.readLong();
+        Object requestedProperties = readValue(dataInputStream);
+        Object contentHandlersKey = readValue(dataInputStream);
+        Object contentDescription = readValue(dataInputStream);
+        if (!(contentDescription instanceof Map<?, ?>))
+        {
+          throw new IOException("Expecting a content description for " + uri);
+        }
+        for (Object key : ((Map<?, ?>)contentDescription).keySet())
+        {
+          if (!(key instanceof String))
+          {
+            throw new IOException("Expecting a property name for " + uri);
+          }
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, ?> map = (Map<String, ?>)contentDescription;
+        entries.put(uri, new CacheEntry(timeStamp, length, requestedProperties, contentHandlersKey, map));
+      }
+    }
+
+    private int readSize(DataInputStream dataInputStream) throws IOException
+    {
+      int size = dataInputStream.readInt();
+      if (size < 0)
+      {
+        throw new IOException("Invalid size " + size);
+      }
+      return size;
+    }
+
+    private String readString(DataInputStream dataInputStream) throws IOException
+    {
+      byte[] bytes = new byte [readSize(dataInputStream)];
+      dataInputStream.readFully(bytes);
+      return new String(bytes, "UTF-8");
+    }
+
+    private Object readValue(DataInputStream dataInputStream) throws IOException
+    {
+      byte tag = dataInputStream.readByte();
+      switch (tag)
+      {
+        case NULL:
+        {
+          return null;
+        }
+        case STRING:
+        {
+          return readString(dataInputStream);
+        }
+        case BOOLEAN:
+        {
+          return dataInputStream.readBoolean();
+        }
+        case INTEGER:
+        {
+          return dataInputStream.readInt();
+        }
+        case LONG:
+        {
+          return dataInputStream.readLong();
+        }
+        case DOUBLE:
+        {
+          return dataInputStream.readDouble();
+        }
+        case ENUM:
+        {
+          String typeName = readString(dataInputStream);
+          String name = readString(dataInputStream);
+          Class<? extends Enum<?>> enumType = getEnumType(typeName);
+          if (enumType != null)
+          {
+            for (Enum<?> literal : enumType.getEnumConstants())
+            {
+              if (literal.name().equals(name))
+              {
+                return literal;
+              }
+            }
+          }
+          throw new IOException("Unsupported enum literal " + typeName + "." + name);
+        }
+        case LIST:
+        case SET:
+        {
+          Collection<Object> result = tag == SET ? new LinkedHashSet<Object>() : new ArrayList<Object>();
+          for (int i = 0, size = readSize(dataInputStream); i < size; ++i)
+          {
+            result.add(readValue(dataInputStream));
+          }
+          return result;
+        }
+        case MAP:
+        {
+          Map<Object, Object> result = new LinkedHashMap<Object, Object>();
+          for (int i = 0, size = readSize(dataInputStream); i < size; ++i)
+          {
+            Object key = readValue(dataInputStream);
+            result.put(key, readValue(dataInputStream));
+          }
+          return result;
+        }
+        default:
+        {
+          throw new IOException("Unsupported tag " + tag);
+        }
+      }
+    }
+  }
+
+  /**
+   * The content description cache.
+   * @since 2.38
+   */
+  protected ContentDescriptionCache contentDescriptionCache;
+
   /**
    * The URI map.
    */
@@ -344,6 +918,10 @@ public class ExtensibleURIConverterImpl implements URIConverter
   public OutputStream createOutputStream(URI uri, Map<?, ?> options) throws IOException
   {
     URI normalizedURI = normalize(uri);
+    if (contentDescriptionCache != null)
+    {
+      contentDescriptionCache.removeContentDescription(normalizedURI);
+    }
     return getURIHandler(normalizedURI).createOutputStream(normalizedURI, new OptionsMap(OPTION_URI_CONVERTER, this, options));
   }
 
@@ -361,13 +939,101 @@ public class ExtensibleURIConverterImpl implements URIConverter
   public void delete(URI uri, Map<?, ?> options) throws IOException
   {
     URI normalizedURI = normalize(uri);
+    if (contentDescriptionCache != null)
+    {
+      contentDescriptionCache.removeContentDescription(normalizedURI);
+    }
     getURIHandler(normalizedURI).delete(normalizedURI, new OptionsMap(OPTION_URI_CONVERTER, this, options));
   }
 
+  /**
+   * Returns the content description of the URI's contents.
+   * If there is a {@link #getContentDescriptionCache() content description cache},
+   * the URI's {@link ContentDescriptionCache#getRequestedAttributes() attributes} are fetched
+   * and a content description that's been cached for those attributes is returned,
+   * so that the content handlers need to examine the contents again only when they have changed.
+   */
   public Map<String, ?> contentDescription(URI uri, Map<?, ?> options) throws IOException
   {
     URI normalizedURI = normalize(uri);
-    return getURIHandler(normalizedURI).contentDescription(normalizedURI, new OptionsMap(OPTION_URI_CONVERTER, this, options));
+    URIHandler uriHandler = getURIHandler(normalizedURI);
+    OptionsMap optionsMap = new OptionsMap(OPTION_URI_CONVERTER, this, options);
+    ContentDescriptionCache contentDescriptionCache = getContentDescriptionCache();
+    if (contentDescriptionCache == null)
+    {
+      return uriHandler.contentDescription(normalizedURI, optionsMap);
+    }
+    else
+    {
+      Map<String, ?> attributes =
+        uriHandler.getAttributes
+          (normalizedURI,
+           new OptionsMap(OPTION_URI_CONVERTER, this, new OptionsMap(OPTION_REQUESTED_ATTRIBUTES, contentDescriptionCache.getRequestedAttributes(), options)));
+      Map<String, ?> result = contentDescriptionCache.getContentDescription(normalizedURI, attributes, optionsMap);
+      if (result == null)
+      {
+        result = uriHandler.contentDescription(normalizedURI, optionsMap);
+        contentDescriptionCache.putContentDescription(normalizedURI, attributes, optionsMap, result);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Returns the cache used to avoid recomputing the {@link #contentDescription(URI, Map) content descriptions} of unchanged contents,
+   * or <code>null</code> if there isn't one.
+   * @return the content description cache, or <code>null</code>.
+   * @see #setContentDescriptionCache(ContentDescriptionCache)
+   * @since 2.38
+   */
+  public ContentDescriptionCache getContentDescriptionCache()
+  {
+    return contentDescriptionCache;
+  }
+
+  /**
+   * Sets the cache used to avoid recomputing the {@link #contentDescription(URI, Map) content descriptions} of unchanged contents.
+   * There is no cache by default.
+   * A single cache, e.g., a {@link ContentDescriptionCacheImpl} loaded at startup, can be shared by many converters
+   * only if it keeps apart the content descriptions computed by converters with {@link ContentDescriptionCacheImpl#getContentHandlersKey(Map) different content handlers}.
+   * @param contentDescriptionCache the new cache, or <code>null</code>.
+   * @since 2.38
+   */
+  public void setContentDescriptionCache(ContentDescriptionCache contentDescriptionCache)
+  {
+    this.contentDescriptionCache = contentDescriptionCache;
+  }
+
+  /**
+   * @since 2.38
+   */
+  public CompletableFuture<ByteBuffer> read(URI uri, Map<?, ?> options)
+  {
+    URI normalizedURI = normalize(uri);
+    URIHandler uriHandler = getURIHandler(normalizedURI);
+    OptionsMap optionsMap = new OptionsMap(OPTION_URI_CONVERTER, this, options);
+    return
+      uriHandler instanceof URIHandler.Asynchronous ?
+        ((URIHandler.Asynchronous)uriHandler).read(normalizedURI, optionsMap) :
+        URIHandlerImpl.readBlocking(uriHandler, normalizedURI, optionsMap);
+  }
+
+  /**
+   * @since 2.38
+   */
+  public CompletableFuture<Void> write(URI uri, ByteBuffer contents, Map<?, ?> options)
+  {
+    URI normalizedURI = normalize(uri);
+    if (contentDescriptionCache != null)
+    {
+      contentDescriptionCache.removeContentDescription(normalizedURI);
+    }
+    URIHandler uriHandler = getURIHandler(normalizedURI);
+    OptionsMap optionsMap = new OptionsMap(OPTION_URI_CONVERTER, this, options);
+    return
+      uriHandler instanceof URIHandler.Asynchronous ?
+        ((URIHandler.Asynchronous)uriHandler).write(normalizedURI, contents, optionsMap) :
+        URIHandlerImpl.writeBlocking(uriHandler, normalizedURI, contents, optionsMap);
   }
 
   public boolean exists(URI uri, Map<?, ?> options)
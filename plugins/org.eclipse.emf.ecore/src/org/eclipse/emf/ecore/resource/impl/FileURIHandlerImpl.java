@@ -18,9 +18,16 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.URIConverter;
@@ -105,6 +112,173 @@ public class FileURIHandlerImpl extends URIHandlerImpl
     return inputStream;
   }
 
+  /**
+   * Reads the contents of the file path using an {@link AsynchronousFileChannel}
+   * associated with the {@link URIHandlerImpl#getExecutorService(Map) executor service} of the options,
+   * so that the calling thread isn't blocked while the I/O is in progress.
+   * On most platforms, the channel emulates asynchronous I/O by performing blocking I/O on a thread of that executor service,
+   * and the returned future is completed on such a thread.
+   * @since 2.38
+   */
+  @Override
+  public CompletableFuture<ByteBuffer> read(URI uri, Map<?, ?> options)
+  {
+    final CompletableFuture<ByteBuffer> result = new CompletableFuture<ByteBuffer>();
+    try
+    {
+      final File file = new File(uri.toFileString());
+      final AsynchronousFileChannel channel = AsynchronousFileChannel.open(file.toPath(), Collections.singleton(StandardOpenOption.READ), getExecutorService(options));
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE)
+      {
+        channel.close();
+        throw new IOException("The file '" + file + "' is too large to be read into a buffer");
+      }
+      final ByteBuffer buffer = ByteBuffer.allocate((int)size);
+      final Map<Object, Object> response = getResponse(options);
+      channel.read
+        (buffer,
+         0,
+         null,
+         new CompletionHandler<Integer, Object>()
+         {
+           public void completed(Integer count, Object attachment)
+           {
+             if (count >= 0 && buffer.hasRemaining())
+             {
+               try
+               {
+                 channel.read(buffer, buffer.position(), null, this);
+               }
+               catch (Throwable throwable)
+               {
+                 failed(throwable, attachment);
+               }
+             }
+             else
+             {
+               try
+               {
+                 channel.close();
+                 if (response != null)
+                 {
+                   response.put(URIConverter.RESPONSE_TIME_STAMP_PROPERTY, file.lastModified());
+                 }
+                 buffer.flip();
+                 result.complete(buffer);
+               }
+               catch (Throwable throwable)
+               {
+                 result.completeExceptionally(throwable);
+               }
+             }
+           }
+
+           public void failed(Throwable throwable, Object attachment)
+           {
+             close(channel);
+             result.completeExceptionally(throwable);
+           }
+         });
+    }
+    catch (Throwable throwable)
+    {
+      result.completeExceptionally(throwable);
+    }
+    return result;
+  }
+
+  /**
+   * Writes the contents of the file path using an {@link AsynchronousFileChannel}
+   * associated with the {@link URIHandlerImpl#getExecutorService(Map) executor service} of the options,
+   * so that the calling thread isn't blocked while the I/O is in progress,
+   * creating subdirectories as necessary.
+   * On most platforms, the channel emulates asynchronous I/O by performing blocking I/O on a thread of that executor service,
+   * and the returned future is completed on such a thread.
+   * @since 2.38
+   */
+  @Override
+  public CompletableFuture<Void> write(URI uri, final ByteBuffer contents, Map<?, ?> options)
+  {
+    final CompletableFuture<Void> result = new CompletableFuture<Void>();
+    try
+    {
+      final File file = new File(uri.toFileString());
+      String parent = file.getParent();
+      if (parent != null)
+      {
+        new File(parent).mkdirs();
+      }
+      final AsynchronousFileChannel channel =
+        AsynchronousFileChannel.open
+          (file.toPath(),
+           EnumSet.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING),
+           getExecutorService(options));
+      final Map<Object, Object> response = getResponse(options);
+      channel.write
+        (contents,
+         0,
+         0L,
+         new CompletionHandler<Integer, Long>()
+         {
+           public void completed(Integer count, Long position)
+           {
+             long newPosition = position + count;
+             if (contents.hasRemaining())
+             {
+               try
+               {
+                 channel.write(contents, newPosition, newPosition, this);
+               }
+               catch (Throwable throwable)
+               {
+                 failed(throwable, position);
+               }
+             }
+             else
+             {
+               try
+               {
+                 channel.close();
+                 if (response != null)
+                 {
+                   response.put(URIConverter.RESPONSE_TIME_STAMP_PROPERTY, file.lastModified());
+                 }
+                 result.complete(null);
+               }
+               catch (Throwable throwable)
+               {
+                 result.completeExceptionally(throwable);
+               }
+             }
+           }
+
+           public void failed(Throwable throwable, Long position)
+           {
+             close(channel);
+             result.completeExceptionally(throwable);
+           }
+         });
+    }
+    catch (Throwable throwable)
+    {
+      result.completeExceptionally(throwable);
+    }
+    return result;
+  }
+
+  private static void close(AsynchronousFileChannel channel)
+  {
+    try
+    {
+      channel.close();
+    }
+    catch (IOException exception)
+    {
+      // Ignore.
+    }
+  }
+
   @Override
   public void delete(URI uri, Map<?, ?> options) throws IOException
   {
@@ -17,12 +17,19 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -42,12 +49,17 @@ import org.eclipse.emf.common.util.SegmentSequence;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.ContentHandler;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.URIHandler;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EContentsEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.emf.ecore.util.NotifyingInternalEListImpl;
@@ -226,6 +238,30 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
    */
   protected Map<String, EObject> intrinsicIDToEObjectMap;
 
+  /**
+   * A map to retrieve the EObject based on its fragment path.
+   * @see #setURIFragmentPathToEObjectMap(Map)
+   * @since 2.38
+   */
+  protected Map<String, EObject> uriFragmentPathToEObjectMap;
+
+  /**
+   * The objects in the contents whose content trees are indexed in the {@link #uriFragmentPathToEObjectMap}.
+   */
+  private Set<EObject> uriFragmentPathIndexedRoots;
+
+  /**
+   * The keys in the {@link #uriFragmentPathToEObjectMap} of the objects in the content tree of each object in the contents,
+   * so that they can be {@link #invalidateURIFragmentPaths(EObject) invalidated} when that content tree changes.
+   */
+  private Map<EObject, List<String>> uriFragmentPaths;
+
+  /**
+   * The adapter that {@link #invalidateURIFragmentPaths(EObject) invalidates} the paths in the {@link #uriFragmentPathToEObjectMap}
+   * when the containment structure or an attribute of the objects in the resource changes.
+   */
+  private Adapter uriFragmentPathTrackingAdapter;
+
   /**
    * Creates a empty instance.
    */
@@ -784,7 +820,38 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
     {
       if (uriFragment.charAt(0) == '/')
       {
-        return getEObject(SegmentSequence.create("/", uriFragment).subSegmentsList(1));
+        Map<String, EObject> map = getURIFragmentPathToEObjectMap();
+        if (map == null)
+        {
+          return getEObject(SegmentSequence.create("/", uriFragment).subSegmentsList(1));
+        }
+
+        EObject eObject = map.get(uriFragment);
+        if (eObject == null)
+        {
+          List<String> uriFragmentPath = SegmentSequence.create("/", uriFragment).subSegmentsList(1);
+          if (indexURIFragmentPaths(map, uriFragmentPath.isEmpty() ? "" : uriFragmentPath.get(0)))
+          {
+            eObject = map.get(uriFragment);
+          }
+
+          // A path that isn't the one computed by the index, e.g., one with a different but equivalent segment, is navigated and cached.
+          //
+          if (eObject == null)
+          {
+            eObject = getEObject(uriFragmentPath);
+            if (eObject != null)
+            {
+              EObject rootEObject = getURIFragmentPathRoot(eObject);
+              if (rootEObject != null)
+              {
+                map.put(uriFragment, eObject);
+                getURIFragmentPaths(rootEObject).add(uriFragment);
+              }
+            }
+          }
+        }
+        return eObject;
       }
       else if (uriFragment.charAt(length - 1) == '?')
       {
@@ -814,6 +881,135 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
     return eObject;
   }
 
+  /**
+   * Indexes, in the {@link #getURIFragmentPathToEObjectMap() map}, the fragment path of each object in the content tree of the object in the contents
+   * identified by the root segment, unless it's already been indexed.
+   * Each path is composed, like the paths {@link #getURIFragment(EObject) computed} for objects without IDs,
+   * of the {@link #getURIFragmentRootSegment(EObject) root segment} of the object in the contents
+   * followed by the {@link InternalEObject#eURIFragmentSegment(org.eclipse.emf.ecore.EStructuralFeature, EObject) segment} of each containment,
+   * so each of those paths is subsequently resolved by a single lookup, whether or not it has been resolved before.
+   * @param map the map in which to index the paths.
+   * @param uriFragmentRootSegment the root segment of a fragment path.
+   * @return whether the content tree identified by the root segment has been indexed.
+   */
+  private boolean indexURIFragmentPaths(Map<String, EObject> map, String uriFragmentRootSegment)
+  {
+    if (uriFragmentRootSegment.startsWith("?"))
+    {
+      return false;
+    }
+
+    EObject rootEObject = getEObjectForURIFragmentRootSegment(uriFragmentRootSegment);
+    if (rootEObject == null)
+    {
+      return false;
+    }
+
+    if (uriFragmentPathIndexedRoots == null)
+    {
+      uriFragmentPathIndexedRoots = new HashSet<EObject>();
+    }
+    if (uriFragmentPathIndexedRoots.add(rootEObject))
+    {
+      List<String> rootEObjectPaths = getURIFragmentPaths(rootEObject);
+      String rootPath = "/" + getURIFragmentRootSegment(rootEObject);
+      map.put(rootPath, rootEObject);
+      rootEObjectPaths.add(rootPath);
+      List<InternalEObject> eObjects = new ArrayList<InternalEObject>();
+      List<String> paths = new ArrayList<String>();
+      eObjects.add((InternalEObject)rootEObject);
+      paths.add(rootPath);
+      while (!eObjects.isEmpty())
+      {
+        int last = eObjects.size() - 1;
+        InternalEObject eObject = eObjects.remove(last);
+        String path = paths.remove(last);
+        for (@SuppressWarnings("unchecked") EContentsEList.FeatureIterator<EObject> i =
+               (EContentsEList.FeatureIterator<EObject>)((InternalEList<EObject>)eObject.eContents()).basicIterator();
+             i.hasNext(); )
+        {
+          InternalEObject child = (InternalEObject)i.next();
+          if (!child.eIsProxy() && child.eDirectResource() == null)
+          {
+            String childPath = path + "/" + eObject.eURIFragmentSegment(i.feature(), child);
+            map.put(childPath, child);
+            rootEObjectPaths.add(childPath);
+            eObjects.add(child);
+            paths.add(childPath);
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the keys in the {@link #getURIFragmentPathToEObjectMap() map} of the objects in the content tree of the object in the contents.
+   */
+  private List<String> getURIFragmentPaths(EObject rootEObject)
+  {
+    if (uriFragmentPaths == null)
+    {
+      uriFragmentPaths = new HashMap<EObject, List<String>>();
+    }
+    List<String> result = uriFragmentPaths.get(rootEObject);
+    if (result == null)
+    {
+      result = new ArrayList<String>();
+      uriFragmentPaths.put(rootEObject, result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the object in the contents whose content tree contains the object, or <code>null</code> if there isn't one.
+   */
+  private EObject getURIFragmentPathRoot(EObject eObject)
+  {
+    for (InternalEObject internalEObject = (InternalEObject)eObject; internalEObject != null; internalEObject = internalEObject.eInternalContainer())
+    {
+      if (internalEObject.eDirectResource() == this)
+      {
+        return internalEObject;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Removes from the {@link #getURIFragmentPathToEObjectMap() map} the paths of the objects in the content tree
+   * of the object in the contents that contains the given object, so that they're lazily reindexed,
+   * leaving the paths of the objects in the other content trees intact.
+   * If there is no such object in the contents, the whole map is {@link #clearURIFragmentPathToEObjectMap() cleared}.
+   */
+  private void invalidateURIFragmentPaths(EObject eObject)
+  {
+    if (uriFragmentPaths != null && !uriFragmentPaths.isEmpty())
+    {
+      EObject rootEObject = getURIFragmentPathRoot(eObject);
+      if (rootEObject == null)
+      {
+        clearURIFragmentPathToEObjectMap();
+      }
+      else
+      {
+        if (uriFragmentPathIndexedRoots != null)
+        {
+          uriFragmentPathIndexedRoots.remove(rootEObject);
+        }
+        List<String> paths = uriFragmentPaths.remove(rootEObject);
+        Map<String, EObject> map = getURIFragmentPathToEObjectMap();
+        if (paths != null && map != null)
+        {
+          for (String path : paths)
+          {
+            map.remove(path);
+          }
+        }
+      }
+    }
+  }
+
   /**
    * Returns the map used to cache the EObject that is identified by the {@link #getEObjectByID(String) value}
    * of its ID feature.
@@ -839,6 +1035,109 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
     this.intrinsicIDToEObjectMap = intrinsicIDToEObjectMap;
   }
 
+  /**
+   * Returns the map used to cache the EObject that is identified by a {@link #getEObject(String) fragment path}.
+   * @return the map used to cache the EObject that is identified by a fragment path.
+   * @see #setURIFragmentPathToEObjectMap
+   * @since 2.38
+   */
+  public Map<String, EObject> getURIFragmentPathToEObjectMap()
+  {
+    return uriFragmentPathToEObjectMap;
+  }
+
+  /**
+   * Sets the map used to index the EObject identified by a fragment path, i.e., a fragment that starts with <code>'/'</code>.
+   * This index is only activated if the map is not <code>null</code>.
+   * The map is lazily loaded by the {@link #getEObject(String) getEObject} method:
+   * the first time a path into the content tree of an object in the contents is looked up,
+   * the path of every object in that content tree, as {@link #getURIFragment(EObject) computed} for an object without an ID, is indexed,
+   * so that each of those paths is subsequently resolved by a single lookup, whether or not it has been resolved before;
+   * any other path is navigated only once.
+   * This avoids repeatedly scanning the contents of objects for named segments,
+   * e.g., when resolving many proxies that refer to the objects of a resource without IDs.
+   * <p>
+   * Because a change to the containment structure may change the paths of many objects,
+   * e.g., removing an object from a list changes the positional segments of the objects that follow it,
+   * the paths of the content tree in which the structure changes are removed from the map, and are lazily reindexed:
+   * while the map is set, an adapter that does so for every containment change within the resource,
+   * and for every change to an attribute, since attributes, such as names, may determine the segments,
+   * is attached to every object in the resource,
+   * and the same is done whenever an object is {@link #attached(EObject) attached} to or {@link #detached(EObject) detached} from the resource.
+   * The paths in the other content trees remain in the map,
+   * except that the whole map is cleared when the contents of the resource change, because that may change the root segments.
+   * It is up to the client to clear the cache when it otherwise becomes invalid,
+   * e.g., when a change to an object that doesn't deliver notifications affects its segment.
+   * </p>
+   * <p>
+   * The index is strictly opt-in:
+   * the adapter is attached only when a map is set, and is removed when the map is set to <code>null</code>,
+   * so a resource that doesn't set a map incurs none of these costs.
+   * </p>
+   * @param uriFragmentPathToEObjectMap the new map or <code>null</code>.
+   * @see #getURIFragmentPathToEObjectMap
+   * @since 2.38
+   */
+  public void setURIFragmentPathToEObjectMap(Map<String, EObject> uriFragmentPathToEObjectMap)
+  {
+    this.uriFragmentPathToEObjectMap = uriFragmentPathToEObjectMap;
+    uriFragmentPathIndexedRoots = null;
+    uriFragmentPaths = null;
+    if (uriFragmentPathToEObjectMap == null)
+    {
+      if (uriFragmentPathTrackingAdapter != null)
+      {
+        eAdapters().remove(uriFragmentPathTrackingAdapter);
+        uriFragmentPathTrackingAdapter = null;
+      }
+    }
+    else if (uriFragmentPathTrackingAdapter == null)
+    {
+      uriFragmentPathTrackingAdapter = new URIFragmentPathTrackingAdapter();
+      eAdapters().add(uriFragmentPathTrackingAdapter);
+    }
+  }
+
+  /**
+   * A content adapter that {@link ResourceImpl#invalidateURIFragmentPaths(EObject) invalidates} the fragment paths of a content tree
+   * whenever its containment structure, or an attribute of one of its objects, changes,
+   * and that {@link ResourceImpl#clearURIFragmentPathToEObjectMap() clears} the map of fragment paths whenever the contents of the resource change.
+   */
+  private final class URIFragmentPathTrackingAdapter extends EContentAdapter
+  {
+    @Override
+    public void notifyChanged(Notification notification)
+    {
+      super.notifyChanged(notification);
+
+      if (!notification.isTouch())
+      {
+        Object notifier = notification.getNotifier();
+        if (notifier == ResourceImpl.this)
+        {
+          if (notification.getFeatureID(Resource.class) == RESOURCE__CONTENTS)
+          {
+            clearURIFragmentPathToEObjectMap();
+          }
+        }
+        else if (notifier instanceof EObject)
+        {
+          Object feature = notification.getFeature();
+          if (feature instanceof EReference ? ((EReference)feature).isContainment() : feature instanceof EAttribute)
+          {
+            invalidateURIFragmentPaths((EObject)notifier);
+          }
+        }
+      }
+    }
+
+    @Override
+    protected boolean resolve()
+    {
+      return false;
+    }
+  }
+
 
   /**
    * Returns the object based on the fragment as an ID.
@@ -883,6 +1182,18 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
 
   public void attached(EObject eObject)
   {
+    invalidateURIFragmentPathsOnAttachment(eObject);
+    if (uriFragmentPathTrackingAdapter != null)
+    {
+      // The tracking adapter normally adapts the object when it's notified of the containment change,
+      // but not if the container doesn't deliver notifications.
+      //
+      List<Adapter> eAdapters = eObject.eAdapters();
+      if (!eAdapters.contains(uriFragmentPathTrackingAdapter))
+      {
+        eAdapters.add(uriFragmentPathTrackingAdapter);
+      }
+    }
     if (isAttachedDetachedHelperRequired())
     {
       attachedHelper(eObject);
@@ -893,6 +1204,42 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
     }
   }
 
+  /**
+   * Invalidates the fragment paths of the content tree into which the object is being {@link #attached(EObject) attached}
+   * or from which it's being {@link #detached(EObject) detached},
+   * or clears them all if the object is in the contents, because that may change the root segments.
+   */
+  private void invalidateURIFragmentPathsOnAttachment(EObject eObject)
+  {
+    if (uriFragmentPaths != null && !uriFragmentPaths.isEmpty())
+    {
+      EObject rootEObject = getURIFragmentPathRoot(eObject);
+      if (rootEObject == null || rootEObject == eObject)
+      {
+        clearURIFragmentPathToEObjectMap();
+      }
+      else
+      {
+        invalidateURIFragmentPaths(rootEObject);
+      }
+    }
+  }
+
+  /**
+   * Clears the {@link #getURIFragmentPathToEObjectMap() map} used to cache the EObject identified by a fragment path, if there is one.
+   * @since 2.38
+   */
+  protected void clearURIFragmentPathToEObjectMap()
+  {
+    uriFragmentPathIndexedRoots = null;
+    uriFragmentPaths = null;
+    Map<String, EObject> map = getURIFragmentPathToEObjectMap();
+    if (map != null && !map.isEmpty())
+    {
+      map.clear();
+    }
+  }
+
   protected boolean isAttachedDetachedHelperRequired()
   {
     return isTrackingModification() || getIntrinsicIDToEObjectMap() != null;
@@ -932,6 +1279,7 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
 
   public void detached(EObject eObject)
   {
+    invalidateURIFragmentPathsOnAttachment(eObject);
     if (isAttachedDetachedHelperRequired())
     {
       detachedHelper(eObject);
@@ -1317,23 +1665,7 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
       }
       catch (IOException exception)
       {
-        Notification notification = setLoaded(true);
-        isLoading = true;
-        if (errors != null)
-        {
-          errors.clear();
-        }
-        if (warnings != null)
-        {
-          warnings.clear();
-        }
-        isLoading = false;
-        if (notification != null)
-        {
-          eNotify(notification);
-        }
-        setModified(false);
-
+        handleLoadFailure();
         throw exception;
       }
 
@@ -1349,6 +1681,146 @@ public class ResourceImpl extends NotifierImpl implements Resource, Resource.Int
     }
   }
 
+  /**
+   * Ensures that the resource is still considered loaded after a failure to read its contents,
+   * and does all the same processing that's done if the contents are read.
+   */
+  private void handleLoadFailure()
+  {
+    Notification notification = setLoaded(true);
+    isLoading = true;
+    if (errors != null)
+    {
+      errors.clear();
+    }
+    if (warnings != null)
+    {
+      warnings.clear();
+    }
+    isLoading = false;
+    if (notification != null)
+    {
+      eNotify(notification);
+    }
+    setModified(false);
+  }
+
+  /**
+   * Loads the resource asynchronously.
+   * If the {@link #getURIConverter() URI converter} supports {@link URIConverter.Asynchronous asynchronous I/O},
+   * the contents are read without blocking the calling thread
+   * and are then {@link #load(InputStream, Map) loaded} on a thread of the {@link URIHandler.Asynchronous#OPTION_EXECUTOR executor},
+   * never on the thread that completes the I/O.
+   * Otherwise the resource is {@link #load(Map) loaded} entirely on a thread of the executor.
+   * Either way, the resource must not be accessed by other threads until the returned future completes.
+   * @param options the load options.
+   * @return a future that completes with this resource once it's loaded,
+   * or completes exceptionally with the exception that prevented it from being loaded.
+   * @since 2.38
+   */
+  public CompletableFuture<Resource> loadAsynchronously(final Map<?, ?> options)
+  {
+    if (isLoaded)
+    {
+      return CompletableFuture.<Resource>completedFuture(this);
+    }
+
+    URIConverter uriConverter = getURIConverter();
+    if (!(uriConverter instanceof URIConverter.Asynchronous))
+    {
+      final CompletableFuture<Resource> result = new CompletableFuture<Resource>();
+      try
+      {
+        URIHandlerImpl.getExecutor(options).execute
+          (new Runnable()
+           {
+             public void run()
+             {
+               try
+               {
+                 load(options);
+                 result.complete(ResourceImpl.this);
+               }
+               catch (Throwable throwable)
+               {
+                 result.completeExceptionally(throwable);
+               }
+             }
+           });
+      }
+      catch (RejectedExecutionException exception)
+      {
+        result.completeExceptionally(exception);
+      }
+      return result;
+    }
+
+    Map<?, ?> response = options == null ? null : (Map<?, ?>)options.get(URIConverter.OPTION_RESPONSE);
+    if (response == null)
+    {
+      response = new HashMap<Object, Object>();
+    }
+    final Map<?, ?> effectiveResponse = response;
+    final ExtensibleURIConverterImpl.OptionsMap effectiveOptions = new ExtensibleURIConverterImpl.OptionsMap(URIConverter.OPTION_RESPONSE, response, options, defaultLoadOptions);
+    try
+    {
+      return
+        ((URIConverter.Asynchronous)uriConverter).read(getURI(), effectiveOptions).handleAsync
+          (new BiFunction<ByteBuffer, Throwable, Resource>()
+           {
+             public Resource apply(ByteBuffer contents, Throwable throwable)
+             {
+               if (throwable != null)
+               {
+                 if (!isLoaded)
+                 {
+                   handleLoadFailure();
+                 }
+                 throw throwable instanceof CompletionException ? (CompletionException)throwable : new CompletionException(throwable);
+               }
+
+               try
+               {
+                 if (!isLoaded)
+                 {
+                   InputStream inputStream;
+                   if (contents.hasArray())
+                   {
+                     inputStream = new ByteArrayInputStream(contents.array(), contents.arrayOffset() + contents.position(), contents.remaining());
+                   }
+                   else
+                   {
+                     byte [] bytes = new byte [contents.remaining()];
+                     contents.get(bytes);
+                     inputStream = new ByteArrayInputStream(bytes);
+                   }
+                   try
+                   {
+                     load(inputStream, options);
+                   }
+                   finally
+                   {
+                     handleLoadResponse(effectiveResponse, effectiveOptions);
+                   }
+                 }
+                 return ResourceImpl.this;
+               }
+               catch (IOException exception)
+               {
+                 throw new CompletionException(exception);
+               }
+             }
+           },
+           URIHandlerImpl.getExecutor(effectiveOptions));
+    }
+    catch (RejectedExecutionException exception)
+    {
+      CompletableFuture<Resource> result = new CompletableFuture<Resource>();
+      result.completeExceptionally(exception);
+      return result;
+    }
+  }
+
   /**
    * Handle the processing of the response after the stream has been closed during load.
    * @since 2.7
@@ -11,32 +11,60 @@
 package org.eclipse.emf.ecore.resource.impl;
 
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.eclipse.emf.common.notify.AdapterFactory;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.notify.impl.NotifierImpl;
+import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.ECollections;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.common.util.UniqueEList;
 import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EFactory;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.emf.ecore.plugin.EcorePlugin;
 import org.eclipse.emf.ecore.resource.ContentHandler;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EContentsEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.emf.ecore.util.NotifyingInternalEListImpl;
@@ -441,6 +469,816 @@ public class ResourceSetImpl extends NotifierImpl implements ResourceSet
     }
   }
 
+  /**
+   * Loads the resources for the given URIs concurrently and adds them to this resource set in a single step.
+   * <p>
+   * For each URI that doesn't already {@link #getResource(URI, boolean) resolve} to a resource,
+   * a task is run via the executor that creates the resource using the {@link #getResourceFactoryRegistry() resource factory registry}
+   * and loads it while it's contained by a private {@link #createStagingResourceSet() staging resource set}.
+   * The tasks never modify this resource set, so no adapters of this resource set are notified from other threads.
+   * Once all the tasks are done, the newly loaded resources,
+   * followed by any other resources demand loaded by the tasks,
+   * are added to the {@link #getResources() resources} with a single notification
+   * and the resources for the given URIs are recorded in the {@link #getURIResourceMap() URI resource map}, if there is one.
+   * A resource demand loaded by more than one task, or that's already in this resource set, is added only once;
+   * each duplicate is {@link Resource#unload() unloaded} so that references to its objects become proxies that resolve to the resource that's added or that already exists.
+   * Then the proxies between the newly loaded resources are {@link #resolveProxies(List) resolved};
+   * other proxies are resolved against this resource set as they're accessed, as usual.
+   * Resources that are already in this resource set but not yet loaded are loaded on the calling thread.
+   * </p>
+   * <p>
+   * As is the case for {@link #getResource(URI, boolean) demand loading},
+   * a resource that fails to load with an {@link IOException} remains in the resource set.
+   * Each such failure is {@link #handleDemandLoadException(Resource, IOException) handled} in order,
+   * and the first exception thrown by the handler is rethrown after all of them have been handled.
+   * If any task fails with any other exception, or the executor {@link java.util.concurrent.RejectedExecutionException rejects} any task,
+   * the failure is all-or-nothing:
+   * once all the tasks are done, all the resources they loaded are unloaded and discarded,
+   * this resource set isn't modified,
+   * and the first such exception is rethrown, with the others {@link Throwable#addSuppressed(Throwable) suppressed}.
+   * </p>
+   * <p>
+   * The tasks share this resource set's {@link #getURIConverter() URI converter} and resource factory registry,
+   * which must not be modified while the tasks are running,
+   * and access its {@link #getPackageRegistry() package registry} only while synchronized on it.
+   * </p>
+   * @param uris the URIs of the resources to load.
+   * @param options the load options, or <code>null</code> to use this resource set's {@link #getLoadOptions() load options}.
+   * @param executor the executor used to run the load tasks.
+   * @return the resources for the given URIs, in the same order.
+   * @since 2.38
+   */
+  public EList<Resource> loadResources(Collection<URI> uris, Map<?, ?> options, Executor executor)
+  {
+    Map<?, ?> effectiveOptions = options == null ? getLoadOptions() : options;
+    URIConverter theURIConverter = getURIConverter();
+
+    // Determine the resources that already exist and create a load task for each of the others, at most one for each normalized URI.
+    //
+    List<Object> resourcesOrTasks = new ArrayList<Object>(uris.size());
+    Map<URI, ResourceLoadTask> tasks = new LinkedHashMap<URI, ResourceLoadTask>();
+    List<Resource> unloadedResources = new UniqueEList.FastCompare<Resource>();
+    for (URI uri : uris)
+    {
+      Resource resource = getResource(uri, false);
+      if (resource != null)
+      {
+        if (!resource.isLoaded())
+        {
+          unloadedResources.add(resource);
+        }
+        resourcesOrTasks.add(resource);
+      }
+      else
+      {
+        URI normalizedURI = theURIConverter.normalize(uri);
+        ResourceLoadTask task = tasks.get(normalizedURI);
+        if (task == null)
+        {
+          task = new ResourceLoadTask(uri, createStagingResourceSet(), effectiveOptions);
+          tasks.put(normalizedURI, task);
+        }
+        resourcesOrTasks.add(task);
+      }
+    }
+
+    CountDownLatch completion = new CountDownLatch(tasks.size());
+    for (ResourceLoadTask task : tasks.values())
+    {
+      task.completion = completion;
+      try
+      {
+        executor.execute(task);
+      }
+      catch (RuntimeException exception)
+      {
+        task.failure = exception;
+        completion.countDown();
+      }
+    }
+
+    // Wait for all the tasks to complete, even if some of them fail.
+    //
+    boolean interrupted = false;
+    for (;;)
+    {
+      try
+      {
+        completion.await();
+        break;
+      }
+      catch (InterruptedException exception)
+      {
+        interrupted = true;
+      }
+    }
+
+    if (interrupted)
+    {
+      Thread.currentThread().interrupt();
+    }
+
+    // If any task failed other than with an I/O exception, discard all the loaded resources and rethrow the first failure, with the others suppressed.
+    //
+    Throwable failure = null;
+    for (ResourceLoadTask task : tasks.values())
+    {
+      if (task.failure != null)
+      {
+        if (failure == null)
+        {
+          failure = task.failure;
+        }
+        else
+        {
+          failure.addSuppressed(task.failure);
+        }
+      }
+    }
+    if (failure != null)
+    {
+      for (ResourceLoadTask task : tasks.values())
+      {
+        for (Resource resource : task.stagingResourceSet.getResources())
+        {
+          resource.unload();
+        }
+      }
+
+      if (failure instanceof RuntimeException)
+      {
+        throw (RuntimeException)failure;
+      }
+      else if (failure instanceof Error)
+      {
+        throw (Error)failure;
+      }
+      else
+      {
+        throw new WrappedException((Exception)failure);
+      }
+    }
+
+    List<Resource> newResources = new ArrayList<Resource>(tasks.size());
+    List<Resource> otherResources = new ArrayList<Resource>();
+    for (ResourceLoadTask task : tasks.values())
+    {
+      if (task.resource != null)
+      {
+        newResources.add(task.resource);
+        for (Resource resource : task.stagingResourceSet.getResources())
+        {
+          if (resource != task.resource)
+          {
+            otherResources.add(resource);
+          }
+        }
+      }
+    }
+
+    // Publish the new resources, omitting other resources that would be duplicates.
+    // A duplicate is unloaded, so that the references to its objects become proxies that resolve to the published or existing resource.
+    //
+    if (!otherResources.isEmpty())
+    {
+      Map<URI, Resource> publishedResources = new HashMap<URI, Resource>();
+      for (Resource resource : newResources)
+      {
+        publishedResources.put(theURIConverter.normalize(resource.getURI()), resource);
+      }
+      for (Resource resource : otherResources)
+      {
+        URI uri = resource.getURI();
+        if (!publishedResources.containsKey(theURIConverter.normalize(uri)) && getResource(uri, false) == null)
+        {
+          publishedResources.put(theURIConverter.normalize(uri), resource);
+          newResources.add(resource);
+        }
+        else
+        {
+          resource.unload();
+        }
+      }
+    }
+    ((InternalEList<Resource>)getResources()).addAllUnique(newResources);
+
+    EList<Resource> result = new BasicEList<Resource>(resourcesOrTasks.size());
+    Map<URI, Resource> map = getURIResourceMap();
+    for (Object resourceOrTask : resourcesOrTasks)
+    {
+      if (resourceOrTask instanceof ResourceLoadTask)
+      {
+        ResourceLoadTask task = (ResourceLoadTask)resourceOrTask;
+        if (task.resource != null)
+        {
+          result.add(task.resource);
+          if (map != null)
+          {
+            map.put(task.uri, task.resource);
+          }
+        }
+      }
+      else
+      {
+        result.add((Resource)resourceOrTask);
+      }
+    }
+
+    resolveProxies(newResources);
+
+    // Load the existing resources and handle all the load failures.
+    //
+    Map<Resource, IOException> loadExceptions = new LinkedHashMap<Resource, IOException>();
+    for (ResourceLoadTask task : tasks.values())
+    {
+      if (task.exception != null)
+      {
+        loadExceptions.put(task.resource, task.exception);
+      }
+    }
+    for (Resource resource : unloadedResources)
+    {
+      try
+      {
+        resource.load(effectiveOptions);
+      }
+      catch (IOException exception)
+      {
+        loadExceptions.put(resource, exception);
+      }
+    }
+
+    RuntimeException firstException = null;
+    for (Map.Entry<Resource, IOException> entry : loadExceptions.entrySet())
+    {
+      try
+      {
+        handleDemandLoadException(entry.getKey(), entry.getValue());
+      }
+      catch (RuntimeException exception)
+      {
+        if (firstException == null)
+        {
+          firstException = exception;
+        }
+      }
+    }
+    if (firstException != null)
+    {
+      throw firstException;
+    }
+
+    return result;
+  }
+
+  /**
+   * Resolves the proxies, in the non-containment references of the objects in the given resources, that refer to objects in those same resources.
+   * It is called by {@link #loadResources(Collection, Map, Executor) loadResources}, on the calling thread, once the newly loaded resources have been added to this resource set.
+   * Proxies that refer to objects in any other resource are left to be resolved as they're accessed, as usual.
+   * Clients may override this, e.g., to do nothing.
+   * @param resources the newly loaded resources.
+   * @since 2.38
+   */
+  protected void resolveProxies(List<Resource> resources)
+  {
+    if (resources.size() > 1)
+    {
+      URIConverter theURIConverter = getURIConverter();
+      Set<URI> uris = new HashSet<URI>();
+      for (Resource resource : resources)
+      {
+        uris.add(theURIConverter.normalize(resource.getURI()));
+      }
+
+      for (Resource resource : resources)
+      {
+        for (TreeIterator<EObject> i = resource.getAllContents(); i.hasNext(); )
+        {
+          EObject eObject = i.next();
+
+          // Determine the references with a proxy to one of the resources before resolving any of them.
+          //
+          Set<EReference> eReferences = null;
+          for (EContentsEList.FeatureIterator<EObject> j = (EContentsEList.FeatureIterator<EObject>)((InternalEList<EObject>)eObject.eCrossReferences()).basicIterator();
+               j.hasNext(); )
+          {
+            EObject target = j.next();
+            if (target.eIsProxy() && uris.contains(theURIConverter.normalize(((InternalEObject)target).eProxyURI().trimFragment())))
+            {
+              if (eReferences == null)
+              {
+                eReferences = new LinkedHashSet<EReference>();
+              }
+              eReferences.add((EReference)j.feature());
+            }
+          }
+
+          if (eReferences != null)
+          {
+            for (EReference eReference : eReferences)
+            {
+              if (eReference.isMany())
+              {
+                @SuppressWarnings("unchecked")
+                InternalEList<EObject> values = (InternalEList<EObject>)eObject.eGet(eReference, false);
+                for (int k = 0, size = values.size(); k < size; ++k)
+                {
+                  EObject target = values.basicGet(k);
+                  if (target.eIsProxy() && uris.contains(theURIConverter.normalize(((InternalEObject)target).eProxyURI().trimFragment())))
+                  {
+                    values.get(k);
+                  }
+                }
+              }
+              else
+              {
+                eObject.eGet(eReference, true);
+              }
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates the resource set that contains a resource while it is being loaded by {@link #loadResources(Collection, Map, Executor) loadResources}.
+   * It is called on the calling thread, once for each resource to be loaded.
+   * This implementation creates a resource set that shares this resource set's {@link #getURIConverter() URI converter} and {@link #getResourceFactoryRegistry() resource factory registry},
+   * and has a copy of its {@link #getLoadOptions() load options}.
+   * Its package registry is local to the staging resource set and delegates to this resource set's {@link #getPackageRegistry() package registry},
+   * synchronizing on that registry,
+   * because looking up a package can modify a registry, e.g., when it {@link EPackage.Descriptor#getEPackage() resolves} a descriptor.
+   * Clients may extend this as appropriate.
+   * @return a new staging resource set.
+   * @since 2.38
+   */
+  protected ResourceSetImpl createStagingResourceSet()
+  {
+    ResourceSetImpl result = new ResourceSetImpl();
+    result.setPackageRegistry(new StagingPackageRegistry(getPackageRegistry()));
+    result.setURIConverter(getURIConverter());
+    result.setResourceFactoryRegistry(getResourceFactoryRegistry());
+    result.getLoadOptions().putAll(getLoadOptions());
+    return result;
+  }
+
+  /**
+   * A package registry used by a staging resource set that synchronizes all access to the registry to which it delegates.
+   */
+  private static final class StagingPackageRegistry extends EPackageRegistryImpl
+  {
+    private static final long serialVersionUID = 1L;
+
+    StagingPackageRegistry(EPackage.Registry delegateRegistry)
+    {
+      super(delegateRegistry);
+    }
+
+    @Override
+    protected EPackage delegatedGetEPackage(String nsURI)
+    {
+      synchronized (delegateRegistry)
+      {
+        return super.delegatedGetEPackage(nsURI);
+      }
+    }
+
+    @Override
+    protected EFactory delegatedGetEFactory(String nsURI)
+    {
+      synchronized (delegateRegistry)
+      {
+        return super.delegatedGetEFactory(nsURI);
+      }
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+      if (super.containsKey(key))
+      {
+        return true;
+      }
+      else
+      {
+        synchronized (delegateRegistry)
+        {
+          return delegateRegistry.containsKey(key);
+        }
+      }
+    }
+  }
+
+  /**
+   * A task that creates and loads one resource in a staging resource set.
+   */
+  private static final class ResourceLoadTask implements Runnable
+  {
+    final URI uri;
+
+    final ResourceSetImpl stagingResourceSet;
+
+    final Map<?, ?> options;
+
+    CountDownLatch completion;
+
+    Resource resource;
+
+    IOException exception;
+
+    Throwable failure;
+
+    ResourceLoadTask(URI uri, ResourceSetImpl stagingResourceSet, Map<?, ?> options)
+    {
+      this.uri = uri;
+      this.stagingResourceSet = stagingResourceSet;
+      this.options = options;
+    }
+
+    public void run()
+    {
+      try
+      {
+        Resource.Factory resourceFactory = stagingResourceSet.getResourceFactoryRegistry().getFactory(uri, ContentHandler.UNSPECIFIED_CONTENT_TYPE);
+        if (resourceFactory == null)
+        {
+          throw new RuntimeException("Cannot create a resource for '" + uri + "'; a registered resource factory is needed");
+        }
+
+        Resource resource = resourceFactory.createResource(uri);
+        stagingResourceSet.getResources().add(resource);
+        this.resource = resource;
+        resource.load(options);
+      }
+      catch (IOException exception)
+      {
+        this.exception = exception;
+      }
+      catch (Throwable throwable)
+      {
+        failure = throwable;
+      }
+      finally
+      {
+        completion.countDown();
+      }
+    }
+  }
+
+  /**
+   * Saves the given resources concurrently and replaces their previous contents in a single batch.
+   * <p>
+   * Each resource that is {@link Resource#isTrackingModification() tracking modification} and isn't {@link Resource#isModified() modified} is skipped.
+   * For each of the others, a task is run via the executor that {@link Resource#save(java.io.OutputStream, Map) saves} the resource to a stream.
+   * If the {@link URIConverter#normalize(URI) normalized} URI of the resource is a {@link URI#isFile() file} URI,
+   * the stream writes to a temporary file in the same folder as the resource's file;
+   * otherwise it writes to a memory buffer.
+   * A temporary file is given the POSIX permissions and group of the file it will replace, if there is one and the file system supports them,
+   * or the default permissions for a new file otherwise.
+   * Only once all the tasks have completed successfully are the results committed, on the calling thread:
+   * each temporary file is renamed to replace the resource's file, atomically if the file system supports it,
+   * and each memory buffer is written to the {@link URIConverter#createOutputStream(URI, Map) output stream} of the resource's URI.
+   * If any task fails, no contents are replaced.
+   * </p>
+   * <p>
+   * Committing the results is best effort:
+   * if the result of one resource can't be committed, the failure is recorded in the diagnostic and the remaining results are still committed,
+   * so the resources committed before or after it aren't rolled back;
+   * moreover, a memory buffer that fails part way through being written may leave the resource's contents partially replaced.
+   * Whatever happens, no temporary files remain once this method returns.
+   * </p>
+   * <p>
+   * While being saved, a resource doesn't {@link Notifier#eDeliver() deliver} notifications,
+   * so the tasks don't notify its adapters on the executor's threads.
+   * Instead, the resource's {@link Resource#setModified(boolean) modified} state and {@link Resource#setTimeStamp(long) time stamp}
+   * are updated on the calling thread as each result is committed;
+   * the modified state of a resource whose result isn't committed is left as it was.
+   * </p>
+   * <p>
+   * The resources are serialized by {@link Resource#save(java.io.OutputStream, Map)},
+   * so the {@link Resource#OPTION_SAVE_ONLY_IF_CHANGED} option is ignored and the {@link Resource#OPTION_LINE_DELIMITER} option must specify the actual delimiter.
+   * The tasks read the resources and the objects they reference concurrently,
+   * so none of them may be modified until this method returns.
+   * </p>
+   * @param resources the resources to save.
+   * @param options the save options, or <code>null</code>.
+   * @param executor the executor used to run the save tasks.
+   * @return a diagnostic with a child {@link Diagnostic#ERROR error} for each resource that failed to save,
+   * or an {@link Diagnostic#OK OK} diagnostic if all of them were saved.
+   * @since 2.38
+   */
+  public Diagnostic saveResources(Collection<? extends Resource> resources, Map<?, ?> options, Executor executor)
+  {
+    URIConverter theURIConverter = getURIConverter();
+    List<ResourceSaveTask> tasks = new ArrayList<ResourceSaveTask>(resources.size());
+    for (Resource resource : resources)
+    {
+      if (!resource.isTrackingModification() || resource.isModified())
+      {
+        URI uri = resource.getURI();
+        URI normalizedURI = uri == null ? null : theURIConverter.normalize(uri);
+        tasks.add(new ResourceSaveTask(resource, normalizedURI, options));
+      }
+    }
+
+    CountDownLatch completion = new CountDownLatch(tasks.size());
+    for (ResourceSaveTask task : tasks)
+    {
+      task.completion = completion;
+      task.suspendDelivery();
+      try
+      {
+        executor.execute(task);
+      }
+      catch (RuntimeException exception)
+      {
+        task.failure = exception;
+        completion.countDown();
+      }
+    }
+
+    // Wait for all the tasks to complete, even if some of them fail.
+    //
+    boolean interrupted = false;
+    for (;;)
+    {
+      try
+      {
+        completion.await();
+        break;
+      }
+      catch (InterruptedException exception)
+      {
+        interrupted = true;
+      }
+    }
+    if (interrupted)
+    {
+      Thread.currentThread().interrupt();
+    }
+
+    try
+    {
+      for (ResourceSaveTask task : tasks)
+      {
+        task.resumeDelivery();
+      }
+
+      BasicDiagnostic diagnostic =
+        new BasicDiagnostic
+          (EcorePlugin.INSTANCE.getSymbolicName(),
+           0,
+           EcorePlugin.INSTANCE.getString("_UI_SaveResources_diagnostic", new Object [] { tasks.size() }),
+           new Object [] { this });
+      Error error = null;
+      for (ResourceSaveTask task : tasks)
+      {
+        if (task.failure != null)
+        {
+          if (task.failure instanceof Error && error == null)
+          {
+            error = (Error)task.failure;
+          }
+          diagnostic.add(createSaveDiagnostic(task.resource, task.failure));
+        }
+      }
+
+      if (error != null)
+      {
+        throw error;
+      }
+
+      if (diagnostic.getSeverity() == Diagnostic.OK)
+      {
+        for (ResourceSaveTask task : tasks)
+        {
+          try
+          {
+            task.commit(theURIConverter);
+            task.resource.setModified(false);
+          }
+          catch (IOException exception)
+          {
+            diagnostic.add(createSaveDiagnostic(task.resource, exception));
+          }
+        }
+      }
+
+      return diagnostic;
+    }
+    finally
+    {
+      // Delete any temporary files that weren't committed.
+      //
+      for (ResourceSaveTask task : tasks)
+      {
+        task.discard();
+      }
+    }
+  }
+
+  /**
+   * Creates the diagnostic that records that a resource failed to be saved by {@link #saveResources(Collection, Map, Executor) saveResources}.
+   * @param resource the resource that failed to save.
+   * @param exception the reason for the failure.
+   * @return a new error diagnostic.
+   * @since 2.38
+   */
+  protected Diagnostic createSaveDiagnostic(Resource resource, Throwable exception)
+  {
+    return
+      new BasicDiagnostic
+        (Diagnostic.ERROR,
+         EcorePlugin.INSTANCE.getSymbolicName(),
+         0,
+         EcorePlugin.INSTANCE.getString("_UI_SaveResourceFailed_diagnostic", new Object [] { resource.getURI(), exception.getLocalizedMessage() }),
+         new Object [] { resource, exception });
+  }
+
+  /**
+   * A task that saves one resource to a temporary file or to a memory buffer, and later commits the result.
+   */
+  private static final class ResourceSaveTask implements Runnable
+  {
+    final Resource resource;
+
+    final URI uri;
+
+    final Map<?, ?> options;
+
+    CountDownLatch completion;
+
+    Path file;
+
+    Path temporaryFile;
+
+    ByteArrayOutputStream buffer;
+
+    Throwable failure;
+
+    boolean wasModified;
+
+    boolean wasDelivering;
+
+    ResourceSaveTask(Resource resource, URI uri, Map<?, ?> options)
+    {
+      this.resource = resource;
+      this.uri = uri;
+      this.options = options;
+    }
+
+    public void run()
+    {
+      try
+      {
+        if (uri == null)
+        {
+          throw new IOException("Cannot save a resource without a URI");
+        }
+
+        OutputStream outputStream;
+        if (uri.isFile())
+        {
+          file = new File(uri.toFileString()).getAbsoluteFile().toPath();
+          Files.createDirectories(file.getParent());
+          createTemporaryFile();
+          outputStream = new BufferedOutputStream(Files.newOutputStream(temporaryFile));
+        }
+        else
+        {
+          outputStream = buffer = new ByteArrayOutputStream();
+        }
+
+        try
+        {
+          resource.save(outputStream, options);
+        }
+        finally
+        {
+          outputStream.close();
+        }
+      }
+      catch (Throwable throwable)
+      {
+        failure = throwable;
+      }
+      finally
+      {
+        completion.countDown();
+      }
+    }
+
+    /**
+     * Creates an empty temporary file, with the default permissions, in the same folder as the file,
+     * and copies the POSIX permissions and group of the file, if it exists, to it.
+     */
+    void createTemporaryFile() throws IOException
+    {
+      Path folder = file.getParent();
+      while (temporaryFile == null)
+      {
+        Path path = folder.resolve("." + file.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        try
+        {
+          temporaryFile = Files.createFile(path);
+        }
+        catch (FileAlreadyExistsException exception)
+        {
+          // Try another name.
+        }
+      }
+
+      PosixFileAttributeView fileAttributeView = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+      if (fileAttributeView != null && Files.exists(file))
+      {
+        PosixFileAttributes fileAttributes = fileAttributeView.readAttributes();
+        PosixFileAttributeView temporaryFileAttributeView = Files.getFileAttributeView(temporaryFile, PosixFileAttributeView.class);
+        temporaryFileAttributeView.setPermissions(fileAttributes.permissions());
+        try
+        {
+          temporaryFileAttributeView.setGroup(fileAttributes.group());
+        }
+        catch (IOException exception)
+        {
+          // Ignore; only the groups to which the user belongs can be assigned.
+        }
+      }
+    }
+
+    /**
+     * Records the resource's modified state and disables its delivery of notifications before the task is run.
+     */
+    void suspendDelivery()
+    {
+      wasModified = resource.isModified();
+      wasDelivering = resource.eDeliver();
+      resource.eSetDeliver(false);
+    }
+
+    /**
+     * Restores, without notification, the modified state the resource had before the task was run, and re-enables its delivery of notifications.
+     */
+    void resumeDelivery()
+    {
+      resource.setModified(wasModified);
+      resource.eSetDeliver(wasDelivering);
+    }
+
+    void commit(URIConverter uriConverter) throws IOException
+    {
+      if (temporaryFile != null)
+      {
+        try
+        {
+          Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException exception)
+        {
+          Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        temporaryFile = null;
+        resource.setTimeStamp(Files.getLastModifiedTime(file).toMillis());
+      }
+      else
+      {
+        Map<Object, Object> response = new HashMap<Object, Object>();
+        OutputStream outputStream = uriConverter.createOutputStream(uri, new ExtensibleURIConverterImpl.OptionsMap(URIConverter.OPTION_RESPONSE, response, options));
+        try
+        {
+          buffer.writeTo(outputStream);
+        }
+        finally
+        {
+          outputStream.close();
+        }
+        buffer = null;
+        Long timeStamp = (Long)response.get(URIConverter.RESPONSE_TIME_STAMP_PROPERTY);
+        if (timeStamp != null)
+        {
+          resource.setTimeStamp(timeStamp);
+        }
+      }
+    }
+
+    void discard()
+    {
+      buffer = null;
+      if (temporaryFile != null)
+      {
+        try
+        {
+          Files.deleteIfExists(temporaryFile);
+        }
+        catch (IOException exception)
+        {
+          // Ignore.
+        }
+        temporaryFile = null;
+      }
+    }
+  }
+
   /*
    * Javadoc copied from interface.
    */
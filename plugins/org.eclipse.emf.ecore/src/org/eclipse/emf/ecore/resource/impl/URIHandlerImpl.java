@@ -20,9 +20,16 @@ import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.emf.common.util.CommonUtil;
 import org.eclipse.emf.common.util.URI;
@@ -35,7 +42,7 @@ import org.eclipse.emf.ecore.resource.URIHandler;
 /**
  * An implementation of a {@link URIHandler URI handler}.
  */
-public class URIHandlerImpl implements URIHandler
+public class URIHandlerImpl implements URIHandler, URIHandler.Asynchronous
 {
   /**
    * Creates an instance.
@@ -466,4 +473,169 @@ public class URIHandlerImpl implements URIHandler
   {
     // We can't update any properties via just a URL connection.
   }
+
+  /**
+   * Reads the contents of the URI by {@link #readBlocking(URIHandler, URI, Map) reading} an {@link #createInputStream(URI, Map) input stream}
+   * on a thread of the {@link URIHandler.Asynchronous#OPTION_EXECUTOR executor}.
+   * Clients are encouraged to override this to provide non-blocking support where it's available.
+   * @since 2.38
+   */
+  public CompletableFuture<ByteBuffer> read(URI uri, Map<?, ?> options)
+  {
+    return readBlocking(this, uri, options);
+  }
+
+  /**
+   * Writes the contents of the URI by {@link #writeBlocking(URIHandler, URI, ByteBuffer, Map) writing} an {@link #createOutputStream(URI, Map) output stream}
+   * on a thread of the {@link URIHandler.Asynchronous#OPTION_EXECUTOR executor}.
+   * Clients are encouraged to override this to provide non-blocking support where it's available.
+   * @since 2.38
+   */
+  public CompletableFuture<Void> write(URI uri, ByteBuffer contents, Map<?, ?> options)
+  {
+    return writeBlocking(this, uri, contents, options);
+  }
+
+  /**
+   * Returns the value of the {@link URIHandler.Asynchronous#OPTION_EXECUTOR executor option}.
+   * @param options the options in which to look for the executor option.
+   * @return the value of the executor option, or the common pool if not present.
+   * @since 2.38
+   */
+  protected static Executor getExecutor(Map<?, ?> options)
+  {
+    Executor executor = options == null ? null : (Executor)options.get(URIHandler.Asynchronous.OPTION_EXECUTOR);
+    return executor == null ? ForkJoinPool.commonPool() : executor;
+  }
+
+  /**
+   * Returns the {@link #getExecutor(Map) executor} if it's an {@link ExecutorService},
+   * e.g., to associate it with an {@link java.nio.channels.AsynchronousFileChannel asynchronous file channel}.
+   * @param options the options in which to look for the executor option.
+   * @return the executor service, or <code>null</code> if the executor isn't one.
+   * @since 2.38
+   */
+  protected static ExecutorService getExecutorService(Map<?, ?> options)
+  {
+    Executor executor = getExecutor(options);
+    return executor instanceof ExecutorService ? (ExecutorService)executor : null;
+  }
+
+  /**
+   * Reads the contents of the URI by reading the input stream {@link URIHandler#createInputStream(URI, Map) created} by the handler
+   * on a thread of the {@link URIHandler.Asynchronous#OPTION_EXECUTOR executor}.
+   * This supports asynchronous reading for any handler, at the cost of blocking a thread of the executor while the I/O is in progress.
+   * @param uriHandler the handler whose blocking support is used.
+   * @param uri the URI to read.
+   * @param options the options passed to the handler.
+   * @return a future that completes with a buffer holding the contents.
+   * @since 2.38
+   */
+  public static CompletableFuture<ByteBuffer> readBlocking(final URIHandler uriHandler, final URI uri, final Map<?, ?> options)
+  {
+    final CompletableFuture<ByteBuffer> result = new CompletableFuture<ByteBuffer>();
+    try
+    {
+      getExecutor(options).execute
+        (new Runnable()
+         {
+           public void run()
+           {
+             try
+             {
+               InputStream inputStream = uriHandler.createInputStream(uri, options);
+               try
+               {
+                 byte [] bytes = new byte [8192];
+                 int size = 0;
+                 for (int count; (count = inputStream.read(bytes, size, bytes.length - size)) != -1; )
+                 {
+                   size += count;
+                   if (size == bytes.length)
+                   {
+                     bytes = Arrays.copyOf(bytes, 2 * size);
+                   }
+                 }
+                 result.complete(ByteBuffer.wrap(bytes, 0, size));
+               }
+               finally
+               {
+                 inputStream.close();
+               }
+             }
+             catch (Throwable throwable)
+             {
+               result.completeExceptionally(throwable);
+             }
+           }
+         });
+    }
+    catch (RejectedExecutionException exception)
+    {
+      result.completeExceptionally(exception);
+    }
+    return result;
+  }
+
+  /**
+   * Writes the contents of the URI by writing to the output stream {@link URIHandler#createOutputStream(URI, Map) created} by the handler
+   * on a thread of the {@link URIHandler.Asynchronous#OPTION_EXECUTOR executor}.
+   * This supports asynchronous writing for any handler, at the cost of blocking a thread of the executor while the I/O is in progress.
+   * @param uriHandler the handler whose blocking support is used.
+   * @param uri the URI to write.
+   * @param contents the buffer holding the contents to write.
+   * @param options the options passed to the handler.
+   * @return a future that completes once the contents have been written.
+   * @since 2.38
+   */
+  public static CompletableFuture<Void> writeBlocking(final URIHandler uriHandler, final URI uri, final ByteBuffer contents, final Map<?, ?> options)
+  {
+    final CompletableFuture<Void> result = new CompletableFuture<Void>();
+    try
+    {
+      getExecutor(options).execute
+        (new Runnable()
+         {
+           public void run()
+           {
+             try
+             {
+               OutputStream outputStream = uriHandler.createOutputStream(uri, options);
+               try
+               {
+                 if (contents.hasArray())
+                 {
+                   outputStream.write(contents.array(), contents.arrayOffset() + contents.position(), contents.remaining());
+                   contents.position(contents.limit());
+                 }
+                 else
+                 {
+                   byte [] bytes = new byte [Math.min(contents.remaining(), 8192)];
+                   while (contents.hasRemaining())
+                   {
+                     int count = Math.min(contents.remaining(), bytes.length);
+                     contents.get(bytes, 0, count);
+                     outputStream.write(bytes, 0, count);
+                   }
+                 }
+               }
+               finally
+               {
+                 outputStream.close();
+               }
+               result.complete(null);
+             }
+             catch (Throwable throwable)
+             {
+               result.completeExceptionally(throwable);
+             }
+           }
+         });
+    }
+    catch (RejectedExecutionException exception)
+    {
+      result.completeExceptionally(exception);
+    }
+    return result;
+  }
 }
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+
+
+/**
+ * A cross reference adapter that can be queried by any number of threads concurrently with the thread that modifies the model.
+ * <p>
+ * All changes to the adapter's state, i.e.,
+ * the handling of {@link #notifyChanged(Notification) notifications},
+ * {@link #setTarget(Notifier) installation}, {@link #unsetTarget(Notifier) removal}, and {@link #resolveAll(EObject) proxy resolution},
+ * are serialized by synchronizing on the adapter.
+ * A thread that doesn't hold the adapter's lock sees, for each referenced object,
+ * an unmodifiable snapshot of its {@link #getNonNavigableInverseReferences(EObject, boolean) non-navigable inverse references}.
+ * Snapshots are maintained in a concurrent map;
+ * each is computed once, under the lock, the first time it's requested and is discarded whenever the corresponding inverse references change,
+ * so repeated lookups of an unchanged object take no lock.
+ * An empty snapshot is retained only for an object to which the adapter is attached,
+ * because only then is it discarded when the object leaves the model;
+ * a lookup of any other object without non-navigable inverse references takes the lock every time.
+ * </p>
+ * <p>
+ * The adapter makes no attempt to make the model itself thread-safe:
+ * the navigable inverse references returned by {@link #getInverseReferences(EObject, boolean) getInverseReferences}
+ * are computed from the model,
+ * so the client remains responsible for ensuring that the model isn't modified while it's being read.
+ * </p>
+ * @since 2.38
+ */
+public class ConcurrentECrossReferenceAdapter extends ECrossReferenceAdapter
+{
+  /**
+   * The snapshot recorded for an object that has no non-navigable inverse references.
+   */
+  private static final Collection<EStructuralFeature.Setting> NO_SETTINGS = Collections.emptyList();
+
+  /**
+   * An inverse cross referencer that maintains {@link #snapshots snapshots} of its settings for threads that don't hold the adapter's lock.
+   */
+  protected class ConcurrentInverseCrossReferencer extends InverseCrossReferencer
+  {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The unmodifiable snapshots of the collections of settings, keyed by referenced object.
+     */
+    protected ConcurrentMap<Object, Collection<EStructuralFeature.Setting>> snapshots = new ConcurrentHashMap<Object, Collection<EStructuralFeature.Setting>>();
+
+    protected ConcurrentInverseCrossReferencer()
+    {
+      super();
+    }
+
+    /**
+     * Returns the collection of settings for the given object.
+     * The live collection is returned to a thread that holds the adapter's lock;
+     * any other thread gets an unmodifiable snapshot, which is computed under the lock if necessary.
+     */
+    @Override
+    public Collection<EStructuralFeature.Setting> get(Object key)
+    {
+      if (Thread.holdsLock(ConcurrentECrossReferenceAdapter.this))
+      {
+        return super.get(key);
+      }
+
+      Collection<EStructuralFeature.Setting> result = snapshots.get(key);
+      if (result == null)
+      {
+        synchronized (ConcurrentECrossReferenceAdapter.this)
+        {
+          result = snapshots.get(key);
+          if (result == null)
+          {
+            result = createSnapshot(super.get(key));
+            if (result != NO_SETTINGS || isAdapted(key))
+            {
+              snapshots.put(key, result);
+            }
+          }
+        }
+      }
+      return result == NO_SETTINGS ? null : result;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the given collection of settings, or {@link #NO_SETTINGS} if there isn't one.
+     */
+    protected Collection<EStructuralFeature.Setting> createSnapshot(Collection<EStructuralFeature.Setting> settings)
+    {
+      return settings == null || settings.isEmpty() ? NO_SETTINGS : new BasicEList.UnmodifiableEList<EStructuralFeature.Setting>(settings.size(), settings.toArray());
+    }
+
+    /**
+     * Returns whether the adapter is attached to the given object,
+     * i.e., whether its snapshot will be {@link ConcurrentECrossReferenceAdapter#unsetTarget(EObject) discarded} when the adapter is removed from it.
+     */
+    protected boolean isAdapted(Object key)
+    {
+      return key instanceof Notifier && ((Notifier)key).eAdapters().contains(ConcurrentECrossReferenceAdapter.this);
+    }
+
+    /**
+     * Discards the snapshot of the settings for the given object.
+     */
+    protected void invalidate(Object key)
+    {
+      snapshots.remove(key);
+    }
+
+    @Override
+    protected void add(InternalEObject eObject, EReference eReference, EObject crossReferencedEObject)
+    {
+      super.add(eObject, eReference, crossReferencedEObject);
+      invalidate(crossReferencedEObject);
+    }
+
+    @Override
+    public Object remove(EObject eObject)
+    {
+      Object result = super.remove(eObject);
+      invalidate(eObject);
+      return result;
+    }
+
+    @Override
+    public void remove(EObject eObject, EReference eReference, EObject crossReferencedEObject)
+    {
+      super.remove(eObject, eReference, crossReferencedEObject);
+      invalidate(crossReferencedEObject);
+    }
+
+    @Override
+    public void clear()
+    {
+      super.clear();
+      snapshots.clear();
+    }
+  }
+
+  public ConcurrentECrossReferenceAdapter()
+  {
+    super();
+  }
+
+  @Override
+  protected InverseCrossReferencer createInverseCrossReferencer()
+  {
+    return new ConcurrentInverseCrossReferencer();
+  }
+
+  /**
+   * Handles a notification by calling {@link #selfAdapt selfAdapter} while holding the adapter's lock.
+   */
+  @Override
+  public synchronized void notifyChanged(Notification notification)
+  {
+    super.notifyChanged(notification);
+  }
+
+  /**
+   * Handles installation of the adapter while holding the adapter's lock.
+   */
+  @Override
+  public synchronized void setTarget(Notifier target)
+  {
+    super.setTarget(target);
+  }
+
+  /**
+   * Handles undoing the installation of the adapter while holding the adapter's lock.
+   */
+  @Override
+  public synchronized void unsetTarget(Notifier target)
+  {
+    super.unsetTarget(target);
+  }
+
+  /**
+   * Discards the snapshot for an object that's no longer adapted
+   * so that snapshots recorded for objects without non-navigable inverse references don't outlive the object's presence in the model.
+   */
+  @Override
+  protected void unsetTarget(EObject target)
+  {
+    super.unsetTarget(target);
+    if (inverseCrossReferencer instanceof ConcurrentInverseCrossReferencer)
+    {
+      ((ConcurrentInverseCrossReferencer)inverseCrossReferencer).invalidate(target);
+    }
+  }
+
+  /**
+   * Resolves the proxies that refer to the object while holding the adapter's lock.
+   * When the adapter {@link #resolve() resolves} proxies as they're encountered, no proxies are recorded, so no lock is taken.
+   */
+  @Override
+  protected void resolveAll(EObject eObject)
+  {
+    if (!resolve())
+    {
+      synchronized (this)
+      {
+        super.resolveAll(eObject);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void dump()
+  {
+    super.dump();
+  }
+}
@@ -11,12 +11,17 @@
 package org.eclipse.emf.ecore.util;
 
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
@@ -55,6 +60,49 @@ public class Diagnostician implements EValidator.SubstitutionLabelProvider, EVal
    */
   public static final String VALIDATE_RECURSIVELY = "VALIDATE_RECURSIVELY";
 
+  /**
+   * A key to be used in <code>context</code> maps to indicate that {@link #validate(EObject, DiagnosticChain, Map)}
+   * should validate the containment tree in parallel.
+   * The value is either {@code Boolean.TRUE}, to use the {@link ForkJoinPool#commonPool() common pool},
+   * or the {@link ForkJoinPool} to use.
+   * <p>
+   * The tree is split into {@link ValidationTask fork/join tasks} as idle threads become available to validate them;
+   * each task validates its part of the tree iteratively, as described for {@link #VALIDATE_RECURSIVELY},
+   * recording its diagnostics in a separate chain.
+   * The diagnostics of all the tasks are then added to the given diagnostic chain
+   * in exactly the order in which sequential validation would have produced them.
+   * Parallel validation applies only when the contents are validated iteratively;
+   * a diagnostician that {@link #isValidateContentsRecursively() validates recursively} validates sequentially.
+   * </p>
+   * <p>
+   * Each task is given its own copy of the <code>context</code> map,
+   * so an entry that a validator puts in the context is visible only to the validation of objects in that same task
+   * and is not visible to the caller when validation completes.
+   * A validator is called concurrently with other validators only if it's {@link #isThreadSafe(EValidator, Map) thread-safe};
+   * the invocations of all other validators are serialized.
+   * A validator is thread-safe if it's listed in the collection of {@link #THREAD_SAFE_VALIDATORS thread-safe validators}.
+   * </p>
+   * <p>
+   * The model itself is only read, but reading is not necessarily free of side effects.
+   * Proxies should be {@link EcoreUtil#resolveAll(org.eclipse.emf.ecore.resource.ResourceSet) resolved}
+   * and the model's packages should be {@link EcoreUtil#freeze(org.eclipse.emf.ecore.EPackage) frozen} before validating in parallel.
+   * </p>
+   * @see #THREAD_SAFE_VALIDATORS
+   * @since 2.38
+   */
+  public static final String VALIDATE_IN_PARALLEL = "VALIDATE_IN_PARALLEL";
+
+  /**
+   * A key to be used in <code>context</code> maps to declare which validators may be called concurrently during {@link #VALIDATE_IN_PARALLEL parallel validation}.
+   * The value is either a {@link Collection} of {@link EValidator validators},
+   * or {@code Boolean.TRUE} to declare that all validators are thread-safe.
+   * A validator declared to be thread-safe must not modify the model, must not depend on the order in which objects are validated,
+   * and must not depend on the entries it puts in the <code>context</code> being visible when validating other objects.
+   * @see #isThreadSafe(EValidator, Map)
+   * @since 2.38
+   */
+  public static final String THREAD_SAFE_VALIDATORS = "THREAD_SAFE_VALIDATORS";
+
   public static final Diagnostician INSTANCE = new Diagnostician();
 
   private boolean validateContentsRecursively;
@@ -192,6 +240,12 @@ public class Diagnostician implements EValidator.SubstitutionLabelProvider, EVal
       else
       {
         context.put(VALIDATE_RECURSIVELY, Boolean.FALSE);
+        Object validateInParallel = context.get(VALIDATE_IN_PARALLEL);
+        if (validateInParallel != null && !Boolean.FALSE.equals(validateInParallel) && !context.containsKey(ValidationTask.class))
+        {
+          ForkJoinPool forkJoinPool = validateInParallel instanceof ForkJoinPool ? (ForkJoinPool)validateInParallel : ForkJoinPool.commonPool();
+          return validateInParallel(eObject, diagnostics, context, forkJoinPool);
+        }
         boolean result = true;
         for (TreeIterator<? extends EObject> i = EcoreUtil.getAllContents(Collections.singleton(eObject)); i.hasNext();)
         {
@@ -291,11 +345,222 @@ public class Diagnostician implements EValidator.SubstitutionLabelProvider, EVal
     }
   }
 
+  /**
+   * Validates the containment tree of the object using the given pool.
+   * @see #VALIDATE_IN_PARALLEL
+   * @since 2.38
+   */
+  protected boolean validateInParallel(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context, ForkJoinPool forkJoinPool)
+  {
+    ValidationTask validationTask = new ValidationTask(eObject, diagnostics != null, new Object(), new AtomicBoolean(), context);
+    boolean result = forkJoinPool.invoke(validationTask);
+    if (diagnostics != null)
+    {
+      validationTask.merge(diagnostics);
+    }
+    return result;
+  }
+
+  /**
+   * Returns whether the validator may be called concurrently with other validators during {@link #VALIDATE_IN_PARALLEL parallel validation}.
+   * This implementation checks whether the validator is listed in the {@link #THREAD_SAFE_VALIDATORS thread-safe validators} of the context.
+   * @since 2.38
+   */
+  protected boolean isThreadSafe(EValidator eValidator, Map<Object, Object> context)
+  {
+    Object threadSafeValidators = context.get(THREAD_SAFE_VALIDATORS);
+    return
+      Boolean.TRUE.equals(threadSafeValidators) ||
+        threadSafeValidators instanceof Collection<?> && ((Collection<?>)threadSafeValidators).contains(eValidator);
+  }
+
+  /**
+   * Returns the lock that must be held to call the validator,
+   * or {@code null} if no lock is needed because validation isn't {@link #VALIDATE_IN_PARALLEL parallel} or because the validator is {@link #isThreadSafe(EValidator, Map) thread-safe}.
+   */
+  private Object getLock(EValidator eValidator, Map<Object, Object> context)
+  {
+    Object lock = context.get(ValidationTask.class);
+    return lock == null || isThreadSafe(eValidator, context) ? null : lock;
+  }
+
+  /**
+   * A task that validates part of a containment tree as part of {@link #VALIDATE_IN_PARALLEL parallel validation}.
+   * The task iterates over the tree of its object, validating each object.
+   * As long as there are too few tasks queued to keep the pool's threads busy,
+   * each child that has contents of its own is pruned from the iteration and is validated by a new task that's forked.
+   * The diagnostics are recorded as a list of parts, i.e., of diagnostic chains interleaved with forked tasks,
+   * which are {@link #merge(DiagnosticChain) merged} in the order in which sequential iteration would have produced them.
+   * @since 2.38
+   */
+  protected class ValidationTask extends RecursiveTask<Boolean>
+  {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of tasks queued for the current thread beyond which no more tasks are forked.
+     */
+    protected static final int SURPLUS_QUEUED_TASK_THRESHOLD = 3;
+
+    /**
+     * The root of the tree validated by this task.
+     */
+    protected final EObject eObject;
+
+    /**
+     * Whether diagnostics are being recorded.
+     */
+    protected final boolean recordDiagnostics;
+
+    /**
+     * The lock that serializes calls to validators that aren't thread-safe.
+     */
+    protected final Object lock;
+
+    /**
+     * Whether any task has found an invalid object while diagnostics aren't being recorded, in which case all tasks stop.
+     */
+    protected final AtomicBoolean invalid;
+
+    /**
+     * This task's own copy of the context.
+     */
+    protected final Map<Object, Object> context;
+
+    /**
+     * The {@link BasicDiagnostic diagnostic chains} and forked {@link ValidationTask tasks} of this task, in order.
+     */
+    protected final List<Object> parts = new ArrayList<Object>();
+
+    public ValidationTask(EObject eObject, boolean recordDiagnostics, Object lock, AtomicBoolean invalid, Map<Object, Object> context)
+    {
+      this.eObject = eObject;
+      this.recordDiagnostics = recordDiagnostics;
+      this.lock = lock;
+      this.invalid = invalid;
+      this.context = new HashMap<Object, Object>(context);
+      this.context.put(ValidationTask.class, lock);
+    }
+
+    @Override
+    protected Boolean compute()
+    {
+      List<ValidationTask> forkedTasks = null;
+      BasicDiagnostic diagnostics = createDiagnostics();
+      boolean result = true;
+      for (TreeIterator<? extends EObject> i = EcoreUtil.getAllContents(Collections.singleton(eObject)); i.hasNext();)
+      {
+        if (!recordDiagnostics && invalid.get())
+        {
+          result = false;
+          break;
+        }
+
+        EObject child = i.next();
+        if (child != eObject && shouldFork(child))
+        {
+          ValidationTask validationTask = new ValidationTask(child, recordDiagnostics, lock, invalid, context);
+          validationTask.fork();
+          if (forkedTasks == null)
+          {
+            forkedTasks = new ArrayList<ValidationTask>();
+          }
+          forkedTasks.add(validationTask);
+          parts.add(validationTask);
+          diagnostics = createDiagnostics();
+          i.prune();
+          continue;
+        }
+
+        boolean circular = context.get(EObjectValidator.ROOT_OBJECT) == child;
+        result &= validate(child.eClass(), child, diagnostics, context);
+        if (circular)
+        {
+          i.prune();
+        }
+        else if (!result && !recordDiagnostics)
+        {
+          break;
+        }
+      }
+
+      if (!result && !recordDiagnostics)
+      {
+        // The outcome is known so the other tasks can stop early.
+        //
+        invalid.set(true);
+      }
+
+      if (forkedTasks != null)
+      {
+        for (ValidationTask validationTask : forkedTasks)
+        {
+          result &= validationTask.join();
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Creates and records a new diagnostic chain, or returns {@code null} if diagnostics aren't being recorded.
+     */
+    protected BasicDiagnostic createDiagnostics()
+    {
+      if (recordDiagnostics)
+      {
+        BasicDiagnostic diagnostics = new BasicDiagnostic();
+        parts.add(diagnostics);
+        return diagnostics;
+      }
+      else
+      {
+        return null;
+      }
+    }
+
+    /**
+     * Returns whether the child should be validated by a separate task.
+     */
+    protected boolean shouldFork(EObject child)
+    {
+      return getSurplusQueuedTaskCount() < SURPLUS_QUEUED_TASK_THRESHOLD && !child.eContents().isEmpty();
+    }
+
+    /**
+     * Adds the diagnostics of this task and of the tasks it forked, in order, to the given diagnostic chain.
+     */
+    public void merge(DiagnosticChain diagnostics)
+    {
+      for (Object part : parts)
+      {
+        if (part instanceof ValidationTask)
+        {
+          ((ValidationTask)part).merge(diagnostics);
+        }
+        else
+        {
+          for (Diagnostic diagnostic : ((BasicDiagnostic)part).getChildren())
+          {
+            diagnostics.add(diagnostic);
+          }
+        }
+      }
+    }
+  }
+
   /**
    * @since 2.9
    */
   protected boolean doValidate(EValidator eValidator, EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context)
   {
+    Object lock = getLock(eValidator, context);
+    if (lock != null)
+    {
+      synchronized (lock)
+      {
+        return eValidator.validate(eClass, eObject, diagnostics, context);
+      }
+    }
     return eValidator.validate(eClass, eObject, diagnostics, context);
   }
 
@@ -343,6 +608,14 @@ public class Diagnostician implements EValidator.SubstitutionLabelProvider, EVal
    */
   protected boolean doValidate(EValidator eValidator, EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context)
   {
+    Object lock = getLock(eValidator, context);
+    if (lock != null)
+    {
+      synchronized (lock)
+      {
+        return eValidator.validate(eDataType, value, diagnostics, context);
+      }
+    }
     return eValidator.validate(eDataType, value, diagnostics, context);
   }
 
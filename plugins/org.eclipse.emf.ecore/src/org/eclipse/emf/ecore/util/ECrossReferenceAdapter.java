@@ -42,9 +42,16 @@ import org.eclipse.emf.ecore.util.EContentsEList.FeatureIterator;
 /**
  * An adapter that maintains itself as an adapter for all contained objects.
  * It can be installed for an {@link EObject}, a {@link Resource}, or a {@link ResourceSet}.
+ * <p>
+ * The adapter supports {@link Adapter.Batching batching}:
+ * while a {@link org.eclipse.emf.common.notify.impl.NotificationBatch batch} is active on the thread making changes,
+ * the index isn't updated for each change;
+ * it's updated from the coalesced notifications when the batch ends,
+ * so the inverse references retrieved before then may not reflect the changes made during the batch.
+ * </p>
  * @since 2.2
  */
-public class ECrossReferenceAdapter implements Adapter.Internal
+public class ECrossReferenceAdapter implements Adapter.Internal, Adapter.Batching
 {
   /**
    * Returns the first {@link ECrossReferenceAdapter} in the notifier's {@link Notifier#eAdapters() adapter list}, 
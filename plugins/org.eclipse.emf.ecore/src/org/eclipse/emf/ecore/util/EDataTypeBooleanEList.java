@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.ecore.InternalEObject;
+
+
+/**
+ * A list for a many-valued attribute of type <code>boolean</code> whose values are stored in an <code>boolean[]</code>.
+ * @since 2.38
+ */
+public class EDataTypeBooleanEList extends EDataTypePrimitiveEList<Boolean>
+{
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The storage of the values.
+   */
+  protected static class BooleanList extends PrimitiveList<Boolean>
+  {
+    private static final long serialVersionUID = 1L;
+
+    protected boolean [] data = new boolean [0];
+
+    @Override
+    protected int capacity()
+    {
+      return data.length;
+    }
+
+    @Override
+    protected void setCapacity(int capacity)
+    {
+      data = Arrays.copyOf(data, capacity);
+    }
+
+    @Override
+    protected void copy(int sourceIndex, int targetIndex, int length)
+    {
+      System.arraycopy(data, sourceIndex, data, targetIndex, length);
+    }
+
+    @Override
+    protected Boolean doGet(int index)
+    {
+      return data[index];
+    }
+
+    @Override
+    protected void doSet(int index, Boolean object)
+    {
+      data[index] = object;
+    }
+
+    public boolean getBoolean(int index)
+    {
+      checkIndex(index);
+      return data[index];
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+      return object instanceof Boolean ? indexOfBoolean((Boolean)object) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object object)
+    {
+      return object instanceof Boolean ? lastIndexOfBoolean((Boolean)object) : -1;
+    }
+
+    public int indexOfBoolean(boolean value)
+    {
+      boolean [] data = this.data;
+      for (int i = 0, size = this.size; i < size; ++i)
+      {
+        if (data[i] == value)
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    public int lastIndexOfBoolean(boolean value)
+    {
+      boolean [] data = this.data;
+      for (int i = size - 1; i >= 0; --i)
+      {
+        if (data[i] == value)
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    public boolean [] toBooleanArray()
+    {
+      return Arrays.copyOf(data, size);
+    }
+  }
+
+  protected final BooleanList delegateList = new BooleanList();
+
+  public EDataTypeBooleanEList(InternalEObject owner, int featureID)
+  {
+    super(owner, featureID);
+  }
+
+  /**
+   * Creates a list that tracks whether it's {@link #isSet() set} if the attribute is unsettable.
+   */
+  public EDataTypeBooleanEList(InternalEObject owner, int featureID, boolean unsettable)
+  {
+    super(owner, featureID, unsettable);
+  }
+
+  @Override
+  protected List<Boolean> delegateList()
+  {
+    return delegateList;
+  }
+
+  /**
+   * Returns the value at the index without boxing it.
+   */
+  public boolean getBoolean(int index)
+  {
+    return delegateList.getBoolean(index);
+  }
+
+  /**
+   * Sets the value at the index.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public boolean setBoolean(int index, boolean value)
+  {
+    return set(index, value);
+  }
+
+  /**
+   * Adds the value to the end of the list.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public boolean addBoolean(boolean value)
+  {
+    return add(value);
+  }
+
+  /**
+   * Adds the value at the index.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public void addBoolean(int index, boolean value)
+  {
+    add(index, value);
+  }
+
+  /**
+   * Returns the index of the first occurrence of the value, or <code>-1</code>.
+   */
+  public int indexOfBoolean(boolean value)
+  {
+    return delegateList.indexOfBoolean(value);
+  }
+
+  /**
+   * Returns the index of the last occurrence of the value, or <code>-1</code>.
+   */
+  public int lastIndexOfBoolean(boolean value)
+  {
+    return delegateList.lastIndexOfBoolean(value);
+  }
+
+  /**
+   * Returns whether the list contains the value.
+   */
+  public boolean containsBoolean(boolean value)
+  {
+    return delegateList.indexOfBoolean(value) != -1;
+  }
+
+  /**
+   * Returns a new array containing the values of the list.
+   */
+  public boolean [] toBooleanArray()
+  {
+    return delegateList.toBooleanArray();
+  }
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.ecore.InternalEObject;
+
+
+/**
+ * A list for a many-valued attribute of type <code>double</code> whose values are stored in an <code>double[]</code>.
+ * @since 2.38
+ */
+public class EDataTypeDoubleEList extends EDataTypePrimitiveEList<Double>
+{
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The storage of the values.
+   */
+  protected static class DoubleList extends PrimitiveList<Double>
+  {
+    private static final long serialVersionUID = 1L;
+
+    protected double [] data = new double [0];
+
+    @Override
+    protected int capacity()
+    {
+      return data.length;
+    }
+
+    @Override
+    protected void setCapacity(int capacity)
+    {
+      data = Arrays.copyOf(data, capacity);
+    }
+
+    @Override
+    protected void copy(int sourceIndex, int targetIndex, int length)
+    {
+      System.arraycopy(data, sourceIndex, data, targetIndex, length);
+    }
+
+    @Override
+    protected Double doGet(int index)
+    {
+      return data[index];
+    }
+
+    @Override
+    protected void doSet(int index, Double object)
+    {
+      data[index] = object;
+    }
+
+    public double getDouble(int index)
+    {
+      checkIndex(index);
+      return data[index];
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+      return object instanceof Double ? indexOfDouble((Double)object) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object object)
+    {
+      return object instanceof Double ? lastIndexOfDouble((Double)object) : -1;
+    }
+
+    public int indexOfDouble(double value)
+    {
+      // Compare bits, consistent with Double.equals, so that NaN is found and 0.0 and -0.0 are distinct.
+      //
+      long bits = Double.doubleToLongBits(value);
+      double [] data = this.data;
+      for (int i = 0, size = this.size; i < size; ++i)
+      {
+        if (Double.doubleToLongBits(data[i]) == bits)
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    public int lastIndexOfDouble(double value)
+    {
+      long bits = Double.doubleToLongBits(value);
+      double [] data = this.data;
+      for (int i = size - 1; i >= 0; --i)
+      {
+        if (Double.doubleToLongBits(data[i]) == bits)
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    public double [] toDoubleArray()
+    {
+      return Arrays.copyOf(data, size);
+    }
+  }
+
+  protected final DoubleList delegateList = new DoubleList();
+
+  public EDataTypeDoubleEList(InternalEObject owner, int featureID)
+  {
+    super(owner, featureID);
+  }
+
+  /**
+   * Creates a list that tracks whether it's {@link #isSet() set} if the attribute is unsettable.
+   */
+  public EDataTypeDoubleEList(InternalEObject owner, int featureID, boolean unsettable)
+  {
+    super(owner, featureID, unsettable);
+  }
+
+  @Override
+  protected List<Double> delegateList()
+  {
+    return delegateList;
+  }
+
+  /**
+   * Returns the value at the index without boxing it.
+   */
+  public double getDouble(int index)
+  {
+    return delegateList.getDouble(index);
+  }
+
+  /**
+   * Sets the value at the index.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public double setDouble(int index, double value)
+  {
+    return set(index, value);
+  }
+
+  /**
+   * Adds the value to the end of the list.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public boolean addDouble(double value)
+  {
+    return add(value);
+  }
+
+  /**
+   * Adds the value at the index.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public void addDouble(int index, double value)
+  {
+    add(index, value);
+  }
+
+  /**
+   * Returns the index of the first occurrence of the value, or <code>-1</code>.
+   * Values are compared as by {@link Double#equals(Object)}.
+   */
+  public int indexOfDouble(double value)
+  {
+    return delegateList.indexOfDouble(value);
+  }
+
+  /**
+   * Returns the index of the last occurrence of the value, or <code>-1</code>.
+   */
+  public int lastIndexOfDouble(double value)
+  {
+    return delegateList.lastIndexOfDouble(value);
+  }
+
+  /**
+   * Returns whether the list contains the value.
+   */
+  public boolean containsDouble(double value)
+  {
+    return delegateList.indexOfDouble(value) != -1;
+  }
+
+  /**
+   * Returns a new array containing the values of the list.
+   */
+  public double [] toDoubleArray()
+  {
+    return delegateList.toDoubleArray();
+  }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.ecore.InternalEObject;
+
+
+/**
+ * A list for a many-valued attribute of type <code>long</code> whose values are stored in an <code>long[]</code>.
+ * @since 2.38
+ */
+public class EDataTypeLongEList extends EDataTypePrimitiveEList<Long>
+{
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The storage of the values.
+   */
+  protected static class LongList extends PrimitiveList<Long>
+  {
+    private static final long serialVersionUID = 1L;
+
+    protected long [] data = new long [0];
+
+    @Override
+    protected int capacity()
+    {
+      return data.length;
+    }
+
+    @Override
+    protected void setCapacity(int capacity)
+    {
+      data = Arrays.copyOf(data, capacity);
+    }
+
+    @Override
+    protected void copy(int sourceIndex, int targetIndex, int length)
+    {
+      System.arraycopy(data, sourceIndex, data, targetIndex, length);
+    }
+
+    @Override
+    protected Long doGet(int index)
+    {
+      return data[index];
+    }
+
+    @Override
+    protected void doSet(int index, Long object)
+    {
+      data[index] = object;
+    }
+
+    public long getLong(int index)
+    {
+      checkIndex(index);
+      return data[index];
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+      return object instanceof Long ? indexOfLong((Long)object) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object object)
+    {
+      return object instanceof Long ? lastIndexOfLong((Long)object) : -1;
+    }
+
+    public int indexOfLong(long value)
+    {
+      long [] data = this.data;
+      for (int i = 0, size = this.size; i < size; ++i)
+      {
+        if (data[i] == value)
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    public int lastIndexOfLong(long value)
+    {
+      long [] data = this.data;
+      for (int i = size - 1; i >= 0; --i)
+      {
+        if (data[i] == value)
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    public long [] toLongArray()
+    {
+      return Arrays.copyOf(data, size);
+    }
+  }
+
+  protected final LongList delegateList = new LongList();
+
+  public EDataTypeLongEList(InternalEObject owner, int featureID)
+  {
+    super(owner, featureID);
+  }
+
+  /**
+   * Creates a list that tracks whether it's {@link #isSet() set} if the attribute is unsettable.
+   */
+  public EDataTypeLongEList(InternalEObject owner, int featureID, boolean unsettable)
+  {
+    super(owner, featureID, unsettable);
+  }
+
+  @Override
+  protected List<Long> delegateList()
+  {
+    return delegateList;
+  }
+
+  /**
+   * Returns the value at the index without boxing it.
+   */
+  public long getLong(int index)
+  {
+    return delegateList.getLong(index);
+  }
+
+  /**
+   * Sets the value at the index.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public long setLong(int index, long value)
+  {
+    return set(index, value);
+  }
+
+  /**
+   * Adds the value to the end of the list.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public boolean addLong(long value)
+  {
+    return add(value);
+  }
+
+  /**
+   * Adds the value at the index.
+   * The value is boxed only as needed for validation and notification.
+   */
+  public void addLong(int index, long value)
+  {
+    add(index, value);
+  }
+
+  /**
+   * Returns the index of the first occurrence of the value, or <code>-1</code>.
+   */
+  public int indexOfLong(long value)
+  {
+    return delegateList.indexOfLong(value);
+  }
+
+  /**
+   * Returns the index of the last occurrence of the value, or <code>-1</code>.
+   */
+  public int lastIndexOfLong(long value)
+  {
+    return delegateList.lastIndexOfLong(value);
+  }
+
+  /**
+   * Returns whether the list contains the value.
+   */
+  public boolean containsLong(long value)
+  {
+    return delegateList.indexOfLong(value) != -1;
+  }
+
+  /**
+   * Returns a new array containing the values of the list.
+   */
+  public long [] toLongArray()
+  {
+    return delegateList.toLongArray();
+  }
+}
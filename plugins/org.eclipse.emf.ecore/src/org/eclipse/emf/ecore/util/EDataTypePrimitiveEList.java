@@ -0,0 +1,309 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.InternalEObject;
+
+
+/**
+ * A {@link DelegatingEcoreEList delegating Ecore EList} for a many-valued attribute of a primitive type
+ * whose values are stored in an array of that primitive type rather than as an array of boxed objects.
+ * Values are boxed only as they're accessed via the {@link java.util.List} API;
+ * each subclass provides accessors that operate directly on the primitive values.
+ * The list is unique if the feature is unique,
+ * and it tracks whether it's {@link #isSet() set} if it's created for an {@link #unsettable unsettable} attribute.
+ * @see EDataTypeIntEList
+ * @see EDataTypeLongEList
+ * @see EDataTypeDoubleEList
+ * @see EDataTypeBooleanEList
+ * @since 2.38
+ */
+public abstract class EDataTypePrimitiveEList<E> extends DelegatingEcoreEList<E>
+{
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * A random access list whose values are stored in an array of primitives.
+   * Subclasses specialize the access to the array; this class manages its size and capacity.
+   */
+  protected static abstract class PrimitiveList<E> extends AbstractList<E> implements RandomAccess, Serializable
+  {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of values in the list.
+     */
+    protected int size;
+
+    /**
+     * Returns the length of the underlying array.
+     */
+    protected abstract int capacity();
+
+    /**
+     * Replaces the underlying array with a copy of the given length.
+     */
+    protected abstract void setCapacity(int capacity);
+
+    /**
+     * Copies a range of the underlying array to another position in that same array.
+     */
+    protected abstract void copy(int sourceIndex, int targetIndex, int length);
+
+    /**
+     * Returns the boxed value at the index, which is known to be in range.
+     */
+    protected abstract E doGet(int index);
+
+    /**
+     * Stores the unboxed value at the index, which is known to be in range.
+     */
+    protected abstract void doSet(int index, E object);
+
+    /**
+     * Ensures that the underlying array can hold at least the given number of values.
+     */
+    public void grow(int minimumCapacity)
+    {
+      int capacity = capacity();
+      if (minimumCapacity > capacity)
+      {
+        ++modCount;
+        int newCapacity = capacity + capacity / 2 + 4;
+        setCapacity(newCapacity < minimumCapacity ? minimumCapacity : newCapacity);
+      }
+    }
+
+    /**
+     * Reduces the capacity of the underlying array to the size of the list.
+     */
+    public void shrink()
+    {
+      if (size < capacity())
+      {
+        ++modCount;
+        setCapacity(size);
+      }
+    }
+
+    protected void checkIndex(int index)
+    {
+      if (index < 0 || index >= size)
+      {
+        throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+      }
+    }
+
+    @Override
+    public int size()
+    {
+      return size;
+    }
+
+    @Override
+    public E get(int index)
+    {
+      checkIndex(index);
+      return doGet(index);
+    }
+
+    @Override
+    public E set(int index, E object)
+    {
+      checkIndex(index);
+      E result = doGet(index);
+      doSet(index, object);
+      return result;
+    }
+
+    @Override
+    public void add(int index, E object)
+    {
+      if (index < 0 || index > size)
+      {
+        throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+      }
+      grow(size + 1);
+      ++modCount;
+      if (index != size)
+      {
+        copy(index, index + 1, size - index);
+      }
+      doSet(index, object);
+      ++size;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection)
+    {
+      if (index < 0 || index > size)
+      {
+        throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+      }
+      int growth = collection.size();
+      if (growth == 0)
+      {
+        return false;
+      }
+      grow(size + growth);
+      ++modCount;
+      if (index != size)
+      {
+        copy(index, index + growth, size - index);
+      }
+      for (E object : collection)
+      {
+        doSet(index++, object);
+      }
+      size += growth;
+      return true;
+    }
+
+    @Override
+    public E remove(int index)
+    {
+      checkIndex(index);
+      ++modCount;
+      E result = doGet(index);
+      int shifted = size - index - 1;
+      if (shifted > 0)
+      {
+        copy(index + 1, index, shifted);
+      }
+      --size;
+      return result;
+    }
+
+    @Override
+    public void clear()
+    {
+      ++modCount;
+      size = 0;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+      return indexOf(object) != -1;
+    }
+  }
+
+  /**
+   * The feature ID of the attribute.
+   */
+  protected final int featureID;
+
+  /**
+   * Whether the attribute is unsettable, in which case the list tracks whether it's {@link #isSet() set}.
+   */
+  protected final boolean unsettable;
+
+  /**
+   * Whether the list is set; this is only tracked if the attribute is {@link #unsettable}.
+   */
+  protected boolean isSet;
+
+  public EDataTypePrimitiveEList(InternalEObject owner, int featureID)
+  {
+    this(owner, featureID, false);
+  }
+
+  /**
+   * Creates a list that tracks whether it's {@link #isSet() set} if the attribute is unsettable.
+   */
+  public EDataTypePrimitiveEList(InternalEObject owner, int featureID, boolean unsettable)
+  {
+    super(owner);
+    this.featureID = featureID;
+    this.unsettable = unsettable;
+  }
+
+  @Override
+  public int getFeatureID()
+  {
+    return featureID;
+  }
+
+  @Override
+  protected boolean isEObject()
+  {
+    return false;
+  }
+
+  @Override
+  protected boolean canContainNull()
+  {
+    return false;
+  }
+
+  @Override
+  protected boolean hasInverse()
+  {
+    return false;
+  }
+
+  @Override
+  protected E resolve(int index, E object)
+  {
+    return object;
+  }
+
+  @Override
+  protected void didChange()
+  {
+    isSet = true;
+  }
+
+  @Override
+  public boolean isSet()
+  {
+    return unsettable ? isSet : !isEmpty();
+  }
+
+  @Override
+  public void unset()
+  {
+    super.unset();
+    if (unsettable)
+    {
+      if (isNotificationRequired())
+      {
+        boolean oldIsSet = isSet;
+        isSet = false;
+        dispatchNotification(createNotification(Notification.UNSET, oldIsSet, false));
+      }
+      else
+      {
+        isSet = false;
+      }
+    }
+  }
+
+  /**
+   * Ensures that the list can hold at least the given number of values without reallocating its storage.
+   */
+  public void grow(int minimumCapacity)
+  {
+    ((PrimitiveList<E>)delegateList()).grow(minimumCapacity);
+  }
+
+  /**
+   * Reduces the storage of the list to its size.
+   */
+  public void shrink()
+  {
+    ((PrimitiveList<E>)delegateList()).shrink();
+  }
+}
@@ -14,6 +14,7 @@ package org.eclipse.emf.ecore.util;
 import java.io.PrintStream;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.GregorianCalendar;
@@ -59,6 +60,7 @@ import org.eclipse.emf.ecore.ETypeParameter;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.EClassImpl;
 import org.eclipse.emf.ecore.impl.EPackageImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
@@ -839,6 +841,524 @@ public class EcoreUtil
     }
   }
 
+  /**
+   * A copier optimized for copying large content trees,
+   * with the same behavior as a default {@link Copier} and with a compatible API:
+   * the client calls {@link #copy copy} and {@link #copyAll copyAll} repeatedly
+   * and then calls {@link #copyReferences copyReferences} once all the objects have been copied.
+   *<pre>
+   *  BulkCopier copier = new BulkCopier();
+   *  Collection results = copier.copyAll(eObjects);
+   *  copier.copyReferences();
+   *</pre>
+   * <p>
+   * Unlike a copier, a bulk copier is not a map and is not specialized by overriding methods per feature.
+   * For each class, it computes once which features to copy, from the class's {@link EClass#getEAllStructuralFeatures() array of all features},
+   * and accesses the values of those features by {@link InternalEObject#eGet(int, boolean, boolean) feature ID}.
+   * The originals are mapped to their copies by identity rather than by {@link Object#equals(Object) equality}
+   * in an {@link IdentityHashMap}, i.e., an open addressing hash table,
+   * and many-valued features are populated in bulk, without checking for uniqueness.
+   * {@link Notifier#eDeliver() Delivery} of notifications by each copy is turned off while it's being populated,
+   * and is turned back on by {@link #copyReferences copyReferences}.
+   * </p>
+   * @see Copier
+   * @since 2.38
+   */
+  public static class BulkCopier
+  {
+    /**
+     * The IDs of the features of a class that need to be copied, grouped by how they're copied.
+     */
+    protected static class CopyPlan
+    {
+      /**
+       * The IDs of the attributes, other than feature maps.
+       */
+      protected final int [] attributes;
+
+      /**
+       * The IDs of the feature maps.
+       */
+      protected final int [] featureMaps;
+
+      /**
+       * The IDs of the containment references.
+       */
+      protected final int [] containments;
+
+      /**
+       * The IDs of the references other than containment and container references.
+       */
+      protected final int [] crossReferences;
+
+      /**
+       * The bidirectional state of each cross reference, in the same order as {@link #crossReferences}.
+       */
+      protected final boolean [] bidirectional;
+
+      /**
+       * Whether each feature is {@link EStructuralFeature#isMany() many-valued}, indexed by feature ID.
+       */
+      protected final boolean [] many;
+
+      public CopyPlan(EClass eClass)
+      {
+        EStructuralFeature [] eStructuralFeatures =
+          eClass.getEAllStructuralFeatures() instanceof EClassImpl.FeatureSubsetSupplier ?
+            ((EClassImpl.FeatureSubsetSupplier)eClass.getEAllStructuralFeatures()).features() :
+            eClass.getEAllStructuralFeatures().toArray(new EStructuralFeature [eClass.getFeatureCount()]);
+        int [] attributes = new int [eClass.getFeatureCount()];
+        int [] featureMaps = new int [attributes.length];
+        int [] containments = new int [attributes.length];
+        int [] crossReferences = new int [attributes.length];
+        boolean [] bidirectional = new boolean [attributes.length];
+        many = new boolean [attributes.length];
+        int attributeCount = 0;
+        int featureMapCount = 0;
+        int containmentCount = 0;
+        int crossReferenceCount = 0;
+        for (int i = 0, size = attributes.length; i < size; ++i)
+        {
+          EStructuralFeature eStructuralFeature = eStructuralFeatures[i];
+          many[i] = eStructuralFeature.isMany();
+          if (eStructuralFeature.isChangeable() && !eStructuralFeature.isDerived())
+          {
+            if (eStructuralFeature instanceof EAttribute)
+            {
+              if (FeatureMapUtil.isFeatureMap(eStructuralFeature))
+              {
+                featureMaps[featureMapCount++] = i;
+              }
+              else
+              {
+                attributes[attributeCount++] = i;
+              }
+            }
+            else
+            {
+              EReference eReference = (EReference)eStructuralFeature;
+              if (eReference.isContainment())
+              {
+                containments[containmentCount++] = i;
+              }
+              else if (!eReference.isContainer())
+              {
+                bidirectional[crossReferenceCount] = eReference.getEOpposite() != null;
+                crossReferences[crossReferenceCount++] = i;
+              }
+            }
+          }
+        }
+        this.attributes = Arrays.copyOf(attributes, attributeCount);
+        this.featureMaps = Arrays.copyOf(featureMaps, featureMapCount);
+        this.containments = Arrays.copyOf(containments, containmentCount);
+        this.crossReferences = Arrays.copyOf(crossReferences, crossReferenceCount);
+        this.bidirectional = Arrays.copyOf(bidirectional, crossReferenceCount);
+      }
+    }
+
+    /**
+     * Whether proxies should be resolved during copying.
+     */
+    protected boolean resolveProxies = true;
+
+    /**
+     * Whether non-copied references should be used during copying.
+     */
+    protected boolean useOriginalReferences = true;
+
+    /**
+     * The copy of each original.
+     */
+    protected final Map<EObject, EObject> copies = new IdentityHashMap<EObject, EObject>();
+
+    /**
+     * The originals in the order in which they were copied.
+     */
+    protected EObject [] originals = new EObject [16];
+
+    /**
+     * The copies in the order in which they were copied, in the same order as {@link #originals}.
+     */
+    protected EObject [] copyEObjects = new EObject [16];
+
+    /**
+     * The number of objects copied.
+     */
+    protected int size;
+
+    /**
+     * The copies whose delivery of notifications has been turned off, in the order in which they were copied.
+     */
+    protected List<EObject> undeliveredCopies = new ArrayList<EObject>();
+
+    /**
+     * The copy plan of each class.
+     */
+    protected final Map<EClass, CopyPlan> copyPlans = new IdentityHashMap<EClass, CopyPlan>();
+
+    /**
+     * Creates an instance.
+     */
+    public BulkCopier()
+    {
+      super();
+    }
+
+    /**
+     * Creates an instance that resolves proxies or not and uses non-copied references or not as specified.
+     * @param resolveProxies whether proxies should be resolved while copying.
+     * @param useOriginalReferences whether non-copied references should be used while copying.
+     */
+    public BulkCopier(boolean resolveProxies, boolean useOriginalReferences)
+    {
+      this.resolveProxies = resolveProxies;
+      this.useOriginalReferences = useOriginalReferences;
+    }
+
+    /**
+     * Returns the copy of the given object, or <code>null</code> if it hasn't been copied.
+     * @param eObject the original object.
+     * @return the copy.
+     */
+    public EObject get(EObject eObject)
+    {
+      return copies.get(eObject);
+    }
+
+    /**
+     * Returns the number of objects that have been copied.
+     * @return the number of objects that have been copied.
+     */
+    public int size()
+    {
+      return size;
+    }
+
+    /**
+     * Returns a collection containing a copy of each EObject in the given collection.
+     * @param eObjects the collection of objects to copy.
+     * @return the collection of copies.
+     */
+    public <T> Collection<T> copyAll(Collection<? extends T> eObjects)
+    {
+      Collection<T> result = new ArrayList<T>(eObjects.size());
+      for (Object object : eObjects)
+      {
+        @SuppressWarnings("unchecked") T t = (T)copy((EObject)object);
+        if (t != null)
+        {
+          result.add(t);
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Returns a copy of the given eObject.
+     * @param eObject the object to copy.
+     * @return the copy.
+     */
+    public EObject copy(EObject eObject)
+    {
+      if (eObject == null)
+      {
+        return null;
+      }
+
+      EObject copyEObject = createCopy(eObject);
+      if (copyEObject.eDeliver())
+      {
+        copyEObject.eSetDeliver(false);
+        undeliveredCopies.add(copyEObject);
+      }
+      put(eObject, copyEObject);
+
+      InternalEObject internalEObject = (InternalEObject)eObject;
+      InternalEObject copyInternalEObject = (InternalEObject)copyEObject;
+      CopyPlan copyPlan = getCopyPlan(eObject.eClass());
+      for (int featureID : copyPlan.attributes)
+      {
+        if (internalEObject.eIsSet(featureID))
+        {
+          Object value = internalEObject.eGet(featureID, false, true);
+          if (copyPlan.many[featureID] && !((List<?>)value).isEmpty())
+          {
+            @SuppressWarnings("unchecked") InternalEList<Object> target = (InternalEList<Object>)copyInternalEObject.eGet(featureID, false, true);
+            target.addAllUnique((List<?>)value);
+          }
+          else
+          {
+            copyInternalEObject.eSet(featureID, value);
+          }
+        }
+      }
+
+      for (int featureID : copyPlan.featureMaps)
+      {
+        FeatureMap featureMap = (FeatureMap)internalEObject.eGet(featureID, false, true);
+        for (int i = 0, size = featureMap.size(); i < size; ++i)
+        {
+          EStructuralFeature feature = featureMap.getEStructuralFeature(i);
+          if (feature instanceof EReference && ((EReference)feature).isContainment())
+          {
+            Object value = featureMap.getValue(i);
+            if (value != null)
+            {
+              // The containment references are hooked up later during copyReferences.
+              //
+              copy((EObject)value);
+            }
+          }
+        }
+      }
+
+      for (int featureID : copyPlan.containments)
+      {
+        if (internalEObject.eIsSet(featureID))
+        {
+          Object value = internalEObject.eGet(featureID, true, true);
+          if (copyPlan.many[featureID])
+          {
+            @SuppressWarnings("unchecked") List<EObject> source = (List<EObject>)value;
+            if (source.isEmpty())
+            {
+              copyInternalEObject.eSet(featureID, source);
+            }
+            else
+            {
+              @SuppressWarnings("unchecked") InternalEList<EObject> target = (InternalEList<EObject>)copyInternalEObject.eGet(featureID, false, true);
+              List<EObject> copyChildren = new ArrayList<EObject>(source.size());
+              for (EObject child : source)
+              {
+                copyChildren.add(copy(child));
+              }
+              target.addAllUnique(copyChildren);
+            }
+          }
+          else
+          {
+            copyInternalEObject.eSet(featureID, copy((EObject)value));
+          }
+        }
+      }
+
+      if (eObject.eIsProxy())
+      {
+        copyInternalEObject.eSetProxyURI(internalEObject.eProxyURI());
+      }
+
+      return copyEObject;
+    }
+
+    /**
+     * Returns a new instance of the object's class.
+     * @param eObject the object to copy.
+     * @return a new instance of the object's class.
+     */
+    protected EObject createCopy(EObject eObject)
+    {
+      return create(eObject.eClass());
+    }
+
+    /**
+     * Returns the copy plan for the class, creating it if necessary.
+     */
+    protected CopyPlan getCopyPlan(EClass eClass)
+    {
+      CopyPlan copyPlan = copyPlans.get(eClass);
+      if (copyPlan == null)
+      {
+        copyPlan = new CopyPlan(eClass);
+        copyPlans.put(eClass, copyPlan);
+      }
+      return copyPlan;
+    }
+
+    private void put(EObject eObject, EObject copyEObject)
+    {
+      if (copies.put(eObject, copyEObject) == null)
+      {
+        if (size == originals.length)
+        {
+          int newCapacity = size * 2;
+          originals = Arrays.copyOf(originals, newCapacity);
+          copyEObjects = Arrays.copyOf(copyEObjects, newCapacity);
+        }
+        originals[size] = eObject;
+        copyEObjects[size] = copyEObject;
+        ++size;
+      }
+      else
+      {
+        for (int i = 0; i < size; ++i)
+        {
+          if (originals[i] == eObject)
+          {
+            copyEObjects[i] = copyEObject;
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Hooks up cross references and then turns delivery of notifications back on for all the copies.
+     */
+    public void copyReferences()
+    {
+      try
+      {
+        for (int i = 0; i < size; ++i)
+        {
+          InternalEObject internalEObject = (InternalEObject)originals[i];
+          InternalEObject copyInternalEObject = (InternalEObject)copyEObjects[i];
+          CopyPlan copyPlan = getCopyPlan(internalEObject.eClass());
+          int [] crossReferences = copyPlan.crossReferences;
+          for (int j = 0; j < crossReferences.length; ++j)
+          {
+            int featureID = crossReferences[j];
+            if (internalEObject.eIsSet(featureID))
+            {
+              copyReference(featureID, copyPlan.many[featureID], copyPlan.bidirectional[j], internalEObject, copyInternalEObject);
+            }
+          }
+          for (int featureID : copyPlan.featureMaps)
+          {
+            copyFeatureMap
+              ((FeatureMap)internalEObject.eGet(featureID, false, true),
+               (FeatureMap)copyInternalEObject.eGet(featureID, false, true));
+          }
+        }
+      }
+      finally
+      {
+        for (EObject copyEObject : undeliveredCopies)
+        {
+          copyEObject.eSetDeliver(true);
+        }
+        undeliveredCopies.clear();
+      }
+    }
+
+    /**
+     * Copies a cross reference in the same way as {@link Copier#copyReference(EReference, EObject, EObject)}.
+     */
+    protected void copyReference(int featureID, boolean isMany, boolean isBidirectional, InternalEObject eObject, InternalEObject copyEObject)
+    {
+      Object value = eObject.eGet(featureID, resolveProxies, true);
+      if (isMany)
+      {
+        @SuppressWarnings("unchecked") InternalEList<EObject> source = (InternalEList<EObject>)value;
+        @SuppressWarnings("unchecked") InternalEList<EObject> target = (InternalEList<EObject>)copyEObject.eGet(featureID, false, true);
+        if (source.isEmpty())
+        {
+          target.clear();
+        }
+        else if (isBidirectional)
+        {
+          int index = 0;
+          for (Iterator<EObject> k = resolveProxies ? source.iterator() : source.basicIterator(); k.hasNext();)
+          {
+            EObject copyReferencedEObject = copies.get(k.next());
+            if (copyReferencedEObject != null)
+            {
+              int position = target.indexOf(copyReferencedEObject);
+              if (position == -1)
+              {
+                target.addUnique(index, copyReferencedEObject);
+              }
+              else if (index != position)
+              {
+                target.move(index, copyReferencedEObject);
+              }
+              ++index;
+            }
+          }
+        }
+        else
+        {
+          List<EObject> copyReferencedEObjects = new ArrayList<EObject>(source.size());
+          for (Iterator<EObject> k = resolveProxies ? source.iterator() : source.basicIterator(); k.hasNext();)
+          {
+            EObject referencedEObject = k.next();
+            EObject copyReferencedEObject = copies.get(referencedEObject);
+            if (copyReferencedEObject != null)
+            {
+              copyReferencedEObjects.add(copyReferencedEObject);
+            }
+            else if (useOriginalReferences)
+            {
+              copyReferencedEObjects.add(referencedEObject);
+            }
+          }
+          target.addAllUnique(0, copyReferencedEObjects);
+        }
+      }
+      else if (value == null)
+      {
+        copyEObject.eSet(featureID, null);
+      }
+      else
+      {
+        EObject copyReferencedEObject = copies.get(value);
+        if (copyReferencedEObject != null)
+        {
+          copyEObject.eSet(featureID, copyReferencedEObject);
+        }
+        else if (useOriginalReferences && !isBidirectional)
+        {
+          copyEObject.eSet(featureID, value);
+        }
+      }
+    }
+
+    /**
+     * Copies the entries of a feature map in the same way as {@link Copier#copyReferences()}.
+     */
+    protected void copyFeatureMap(FeatureMap featureMap, FeatureMap copyFeatureMap)
+    {
+      int copyFeatureMapSize = copyFeatureMap.size();
+      for (int k = 0, featureMapSize = featureMap.size(); k < featureMapSize; ++k)
+      {
+        EStructuralFeature feature = featureMap.getEStructuralFeature(k);
+        if (feature instanceof EReference)
+        {
+          Object referencedEObject = featureMap.getValue(k);
+          Object copyReferencedEObject = copies.get(referencedEObject);
+          if (copyReferencedEObject == null && referencedEObject != null)
+          {
+            EReference reference = (EReference)feature;
+            if (!useOriginalReferences || reference.isContainment() || reference.getEOpposite() != null)
+            {
+              continue;
+            }
+            copyReferencedEObject = referencedEObject;
+          }
+
+          // If we can't add it, it must already be in the list so find it and move it to the end.
+          //
+          if (!copyFeatureMap.add(feature, copyReferencedEObject))
+          {
+            for (int l = 0; l < copyFeatureMapSize; ++l)
+            {
+              if (copyFeatureMap.getEStructuralFeature(l) == feature && copyFeatureMap.getValue(l) == copyReferencedEObject)
+              {
+                copyFeatureMap.move(copyFeatureMap.size() - 1, l);
+                --copyFeatureMapSize;
+                break;
+              }
+            }
+          }
+        }
+        else
+        {
+          copyFeatureMap.add(feature, featureMap.getValue(k));
+        }
+      }
+    }
+  }
+
   /**
    * Returns the root container;
    * it may be this object itself
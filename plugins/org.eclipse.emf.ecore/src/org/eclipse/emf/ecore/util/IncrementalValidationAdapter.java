@@ -0,0 +1,386 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.ecore.util;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.plugin.EcorePlugin;
+import org.eclipse.emf.ecore.resource.Resource;
+
+
+/**
+ * An adapter that maintains the validation results of all the objects in the content tree of its target
+ * and that revalidates only the objects that may have become valid or invalid since the last {@link #validate() validation}.
+ * It can be installed for an {@link EObject}, a {@link Resource}, or a {@link org.eclipse.emf.ecore.resource.ResourceSet ResourceSet}.
+ * <p>
+ * Each object is validated individually by the adapter's {@link Diagnostician diagnostician}.
+ * An object needs to be revalidated when it's added to the tree,
+ * when any of the objects {@link #getDependents(Notification) affected by a change notification} is the object,
+ * or when it's {@link #addDependency(EObject, EObject) declared to depend on} an object that changes.
+ * A validator that checks a constraint involving other objects can declare that dependency
+ * using the adapter that's available in the <code>context</code> under the key {@code IncrementalValidationAdapter.class}.
+ * The dependencies of an object are discarded each time it's revalidated, so they must be declared during each validation.
+ * </p>
+ * <p>
+ * The {@link #getDiagnostics() results} are recorded only for objects that have diagnostics other than {@link Diagnostic#OK OK},
+ * and are discarded when the object is removed from the tree,
+ * so the cost of each validation is proportional to the number of changed objects rather than to the size of the model.
+ * </p>
+ * @since 2.38
+ */
+public class IncrementalValidationAdapter extends EContentAdapter
+{
+  /**
+   * The notifier on which the adapter was installed.
+   */
+  protected Notifier root;
+
+  /**
+   * The diagnostician used to validate each object.
+   */
+  protected final Diagnostician diagnostician;
+
+  /**
+   * The objects that need to be revalidated, in the order in which they were invalidated.
+   */
+  protected final Set<EObject> dirtyObjects = new LinkedHashSet<EObject>();
+
+  /**
+   * The diagnostic of each object that isn't {@link Diagnostic#OK OK}.
+   */
+  protected final Map<EObject, Diagnostic> diagnostics = new LinkedHashMap<EObject, Diagnostic>();
+
+  /**
+   * The objects on which each object depends.
+   */
+  protected final Map<EObject, Set<EObject>> dependencies = new HashMap<EObject, Set<EObject>>();
+
+  /**
+   * The objects that depend on each object.
+   */
+  protected final Map<EObject, Set<EObject>> dependents = new HashMap<EObject, Set<EObject>>();
+
+  public IncrementalValidationAdapter()
+  {
+    this(Diagnostician.INSTANCE);
+  }
+
+  public IncrementalValidationAdapter(Diagnostician diagnostician)
+  {
+    this.diagnostician = diagnostician;
+  }
+
+  /**
+   * Returns {@code false} so that the adapter is attached iteratively,
+   * as is appropriate for the large models for which incremental validation is most useful.
+   */
+  @Override
+  protected boolean useRecursion()
+  {
+    return false;
+  }
+
+  /**
+   * Handles a notification by {@link #invalidate(EObject) invalidating} each of the objects {@link #getDependents(Notification) affected by it}.
+   */
+  @Override
+  public void notifyChanged(Notification notification)
+  {
+    super.notifyChanged(notification);
+
+    if (!notification.isTouch() && notification.getNotifier() instanceof EObject && notification.getFeature() instanceof EStructuralFeature)
+    {
+      for (EObject eObject : getDependents(notification))
+      {
+        invalidate(eObject);
+      }
+    }
+  }
+
+  /**
+   * Returns the objects whose validity may be affected by the change described by the notification.
+   * These are the object that changed, its container, whose constraints may involve the features of its contents,
+   * and, for a reference, each object that's referenced or no longer referenced, whose opposite may need to be consistent.
+   * Dependencies {@link #addDependency(EObject, EObject) declared by validators} are handled by {@link #invalidate(EObject)}.
+   */
+  protected Collection<EObject> getDependents(Notification notification)
+  {
+    List<EObject> result = new ArrayList<EObject>();
+    EObject eObject = (EObject)notification.getNotifier();
+    result.add(eObject);
+    EObject eContainer = eObject.eContainer();
+    if (eContainer != null)
+    {
+      result.add(eContainer);
+    }
+    if (notification.getFeature() instanceof EReference)
+    {
+      addValues(result, notification.getOldValue());
+      addValues(result, notification.getNewValue());
+    }
+    return result;
+  }
+
+  private static void addValues(List<EObject> result, Object value)
+  {
+    if (value instanceof EObject)
+    {
+      result.add((EObject)value);
+    }
+    else if (value instanceof Collection<?>)
+    {
+      for (Object object : (Collection<?>)value)
+      {
+        if (object instanceof EObject)
+        {
+          result.add((EObject)object);
+        }
+      }
+    }
+  }
+
+  /**
+   * Records that the object needs to be revalidated, along with all the objects that {@link #addDependency(EObject, EObject) depend on it}.
+   * Objects that aren't in the tree are ignored.
+   */
+  public void invalidate(EObject eObject)
+  {
+    if (eObject.eAdapters().contains(this))
+    {
+      dirtyObjects.add(eObject);
+      Set<EObject> eObjectDependents = dependents.get(eObject);
+      if (eObjectDependents != null)
+      {
+        for (EObject dependent : eObjectDependents)
+        {
+          dirtyObjects.add(dependent);
+        }
+      }
+    }
+  }
+
+  /**
+   * Declares that the validity of the dependent object depends on the state of the other object,
+   * so that the dependent object is revalidated whenever the other object is {@link #invalidate(EObject) invalidated}.
+   * This is typically called by a validator while validating the dependent object.
+   */
+  public void addDependency(EObject dependent, EObject dependency)
+  {
+    if (dependent != dependency)
+    {
+      Set<EObject> dependentDependencies = dependencies.get(dependent);
+      if (dependentDependencies == null)
+      {
+        dependentDependencies = new LinkedHashSet<EObject>();
+        dependencies.put(dependent, dependentDependencies);
+      }
+      if (dependentDependencies.add(dependency))
+      {
+        Set<EObject> dependencyDependents = dependents.get(dependency);
+        if (dependencyDependents == null)
+        {
+          dependencyDependents = new LinkedHashSet<EObject>();
+          dependents.put(dependency, dependencyDependents);
+        }
+        dependencyDependents.add(dependent);
+      }
+    }
+  }
+
+  /**
+   * Discards the dependencies of the object.
+   */
+  protected void removeDependencies(EObject dependent)
+  {
+    Set<EObject> dependentDependencies = dependencies.remove(dependent);
+    if (dependentDependencies != null)
+    {
+      for (EObject dependency : dependentDependencies)
+      {
+        Set<EObject> dependencyDependents = dependents.get(dependency);
+        if (dependencyDependents != null)
+        {
+          dependencyDependents.remove(dependent);
+          if (dependencyDependents.isEmpty())
+          {
+            dependents.remove(dependency);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Handles installation of the adapter, recording the first target as the {@link #root}.
+   */
+  @Override
+  public void setTarget(Notifier target)
+  {
+    if (root == null)
+    {
+      root = target;
+    }
+    super.setTarget(target);
+  }
+
+  /**
+   * Handles undoing the installation of the adapter, forgetting the {@link #root} when the adapter is removed from it.
+   */
+  @Override
+  public void unsetTarget(Notifier target)
+  {
+    super.unsetTarget(target);
+    if (target == root)
+    {
+      root = null;
+    }
+  }
+
+  /**
+   * Handles installation of the adapter on an EObject by recording that the object needs to be validated.
+   */
+  @Override
+  protected void setTarget(EObject target)
+  {
+    super.setTarget(target);
+    dirtyObjects.add(target);
+  }
+
+  /**
+   * Handles undoing the installation of the adapter from an EObject
+   * by discarding its results and its dependencies
+   * and by recording that the objects that depend on it need to be revalidated.
+   */
+  @Override
+  protected void unsetTarget(EObject target)
+  {
+    super.unsetTarget(target);
+    dirtyObjects.remove(target);
+    diagnostics.remove(target);
+    removeDependencies(target);
+    Set<EObject> targetDependents = dependents.remove(target);
+    if (targetDependents != null)
+    {
+      for (EObject dependent : targetDependents)
+      {
+        invalidate(dependent);
+      }
+    }
+  }
+
+  /**
+   * Revalidates each object that needs it and returns the {@link #getDiagnostic() diagnostic} for the whole tree.
+   */
+  public Diagnostic validate()
+  {
+    while (!dirtyObjects.isEmpty())
+    {
+      List<EObject> eObjects = new ArrayList<EObject>(dirtyObjects);
+      dirtyObjects.clear();
+      for (EObject eObject : eObjects)
+      {
+        removeDependencies(eObject);
+        Diagnostic diagnostic = validate(eObject);
+
+        // Remove it first so that the object moves to the end of the results.
+        //
+        diagnostics.remove(eObject);
+        if (diagnostic.getSeverity() != Diagnostic.OK)
+        {
+          diagnostics.put(eObject, diagnostic);
+        }
+      }
+    }
+    return getDiagnostic();
+  }
+
+  /**
+   * Validates just the given object, i.e., not its contents, and returns the resulting diagnostic.
+   */
+  protected Diagnostic validate(EObject eObject)
+  {
+    BasicDiagnostic diagnostic = diagnostician.createDefaultDiagnostic(eObject);
+    Map<Object, Object> context = createContext();
+    diagnostician.validate(eObject.eClass(), eObject, diagnostic, context);
+    return diagnostic;
+  }
+
+  /**
+   * Creates the context used to validate an object.
+   * It contains the adapter under the key {@code IncrementalValidationAdapter.class}
+   * and specifies that the object's contents not be validated.
+   */
+  protected Map<Object, Object> createContext()
+  {
+    Map<Object, Object> context = diagnostician.createDefaultContext();
+    context.put(Diagnostician.VALIDATE_RECURSIVELY, Boolean.FALSE);
+    context.put(IncrementalValidationAdapter.class, this);
+    return context;
+  }
+
+  /**
+   * Returns whether any objects have changed since the last {@link #validate() validation}.
+   */
+  public boolean isDirty()
+  {
+    return !dirtyObjects.isEmpty();
+  }
+
+  /**
+   * Returns an unmodifiable view of the diagnostic of each object in the tree that isn't {@link Diagnostic#OK OK},
+   * as of the last {@link #validate() validation}.
+   */
+  public Map<EObject, Diagnostic> getDiagnostics()
+  {
+    return Collections.unmodifiableMap(diagnostics);
+  }
+
+  /**
+   * Returns a diagnostic for the {@link #root} whose children are the children of all the {@link #getDiagnostics() diagnostics},
+   * as of the last {@link #validate() validation}.
+   */
+  public Diagnostic getDiagnostic()
+  {
+    String label =
+      root instanceof EObject ?
+        diagnostician.getObjectLabel((EObject)root) :
+        root instanceof Resource ?
+          String.valueOf(((Resource)root).getURI()) :
+          String.valueOf(root);
+    BasicDiagnostic result =
+      new BasicDiagnostic
+        (EObjectValidator.DIAGNOSTIC_SOURCE,
+         0,
+         EcorePlugin.INSTANCE.getString("_UI_DiagnosticRoot_diagnostic", new Object [] { label }),
+         new Object [] { root });
+    for (Diagnostic diagnostic : diagnostics.values())
+    {
+      for (Diagnostic child : diagnostic.getChildren())
+      {
+        result.add(child);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.benchmarks;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.DynamicEObjectImpl;
+import org.eclipse.emf.ecore.impl.EFactoryImpl;
+import org.eclipse.emf.ecore.impl.FlatEObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
+
+
+/**
+ * A dynamic benchmark model along with a generator for instances of a configurable size.
+ * <p>
+ * The model has a single class <code>Node</code> with a string, an int, a double, and a many-valued string attribute,
+ * a containment reference <code>children</code>, a single-valued cross reference <code>ref</code>, and a many-valued cross reference <code>related</code>.
+ * Each {@link Implementation} produces a separate package, and hence separate metadata, whose factory creates instances of the corresponding {@link EObject} implementation class.
+ * </p>
+ */
+public final class BenchmarkModel
+{
+  /**
+   * The {@link EObject} implementation classes that can back instances of the model.
+   */
+  public enum Implementation
+  {
+    /**
+     * Instances are {@link MinimalEObjectImpl.Container.Dynamic}.
+     */
+    MINIMAL
+    {
+      @Override
+      EObject create(EClass eClass)
+      {
+        MinimalEObjectImpl.Container.Dynamic result = new MinimalEObjectImpl.Container.Dynamic();
+        result.eSetClass(eClass);
+        return result;
+      }
+    },
+
+    /**
+     * Instances are {@link DynamicEObjectImpl}.
+     */
+    DYNAMIC
+    {
+      @Override
+      EObject create(EClass eClass)
+      {
+        return new DynamicEObjectImpl(eClass);
+      }
+    },
+
+    /**
+     * Instances are {@link FlatEObjectImpl}.
+     */
+    FLAT
+    {
+      @Override
+      EObject create(EClass eClass)
+      {
+        return new FlatNode(eClass);
+      }
+    };
+
+    abstract EObject create(EClass eClass);
+  }
+
+  private static final class FlatNode extends FlatEObjectImpl
+  {
+    FlatNode(EClass eClass)
+    {
+      super();
+      eSetClass(eClass);
+    }
+  }
+
+  /**
+   * The number of children of each non-leaf node in generated instances.
+   */
+  public static final int FAN_OUT = 10;
+
+  public final EPackage ePackage;
+
+  public final EClass node;
+
+  public final EAttribute name;
+
+  public final EAttribute value;
+
+  public final EAttribute weight;
+
+  public final EAttribute tags;
+
+  public final EReference children;
+
+  public final EReference ref;
+
+  public final EReference related;
+
+  /**
+   * Creates the metadata of a model whose instances are backed by the given implementation.
+   */
+  public BenchmarkModel(final Implementation implementation)
+  {
+    EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+    EcorePackage ecorePackage = EcorePackage.eINSTANCE;
+
+    ePackage = ecoreFactory.createEPackage();
+    ePackage.setName("bench");
+    ePackage.setNsPrefix("bench");
+    ePackage.setNsURI("http://www.eclipse.org/emf/benchmarks/" + implementation.name().toLowerCase());
+    ePackage.setEFactoryInstance
+      (new EFactoryImpl()
+       {
+         @Override
+         protected EObject basicCreate(EClass eClass)
+         {
+           return implementation.create(eClass);
+         }
+       });
+
+    node = ecoreFactory.createEClass();
+    node.setName("Node");
+    ePackage.getEClassifiers().add(node);
+
+    name = createAttribute("name", ecorePackage.getEString(), 1);
+    value = createAttribute("value", ecorePackage.getEInt(), 1);
+    weight = createAttribute("weight", ecorePackage.getEDouble(), 1);
+    tags = createAttribute("tags", ecorePackage.getEString(), -1);
+
+    children = createReference("children", true, -1);
+    ref = createReference("ref", false, 1);
+    related = createReference("related", false, -1);
+  }
+
+  private EAttribute createAttribute(String name, EDataType eDataType, int upperBound)
+  {
+    EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    eAttribute.setName(name);
+    eAttribute.setEType(eDataType);
+    eAttribute.setUpperBound(upperBound);
+    node.getEStructuralFeatures().add(eAttribute);
+    return eAttribute;
+  }
+
+  private EReference createReference(String name, boolean containment, int upperBound)
+  {
+    EReference eReference = EcoreFactory.eINSTANCE.createEReference();
+    eReference.setName(name);
+    eReference.setEType(node);
+    eReference.setContainment(containment);
+    eReference.setUpperBound(upperBound);
+    node.getEStructuralFeatures().add(eReference);
+    return eReference;
+  }
+
+  /**
+   * Creates a tree of the given total number of nodes, {@link #FAN_OUT} children per node, with all attributes and cross references populated.
+   * The same seed always produces the same instance.
+   * @param size the total number of nodes, at least 1.
+   * @param seed the seed for the random choice of cross reference targets.
+   * @return the root node.
+   */
+  @SuppressWarnings("unchecked")
+  public EObject createInstance(int size, long seed)
+  {
+    Random random = new Random(seed);
+    List<EObject> nodes = new ArrayList<EObject>(size);
+    EObject root = createNode(0);
+    nodes.add(root);
+    for (int i = 1, parent = 0; i < size; ++i)
+    {
+      EObject child = createNode(i);
+      ((EList<EObject>)nodes.get(parent).eGet(children)).add(child);
+      nodes.add(child);
+      if (i % FAN_OUT == 0)
+      {
+        ++parent;
+      }
+    }
+
+    for (EObject eObject : nodes)
+    {
+      eObject.eSet(ref, nodes.get(random.nextInt(size)));
+      EList<EObject> relatedNodes = (EList<EObject>)eObject.eGet(related);
+      for (int i = 0; i < 3; ++i)
+      {
+        EObject target = nodes.get(random.nextInt(size));
+        if (!relatedNodes.contains(target))
+        {
+          relatedNodes.add(target);
+        }
+      }
+    }
+
+    return root;
+  }
+
+  @SuppressWarnings("unchecked")
+  private EObject createNode(int index)
+  {
+    EObject result = ePackage.getEFactoryInstance().create(node);
+    result.eSet(name, "node" + index);
+    result.eSet(value, index);
+    result.eSet(weight, index / 7.0);
+    EList<String> tagList = (EList<String>)result.eGet(tags);
+    tagList.add("t" + index % 13);
+    tagList.add("u" + index % 17);
+    return result;
+  }
+}
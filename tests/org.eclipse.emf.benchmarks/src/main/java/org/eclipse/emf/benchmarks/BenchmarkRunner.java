@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.benchmarks;
+
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+
+/**
+ * The entry point of the benchmark jar.
+ * <p>
+ * It accepts the standard JMH command line but supplies reproducible defaults for anything not specified explicitly:
+ * 2 forks, 5 warmup and 5 measurement iterations of 2 seconds each, a fixed heap, and the {@link GCProfiler} so that every result includes allocation rates and GC counts.
+ * For example, <code>java -jar benchmarks.jar Resource -p format=BINARY -rf json -rff result.json</code>.
+ * </p>
+ */
+public final class BenchmarkRunner
+{
+  private BenchmarkRunner()
+  {
+    super();
+  }
+
+  public static void main(String[] args) throws Exception
+  {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats())
+    {
+      org.openjdk.jmh.Main.main(args);
+      return;
+    }
+
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getForkCount().hasValue())
+    {
+      options.forks(2);
+    }
+    if (!commandLineOptions.getWarmupIterations().hasValue())
+    {
+      options.warmupIterations(5);
+    }
+    if (!commandLineOptions.getWarmupTime().hasValue())
+    {
+      options.warmupTime(TimeValue.seconds(2));
+    }
+    if (!commandLineOptions.getMeasurementIterations().hasValue())
+    {
+      options.measurementIterations(5);
+    }
+    if (!commandLineOptions.getMeasurementTime().hasValue())
+    {
+      options.measurementTime(TimeValue.seconds(2));
+    }
+    if (!commandLineOptions.getJvmArgs().hasValue())
+    {
+      options.jvmArgs("-Xms2g", "-Xmx2g");
+    }
+    if (commandLineOptions.getProfilers().isEmpty())
+    {
+      options.addProfiler(GCProfiler.class);
+    }
+
+    new Runner(options.build()).run();
+  }
+}
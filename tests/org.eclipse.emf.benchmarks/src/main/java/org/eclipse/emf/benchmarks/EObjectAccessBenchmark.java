@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.benchmarks;
+
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Reflective {@link EObject#eGet(org.eclipse.emf.ecore.EStructuralFeature) eGet} and {@link EObject#eSet(org.eclipse.emf.ecore.EStructuralFeature, Object) eSet}
+ * over every node of a generated instance, for each {@link BenchmarkModel.Implementation implementation}.
+ * The reported time is for a full pass over all the nodes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EObjectAccessBenchmark
+{
+  @Param({ "MINIMAL", "DYNAMIC", "FLAT" })
+  public BenchmarkModel.Implementation implementation;
+
+  @Param({ "10000" })
+  public int size;
+
+  private BenchmarkModel model;
+
+  private EObject[] nodes;
+
+  @Setup
+  public void setUp()
+  {
+    model = new BenchmarkModel(implementation);
+    EObject root = model.createInstance(size, 0);
+    List<EObject> allNodes = new ArrayList<EObject>(size);
+    allNodes.add(root);
+    for (Iterator<EObject> i = EcoreUtil.getAllProperContents(root, false); i.hasNext(); )
+    {
+      allNodes.add(i.next());
+    }
+    nodes = allNodes.toArray(new EObject [allNodes.size()]);
+  }
+
+  @Benchmark
+  public void eGetAttribute(Blackhole blackhole)
+  {
+    for (EObject eObject : nodes)
+    {
+      blackhole.consume(eObject.eGet(model.name));
+    }
+  }
+
+  @Benchmark
+  public void eGetReference(Blackhole blackhole)
+  {
+    for (EObject eObject : nodes)
+    {
+      blackhole.consume(eObject.eGet(model.ref));
+    }
+  }
+
+  @Benchmark
+  public void eGetManyReference(Blackhole blackhole)
+  {
+    for (EObject eObject : nodes)
+    {
+      blackhole.consume(eObject.eGet(model.related));
+    }
+  }
+
+  @Benchmark
+  public void eSetAttribute()
+  {
+    int value = 0;
+    for (EObject eObject : nodes)
+    {
+      eObject.eSet(model.value, ++value);
+    }
+  }
+
+  @Benchmark
+  public void eSetReference()
+  {
+    EObject previous = nodes[nodes.length - 1];
+    for (EObject eObject : nodes)
+    {
+      eObject.eSet(model.ref, previous);
+      previous = eObject;
+    }
+  }
+}
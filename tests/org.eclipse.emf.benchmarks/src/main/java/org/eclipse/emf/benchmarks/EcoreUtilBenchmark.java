@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.benchmarks;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Whole-tree operations on a generated instance:
+ * {@link EcoreUtil.Copier copying}, {@link EcoreUtil.BulkCopier bulk copying}, {@link EcoreUtil.EqualityHelper structural comparison}, and {@link Diagnostician#validate(EObject) validation}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EcoreUtilBenchmark
+{
+  @Param({ "MINIMAL", "DYNAMIC", "FLAT" })
+  public BenchmarkModel.Implementation implementation;
+
+  @Param({ "10000" })
+  public int size;
+
+  private EObject root;
+
+  private EObject equalRoot;
+
+  @Setup
+  public void setUp()
+  {
+    BenchmarkModel model = new BenchmarkModel(implementation);
+    root = model.createInstance(size, 0);
+    equalRoot = model.createInstance(size, 0);
+  }
+
+  @Benchmark
+  public EObject copy()
+  {
+    EcoreUtil.Copier copier = new EcoreUtil.Copier();
+    EObject result = copier.copy(root);
+    copier.copyReferences();
+    return result;
+  }
+
+  @Benchmark
+  public EObject bulkCopy()
+  {
+    EcoreUtil.BulkCopier copier = new EcoreUtil.BulkCopier();
+    EObject result = copier.copy(root);
+    copier.copyReferences();
+    return result;
+  }
+
+  @Benchmark
+  public boolean equals()
+  {
+    return new EcoreUtil.EqualityHelper().equals(root, equalRoot);
+  }
+
+  @Benchmark
+  public Diagnostic validate()
+  {
+    return Diagnostician.INSTANCE.validate(root);
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.benchmarks;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Load and save of a generated instance with {@link XMIResourceImpl} and {@link BinaryResourceImpl},
+ * entirely in memory so that the numbers reflect serialization rather than the file system.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResourceBenchmark
+{
+  public enum Format
+  {
+    XMI, BINARY
+  }
+
+  @Param({ "XMI", "BINARY" })
+  public Format format;
+
+  @Param({ "10000" })
+  public int size;
+
+  @Param({ "MINIMAL" })
+  public BenchmarkModel.Implementation implementation;
+
+  private BenchmarkModel model;
+
+  private Resource resource;
+
+  private byte[] bytes;
+
+  private Map<Object, Object> saveOptions;
+
+  private Map<Object, Object> loadOptions;
+
+  @Setup
+  public void setUp() throws IOException
+  {
+    model = new BenchmarkModel(implementation);
+    saveOptions = new HashMap<Object, Object>();
+    loadOptions = new HashMap<Object, Object>();
+    if (format == Format.XMI)
+    {
+      saveOptions.put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, new ArrayList<Object>());
+      loadOptions.put(XMLResource.OPTION_DEFER_ATTACHMENT, Boolean.TRUE);
+      loadOptions.put(XMLResource.OPTION_USE_PARSER_POOL, new XMLParserPoolImpl());
+    }
+
+    resource = createResource();
+    resource.getContents().add(model.createInstance(size, 0));
+    bytes = save(resource);
+  }
+
+  private Resource createResource()
+  {
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getPackageRegistry().put(model.ePackage.getNsURI(), model.ePackage);
+    Resource result = format == Format.XMI ? new XMIResourceImpl(URI.createURI("bench.xmi")) : new BinaryResourceImpl(URI.createURI("bench.bin"));
+    resourceSet.getResources().add(result);
+    return result;
+  }
+
+  private byte[] save(Resource resource) throws IOException
+  {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(bytes == null ? 1024 * 1024 : bytes.length);
+    resource.save(out, saveOptions);
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] save() throws IOException
+  {
+    return save(resource);
+  }
+
+  @Benchmark
+  public Resource load() throws IOException
+  {
+    Resource result = createResource();
+    result.load(new ByteArrayInputStream(bytes), loadOptions);
+    return result;
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.benchmarks;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * {@link URI#createURI(String) URI creation} for a set of distinct URI strings of typical shapes.
+ * With <code>distinct</code> set to <code>true</code>, each invocation uses strings never seen before,
+ * which measures parsing rather than the hit rate of the URI pool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class URIBenchmark
+{
+  private static final String [] TEMPLATES =
+    {
+      "platform:/resource/project/folder/model{0}.xmi",
+      "platform:/resource/project/folder/model{0}.xmi#//@children.{0}/@children.3",
+      "file:/home/user/workspace/project/model{0}.ecore#//Node{0}",
+      "http://www.eclipse.org/emf/2002/Ecore{0}",
+      "archive:file:/tmp/bundle{0}.zip!/path/to/entry.xmi",
+      "../relative/path/model{0}.xmi"
+    };
+
+  @Param({ "1000" })
+  public int count;
+
+  @Param({ "false", "true" })
+  public boolean distinct;
+
+  private String [] uris;
+
+  private int generation;
+
+  @Setup
+  public void setUp()
+  {
+    uris = createURIStrings(0);
+  }
+
+  private String [] createURIStrings(int generation)
+  {
+    String [] result = new String [count];
+    for (int i = 0; i < count; ++i)
+    {
+      String suffix = generation + "_" + i;
+      result[i] = TEMPLATES[i % TEMPLATES.length].replace("{0}", suffix);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public void createURI(Blackhole blackhole)
+  {
+    String [] uris = distinct ? createURIStrings(++generation) : this.uris;
+    for (String uri : uris)
+    {
+      blackhole.consume(URI.createURI(uri));
+    }
+  }
+}
@@ -24,6 +24,8 @@ import org.junit.runners.Suite;
       org.eclipse.emf.test.core.ecore.EcoreValidationTest.class,
       org.eclipse.emf.test.core.ecore.EcoreTest.class,
       org.eclipse.emf.test.core.common.NotificationTest.class,
+      org.eclipse.emf.test.core.common.NotificationBatchTest.class,
+      org.eclipse.emf.test.core.common.ConcurrentEAdapterListTest.class,
       org.eclipse.emf.test.core.common.EnumeratorSerialization.class,
       org.eclipse.emf.test.core.common.util.EqualityTest.class,
       org.eclipse.emf.test.core.common.util.ECollectionsTest.class,
@@ -48,6 +50,8 @@ import org.junit.runners.Suite;
       org.eclipse.emf.test.core.ecore.FeatureMapTest.class,
       org.eclipse.emf.test.core.ecore.EClassGenericTypeCacheTest.class,
       org.eclipse.emf.test.core.ecore.DiagnosticianTest.class,
+      org.eclipse.emf.test.core.ecore.ParallelDiagnosticianTest.class,
+      org.eclipse.emf.test.core.ecore.IncrementalValidationAdapterTest.class,
       org.eclipse.emf.test.core.ecore.ValidationTest.class,
       org.eclipse.emf.test.core.ecore.KeyTest.class,
       org.eclipse.emf.test.core.ecore.URIConverterTest.class,
@@ -61,9 +65,15 @@ import org.junit.runners.Suite;
       org.eclipse.emf.test.core.ecore.SwitchTest.class,
       org.eclipse.emf.test.core.ecore.ResourceURIFragmentsTest.class,
       org.eclipse.emf.test.core.ecore.ResourceSetMappedResourceLocatorTest.class,
+      org.eclipse.emf.test.core.ecore.ResourceSetLoadResourcesTest.class,
+      org.eclipse.emf.test.core.ecore.ResourceSetSaveResourcesTest.class,
+      org.eclipse.emf.test.core.ecore.ContentDescriptionCacheTest.class,
+      org.eclipse.emf.test.core.ecore.AsynchronousURIHandlerTest.class,
+      org.eclipse.emf.test.core.ecore.ArchiveZipFileCacheTest.class,
       org.eclipse.emf.test.core.ecore.ReificationTest.class,
       org.eclipse.emf.test.core.ecore.ECrossReferenceAdapterTest.class,
       org.eclipse.emf.test.core.ecore.ECrossReferenceAdapterStressTest.class,
+      org.eclipse.emf.test.core.ecore.ConcurrentECrossReferenceAdapterTest.class,
       org.eclipse.emf.test.core.ecore.ECrossReferenceAdapterByFeatureTest.class,
       org.eclipse.emf.test.core.common.util.WeakInterningHashSetTest.class,
       org.eclipse.emf.test.core.common.util.PoolTest.class,
@@ -0,0 +1,366 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.change;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.ETypedElement;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.util.BinaryChangeDescriptionIO;
+import org.eclipse.emf.ecore.change.util.ChangeRecorder;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class BinaryChangeDescriptionIOTest
+{
+  private static final URI RESOURCE_URI = URI.createURI("http://www.example.org/BinaryChangeDescriptionIOTest/model");
+
+  private EClass company;
+
+  private EClass person;
+
+  private EClass department;
+
+  private EAttribute name;
+
+  private EAttribute nicknames;
+
+  private EAttribute age;
+
+  private EReference employees;
+
+  private EReference companies;
+
+  private EReference departments;
+
+  private EReference manager;
+
+  private Resource resource;
+
+  private ResourceSet targetResourceSet;
+
+  private Resource targetResource;
+
+  @Before
+  public void setUp()
+  {
+    EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+    EPackage ePackage = ecoreFactory.createEPackage();
+    ePackage.setName("p");
+    ePackage.setNsURI("http://www.example.org/BinaryChangeDescriptionIOTest");
+
+    company = ecoreFactory.createEClass();
+    company.setName("Company");
+    person = ecoreFactory.createEClass();
+    person.setName("Person");
+    department = ecoreFactory.createEClass();
+    department.setName("Department");
+    ePackage.getEClassifiers().addAll(Arrays.asList(company, person, department));
+
+    name = ecoreFactory.createEAttribute();
+    name.setName("name");
+    name.setEType(EcorePackage.Literals.ESTRING);
+    name.setUnsettable(true);
+    EClass named = ecoreFactory.createEClass();
+    named.setName("Named");
+    named.getEStructuralFeatures().add(name);
+    ePackage.getEClassifiers().add(named);
+    company.getESuperTypes().add(named);
+    person.getESuperTypes().add(named);
+    department.getESuperTypes().add(named);
+
+    nicknames = ecoreFactory.createEAttribute();
+    nicknames.setName("nicknames");
+    nicknames.setEType(EcorePackage.Literals.ESTRING);
+    nicknames.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    nicknames.setUnique(false);
+    person.getEStructuralFeatures().add(nicknames);
+
+    age = ecoreFactory.createEAttribute();
+    age.setName("age");
+    age.setEType(EcorePackage.Literals.EINT);
+    person.getEStructuralFeatures().add(age);
+
+    employees = ecoreFactory.createEReference();
+    employees.setName("employees");
+    employees.setEType(person);
+    employees.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    company.getEStructuralFeatures().add(employees);
+
+    companies = ecoreFactory.createEReference();
+    companies.setName("companies");
+    companies.setEType(company);
+    companies.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    person.getEStructuralFeatures().add(companies);
+    employees.setEOpposite(companies);
+    companies.setEOpposite(employees);
+
+    departments = ecoreFactory.createEReference();
+    departments.setName("departments");
+    departments.setEType(department);
+    departments.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    departments.setContainment(true);
+    company.getEStructuralFeatures().add(departments);
+
+    manager = ecoreFactory.createEReference();
+    manager.setName("manager");
+    manager.setEType(person);
+    department.getEStructuralFeatures().add(manager);
+
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resource = new ResourceImpl(RESOURCE_URI);
+    resourceSet.getResources().add(resource);
+    for (int i = 0; i < 2; ++i)
+    {
+      EObject aCompany = create(company, "c" + i);
+      resource.getContents().add(aCompany);
+      for (int j = 0; j < 3; ++j)
+      {
+        getList(aCompany, departments).add(create(department, "d" + i + j));
+      }
+    }
+    for (int i = 0; i < 4; ++i)
+    {
+      EObject aPerson = create(person, "p" + i);
+      resource.getContents().add(aPerson);
+      aPerson.eSet(age, 20 + i);
+      getList(aPerson, nicknames).addAll(Arrays.asList("a" + i, "b" + i, "a" + i));
+      getList(aPerson, companies).add(resource.getContents().get(i % 2));
+    }
+
+    // The target is a copy in another resource set, like on another node of a cluster.
+    //
+    targetResourceSet = new ResourceSetImpl();
+    targetResourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    targetResource = new ResourceImpl(RESOURCE_URI);
+    targetResourceSet.getResources().add(targetResource);
+    targetResource.getContents().addAll(EcoreUtil.copyAll(resource.getContents()));
+  }
+
+  protected EObject create(EClass eClass, String value)
+  {
+    EObject eObject = EcoreUtil.create(eClass);
+    eObject.eSet(name, value);
+    return eObject;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected static EList<Object> getList(EObject eObject, EReference eReference)
+  {
+    return (EList<Object>)eObject.eGet(eReference);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected static EList<Object> getList(EObject eObject, EAttribute eAttribute)
+  {
+    return (EList<Object>)eObject.eGet(eAttribute);
+  }
+
+  protected EObject get(int index)
+  {
+    return resource.getContents().get(index);
+  }
+
+  protected void change()
+  {
+    EObject c0 = get(0);
+    EObject c1 = get(1);
+    EObject p0 = get(2);
+    EObject p1 = get(3);
+    EObject p2 = get(4);
+    EObject p3 = get(5);
+
+    // Attributes.
+    //
+    c0.eSet(name, "C0");
+    c1.eUnset(name);
+    p0.eSet(age, 42);
+    getList(p0, nicknames).add(1, "c0");
+    getList(p0, nicknames).remove(0);
+    getList(p1, nicknames).addAll(0, Arrays.asList("x", "y"));
+    getList(p1, nicknames).move(0, 3);
+    getList(p2, nicknames).clear();
+    getList(p3, nicknames).set(0, "z");
+
+    // Bidirectional references, changed from both ends.
+    //
+    getList(c0, employees).add(0, p1);
+    getList(c0, employees).move(2, 0);
+    getList(p0, companies).add(c1);
+    getList(c1, employees).remove(p1);
+    getList(p3, companies).clear();
+    getList(c0, employees).addAll(Arrays.asList(p3, p1));
+
+    // Containment, including moves between containers and new and removed objects.
+    //
+    EObject d00 = (EObject)getList(c0, departments).get(0);
+    EObject d12 = (EObject)getList(c1, departments).get(2);
+    d00.eSet(manager, p0);
+    getList(c1, departments).add(0, d00);
+    getList(c0, departments).move(0, 1);
+    EObject newDepartment = create(department, "new");
+    getList(c1, departments).add(newDepartment);
+    newDepartment.eSet(manager, p3);
+    getList(c0, departments).set(0, create(department, "replacement"));
+
+    // Resource contents.
+    //
+    resource.getContents().move(0, 1);
+    getList(p2, companies).clear();
+    resource.getContents().remove(p2);
+    EObject newPerson = create(person, "new");
+    resource.getContents().add(newPerson);
+    getList(newPerson, companies).add(c1);
+    resource.getContents().add(0, d12);
+    d12.eSet(name, "D12");
+  }
+
+  /**
+   * Records the changes, and returns the change description that reapplies them, leaving the resource in its state before the change.
+   */
+  protected ChangeDescription recordForwardChange(Runnable change)
+  {
+    ChangeRecorder changeRecorder = new ChangeRecorder(resource);
+    change.run();
+    ChangeDescription changeDescription = changeRecorder.endRecording();
+    changeRecorder.dispose();
+    changeDescription.applyAndReverse();
+    return changeDescription;
+  }
+
+  protected void assertEqualContents(Collection<EObject> expected, Resource resource)
+  {
+    assertTrue(EcoreUtil.equals(new ArrayList<EObject>(expected), resource.getContents()));
+  }
+
+  @Test
+  public void testApply() throws Exception
+  {
+    ChangeDescription changeDescription =
+      recordForwardChange
+        (new Runnable()
+         {
+           public void run()
+           {
+             change();
+           }
+         });
+    assertEqualContents(targetResource.getContents(), resource);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryChangeDescriptionIO.save(changeDescription, outputStream, null);
+    changeDescription.apply();
+    assertFalse(EcoreUtil.equals(new ArrayList<EObject>(resource.getContents()), targetResource.getContents()));
+
+    EObject c0 = targetResource.getContents().get(0);
+    BinaryChangeDescriptionIO.apply(new ByteArrayInputStream(outputStream.toByteArray()), targetResourceSet, null);
+    assertEqualContents(resource.getContents(), targetResource);
+
+    // The existing objects are changed rather than replaced.
+    //
+    assertEquals(c0, targetResource.getContents().get(2));
+  }
+
+  @Test
+  public void testSize() throws Exception
+  {
+    ChangeDescription changeDescription =
+      recordForwardChange
+        (new Runnable()
+         {
+           public void run()
+           {
+             change();
+           }
+         });
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryChangeDescriptionIO.save(changeDescription, outputStream, null);
+
+    Resource changeResource = new XMIResourceImpl(URI.createURI("http://www.example.org/BinaryChangeDescriptionIOTest/change.xmi"));
+    resource.getResourceSet().getResources().add(changeResource);
+    changeResource.getContents().add(changeDescription);
+    ByteArrayOutputStream xmiOutputStream = new ByteArrayOutputStream();
+    changeResource.save(xmiOutputStream, null);
+
+    assertTrue(outputStream.size() * 2 < xmiOutputStream.size());
+  }
+
+  @Test
+  public void testStream() throws Exception
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryChangeDescriptionIO.ChangeDescriptionOutputStream changeDescriptionOutputStream =
+      new BinaryChangeDescriptionIO.ChangeDescriptionOutputStream(outputStream, null);
+
+    // The first delta adds a new object and the second one changes it.
+    //
+    final EObject newPerson = create(person, "new");
+    ChangeDescription changeDescription =
+      recordForwardChange
+        (new Runnable()
+         {
+           public void run()
+           {
+             resource.getContents().add(newPerson);
+           }
+         });
+    changeDescriptionOutputStream.saveChangeDescription(changeDescription);
+    changeDescription.apply();
+
+    changeDescription =
+      recordForwardChange
+        (new Runnable()
+         {
+           public void run()
+           {
+             newPerson.eSet(name, "New");
+             getList(newPerson, nicknames).add("n");
+             getList(newPerson, companies).add(get(1));
+             resource.getContents().move(0, newPerson);
+           }
+         });
+    changeDescriptionOutputStream.saveChangeDescription(changeDescription);
+    changeDescription.apply();
+
+    BinaryChangeDescriptionIO.ChangeDescriptionInputStream changeDescriptionInputStream =
+      new BinaryChangeDescriptionIO.ChangeDescriptionInputStream(new ByteArrayInputStream(outputStream.toByteArray()), null);
+    changeDescriptionInputStream.applyChangeDescription(targetResourceSet);
+    EObject newTargetPerson = targetResource.getContents().get(targetResource.getContents().size() - 1);
+    assertEquals("new", newTargetPerson.eGet(name));
+
+    changeDescriptionInputStream.applyChangeDescription(targetResourceSet);
+    assertEqualContents(resource.getContents(), targetResource);
+    assertEquals(newTargetPerson, targetResource.getContents().get(0));
+  }
+}
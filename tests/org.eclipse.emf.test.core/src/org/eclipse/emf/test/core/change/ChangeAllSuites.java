@@ -24,7 +24,9 @@ import org.junit.runners.Suite;
      ChangeDescriptionTest.class,
      MultivalueAttributeTest.class,
      SpecialCasesTest.class,
-     ChangeDescriptionBuilderTest.class
+     ChangeDescriptionBuilderTest.class,
+     ChangeLogTest.class,
+     BinaryChangeDescriptionIOTest.class
    })
 public class ChangeAllSuites
 {
@@ -0,0 +1,527 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.change;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.ETypedElement;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.util.ChangeLog;
+import org.eclipse.emf.ecore.change.util.ChangeLogRecorder;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ChangeLogTest
+{
+  private EClass company;
+
+  private EClass person;
+
+  private EClass department;
+
+  private EAttribute name;
+
+  private EAttribute nicknames;
+
+  private EReference employees;
+
+  private EReference companies;
+
+  private EReference departments;
+
+  private EReference manager;
+
+  private Resource resource;
+
+  @Before
+  public void setUp()
+  {
+    EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+    EPackage ePackage = ecoreFactory.createEPackage();
+    ePackage.setName("p");
+    ePackage.setNsURI("http://www.example.org/ChangeLogTest");
+
+    company = ecoreFactory.createEClass();
+    company.setName("Company");
+    person = ecoreFactory.createEClass();
+    person.setName("Person");
+    department = ecoreFactory.createEClass();
+    department.setName("Department");
+    ePackage.getEClassifiers().addAll(Arrays.asList(company, person, department));
+
+    name = ecoreFactory.createEAttribute();
+    name.setName("name");
+    name.setEType(EcorePackage.Literals.ESTRING);
+    name.setUnsettable(true);
+    EClass named = ecoreFactory.createEClass();
+    named.setName("Named");
+    named.getEStructuralFeatures().add(name);
+    ePackage.getEClassifiers().add(named);
+    company.getESuperTypes().add(named);
+    person.getESuperTypes().add(named);
+    department.getESuperTypes().add(named);
+
+    nicknames = ecoreFactory.createEAttribute();
+    nicknames.setName("nicknames");
+    nicknames.setEType(EcorePackage.Literals.ESTRING);
+    nicknames.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    nicknames.setUnique(false);
+    person.getEStructuralFeatures().add(nicknames);
+
+    employees = ecoreFactory.createEReference();
+    employees.setName("employees");
+    employees.setEType(person);
+    employees.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    company.getEStructuralFeatures().add(employees);
+
+    companies = ecoreFactory.createEReference();
+    companies.setName("companies");
+    companies.setEType(company);
+    companies.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    person.getEStructuralFeatures().add(companies);
+    employees.setEOpposite(companies);
+    companies.setEOpposite(employees);
+
+    departments = ecoreFactory.createEReference();
+    departments.setName("departments");
+    departments.setEType(department);
+    departments.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    departments.setContainment(true);
+    departments.setResolveProxies(false);
+    company.getEStructuralFeatures().add(departments);
+
+    manager = ecoreFactory.createEReference();
+    manager.setName("manager");
+    manager.setEType(person);
+    department.getEStructuralFeatures().add(manager);
+
+    resource = new ResourceImpl();
+    for (int i = 0; i < 2; ++i)
+    {
+      EObject aCompany = create(company, "c" + i);
+      resource.getContents().add(aCompany);
+      for (int j = 0; j < 3; ++j)
+      {
+        getList(aCompany, departments).add(create(department, "d" + i + j));
+      }
+    }
+    for (int i = 0; i < 4; ++i)
+    {
+      EObject aPerson = create(person, "p" + i);
+      resource.getContents().add(aPerson);
+      getList(aPerson, nicknames).addAll(Arrays.asList("a" + i, "b" + i, "a" + i));
+      getList(aPerson, companies).add(resource.getContents().get(i % 2));
+    }
+  }
+
+  protected EObject create(EClass eClass, String value)
+  {
+    EObject eObject = EcoreUtil.create(eClass);
+    eObject.eSet(name, value);
+    return eObject;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected static EList<Object> getList(EObject eObject, EReference eReference)
+  {
+    return (EList<Object>)eObject.eGet(eReference);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected static EList<Object> getList(EObject eObject, EAttribute eAttribute)
+  {
+    return (EList<Object>)eObject.eGet(eAttribute);
+  }
+
+  protected EObject get(int index)
+  {
+    return resource.getContents().get(index);
+  }
+
+  protected void change()
+  {
+    EObject c0 = get(0);
+    EObject c1 = get(1);
+    EObject p0 = get(2);
+    EObject p1 = get(3);
+    EObject p2 = get(4);
+    EObject p3 = get(5);
+
+    // Attributes.
+    //
+    c0.eSet(name, "C0");
+    c1.eUnset(name);
+    getList(p0, nicknames).add(1, "c0");
+    getList(p0, nicknames).remove(0);
+    getList(p1, nicknames).addAll(0, Arrays.asList("x", "y"));
+    getList(p1, nicknames).move(0, 3);
+    getList(p2, nicknames).clear();
+    getList(p3, nicknames).removeAll(Arrays.asList("b3"));
+    getList(p3, nicknames).set(0, "z");
+
+    // Bidirectional references, changed from both ends.
+    //
+    getList(c0, employees).add(0, p1);
+    getList(c0, employees).move(2, 0);
+    getList(p0, companies).add(c1);
+    getList(c1, employees).remove(p1);
+    getList(p3, companies).clear();
+    getList(c0, employees).addAll(Arrays.asList(p3, p1));
+
+    // Containment, including moves between containers and new and removed objects.
+    //
+    EObject d00 = (EObject)getList(c0, departments).get(0);
+    EObject d12 = (EObject)getList(c1, departments).get(2);
+    d00.eSet(manager, p0);
+    getList(c1, departments).add(0, d00);
+    getList(c0, departments).move(0, 1);
+    getList(c0, departments).remove(d12);
+    d12.eSet(manager, p3);
+    getList(c0, departments).add(d12);
+    EObject newDepartment = create(department, "new");
+    getList(c1, departments).add(newDepartment);
+    newDepartment.eSet(manager, p3);
+    getList(c0, departments).set(0, create(department, "replacement"));
+
+    // Resource contents.
+    //
+    resource.getContents().move(0, 1);
+    getList(p2, companies).clear();
+    resource.getContents().remove(p2);
+    resource.getContents().add(create(person, "new"));
+    resource.getContents().add(0, d12);
+    d12.eSet(name, "D12");
+  }
+
+  protected void assertState(Collection<EObject> expected)
+  {
+    assertTrue(EcoreUtil.equals(new ArrayList<EObject>(expected), resource.getContents()));
+  }
+
+  @Test
+  public void testApplyAndReverse()
+  {
+    Collection<EObject> before = EcoreUtil.copyAll(resource.getContents());
+
+    ChangeLogRecorder changeLogRecorder = new ChangeLogRecorder(resource);
+    change();
+    ChangeLog changeLog = changeLogRecorder.endRecordingChangeLog();
+    changeLogRecorder.dispose();
+    Collection<EObject> after = EcoreUtil.copyAll(resource.getContents());
+    assertFalse(EcoreUtil.equals(new ArrayList<EObject>(before), new ArrayList<EObject>(after)));
+
+    for (int i = 0; i < 3; ++i)
+    {
+      changeLog.applyAndReverse();
+      assertState(before);
+      changeLog.applyAndReverse();
+      assertState(after);
+    }
+  }
+
+  @Test
+  public void testToChangeDescription()
+  {
+    Collection<EObject> before = EcoreUtil.copyAll(resource.getContents());
+
+    ChangeLogRecorder changeLogRecorder = new ChangeLogRecorder(resource);
+    change();
+    Collection<EObject> after = EcoreUtil.copyAll(resource.getContents());
+
+    // Summarizing converts the log without disturbing the recording.
+    //
+    ChangeDescription changeDescription = changeLogRecorder.summarize();
+    assertState(after);
+    int size = changeLogRecorder.getChangeLog().size();
+    resource.getContents().get(0).eSet(name, "last");
+    assertEquals(size + 1, changeLogRecorder.getChangeLog().size());
+
+    changeDescription = changeLogRecorder.endRecording();
+    changeLogRecorder.dispose();
+    assertNull(changeLogRecorder.endRecording());
+
+    after = EcoreUtil.copyAll(resource.getContents());
+    changeDescription.applyAndReverse();
+    assertState(before);
+    changeDescription.applyAndReverse();
+    assertState(after);
+  }
+
+  @Test
+  public void testToChangeDescriptionLeavesModelUntouched()
+  {
+    Collection<EObject> before = EcoreUtil.copyAll(resource.getContents());
+
+    ChangeLogRecorder changeLogRecorder = new ChangeLogRecorder(resource);
+    change();
+    ChangeLog changeLog = changeLogRecorder.endRecordingChangeLog();
+    changeLogRecorder.dispose();
+    Collection<EObject> after = EcoreUtil.copyAll(resource.getContents());
+
+    // Converting the log neither changes nor notifies the objects and the resource.
+    //
+    final List<Notification> notifications = new ArrayList<Notification>();
+    EContentAdapter adapter =
+      new EContentAdapter()
+      {
+        @Override
+        public void notifyChanged(Notification notification)
+        {
+          super.notifyChanged(notification);
+          notifications.add(notification);
+        }
+      };
+    resource.eAdapters().add(adapter);
+    resource.setTrackingModification(true);
+    notifications.clear();
+    ChangeDescription changeDescription = changeLog.toChangeDescription();
+    assertTrue(notifications.isEmpty());
+    assertFalse(resource.isModified());
+    assertState(after);
+    resource.setTrackingModification(false);
+    resource.eAdapters().remove(adapter);
+
+    changeDescription.applyAndReverse();
+    assertState(before);
+    changeDescription.applyAndReverse();
+    assertState(after);
+  }
+
+  @Test
+  public void testResumeRecording()
+  {
+    Collection<EObject> before = EcoreUtil.copyAll(resource.getContents());
+
+    ChangeLogRecorder changeLogRecorder = new ChangeLogRecorder(resource);
+    get(0).eSet(name, "first");
+    ChangeLog changeLog = changeLogRecorder.endRecordingChangeLog();
+    assertEquals(1, changeLog.size());
+
+    // Changes made while not recording aren't logged.
+    //
+    getList(get(2), nicknames).clear();
+    getList(get(2), nicknames).addAll(Arrays.asList("a0", "b0", "a0"));
+    assertEquals(1, changeLog.size());
+
+    changeLogRecorder.beginRecording(null, Arrays.asList(resource));
+    get(1).eSet(name, "second");
+    assertEquals(changeLog, changeLogRecorder.endRecordingChangeLog());
+    assertEquals(2, changeLog.size());
+    changeLogRecorder.dispose();
+
+    changeLog.applyAndReverse();
+    assertState(before);
+  }
+
+  /**
+   * Returns a description of the state of the given objects, and of the contents of the resource,
+   * that identifies each object by its identity.
+   */
+  protected String describe(List<EObject> eObjects, Map<EObject, String> labels)
+  {
+    StringBuilder result = new StringBuilder();
+    for (EObject eObject : resource.getContents())
+    {
+      result.append(labels.get(eObject)).append(' ');
+    }
+    result.append('\n');
+    for (EObject eObject : eObjects)
+    {
+      result.append(labels.get(eObject)).append(" in ").append(labels.get(eObject.eContainer()));
+      for (EStructuralFeature eStructuralFeature : eObject.eClass().getEAllStructuralFeatures())
+      {
+        result.append(' ').append(eStructuralFeature.getName()).append('=');
+        if (!eObject.eIsSet(eStructuralFeature))
+        {
+          result.append("unset");
+        }
+        else if (eStructuralFeature instanceof EReference)
+        {
+          Object value = eObject.eGet(eStructuralFeature);
+          for (Object object : eStructuralFeature.isMany() ? (List<?>)value : Arrays.asList(value))
+          {
+            result.append(labels.get(object)).append(',');
+          }
+        }
+        else
+        {
+          result.append(eObject.eGet(eStructuralFeature));
+        }
+      }
+      result.append('\n');
+    }
+    return result.toString();
+  }
+
+  @Test
+  public void testRandom()
+  {
+    Random random = new Random(0);
+    List<EObject> eObjects = new ArrayList<EObject>();
+    Map<EObject, String> labels = new IdentityHashMap<EObject, String>();
+    for (Iterator<EObject> i = resource.getAllContents(); i.hasNext(); )
+    {
+      eObjects.add(i.next());
+    }
+    for (EObject eObject : eObjects)
+    {
+      labels.put(eObject, "o" + labels.size());
+    }
+
+    // Record all the objects because some of them will be detached from the resource.
+    //
+    List<Notifier> notifiers = new ArrayList<Notifier>(eObjects);
+    notifiers.add(resource);
+
+    for (int repeat = 0; repeat < 200; ++repeat)
+    {
+      String before = describe(eObjects, labels);
+      ChangeLogRecorder changeLogRecorder = new ChangeLogRecorder(notifiers);
+      for (int i = 0; i < 20; ++i)
+      {
+        EObject eObject = eObjects.get(random.nextInt(eObjects.size()));
+        EObject other = eObjects.get(random.nextInt(eObjects.size()));
+        EList<Object> list;
+        boolean isAttribute = false;
+        EClass type = null;
+        if (random.nextInt(8) == 0)
+        {
+          if (random.nextBoolean())
+          {
+            eObject.eSet(name, "n" + random.nextInt(3));
+          }
+          else
+          {
+            eObject.eUnset(name);
+          }
+          continue;
+        }
+        else if (eObject.eClass() == company)
+        {
+          EReference eReference = random.nextBoolean() ? employees : departments;
+          list = getList(eObject, eReference);
+          type = eReference.getEReferenceType();
+        }
+        else if (eObject.eClass() == person)
+        {
+          isAttribute = random.nextBoolean();
+          list = isAttribute ? getList(eObject, nicknames) : getList(eObject, companies);
+          type = company;
+        }
+        else if (random.nextBoolean())
+        {
+          eObject.eSet(manager, other.eClass() == person ? other : null);
+          continue;
+        }
+        else
+        {
+          @SuppressWarnings("unchecked") EList<Object> contents = (EList<Object>)(EList<?>)resource.getContents();
+          list = contents;
+        }
+
+        Object value = isAttribute ? "v" + random.nextInt(3) : other;
+        boolean isValid = isAttribute || (type == null || type.isInstance(other)) && !list.contains(other);
+        int size = list.size();
+        switch (random.nextInt(5))
+        {
+          case 0:
+          {
+            if (isValid)
+            {
+              list.add(random.nextInt(size + 1), value);
+            }
+            break;
+          }
+          case 1:
+          {
+            if (size > 0)
+            {
+              list.remove(random.nextInt(size));
+            }
+            break;
+          }
+          case 2:
+          {
+            if (size > 0)
+            {
+              list.move(random.nextInt(size), random.nextInt(size));
+            }
+            break;
+          }
+          case 3:
+          {
+            if (size > 1)
+            {
+              list.subList(0, random.nextInt(size)).clear();
+            }
+            break;
+          }
+          case 4:
+          {
+            if (isAttribute)
+            {
+              list.addAll(random.nextInt(size + 1), Arrays.asList(value, value));
+            }
+            else if (isValid && size > 0)
+            {
+              list.set(random.nextInt(size), value);
+            }
+            break;
+          }
+        }
+      }
+      ChangeLog changeLog = changeLogRecorder.endRecordingChangeLog();
+      changeLogRecorder.dispose();
+      String after = describe(eObjects, labels);
+
+      changeLog.applyAndReverse();
+      assertEquals(before, describe(eObjects, labels));
+      changeLog.applyAndReverse();
+      assertEquals(after, describe(eObjects, labels));
+
+      if (repeat % 10 == 0)
+      {
+        ChangeDescription changeDescription = changeLog.toChangeDescription();
+        assertEquals(after, describe(eObjects, labels));
+        changeDescription.applyAndReverse();
+        assertEquals(before, describe(eObjects, labels));
+        changeDescription.applyAndReverse();
+        assertEquals(after, describe(eObjects, labels));
+      }
+    }
+  }
+}
@@ -27,30 +27,56 @@ import org.junit.Test;
 
 public class ListDifferenceAnalyzerTest
 {
-  @Test
-  public void testRandom()
+  protected ListDifferenceAnalyzer createListDifferenceAnalyzer()
   {
-    ListDifferenceAnalyzer listDifferenceAnalyzer =
+    return
       new ListDifferenceAnalyzer()
-    {
-      @Override
-      protected ListChange createListChange(EList<ListChange> listChanges, ChangeKind kind, int index)
       {
-        ListChange listChange =
-          new ListChangeImpl()
-          {
-            @Override
-            public EStructuralFeature getFeature()
+        @Override
+        protected ListChange createListChange(EList<ListChange> listChanges, ChangeKind kind, int index)
+        {
+          ListChange listChange =
+            new ListChangeImpl()
             {
-              return EcorePackage.Literals.ETYPED_ELEMENT__LOWER_BOUND;
-            }
-          };
-        listChange.setKind(kind);
-        listChange.setIndex(index);
-        listChanges.add(listChange);
-        return listChange;
+              @Override
+              public EStructuralFeature getFeature()
+              {
+                return EcorePackage.Literals.ETYPED_ELEMENT__LOWER_BOUND;
+              }
+            };
+          listChange.setKind(kind);
+          listChange.setIndex(index);
+          listChanges.add(listChange);
+          return listChange;
+        }
+      };
+  }
+
+  protected static int count(EList<ListChange> listChanges, ChangeKind kind)
+  {
+    int result = 0;
+    for (ListChange listChange : listChanges)
+    {
+      if (listChange.getKind() == kind)
+      {
+        ++result;
       }
-    };
+    }
+    return result;
+  }
+
+  protected static void apply(EList<ListChange> listChanges, EList<Object> list)
+  {
+    for (ListChange listChange : listChanges)
+    {
+      listChange.apply(list);
+    }
+  }
+
+  @Test
+  public void testRandom()
+  {
+    ListDifferenceAnalyzer listDifferenceAnalyzer = createListDifferenceAnalyzer();
 
     Random random =
       new Random(0)
@@ -156,4 +182,68 @@ public class ListDifferenceAnalyzerTest
       assertEquals(newList, oldList);
     }
   }
+
+  @Test
+  public void testRandomHashing()
+  {
+    ListDifferenceAnalyzer listDifferenceAnalyzer = createListDifferenceAnalyzer();
+    ListDifferenceAnalyzer hashingListDifferenceAnalyzer = createListDifferenceAnalyzer();
+    hashingListDifferenceAnalyzer.setHashing(true);
+
+    Random random = new Random(0);
+    for (int repeat = 0; repeat < 20000; ++repeat)
+    {
+      int size = random.nextInt(100) + 1;
+      EList<Object> oldList = new BasicEList<Object>();
+      for (int i = 0; i < size; ++i)
+      {
+        oldList.add(random.nextInt(size));
+      }
+      EList<Object> newList = new BasicEList<Object>();
+      for (int i = 0, newSize = random.nextInt(2 * size); i < newSize; ++i)
+      {
+        newList.add(random.nextInt(size));
+      }
+
+      // The values are matched in the same way, but there are never more moves.
+      //
+      EList<ListChange> changes = listDifferenceAnalyzer.analyzeLists(oldList, newList);
+      EList<ListChange> hashingChanges = hashingListDifferenceAnalyzer.analyzeLists(oldList, newList);
+      assertEquals(count(changes, ChangeKind.REMOVE_LITERAL), count(hashingChanges, ChangeKind.REMOVE_LITERAL));
+      assertEquals(count(changes, ChangeKind.ADD_LITERAL), count(hashingChanges, ChangeKind.ADD_LITERAL));
+      assertTrue(count(hashingChanges, ChangeKind.MOVE_LITERAL) <= count(changes, ChangeKind.MOVE_LITERAL));
+
+      apply(hashingChanges, oldList);
+      assertEquals(newList, oldList);
+    }
+  }
+
+  @Test
+  public void testLargeHashing()
+  {
+    ListDifferenceAnalyzer listDifferenceAnalyzer = createListDifferenceAnalyzer();
+    listDifferenceAnalyzer.setHashing(true);
+
+    int size = 100000;
+    EList<Object> oldList = new BasicEList<Object>();
+    for (int i = 0; i < size; ++i)
+    {
+      oldList.add(i);
+    }
+
+    // Rotating the list requires moving only the values that wrapped around.
+    //
+    EList<Object> newList = new BasicEList<Object>(oldList.subList(10, size));
+    newList.addAll(oldList.subList(0, 10));
+    newList.remove(size / 2);
+    newList.add(size / 3, -1);
+
+    EList<ListChange> changes = listDifferenceAnalyzer.analyzeLists(oldList, newList);
+    assertEquals(1, count(changes, ChangeKind.REMOVE_LITERAL));
+    assertEquals(10, count(changes, ChangeKind.MOVE_LITERAL));
+    assertEquals(1, count(changes, ChangeKind.ADD_LITERAL));
+
+    apply(changes, oldList);
+    assertEquals(newList, oldList);
+  }
 }
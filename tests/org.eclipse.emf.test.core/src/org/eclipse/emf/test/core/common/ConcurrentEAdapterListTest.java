@@ -0,0 +1,386 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.common;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.notify.impl.BasicNotifierImpl;
+import org.eclipse.emf.common.notify.impl.NotificationImpl;
+import org.eclipse.emf.common.notify.impl.NotifierImpl;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
+import org.junit.Test;
+
+
+public class ConcurrentEAdapterListTest
+{
+  static class ConcurrentNotifier extends NotifierImpl
+  {
+    public ConcurrentNotifier()
+    {
+      eAdapters = new BasicNotifierImpl.ConcurrentEAdapterList<Adapter>(this);
+    }
+
+    public Adapter[] getAdapterArray()
+    {
+      return eBasicAdapterArray();
+    }
+  }
+
+  static class SerializableNotifier extends ConcurrentNotifier implements Serializable
+  {
+    private static final long serialVersionUID = 1L;
+  }
+
+  static class ConcurrentMinimalEObject extends MinimalEObjectImpl
+  {
+    protected BasicNotifierImpl.ConcurrentEAdapterList<Adapter> eAdapters = new BasicNotifierImpl.ConcurrentEAdapterList<Adapter>(this);
+
+    @Override
+    public EList<Adapter> eAdapters()
+    {
+      return eAdapters;
+    }
+
+    @Override
+    protected BasicEList<Adapter> eBasicAdapters()
+    {
+      return eAdapters;
+    }
+
+    @Override
+    protected Adapter[] eBasicAdapterArray()
+    {
+      return (Adapter[])eAdapters.data();
+    }
+
+    @Override
+    protected boolean eBasicHasAdapters()
+    {
+      return !eAdapters.isEmpty();
+    }
+  }
+
+  static class ModCountingEAdapterList extends BasicNotifierImpl.ConcurrentEAdapterList<Adapter>
+  {
+    private static final long serialVersionUID = 1L;
+
+    public ModCountingEAdapterList(Notifier notifier)
+    {
+      super(notifier);
+    }
+
+    public int getModCount()
+    {
+      return modCount;
+    }
+  }
+
+  static class CountingAdapter extends AdapterImpl implements Serializable
+  {
+    private static final long serialVersionUID = 1L;
+
+    final AtomicInteger count = new AtomicInteger();
+
+    final AtomicInteger targetCount = new AtomicInteger();
+
+    @Override
+    public void setTarget(Notifier newTarget)
+    {
+      super.setTarget(newTarget);
+      if (newTarget != null)
+      {
+        targetCount.incrementAndGet();
+      }
+    }
+
+    @Override
+    public void notifyChanged(Notification notification)
+    {
+      if (notification.getEventType() != Notification.REMOVING_ADAPTER)
+      {
+        count.incrementAndGet();
+      }
+    }
+  }
+
+  @Test
+  public void testListOperations()
+  {
+    ConcurrentNotifier notifier = new ConcurrentNotifier();
+    EList<Adapter> eAdapters = notifier.eAdapters();
+    assertTrue(eAdapters.isEmpty());
+    assertNull(notifier.getAdapterArray());
+
+    CountingAdapter a = new CountingAdapter();
+    CountingAdapter b = new CountingAdapter();
+    CountingAdapter c = new CountingAdapter();
+    eAdapters.add(a);
+    eAdapters.addAll(Arrays.asList(b, c));
+    assertEquals(Arrays.asList(a, b, c), eAdapters);
+    assertSame(notifier, b.getTarget());
+
+    Adapter[] snapshot = notifier.getAdapterArray();
+    eAdapters.move(0, 2);
+    assertEquals(Arrays.asList(c, a, b), eAdapters);
+    assertArrayEquals(new Adapter [] { a, b, c }, snapshot);
+
+    Iterator<Adapter> iterator = eAdapters.iterator();
+    eAdapters.add(0, new CountingAdapter());
+    assertSame(c, iterator.next());
+    iterator.remove();
+    assertFalse(eAdapters.contains(c));
+    assertNull(c.getTarget());
+    assertEquals(3, eAdapters.size());
+
+    notifier.eNotify(new NotificationImpl(Notification.SET, null, null));
+    assertEquals(1, a.count.get());
+    assertEquals(0, c.count.get());
+
+    eAdapters.removeAll(Arrays.asList(a, b));
+    assertEquals(1, eAdapters.size());
+    eAdapters.clear();
+    assertTrue(eAdapters.isEmpty());
+    assertNull(notifier.getAdapterArray());
+  }
+
+  @Test
+  public void testModCount()
+  {
+    ModCountingEAdapterList eAdapters = new ModCountingEAdapterList(new NotifierImpl());
+    CountingAdapter a = new CountingAdapter();
+    CountingAdapter b = new CountingAdapter();
+    eAdapters.add(a);
+    int modCount = eAdapters.getModCount();
+    assertSame(a, eAdapters.set(0, b));
+    assertTrue(eAdapters.getModCount() != modCount);
+    assertEquals(Arrays.asList(b), eAdapters);
+  }
+
+  @Test
+  public void testUniqueness()
+  {
+    ConcurrentNotifier notifier = new ConcurrentNotifier();
+    EList<Adapter> eAdapters = notifier.eAdapters();
+    CountingAdapter a = new CountingAdapter();
+    CountingAdapter b = new CountingAdapter();
+    assertTrue(eAdapters.add(a));
+    assertFalse(eAdapters.add(a));
+    assertTrue(eAdapters.addAll(Arrays.asList(a, b, b)));
+    assertFalse(eAdapters.addAll(0, Arrays.asList(b)));
+    assertEquals(Arrays.asList(a, b), eAdapters);
+    assertEquals(1, b.targetCount.get());
+    try
+    {
+      eAdapters.add(0, a);
+      fail("Expecting IllegalArgumentException");
+    }
+    catch (IllegalArgumentException exception)
+    {
+      // Expected.
+    }
+    assertEquals(Arrays.asList(a, b), eAdapters);
+  }
+
+  @Test
+  public void testConcurrentAddOfSameAdapter() throws Exception
+  {
+    final int threadCount = 4;
+    for (int i = 0; i < 500; ++i)
+    {
+      final ConcurrentNotifier notifier = new ConcurrentNotifier();
+      final CountingAdapter adapter = new CountingAdapter();
+      final CyclicBarrier barrier = new CyclicBarrier(threadCount);
+      final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+      List<Thread> threads = new ArrayList<Thread>();
+      for (int j = 0; j < threadCount; ++j)
+      {
+        final boolean addAll = j % 2 == 0;
+        threads.add
+          (new Thread()
+           {
+             @Override
+             public void run()
+             {
+               try
+               {
+                 barrier.await();
+                 if (addAll)
+                 {
+                   notifier.eAdapters().addAll(Collections.singleton(adapter));
+                 }
+                 else
+                 {
+                   notifier.eAdapters().add(adapter);
+                 }
+               }
+               catch (Throwable throwable)
+               {
+                 failure.compareAndSet(null, throwable);
+               }
+             }
+           });
+      }
+      for (Thread thread : threads)
+      {
+        thread.start();
+      }
+      for (Thread thread : threads)
+      {
+        thread.join();
+      }
+
+      assertNull(failure.get());
+      assertEquals(Arrays.asList(adapter), notifier.eAdapters());
+      assertEquals(1, adapter.targetCount.get());
+    }
+  }
+
+  @Test
+  public void testCloneAndSerialization() throws Exception
+  {
+    SerializableNotifier notifier = new SerializableNotifier();
+    @SuppressWarnings("unchecked") BasicNotifierImpl.ConcurrentEAdapterList<Adapter> eAdapters = (BasicNotifierImpl.ConcurrentEAdapterList<Adapter>)notifier.eAdapters();
+    CountingAdapter a = new CountingAdapter();
+    CountingAdapter b = new CountingAdapter();
+    eAdapters.addAll(Arrays.asList(a, b));
+
+    @SuppressWarnings("unchecked") List<Adapter> clone = (List<Adapter>)eAdapters.clone();
+    assertEquals(Arrays.asList(a, b), clone);
+    clone.remove(a);
+    assertEquals(Arrays.asList(b), clone);
+    assertEquals(Arrays.asList(a, b), eAdapters);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+    objectOutputStream.writeObject(eAdapters);
+    objectOutputStream.close();
+    ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+    @SuppressWarnings("unchecked") List<Adapter> copy = (List<Adapter>)objectInputStream.readObject();
+    assertEquals(2, copy.size());
+    assertTrue(copy.get(0) instanceof CountingAdapter);
+    assertSame(((CountingAdapter)copy.get(0)).getTarget(), ((CountingAdapter)copy.get(1)).getTarget());
+  }
+
+  @Test
+  public void testMinimalEObject()
+  {
+    ConcurrentMinimalEObject eObject = new ConcurrentMinimalEObject();
+    CountingAdapter adapter = new CountingAdapter();
+    eObject.eAdapters().add(adapter);
+    assertSame(eObject.eAdapters(), eObject.eAdapters());
+    assertSame(eObject, adapter.getTarget());
+    assertTrue(eObject.eNotificationRequired());
+
+    eObject.eNotify(new NotificationImpl(Notification.SET, null, null));
+    assertEquals(1, adapter.count.get());
+
+    eObject.eAdapters().remove(adapter);
+    assertFalse(eObject.eNotificationRequired());
+  }
+
+  @Test
+  public void testConcurrentAdaptersAndNotification() throws Exception
+  {
+    final ConcurrentNotifier notifier = new ConcurrentNotifier();
+    final CountingAdapter permanentAdapter = new CountingAdapter();
+    notifier.eAdapters().add(permanentAdapter);
+
+    final int threadCount = 4;
+    final int iterations = 2000;
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    List<Thread> threads = new ArrayList<Thread>();
+    for (int i = 0; i < threadCount; ++i)
+    {
+      threads.add
+        (new Thread()
+         {
+           @Override
+           public void run()
+           {
+             try
+             {
+               start.await();
+               for (int j = 0; j < iterations; ++j)
+               {
+                 CountingAdapter adapter = new CountingAdapter();
+                 notifier.eAdapters().add(adapter);
+                 notifier.eAdapters().remove(adapter);
+               }
+             }
+             catch (Throwable throwable)
+             {
+               failure.compareAndSet(null, throwable);
+             }
+           }
+         });
+    }
+    threads.add
+      (new Thread()
+       {
+         @Override
+         public void run()
+         {
+           try
+           {
+             start.await();
+             for (int j = 0; j < iterations; ++j)
+             {
+               notifier.eNotify(new NotificationImpl(Notification.SET, null, null));
+             }
+           }
+           catch (Throwable throwable)
+           {
+             failure.compareAndSet(null, throwable);
+           }
+         }
+       });
+
+    for (Thread thread : threads)
+    {
+      thread.start();
+    }
+    start.countDown();
+    for (Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    assertNull(failure.get());
+    assertEquals(Arrays.asList(permanentAdapter), notifier.eAdapters());
+    assertEquals(iterations, permanentAdapter.count.get());
+  }
+}
@@ -0,0 +1,297 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.common;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.notify.impl.NotificationBatch;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.junit.Test;
+
+
+public class NotificationBatchTest
+{
+  static class RecordingAdapter extends AdapterImpl
+  {
+    final List<Notification> notifications = new ArrayList<Notification>();
+
+    @Override
+    public void notifyChanged(Notification notification)
+    {
+      notifications.add(notification);
+    }
+  }
+
+  static class BatchingRecordingAdapter extends RecordingAdapter implements Adapter.Batching
+  {
+    // Only records.
+  }
+
+  @Test
+  public void testCoalescedSet()
+  {
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName("A");
+    RecordingAdapter adapter = new RecordingAdapter();
+    BatchingRecordingAdapter batchingAdapter = new BatchingRecordingAdapter();
+    eClass.eAdapters().add(adapter);
+    eClass.eAdapters().add(batchingAdapter);
+
+    NotificationBatch.begin();
+    try
+    {
+      assertTrue(NotificationBatch.isActive());
+      eClass.setName("B");
+      eClass.setName("C");
+      eClass.setAbstract(true);
+      assertEquals(3, adapter.notifications.size());
+      assertTrue(batchingAdapter.notifications.isEmpty());
+    }
+    finally
+    {
+      NotificationBatch.end();
+    }
+    assertFalse(NotificationBatch.isActive());
+
+    assertEquals(2, batchingAdapter.notifications.size());
+    Notification notification = batchingAdapter.notifications.get(0);
+    assertSame(eClass, notification.getNotifier());
+    assertSame(EcorePackage.Literals.ENAMED_ELEMENT__NAME, notification.getFeature());
+    assertEquals(Notification.SET, notification.getEventType());
+    assertEquals("A", notification.getOldValue());
+    assertEquals("C", notification.getNewValue());
+    assertSame(EcorePackage.Literals.ECLASS__ABSTRACT, batchingAdapter.notifications.get(1).getFeature());
+    assertTrue(batchingAdapter.notifications.get(1).getNewBooleanValue());
+  }
+
+  @Test
+  public void testCoalescedTouch()
+  {
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName("A");
+    BatchingRecordingAdapter batchingAdapter = new BatchingRecordingAdapter();
+    eClass.eAdapters().add(batchingAdapter);
+
+    NotificationBatch.begin();
+    try
+    {
+      eClass.setName("B");
+      eClass.setName("A");
+    }
+    finally
+    {
+      NotificationBatch.end();
+    }
+
+    assertEquals(1, batchingAdapter.notifications.size());
+    Notification notification = batchingAdapter.notifications.get(0);
+    assertEquals("A", notification.getOldValue());
+    assertEquals("A", notification.getNewValue());
+    assertTrue(notification.isTouch());
+
+    // A change that restores the value of an unsettable feature, but not its set state, isn't a touch.
+    //
+    EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    EDataType eDataType = EcorePackage.Literals.ESTRING;
+    List<Notification> notifications =
+      NotificationBatch.coalesce
+        (Arrays.<Notification>asList
+          (new ENotificationImpl((InternalEObject)eAttribute, Notification.SET, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE, null, eDataType, true),
+           new ENotificationImpl((InternalEObject)eAttribute, Notification.SET, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE, eDataType, null, false)));
+    assertEquals(1, notifications.size());
+    assertFalse(notifications.get(0).isTouch());
+
+    notifications =
+      NotificationBatch.coalesce
+        (Arrays.<Notification>asList
+          (new ENotificationImpl((InternalEObject)eAttribute, Notification.SET, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE, null, eDataType, true),
+           new ENotificationImpl((InternalEObject)eAttribute, Notification.UNSET, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE, eDataType, null, true)));
+    assertTrue(notifications.get(0).isTouch());
+  }
+
+  @Test
+  public void testCoalescedAdd()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    EClass a = EcoreFactory.eINSTANCE.createEClass();
+    EClass b = EcoreFactory.eINSTANCE.createEClass();
+    EClass c = EcoreFactory.eINSTANCE.createEClass();
+    BatchingRecordingAdapter batchingAdapter = new BatchingRecordingAdapter();
+    ePackage.eAdapters().add(batchingAdapter);
+
+    NotificationBatch.begin();
+    try
+    {
+      ePackage.getEClassifiers().add(a);
+      ePackage.getEClassifiers().add(b);
+      ePackage.getEClassifiers().add(c);
+    }
+    finally
+    {
+      NotificationBatch.end();
+    }
+
+    assertEquals(1, batchingAdapter.notifications.size());
+    Notification notification = batchingAdapter.notifications.get(0);
+    assertEquals(Notification.ADD_MANY, notification.getEventType());
+    assertEquals(0, notification.getPosition());
+    assertEquals(Arrays.asList(a, b, c), notification.getNewValue());
+  }
+
+  @Test
+  public void testNestedBatch()
+  {
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    BatchingRecordingAdapter batchingAdapter = new BatchingRecordingAdapter();
+    eClass.eAdapters().add(batchingAdapter);
+
+    NotificationBatch.begin();
+    try
+    {
+      eClass.setName("A");
+      NotificationBatch.begin();
+      try
+      {
+        eClass.setInterface(true);
+      }
+      finally
+      {
+        NotificationBatch.end();
+      }
+      assertTrue(batchingAdapter.notifications.isEmpty());
+      eClass.getEStructuralFeatures().add(EcoreFactory.eINSTANCE.createEAttribute());
+      eClass.getEStructuralFeatures().remove(0);
+    }
+    finally
+    {
+      NotificationBatch.end();
+    }
+
+    assertEquals(4, batchingAdapter.notifications.size());
+    assertEquals(Notification.REMOVE, batchingAdapter.notifications.get(3).getEventType());
+
+    // Without a batch, the notifications are delivered immediately.
+    //
+    eClass.setName("B");
+    assertEquals(5, batchingAdapter.notifications.size());
+  }
+
+  @Test
+  public void testDeliveryAfterFailure()
+  {
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    EClass otherEClass = EcoreFactory.eINSTANCE.createEClass();
+    BatchingRecordingAdapter failingAdapter =
+      new BatchingRecordingAdapter()
+      {
+        @Override
+        public void notifyChanged(Notification notification)
+        {
+          super.notifyChanged(notification);
+          throw new IllegalStateException();
+        }
+      };
+    BatchingRecordingAdapter batchingAdapter = new BatchingRecordingAdapter();
+    eClass.eAdapters().add(failingAdapter);
+    eClass.eAdapters().add(batchingAdapter);
+    otherEClass.eAdapters().add(batchingAdapter);
+
+    NotificationBatch.begin();
+    try
+    {
+      eClass.setName("A");
+      eClass.setAbstract(true);
+      otherEClass.setName("B");
+    }
+    finally
+    {
+      try
+      {
+        NotificationBatch.end();
+        fail("Expecting IllegalStateException");
+      }
+      catch (IllegalStateException exception)
+      {
+        assertEquals(1, exception.getSuppressed().length);
+      }
+    }
+
+    assertFalse(NotificationBatch.isActive());
+    assertEquals(2, failingAdapter.notifications.size());
+    assertEquals(3, batchingAdapter.notifications.size());
+  }
+
+  @Test
+  public void testCrossReferenceAdapter()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    EClass a = EcoreFactory.eINSTANCE.createEClass();
+    EClass b = EcoreFactory.eINSTANCE.createEClass();
+    EClass c = EcoreFactory.eINSTANCE.createEClass();
+    ePackage.getEClassifiers().add(a);
+    ePackage.getEClassifiers().add(b);
+    ECrossReferenceAdapter crossReferenceAdapter = new ECrossReferenceAdapter();
+    ePackage.eAdapters().add(crossReferenceAdapter);
+
+    NotificationBatch.begin();
+    try
+    {
+      a.getESuperTypes().add(b);
+      ePackage.getEClassifiers().add(c);
+      c.getESuperTypes().add(b);
+      a.getESuperTypes().remove(b);
+      a.getESuperTypes().add(c);
+
+      // The index isn't updated until the batch ends.
+      //
+      assertTrue(getSuperTypeReferencers(crossReferenceAdapter, b).isEmpty());
+    }
+    finally
+    {
+      NotificationBatch.end();
+    }
+
+    assertEquals(Arrays.asList(c), getSuperTypeReferencers(crossReferenceAdapter, b));
+    assertEquals(Arrays.asList(a), getSuperTypeReferencers(crossReferenceAdapter, c));
+  }
+
+  protected List<EObject> getSuperTypeReferencers(ECrossReferenceAdapter crossReferenceAdapter, EClass eClass)
+  {
+    List<EObject> result = new ArrayList<EObject>();
+    for (EStructuralFeature.Setting setting : crossReferenceAdapter.getInverseReferences(eClass))
+    {
+      if (setting.getEStructuralFeature() == EcorePackage.Literals.ECLASS__ESUPER_TYPES)
+      {
+        result.add(setting.getEObject());
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,270 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.emf.common.archive.ArchiveURLConnection;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.ArchiveURIHandlerImpl;
+import org.eclipse.emf.ecore.resource.impl.ExtensibleURIConverterImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ArchiveZipFileCacheTest
+{
+  /**
+   * Exposes the cache's operations on files to the tests.
+   */
+  static class TestZipFileCache extends ArchiveURLConnection.ZipFileCache
+  {
+    private final Map<File, CachedZipFile> acquiredNestedArchives = new HashMap<File, CachedZipFile>();
+
+    public TestZipFileCache(int maximumSize)
+    {
+      super(maximumSize);
+    }
+
+    @Override
+    public ZipEntry getEntry(File file, String entryName) throws IOException
+    {
+      return super.getEntry(file, entryName);
+    }
+
+    @Override
+    public InputStream getInputStream(File file, ZipEntry zipEntry) throws IOException
+    {
+      return super.getInputStream(file, zipEntry);
+    }
+
+    public File acquireNestedArchive(File file, String entryName) throws IOException
+    {
+      CachedZipFile source = acquire(file);
+      try
+      {
+        CachedZipFile nestedArchive = acquireNestedArchive(source, entryName);
+        acquiredNestedArchives.put(nestedArchive.getFile(), nestedArchive);
+        return nestedArchive.getFile();
+      }
+      finally
+      {
+        release(source);
+      }
+    }
+
+    public void releaseNestedArchive(File file)
+    {
+      release(acquiredNestedArchives.remove(file));
+    }
+  }
+
+  private File directory;
+
+  private File archiveFile;
+
+  private URIConverter uriConverter;
+
+  private Map<Object, Object> options;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    directory = File.createTempFile("ArchiveZipFileCacheTest", "");
+    directory.delete();
+    directory.mkdirs();
+    archiveFile = new File(directory, "outer.zip");
+    writeArchive(archiveFile, "A", "B");
+    uriConverter = new ExtensibleURIConverterImpl();
+    options = Collections.<Object, Object>singletonMap(ArchiveURIHandlerImpl.OPTION_USE_ZIP_FILE_CACHE, Boolean.TRUE);
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+    ArchiveURLConnection.ZipFileCache.INSTANCE.clear();
+    for (File file : directory.listFiles())
+    {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  protected static byte [] createArchive(String name, String contents) throws IOException
+  {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    ZipOutputStream zipOutputStream = new ZipOutputStream(result);
+    zipOutputStream.putNextEntry(new ZipEntry(name));
+    zipOutputStream.write(contents.getBytes("UTF-8"));
+    zipOutputStream.close();
+    return result.toByteArray();
+  }
+
+  protected static void writeArchive(File file, String outerContents, String nestedContents) throws IOException
+  {
+    ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(file));
+    zipOutputStream.putNextEntry(new ZipEntry("a.txt"));
+    zipOutputStream.write(outerContents.getBytes("UTF-8"));
+    zipOutputStream.putNextEntry(new ZipEntry("nested.zip"));
+    zipOutputStream.write(createArchive("b.txt", nestedContents));
+    zipOutputStream.close();
+  }
+
+  protected static String read(InputStream inputStream) throws IOException
+  {
+    try
+    {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte [] bytes = new byte [1024];
+      for (int size; (size = inputStream.read(bytes)) != -1; )
+      {
+        result.write(bytes, 0, size);
+      }
+      return result.toString("UTF-8");
+    }
+    finally
+    {
+      inputStream.close();
+    }
+  }
+
+  protected URI createArchiveURI(String path)
+  {
+    return URI.createURI("archive:" + URI.createFileURI(archiveFile.getAbsolutePath()) + "!/" + path);
+  }
+
+  protected String read(String path) throws IOException
+  {
+    return read(uriConverter.createInputStream(createArchiveURI(path), options));
+  }
+
+  @Test
+  public void testRead() throws Exception
+  {
+    assertEquals("A", read("a.txt"));
+    assertEquals("A", read("a.txt"));
+    assertEquals("B", read("nested.zip!/b.txt"));
+    assertEquals("B", read("nested.zip!/b.txt"));
+
+    assertTrue(uriConverter.exists(createArchiveURI("a.txt"), options));
+    assertTrue(uriConverter.exists(createArchiveURI("nested.zip!/b.txt"), options));
+    assertFalse(uriConverter.exists(createArchiveURI("missing.txt"), options));
+    assertFalse(uriConverter.exists(createArchiveURI("nested.zip!/missing.txt"), options));
+  }
+
+  @Test
+  public void testArchiveChanged() throws Exception
+  {
+    assertEquals("A", read("a.txt"));
+    assertEquals("B", read("nested.zip!/b.txt"));
+
+    // The changed lengths ensure that the changes are detected even if the time stamp's resolution is coarse.
+    //
+    writeArchive(archiveFile, "AA", "BB");
+    assertEquals("AA", read("a.txt"));
+    assertEquals("BB", read("nested.zip!/b.txt"));
+  }
+
+  @Test
+  public void testWrite() throws Exception
+  {
+    assertEquals("A", read("a.txt"));
+
+    OutputStream outputStream = uriConverter.createOutputStream(createArchiveURI("a.txt"), options);
+    outputStream.write("C".getBytes("UTF-8"));
+    outputStream.close();
+
+    assertEquals("C", read("a.txt"));
+    assertEquals("B", read("nested.zip!/b.txt"));
+  }
+
+  @Test
+  public void testEviction() throws Exception
+  {
+    File otherArchiveFile = new File(directory, "other.zip");
+    writeArchive(otherArchiveFile, "X", "Y");
+
+    TestZipFileCache zipFileCache = new TestZipFileCache(1);
+    try
+    {
+      ZipEntry zipEntry = zipFileCache.getEntry(archiveFile, "a.txt");
+      assertNotNull(zipEntry);
+      InputStream inputStream = zipFileCache.getInputStream(archiveFile, zipEntry);
+
+      // Opening another archive evicts the first, which remains open until the stream is closed.
+      //
+      assertNull(zipFileCache.getEntry(otherArchiveFile, "missing.txt"));
+      assertEquals("A", read(inputStream));
+    }
+    finally
+    {
+      zipFileCache.clear();
+    }
+  }
+
+  @Test
+  public void testNestedArchiveEviction() throws Exception
+  {
+    File otherArchiveFile = new File(directory, "other.zip");
+    writeArchive(otherArchiveFile, "X", "Y");
+
+    TestZipFileCache zipFileCache = new TestZipFileCache(2);
+    try
+    {
+      File nestedArchiveFile = zipFileCache.acquireNestedArchive(archiveFile, "nested.zip");
+      assertEquals("B", read(zipFileCache.getInputStream(nestedArchiveFile, zipFileCache.getEntry(nestedArchiveFile, "b.txt"))));
+      zipFileCache.releaseNestedArchive(nestedArchiveFile);
+      assertEquals(nestedArchiveFile, zipFileCache.acquireNestedArchive(archiveFile, "nested.zip"));
+
+      // A nested archive is evicted like any other zip file, but its temporary file is deleted only once it's no longer in use.
+      //
+      File otherNestedArchiveFile = zipFileCache.acquireNestedArchive(otherArchiveFile, "nested.zip");
+      assertTrue(nestedArchiveFile.exists());
+      assertEquals("B", read(zipFileCache.getInputStream(nestedArchiveFile, zipFileCache.getEntry(nestedArchiveFile, "b.txt"))));
+      zipFileCache.releaseNestedArchive(nestedArchiveFile);
+      assertFalse(nestedArchiveFile.exists());
+
+      assertEquals("Y", read(zipFileCache.getInputStream(otherNestedArchiveFile, zipFileCache.getEntry(otherNestedArchiveFile, "b.txt"))));
+      zipFileCache.releaseNestedArchive(otherNestedArchiveFile);
+      zipFileCache.clear();
+      assertFalse(otherNestedArchiveFile.exists());
+    }
+    finally
+    {
+      zipFileCache.clear();
+    }
+  }
+
+  @Test
+  public void testCacheIsOptIn() throws Exception
+  {
+    ArchiveURLConnection.ZipFileCache.INSTANCE.clear();
+    assertEquals("A", read(uriConverter.createInputStream(createArchiveURI("a.txt"))));
+    assertEquals("B", read(uriConverter.createInputStream(createArchiveURI("nested.zip!/b.txt"))));
+    assertEquals(0, ArchiveURLConnection.ZipFileCache.INSTANCE.size());
+  }
+}
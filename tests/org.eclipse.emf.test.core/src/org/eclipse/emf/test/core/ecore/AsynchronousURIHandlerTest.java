@@ -0,0 +1,342 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.ContentHandler;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.URIHandler;
+import org.eclipse.emf.ecore.resource.impl.ExtensibleURIConverterImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.URIHandlerImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AsynchronousURIHandlerTest
+{
+  /**
+   * A handler that holds contents in memory and has only blocking support.
+   */
+  private static class MemoryURIHandler extends URIHandlerImpl
+  {
+    final Map<URI, byte[]> contents = new HashMap<URI, byte[]>();
+
+    @Override
+    public boolean canHandle(URI uri)
+    {
+      return "memory".equals(uri.scheme());
+    }
+
+    @Override
+    public InputStream createInputStream(URI uri, Map<?, ?> options) throws IOException
+    {
+      byte[] bytes = contents.get(uri);
+      if (bytes == null)
+      {
+        throw new IOException("No contents for " + uri);
+      }
+      return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public OutputStream createOutputStream(final URI uri, Map<?, ?> options) throws IOException
+    {
+      return
+        new ByteArrayOutputStream()
+        {
+          @Override
+          public void close() throws IOException
+          {
+            contents.put(uri, toByteArray());
+          }
+        };
+    }
+  }
+
+  private File directory;
+
+  private MemoryURIHandler memoryURIHandler;
+
+  private ExtensibleURIConverterImpl uriConverter;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    directory = File.createTempFile("async", "");
+    directory.delete();
+    memoryURIHandler = new MemoryURIHandler();
+    List<URIHandler> uriHandlers = new ArrayList<URIHandler>();
+    uriHandlers.add(memoryURIHandler);
+    uriHandlers.addAll(URIHandler.DEFAULT_HANDLERS);
+    uriConverter = new ExtensibleURIConverterImpl(uriHandlers, ContentHandler.Registry.INSTANCE.contentHandlers());
+  }
+
+  @After
+  public void tearDown()
+  {
+    File[] files = directory.listFiles();
+    if (files != null)
+    {
+      for (File file : files)
+      {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  protected byte[] createContents(int length)
+  {
+    byte[] result = new byte [length];
+    for (int i = 0; i < length; ++i)
+    {
+      result[i] = (byte)(i * 31);
+    }
+    return result;
+  }
+
+  protected byte[] toBytes(ByteBuffer buffer)
+  {
+    byte[] result = new byte [buffer.remaining()];
+    buffer.get(result);
+    return result;
+  }
+
+  @Test
+  public void testFile() throws Exception
+  {
+    URI uri = URI.createFileURI(new File(directory, "contents.bin").getAbsolutePath());
+    byte[] contents = createContents(100000);
+
+    Map<Object, Object> response = new HashMap<Object, Object>();
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(URIConverter.OPTION_RESPONSE, response);
+    uriConverter.write(uri, ByteBuffer.wrap(contents), options).get();
+    assertNotNull(response.get(URIConverter.RESPONSE_TIME_STAMP_PROPERTY));
+    assertEquals(contents.length, new File(uri.toFileString()).length());
+
+    response.clear();
+    assertArrayEquals(contents, toBytes(uriConverter.read(uri, options).get()));
+    assertNotNull(response.get(URIConverter.RESPONSE_TIME_STAMP_PROPERTY));
+
+    // Writing shorter contents truncates the file.
+    //
+    uriConverter.write(uri, ByteBuffer.wrap(new byte [0]), null).get();
+    assertEquals(0, uriConverter.read(uri, null).get().remaining());
+  }
+
+  @Test
+  public void testBlockingHandler() throws Exception
+  {
+    URI uri = URI.createURI("memory:/contents.bin");
+    byte[] contents = createContents(20000);
+
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(contents.length);
+    directBuffer.put(contents).flip();
+    uriConverter.write(uri, directBuffer, null).get();
+    assertArrayEquals(contents, memoryURIHandler.contents.get(uri));
+    assertArrayEquals(contents, toBytes(uriConverter.read(uri, null).get()));
+  }
+
+  @Test
+  public void testFailure() throws Exception
+  {
+    checkFailure(uriConverter.read(URI.createFileURI(new File(directory, "missing.bin").getAbsolutePath()), null));
+    checkFailure(uriConverter.read(URI.createURI("memory:/missing.bin"), null));
+  }
+
+  @Test
+  public void testFailureOfSubsequentRead() throws Exception
+  {
+    final File file = new File(directory, "contents.bin");
+    final URI uri = URI.createFileURI(file.getAbsolutePath());
+    uriConverter.write(uri, ByteBuffer.wrap(createContents(1000)), null).get();
+
+    // The file is truncated after its size is determined, so the first read is short and another read is needed,
+    // but the executor rejects that read.
+    //
+    ExecutorService executorService =
+      new AbstractExecutorService()
+      {
+        private int count;
+
+        public void execute(Runnable command)
+        {
+          if (++count > 1)
+          {
+            throw new RejectedExecutionException();
+          }
+          try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw"))
+          {
+            randomAccessFile.setLength(500);
+          }
+          catch (IOException exception)
+          {
+            throw new RuntimeException(exception);
+          }
+          Thread thread = new Thread(command);
+          thread.setDaemon(true);
+          thread.start();
+        }
+
+        public void shutdown()
+        {
+        }
+
+        public List<Runnable> shutdownNow()
+        {
+          return Collections.emptyList();
+        }
+
+        public boolean isShutdown()
+        {
+          return false;
+        }
+
+        public boolean isTerminated()
+        {
+          return false;
+        }
+
+        public boolean awaitTermination(long timeout, TimeUnit unit)
+        {
+          return false;
+        }
+      };
+
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(URIHandler.Asynchronous.OPTION_EXECUTOR, executorService);
+    try
+    {
+      uriConverter.read(uri, options).get(10, TimeUnit.SECONDS);
+      fail("Expecting an exception");
+    }
+    catch (ExecutionException exception)
+    {
+      assertTrue(exception.getCause() instanceof RejectedExecutionException);
+    }
+  }
+
+  protected void checkFailure(CompletableFuture<?> future) throws Exception
+  {
+    try
+    {
+      future.get();
+      fail("Expecting an exception");
+    }
+    catch (ExecutionException exception)
+    {
+      assertTrue(exception.getCause() instanceof IOException);
+    }
+  }
+
+  @Test
+  public void testLoadAsynchronously() throws Exception
+  {
+    URI uri = URI.createFileURI(new File(directory, "package.ecore").getAbsolutePath());
+    XMIResourceImpl resource = new XMIResourceImpl(uri);
+    resource.getContents().add(EcoreUtil.copy(EcorePackage.eINSTANCE));
+    resource.save(null);
+
+    // Both the file I/O and the parsing are done by the executor.
+    //
+    final List<Thread> executorThreads = new ArrayList<Thread>();
+    ExecutorService executorService =
+      Executors.newFixedThreadPool
+        (2,
+         new ThreadFactory()
+         {
+           public Thread newThread(Runnable runnable)
+           {
+             Thread thread = new Thread(runnable);
+             thread.setDaemon(true);
+             synchronized (executorThreads)
+             {
+               executorThreads.add(thread);
+             }
+             return thread;
+           }
+         });
+    final List<Thread> loadingThreads = new ArrayList<Thread>();
+    XMIResourceImpl loadedResource =
+      new XMIResourceImpl(uri)
+      {
+        @Override
+        public void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException
+        {
+          loadingThreads.add(Thread.currentThread());
+          super.doLoad(inputStream, options);
+        }
+      };
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(URIHandler.Asynchronous.OPTION_EXECUTOR, executorService);
+    try
+    {
+      assertSame(loadedResource, loadedResource.loadAsynchronously(options).get());
+    }
+    finally
+    {
+      executorService.shutdown();
+    }
+    assertTrue(loadedResource.isLoaded());
+    assertTrue(EcoreUtil.equals((EPackage)resource.getContents().get(0), (EPackage)loadedResource.getContents().get(0)));
+    assertEquals(new File(uri.toFileString()).lastModified(), loadedResource.getTimeStamp());
+    assertEquals(1, loadingThreads.size());
+    synchronized (executorThreads)
+    {
+      assertTrue(executorThreads.contains(loadingThreads.get(0)));
+    }
+
+    // Loading a loaded resource completes immediately.
+    //
+    assertTrue(loadedResource.loadAsynchronously(null).isDone());
+
+    // A failure leaves the resource loaded, as for synchronous loading.
+    //
+    ResourceImpl missingResource = new XMIResourceImpl(URI.createFileURI(new File(directory, "missing.ecore").getAbsolutePath()));
+    checkFailure(missingResource.loadAsynchronously(null));
+    assertTrue(missingResource.isLoaded());
+    assertTrue(missingResource.getContents().isEmpty());
+  }
+}
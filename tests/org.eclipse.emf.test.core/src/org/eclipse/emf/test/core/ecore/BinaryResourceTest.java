@@ -13,20 +13,25 @@ package org.eclipse.emf.test.core.ecore;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -37,6 +42,8 @@ import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.InternalEObject;
@@ -47,6 +54,7 @@ import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.test.models.ppo.Item;
@@ -338,6 +346,73 @@ public class BinaryResourceTest
     assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
   }
 
+  @Test
+  public void testSaveAndLoadMemoryMapped() throws Exception
+  {
+    testSaveAndLoadMemoryMappedHelper(null, BinaryResourceImpl.MappedFileInputStream.REGION_SIZE);
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(BinaryResourceImpl.OPTION_STYLE_DATA_CONVERTER, Boolean.TRUE);
+    options.put(BinaryResourceImpl.OPTION_VERSION, BinaryResourceImpl.BinaryIO.Version.VERSION_1_1);
+    testSaveAndLoadMemoryMappedHelper(options, BinaryResourceImpl.MappedFileInputStream.REGION_SIZE);
+
+    // Use tiny regions so that values are split across region boundaries.
+    //
+    testSaveAndLoadMemoryMappedHelper(null, 7);
+    testSaveAndLoadMemoryMappedHelper(options, 3);
+  }
+
+  public void testSaveAndLoadMemoryMappedHelper(Map<?, ?> options, final int regionSize) throws Exception
+  {
+    Resource resource = new BinaryResourceImpl(resourceURI);
+    resource.getContents().addAll(rootObjects);
+    resource.save(options);
+
+    final List<InputStream> inputStreams = new ArrayList<InputStream>();
+    resource =
+      new BinaryResourceImpl(resourceURI)
+      {
+        @Override
+        protected MappedFileInputStream createMappedFileInputStream(File file) throws IOException
+        {
+          MappedFileInputStream mappedFileInputStream = new MappedFileInputStream(file, regionSize);
+          inputStreams.add(mappedFileInputStream);
+          return mappedFileInputStream;
+        }
+      };
+    Map<Object, Object> loadOptions = new HashMap<Object, Object>();
+    if (options != null)
+    {
+      loadOptions.putAll(options);
+    }
+    loadOptions.put(BinaryResourceImpl.OPTION_MEMORY_MAPPED_FILE, Boolean.TRUE);
+    resource.load(loadOptions);
+    assertEquals(1, inputStreams.size());
+    assertEquals(-1, inputStreams.get(0).read());
+    assertEquals(new File(resourceURI.toFileString()).lastModified(), resource.getTimeStamp());
+    assertTrue(EcoreUtil.equals(rootObjects, resource.getContents()));
+  }
+
+  @Test
+  public void testLoadMemoryMappedFailure() throws Exception
+  {
+    OutputStream outputStream = URIConverter.INSTANCE.createOutputStream(resourceURI);
+    outputStream.write(new byte [] { 1, 2, 3, 4, 5, 6, 7, 8 });
+    outputStream.close();
+
+    Resource resource = new BinaryResourceImpl(resourceURI);
+    try
+    {
+      resource.load(Collections.singletonMap(BinaryResourceImpl.OPTION_MEMORY_MAPPED_FILE, Boolean.TRUE));
+      fail("Expecting an IOException");
+    }
+    catch (IOException exception)
+    {
+      // A failed load doesn't record a time stamp.
+      //
+      assertEquals(0, resource.getTimeStamp());
+    }
+  }
+
   @Test
   public void testBidirectionalReferenceOrder() throws Exception
   {
@@ -487,4 +562,296 @@ public class BinaryResourceTest
     //
     assertEquals("Models must be equal after deserialization", outputResourceContents.getBuffer().toString(), inputResourceContents.getBuffer().toString());
   }
+
+  protected EPackage createIndexedContentsPackage()
+  {
+    EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+    EPackage ePackage = ecoreFactory.createEPackage();
+    ePackage.setName("indexed");
+    ePackage.setNsPrefix("indexed");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/core/indexed");
+
+    EClass nodeEClass = ecoreFactory.createEClass();
+    nodeEClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeEClass);
+
+    EAttribute nameEAttribute = ecoreFactory.createEAttribute();
+    nameEAttribute.setName("name");
+    nameEAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nodeEClass.getEStructuralFeatures().add(nameEAttribute);
+
+    EReference childrenEReference = ecoreFactory.createEReference();
+    childrenEReference.setName("children");
+    childrenEReference.setEType(nodeEClass);
+    childrenEReference.setContainment(true);
+    childrenEReference.setUpperBound(-1);
+    nodeEClass.getEStructuralFeatures().add(childrenEReference);
+
+    EReference refEReference = ecoreFactory.createEReference();
+    refEReference.setName("ref");
+    refEReference.setEType(nodeEClass);
+    nodeEClass.getEStructuralFeatures().add(refEReference);
+
+    EReference refsEReference = ecoreFactory.createEReference();
+    refsEReference.setName("refs");
+    refsEReference.setEType(nodeEClass);
+    refsEReference.setUpperBound(-1);
+    nodeEClass.getEStructuralFeatures().add(refsEReference);
+
+    EReference plainRefEReference = ecoreFactory.createEReference();
+    plainRefEReference.setName("plainRef");
+    plainRefEReference.setEType(nodeEClass);
+    plainRefEReference.setResolveProxies(false);
+    nodeEClass.getEStructuralFeatures().add(plainRefEReference);
+
+    return ePackage;
+  }
+
+  /**
+   * Creates 10 nodes, each with 3 children,
+   * with each child of node i referencing the corresponding child of node i + 1, via a proxy resolving reference,
+   * node i + 3 and the node's own first child, via a proxy resolving many-valued reference,
+   * and node i + 5, via a reference that doesn't resolve proxies.
+   */
+  @SuppressWarnings("unchecked")
+  protected List<EObject> createIndexedContentsInstances(EPackage ePackage)
+  {
+    EClass nodeEClass = (EClass)ePackage.getEClassifier("Node");
+    EStructuralFeature name = nodeEClass.getEStructuralFeature("name");
+    EStructuralFeature children = nodeEClass.getEStructuralFeature("children");
+    EStructuralFeature ref = nodeEClass.getEStructuralFeature("ref");
+    EStructuralFeature refs = nodeEClass.getEStructuralFeature("refs");
+    EStructuralFeature plainRef = nodeEClass.getEStructuralFeature("plainRef");
+
+    List<EObject> nodes = new ArrayList<EObject>();
+    for (int i = 0; i < 10; ++i)
+    {
+      EObject node = EcoreUtil.create(nodeEClass);
+      node.eSet(name, "node" + i);
+      for (int j = 0; j < 3; ++j)
+      {
+        EObject child = EcoreUtil.create(nodeEClass);
+        child.eSet(name, "node" + i + "." + j);
+        ((List<EObject>)node.eGet(children)).add(child);
+      }
+      nodes.add(node);
+    }
+    for (int i = 0; i < 10; ++i)
+    {
+      EObject node = nodes.get(i);
+      for (int j = 0; j < 3; ++j)
+      {
+        EObject child = node.eContents().get(j);
+        child.eSet(ref, nodes.get((i + 1) % 10).eContents().get(j));
+        ((List<EObject>)child.eGet(refs)).add(nodes.get((i + 3) % 10));
+        ((List<EObject>)child.eGet(refs)).add(node.eContents().get(0));
+      }
+      node.eSet(plainRef, nodes.get((i + 5) % 10));
+    }
+    return nodes;
+  }
+
+  /**
+   * A binary resource that exposes the objects in the contents whose content trees have not yet been loaded.
+   */
+  protected static class IndexedBinaryResourceImpl extends BinaryResourceImpl
+  {
+    public IndexedBinaryResourceImpl(URI uri)
+    {
+      super(uri);
+    }
+
+    public List<EObject> getUnloadedSegmentRoots()
+    {
+      return unloadedSegments == null ? Collections.<EObject>emptyList() : new ArrayList<EObject>(unloadedSegments.keySet());
+    }
+
+    public boolean hasSegmentedContents()
+    {
+      return contents instanceof SegmentedContentsEList;
+    }
+  }
+
+  protected IndexedBinaryResourceImpl saveAndLoadIndexedContents(EPackage ePackage, List<EObject> nodes, Map<?, ?> options) throws Exception
+  {
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    Resource resource = new BinaryResourceImpl(resourceURI);
+    resourceSet.getResources().add(resource);
+    resource.getContents().addAll(nodes);
+    resource.save(options);
+
+    resourceSet = new ResourceSetImpl();
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    IndexedBinaryResourceImpl result = new IndexedBinaryResourceImpl(resourceURI);
+    result.setTrackingModification(true);
+    resourceSet.getResources().add(result);
+    result.load(options);
+    return result;
+  }
+
+  @Test
+  public void testIndexedContents() throws Exception
+  {
+    testIndexedContentsHelper(false);
+    testIndexedContentsHelper(true);
+  }
+
+  public void testIndexedContentsHelper(boolean memoryMapped) throws Exception
+  {
+    EPackage ePackage = createIndexedContentsPackage();
+    List<EObject> nodes = createIndexedContentsInstances(ePackage);
+    EStructuralFeature ref = ((EClass)ePackage.getEClassifier("Node")).getEStructuralFeature("ref");
+
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(BinaryResourceImpl.OPTION_VERSION, BinaryResourceImpl.BinaryIO.Version.VERSION_1_1);
+    options.put(BinaryResourceImpl.OPTION_STYLE_INDEXED_CONTENTS, Boolean.TRUE);
+    options.put(BinaryResourceImpl.OPTION_MEMORY_MAPPED_FILE, memoryMapped);
+
+    IndexedBinaryResourceImpl resource = saveAndLoadIndexedContents(ePackage, nodes, options);
+    assertTrue(resource.hasSegmentedContents());
+
+    // Only the objects in the contents are created.
+    //
+    EList<EObject> contents = resource.getContents();
+    assertEquals(10, contents.size());
+    List<EObject> roots = resource.getUnloadedSegmentRoots();
+    assertEquals(10, roots.size());
+    for (int i = 0; i < 10; ++i)
+    {
+      assertTrue(roots.get(i).eContents().isEmpty());
+    }
+
+    // Retrieving node 2 loads its tree,
+    // and that of node 7 for the reference that doesn't resolve proxies,
+    // which in turn refers back to node 2.
+    //
+    EObject node2 = contents.get(2);
+    assertSame(roots.get(2), node2);
+    assertEquals(3, node2.eContents().size());
+    assertEquals(3, roots.get(7).eContents().size());
+    List<EObject> unloadedRoots = resource.getUnloadedSegmentRoots();
+    assertFalse(unloadedRoots.contains(roots.get(2)));
+    assertFalse(unloadedRoots.contains(roots.get(7)));
+    assertTrue(unloadedRoots.contains(roots.get(3)));
+    assertTrue(unloadedRoots.contains(roots.get(5)));
+    assertFalse(resource.isModified());
+
+    // Resolving a proxy into node 3's tree loads it.
+    //
+    EObject target = (EObject)node2.eContents().get(1).eGet(ref);
+    assertFalse(target.eIsProxy());
+    assertSame(roots.get(3).eContents().get(1), target);
+    assertTrue(resource.getUnloadedSegmentRoots().contains(roots.get(5)));
+    assertFalse(resource.isModified());
+
+    assertTrue(EcoreUtil.equals(nodes, resource.getContents()));
+    assertFalse(resource.isModified());
+
+    resource.unload();
+    assertTrue(contents.isEmpty());
+  }
+
+  @Test
+  public void testIndexedContentsChanges() throws Exception
+  {
+    EPackage ePackage = createIndexedContentsPackage();
+    List<EObject> nodes = createIndexedContentsInstances(ePackage);
+    EStructuralFeature ref = ((EClass)ePackage.getEClassifier("Node")).getEStructuralFeature("ref");
+    EStructuralFeature refs = ((EClass)ePackage.getEClassifier("Node")).getEStructuralFeature("refs");
+
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(BinaryResourceImpl.OPTION_VERSION, BinaryResourceImpl.BinaryIO.Version.VERSION_1_1);
+    options.put(BinaryResourceImpl.OPTION_STYLE_INDEXED_CONTENTS, Boolean.TRUE);
+
+    // Only a resource that loads an indexed serialization uses a segmented contents list.
+    //
+    options.remove(BinaryResourceImpl.OPTION_STYLE_INDEXED_CONTENTS);
+    IndexedBinaryResourceImpl unindexedResource = saveAndLoadIndexedContents(ePackage, nodes, options);
+    assertFalse(unindexedResource.hasSegmentedContents());
+    assertTrue(EcoreUtil.equals(nodes, unindexedResource.getContents()));
+    unindexedResource.unload();
+    options.put(BinaryResourceImpl.OPTION_STYLE_INDEXED_CONTENTS, Boolean.TRUE);
+
+    // Retrieving the objects in bulk loads all their trees.
+    //
+    IndexedBinaryResourceImpl resource = saveAndLoadIndexedContents(ePackage, nodes, options);
+    Object[] objects = resource.getContents().toArray();
+    assertTrue(resource.getUnloadedSegmentRoots().isEmpty());
+    for (Object object : objects)
+    {
+      assertEquals(3, ((EObject)object).eContents().size());
+    }
+    assertFalse(resource.isModified());
+    @SuppressWarnings("unchecked")
+    InternalEList<EObject> internalContents = (InternalEList<EObject>)resource.getContents();
+    assertEquals(3, internalContents.basicGet(4).eContents().size());
+    resource.unload();
+
+    // Removing an object whose tree isn't loaded retains its tree,
+    // and the references to the objects that move resolve to the same objects as before.
+    //
+    resource = saveAndLoadIndexedContents(ePackage, nodes, options);
+    EList<EObject> contents = resource.getContents();
+    EObject node0 = contents.remove(0);
+    assertTrue(resource.isModified());
+    assertTrue(EcoreUtil.equals(nodes.get(0), node0));
+    EObject node1 = contents.get(0);
+    assertSame(contents.get(1).eContents().get(0), node1.eContents().get(0).eGet(ref));
+    @SuppressWarnings("unchecked")
+    List<EObject> node7Refs = (List<EObject>)contents.get(6).eContents().get(0).eGet(refs);
+    assertSame(node0, node7Refs.get(0));
+    assertTrue(EcoreUtil.equals(nodes.subList(1, 10), contents));
+    resource.unload();
+  }
+
+  @Test
+  public void testIndexedContentsWithoutResourceSet() throws Exception
+  {
+    EPackage ePackage = createIndexedContentsPackage();
+    List<EObject> nodes = createIndexedContentsInstances(ePackage);
+
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(BinaryResourceImpl.OPTION_VERSION, BinaryResourceImpl.BinaryIO.Version.VERSION_1_1);
+    options.put(BinaryResourceImpl.OPTION_STYLE_INDEXED_CONTENTS, Boolean.TRUE);
+
+    Resource resource = new BinaryResourceImpl(resourceURI);
+    resource.getContents().addAll(nodes);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, options);
+
+    EPackage.Registry.INSTANCE.put(ePackage.getNsURI(), ePackage);
+    try
+    {
+      resource = new BinaryResourceImpl(resourceURI);
+      resource.load(new ByteArrayInputStream(outputStream.toByteArray()), options);
+
+      // Without a resource set, the proxies are resolved as soon as each tree is loaded, so all trees are loaded.
+      //
+      resource.getContents().get(0);
+      for (Iterator<EObject> i = resource.getAllContents(); i.hasNext(); )
+      {
+        for (EObject eObject : i.next().eCrossReferences())
+        {
+          assertFalse(eObject.eIsProxy());
+          assertSame(resource, eObject.eResource());
+        }
+      }
+      assertTrue(EcoreUtil.equals(nodes, resource.getContents()));
+
+      // Saving the loaded resource in the usual format produces the same result as saving the original.
+      //
+      ByteArrayOutputStream expectedOutputStream = new ByteArrayOutputStream();
+      Resource expectedResource = new BinaryResourceImpl(resourceURI);
+      expectedResource.getContents().addAll(nodes);
+      expectedResource.save(expectedOutputStream, null);
+      ByteArrayOutputStream actualOutputStream = new ByteArrayOutputStream();
+      resource.save(actualOutputStream, null);
+      assertTrue(Arrays.equals(expectedOutputStream.toByteArray(), actualOutputStream.toByteArray()));
+    }
+    finally
+    {
+      EPackage.Registry.INSTANCE.remove(ePackage.getNsURI());
+    }
+  }
 }
@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.ConcurrentECrossReferenceAdapter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ConcurrentECrossReferenceAdapterTest
+{
+  private static final int CLASS_COUNT = 100;
+
+  private static final int READER_COUNT = 4;
+
+  private EPackage ePackage;
+
+  private EClass baseEClass;
+
+  private Resource resource;
+
+  private SnapshotCountingAdapter adapter;
+
+  private ExecutorService executor;
+
+  static class SnapshotCountingAdapter extends ConcurrentECrossReferenceAdapter
+  {
+    class SnapshotCountingInverseCrossReferencer extends ConcurrentInverseCrossReferencer
+    {
+      private static final long serialVersionUID = 1L;
+
+      public int getSnapshotCount()
+      {
+        return snapshots.size();
+      }
+    }
+
+    @Override
+    protected InverseCrossReferencer createInverseCrossReferencer()
+    {
+      return new SnapshotCountingInverseCrossReferencer();
+    }
+
+    public int getSnapshotCount()
+    {
+      return ((SnapshotCountingInverseCrossReferencer)inverseCrossReferencer).getSnapshotCount();
+    }
+  }
+
+  @Before
+  public void setUp()
+  {
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("concurrent");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/concurrent");
+    baseEClass = EcoreFactory.eINSTANCE.createEClass();
+    baseEClass.setName("Base");
+    ePackage.getEClassifiers().add(baseEClass);
+
+    resource = new ResourceImpl(URI.createURI("http:///concurrent.ecore"));
+    resource.getContents().add(ePackage);
+    adapter = new SnapshotCountingAdapter();
+    resource.eAdapters().add(adapter);
+
+    executor = Executors.newFixedThreadPool(READER_COUNT);
+  }
+
+  @After
+  public void tearDown()
+  {
+    executor.shutdownNow();
+  }
+
+  protected EClass createSubclass(int index)
+  {
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName("Class" + index);
+    eClass.getESuperTypes().add(baseEClass);
+    return eClass;
+  }
+
+  protected int countSubclasses(Collection<EStructuralFeature.Setting> settings)
+  {
+    int result = 0;
+    for (EStructuralFeature.Setting setting : settings)
+    {
+      if (setting.getEStructuralFeature() == EcorePackage.Literals.ECLASS__ESUPER_TYPES)
+      {
+        ++result;
+      }
+    }
+    return result;
+  }
+
+  @Test
+  public void testSnapshots() throws Exception
+  {
+    for (int i = 0; i < CLASS_COUNT; ++i)
+    {
+      ePackage.getEClassifiers().add(createSubclass(i));
+    }
+
+    // Another thread sees a snapshot that reflects each change.
+    //
+    Callable<Integer> count =
+      new Callable<Integer>()
+      {
+        public Integer call() throws Exception
+        {
+          return countSubclasses(adapter.getNonNavigableInverseReferences(baseEClass));
+        }
+      };
+    assertEquals(CLASS_COUNT, executor.submit(count).get().intValue());
+
+    Collection<EStructuralFeature.Setting> snapshot = executor.submit
+      (new Callable<Collection<EStructuralFeature.Setting>>()
+       {
+         public Collection<EStructuralFeature.Setting> call() throws Exception
+         {
+           return adapter.getNonNavigableInverseReferences(baseEClass);
+         }
+       }).get();
+    try
+    {
+      snapshot.clear();
+      fail("Expecting an unmodifiable snapshot");
+    }
+    catch (UnsupportedOperationException exception)
+    {
+      // Expected.
+    }
+
+    ((EClass)ePackage.getEClassifiers().get(1)).getESuperTypes().clear();
+    assertEquals(CLASS_COUNT - 1, executor.submit(count).get().intValue());
+    assertEquals(CLASS_COUNT, countSubclasses(snapshot));
+
+    ePackage.getEClassifiers().add(createSubclass(CLASS_COUNT));
+    assertEquals(CLASS_COUNT, executor.submit(count).get().intValue());
+
+    // The snapshot of an object that isn't referenced is empty.
+    //
+    EClass subclass = (EClass)ePackage.getEClassifiers().get(1);
+    assertTrue(executor.submit(new Callable<Collection<EStructuralFeature.Setting>>()
+      {
+        public Collection<EStructuralFeature.Setting> call() throws Exception
+        {
+          return adapter.getNonNavigableInverseReferences(ePackage.getEClassifiers().get(1));
+        }
+      }).get().isEmpty());
+
+    // The snapshot is discarded when the object starts being referenced.
+    //
+    ((EClass)ePackage.getEClassifiers().get(2)).getESuperTypes().add(subclass);
+    assertEquals(1, executor.submit(new Callable<Integer>()
+      {
+        public Integer call() throws Exception
+        {
+          return countSubclasses(adapter.getNonNavigableInverseReferences(ePackage.getEClassifiers().get(1)));
+        }
+      }).get().intValue());
+
+    // The snapshots are discarded when the resource is unloaded.
+    //
+    resource.unload();
+    assertEquals(0, executor.submit(count).get().intValue());
+  }
+
+  @Test
+  public void testConcurrentReaders() throws Exception
+  {
+    final AtomicBoolean done = new AtomicBoolean();
+    List<Future<Integer>> readers = new ArrayList<Future<Integer>>();
+    for (int i = 0; i < READER_COUNT; ++i)
+    {
+      readers.add
+        (executor.submit
+          (new Callable<Integer>()
+           {
+             public Integer call() throws Exception
+             {
+               int result = 0;
+               int previousCount = 0;
+               while (!done.get())
+               {
+                 // The writer only adds subclasses, so each snapshot has at least as many as the previous.
+                 //
+                 int count = countSubclasses(adapter.getInverseReferences(baseEClass));
+                 assertTrue(count >= previousCount);
+                 previousCount = count;
+                 ++result;
+               }
+               return result;
+             }
+           }));
+    }
+
+    for (int i = 0; i < CLASS_COUNT * 10; ++i)
+    {
+      ePackage.getEClassifiers().add(createSubclass(i));
+    }
+    done.set(true);
+
+    for (Future<Integer> reader : readers)
+    {
+      assertTrue(reader.get().intValue() > 0);
+    }
+    assertEquals(CLASS_COUNT * 10, countSubclasses(adapter.getInverseReferences(baseEClass)));
+    assertSame(adapter, ConcurrentECrossReferenceAdapter.getCrossReferenceAdapter(baseEClass));
+  }
+
+  @Test
+  public void testNoSnapshotsOfUnadaptedObjects() throws Exception
+  {
+    // Looking up objects the adapter isn't attached to doesn't retain their empty snapshots.
+    //
+    for (int i = 0; i < CLASS_COUNT; ++i)
+    {
+      final EClass eClass = createSubclass(i);
+      assertTrue(executor.submit(new Callable<Collection<EStructuralFeature.Setting>>()
+        {
+          public Collection<EStructuralFeature.Setting> call() throws Exception
+          {
+            return adapter.getNonNavigableInverseReferences(eClass);
+          }
+        }).get().isEmpty());
+    }
+    assertEquals(0, adapter.getSnapshotCount());
+
+    // The empty snapshot of an object in the model is retained until the adapter is removed from the object.
+    //
+    executor.submit(new Callable<Collection<EStructuralFeature.Setting>>()
+      {
+        public Collection<EStructuralFeature.Setting> call() throws Exception
+        {
+          return adapter.getNonNavigableInverseReferences(ePackage);
+        }
+      }).get();
+    assertEquals(1, adapter.getSnapshotCount());
+    resource.eAdapters().remove(adapter);
+    assertEquals(0, adapter.getSnapshotCount());
+  }
+}
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ContentHandler;
+import org.eclipse.emf.ecore.resource.URIHandler;
+import org.eclipse.emf.ecore.resource.impl.ContentHandlerImpl;
+import org.eclipse.emf.ecore.resource.impl.ExtensibleURIConverterImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ContentDescriptionCacheTest
+{
+  private static final Map<?, ?> OPTIONS = Collections.singletonMap(ContentHandler.OPTION_REQUESTED_PROPERTIES, Collections.singleton(ContentHandler.CONTENT_TYPE_PROPERTY));
+
+  /**
+   * A content handler that counts how often it examines contents.
+   */
+  private static class CountingContentHandler extends ContentHandlerImpl
+  {
+    int count;
+
+    @Override
+    public Map<String, Object> contentDescription(URI uri, InputStream inputStream, Map<?, ?> options, Map<Object, Object> context) throws IOException
+    {
+      ++count;
+      Map<String, Object> result = createContentDescription(ContentHandler.Validity.VALID);
+      result.put(ContentHandler.CONTENT_TYPE_PROPERTY, "test");
+      return result;
+    }
+  }
+
+  private File file;
+
+  private URI uri;
+
+  private CountingContentHandler contentHandler;
+
+  private ExtensibleURIConverterImpl uriConverter;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    file = File.createTempFile("content", ".test");
+    write("<content/>");
+    uri = URI.createFileURI(file.getAbsolutePath());
+    contentHandler = new CountingContentHandler();
+    uriConverter = new ExtensibleURIConverterImpl(URIHandler.DEFAULT_HANDLERS, Collections.<ContentHandler>singleton(contentHandler));
+  }
+
+  @After
+  public void tearDown()
+  {
+    file.delete();
+  }
+
+  private void write(String contents) throws IOException
+  {
+    OutputStream outputStream = new FileOutputStream(file);
+    try
+    {
+      outputStream.write(contents.getBytes("UTF-8"));
+    }
+    finally
+    {
+      outputStream.close();
+    }
+  }
+
+  @Test
+  public void testCache() throws Exception
+  {
+    // Without a cache, the contents are examined each time.
+    //
+    uriConverter.contentDescription(uri, OPTIONS);
+    uriConverter.contentDescription(uri, OPTIONS);
+    assertEquals(2, contentHandler.count);
+
+    ExtensibleURIConverterImpl.ContentDescriptionCacheImpl cache = new ExtensibleURIConverterImpl.ContentDescriptionCacheImpl();
+    uriConverter.setContentDescriptionCache(cache);
+    uriConverter.contentDescription(uri, OPTIONS);
+    assertEquals(3, contentHandler.count);
+    Map<String, ?> contentDescription = uriConverter.contentDescription(uri, OPTIONS);
+    assertSame(contentDescription, uriConverter.contentDescription(uri, OPTIONS));
+    assertEquals(3, contentHandler.count);
+    assertEquals("test", contentDescription.get(ContentHandler.CONTENT_TYPE_PROPERTY));
+
+    // The cached description can't be modified.
+    //
+    try
+    {
+      contentDescription.clear();
+      fail("Expecting an UnsupportedOperationException");
+    }
+    catch (UnsupportedOperationException exception)
+    {
+      // Expected.
+    }
+
+    // Different requested properties need a different description.
+    //
+    assertNotSame(contentDescription, uriConverter.contentDescription(uri, null));
+    assertEquals(4, contentHandler.count);
+
+    // Changed contents need a new description.
+    //
+    write("<changed-content/>");
+    uriConverter.contentDescription(uri, OPTIONS);
+    assertEquals(5, contentHandler.count);
+    uriConverter.contentDescription(uri, OPTIONS);
+    assertEquals(5, contentHandler.count);
+
+    // Writing via the converter discards the description.
+    //
+    uriConverter.createOutputStream(uri).close();
+    uriConverter.contentDescription(uri, OPTIONS);
+    assertEquals(6, contentHandler.count);
+  }
+
+  @Test
+  public void testPersistence() throws Exception
+  {
+    ExtensibleURIConverterImpl.ContentDescriptionCacheImpl cache = new ExtensibleURIConverterImpl.ContentDescriptionCacheImpl();
+    uriConverter.setContentDescriptionCache(cache);
+    Map<String, ?> contentDescription = uriConverter.contentDescription(uri, OPTIONS);
+    assertEquals(1, contentHandler.count);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    cache.save(outputStream);
+
+    ExtensibleURIConverterImpl.ContentDescriptionCacheImpl loadedCache = new ExtensibleURIConverterImpl.ContentDescriptionCacheImpl();
+    loadedCache.load(new ByteArrayInputStream(outputStream.toByteArray()));
+    assertEquals(1, loadedCache.size());
+    uriConverter.setContentDescriptionCache(loadedCache);
+    assertEquals(contentDescription, uriConverter.contentDescription(uri, OPTIONS));
+    assertEquals(1, contentHandler.count);
+  }
+
+  @Test
+  public void testLoadInvalid() throws Exception
+  {
+    // Java serialization isn't accepted.
+    //
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+    objectOutputStream.writeObject(Collections.singletonMap(uri.toString(), "value"));
+    objectOutputStream.close();
+
+    ExtensibleURIConverterImpl.ContentDescriptionCacheImpl cache = new ExtensibleURIConverterImpl.ContentDescriptionCacheImpl();
+    try
+    {
+      cache.load(new ByteArrayInputStream(outputStream.toByteArray()));
+      fail("Expecting an IOException");
+    }
+    catch (IOException exception)
+    {
+      // Expected.
+    }
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testSharedCache() throws Exception
+  {
+    ExtensibleURIConverterImpl.ContentDescriptionCacheImpl cache = new ExtensibleURIConverterImpl.ContentDescriptionCacheImpl();
+    uriConverter.setContentDescriptionCache(cache);
+    uriConverter.contentDescription(uri, OPTIONS);
+    assertEquals(1, contentHandler.count);
+
+    // A converter with the same content handlers reuses the description.
+    //
+    ExtensibleURIConverterImpl otherURIConverter =
+      new ExtensibleURIConverterImpl(URIHandler.DEFAULT_HANDLERS, Collections.<ContentHandler>singleton(new CountingContentHandler()));
+    otherURIConverter.setContentDescriptionCache(cache);
+    otherURIConverter.contentDescription(uri, OPTIONS);
+    assertEquals(0, ((CountingContentHandler)otherURIConverter.getContentHandlers().get(0)).count);
+
+    // A converter with different content handlers doesn't.
+    //
+    otherURIConverter = new ExtensibleURIConverterImpl(URIHandler.DEFAULT_HANDLERS, Collections.<ContentHandler>emptyList());
+    otherURIConverter.setContentDescriptionCache(cache);
+    assertEquals(ContentHandler.INVALID_CONTENT_DESCRIPTION, otherURIConverter.contentDescription(uri, OPTIONS));
+    assertEquals(1, contentHandler.count);
+  }
+
+  @Test
+  public void testEviction() throws Exception
+  {
+    ExtensibleURIConverterImpl.ContentDescriptionCacheImpl cache = new ExtensibleURIConverterImpl.ContentDescriptionCacheImpl(1);
+    uriConverter.setContentDescriptionCache(cache);
+    File otherFile = File.createTempFile("content", ".test");
+    try
+    {
+      URI otherURI = URI.createFileURI(otherFile.getAbsolutePath());
+      uriConverter.contentDescription(uri, OPTIONS);
+      uriConverter.contentDescription(otherURI, OPTIONS);
+      assertEquals(1, cache.size());
+      assertEquals(2, contentHandler.count);
+
+      // The least recently used entry was evicted.
+      //
+      uriConverter.contentDescription(otherURI, OPTIONS);
+      assertEquals(2, contentHandler.count);
+      uriConverter.contentDescription(uri, OPTIONS);
+      assertEquals(3, contentHandler.count);
+    }
+    finally
+    {
+      otherFile.delete();
+    }
+  }
+}
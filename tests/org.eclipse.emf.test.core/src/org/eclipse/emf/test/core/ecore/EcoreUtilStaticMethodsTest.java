@@ -12,11 +12,14 @@ package org.eclipse.emf.test.core.ecore;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.emf.ecore.EAnnotation;
@@ -50,6 +53,54 @@ public class EcoreUtilStaticMethodsTest
     assertTrue(xsdComplexTypeDefinitionCopy.isSetLexicalFinal());
   }
 
+  @Test
+  public void testBulkCopyUnsettableSetEmptyList()
+  {
+    XSDComplexTypeDefinition xsdComplexTypeDefinition = XSDFactory.eINSTANCE.createXSDComplexTypeDefinition();
+    xsdComplexTypeDefinition.getLexicalFinal().clear();
+    EcoreUtil.BulkCopier copier = new EcoreUtil.BulkCopier();
+    XSDComplexTypeDefinition xsdComplexTypeDefinitionCopy = (XSDComplexTypeDefinition)copier.copy(xsdComplexTypeDefinition);
+    copier.copyReferences();
+    assertTrue(xsdComplexTypeDefinitionCopy.isSetLexicalFinal());
+  }
+
+  @Test
+  public void testBulkCopy()
+  {
+    // The Ecore package has bidirectional references, many-valued containments, and references outside the copied tree.
+    //
+    EcoreUtil.BulkCopier bulkCopier = new EcoreUtil.BulkCopier();
+    Collection<EObject> bulkCopies = bulkCopier.copyAll(Collections.<EObject>singleton(EcorePackage.eINSTANCE));
+    bulkCopier.copyReferences();
+    EcoreUtil.Copier copier = new EcoreUtil.Copier();
+    Collection<EObject> copies = copier.copyAll(Collections.<EObject>singleton(EcorePackage.eINSTANCE));
+    copier.copyReferences();
+    assertTrue(EcoreUtil.equals(new ArrayList<EObject>(copies), new ArrayList<EObject>(bulkCopies)));
+    assertEquals(copier.size(), bulkCopier.size());
+
+    EPackage ePackageCopy = (EPackage)bulkCopies.iterator().next();
+    EClass eClassCopy = (EClass)ePackageCopy.getEClassifier("EClass");
+    assertSame(eClassCopy, bulkCopier.get(EcorePackage.Literals.ECLASS));
+    assertSame(ePackageCopy.getEClassifier("EClassifier"), eClassCopy.getESuperTypes().get(0));
+    assertSame(ePackageCopy.getEClassifier("EString"), ((EAttribute)((EClass)ePackageCopy.getEClassifier("ENamedElement")).getEStructuralFeatures().get(0)).getEType());
+    EReference eReferenceCopy = (EReference)eClassCopy.getEStructuralFeature("eOperations");
+    assertSame(((EClass)ePackageCopy.getEClassifier("EOperation")).getEStructuralFeature("eContainingClass"), eReferenceCopy.getEOpposite());
+
+    // A reference to an object that isn't copied refers to the original.
+    //
+    EcoreUtil.BulkCopier namedElementBulkCopier = new EcoreUtil.BulkCopier();
+    EClass namedElementCopy = (EClass)namedElementBulkCopier.copy(EcorePackage.Literals.ENAMED_ELEMENT);
+    namedElementBulkCopier.copyReferences();
+    assertSame(EcorePackage.Literals.ESTRING, ((EAttribute)namedElementCopy.getEStructuralFeatures().get(0)).getEType());
+
+    // Delivery is turned back on.
+    //
+    for (Iterator<EObject> i = ePackageCopy.eAllContents(); i.hasNext(); )
+    {
+      assertTrue(i.next().eDeliver());
+    }
+  }
+
   @Test
   public void testGenerateUUID()
   {
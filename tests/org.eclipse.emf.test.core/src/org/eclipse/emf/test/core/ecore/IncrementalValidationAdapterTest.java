@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EValidatorRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.IncrementalValidationAdapter;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class IncrementalValidationAdapterTest
+{
+  private static final int COUNT = 100;
+
+  private EClass nodeEClass;
+
+  private EAttribute nameEAttribute;
+
+  private EReference childrenEReference;
+
+  private EReference sameAsEReference;
+
+  private List<EObject> validatedObjects;
+
+  private Resource resource;
+
+  private IncrementalValidationAdapter adapter;
+
+  /**
+   * A validator that reports an error for each node without a name
+   * and for each node whose name differs from the name of the node it's declared to be the same as.
+   */
+  protected class NodeValidator implements EValidator
+  {
+    public boolean validate(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context)
+    {
+      return validate(eObject.eClass(), eObject, diagnostics, context);
+    }
+
+    public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context)
+    {
+      validatedObjects.add(eObject);
+      boolean result = true;
+      Object name = eObject.eGet(nameEAttribute);
+      if (name == null)
+      {
+        diagnostics.add(new BasicDiagnostic(Diagnostic.ERROR, "test", 0, "unnamed", new Object [] { eObject }));
+        result = false;
+      }
+      EObject sameAs = (EObject)eObject.eGet(sameAsEReference);
+      if (sameAs != null)
+      {
+        ((IncrementalValidationAdapter)context.get(IncrementalValidationAdapter.class)).addDependency(eObject, sameAs);
+        if (name == null ? sameAs.eGet(nameEAttribute) != null : !name.equals(sameAs.eGet(nameEAttribute)))
+        {
+          diagnostics.add(new BasicDiagnostic(Diagnostic.ERROR, "test", 1, "different", new Object [] { eObject }));
+          result = false;
+        }
+      }
+      return result;
+    }
+
+    public boolean validate(EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context)
+    {
+      return true;
+    }
+  }
+
+  @Before
+  public void setUp()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("incremental");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/incremental");
+    nodeEClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeEClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeEClass);
+    nameEAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    nameEAttribute.setName("name");
+    nameEAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nodeEClass.getEStructuralFeatures().add(nameEAttribute);
+    childrenEReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenEReference.setName("children");
+    childrenEReference.setEType(nodeEClass);
+    childrenEReference.setContainment(true);
+    childrenEReference.setUpperBound(-1);
+    nodeEClass.getEStructuralFeatures().add(childrenEReference);
+    sameAsEReference = EcoreFactory.eINSTANCE.createEReference();
+    sameAsEReference.setName("sameAs");
+    sameAsEReference.setEType(nodeEClass);
+    nodeEClass.getEStructuralFeatures().add(sameAsEReference);
+
+    validatedObjects = new ArrayList<EObject>();
+    EValidator.Registry eValidatorRegistry = new EValidatorRegistryImpl();
+    eValidatorRegistry.put(ePackage, new NodeValidator());
+
+    EObject root = createNode("root");
+    for (int i = 0; i < COUNT; ++i)
+    {
+      getChildren(root).add(createNode("child" + i));
+    }
+    resource = new ResourceImpl(URI.createURI("http:///incremental.xmi"));
+    resource.getContents().add(root);
+
+    adapter = new IncrementalValidationAdapter(new Diagnostician(eValidatorRegistry));
+    resource.eAdapters().add(adapter);
+  }
+
+  protected EObject createNode(String name)
+  {
+    EObject result = EcoreUtil.create(nodeEClass);
+    result.eSet(nameEAttribute, name);
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List<EObject> getChildren(EObject eObject)
+  {
+    return (List<EObject>)eObject.eGet(childrenEReference);
+  }
+
+  protected EObject getChild(int index)
+  {
+    return getChildren(resource.getContents().get(0)).get(index);
+  }
+
+  @Test
+  public void testIncrementalValidation()
+  {
+    // Initially every object is validated.
+    //
+    assertTrue(adapter.isDirty());
+    assertEquals(Diagnostic.OK, adapter.validate().getSeverity());
+    assertEquals(COUNT + 1, validatedObjects.size());
+    assertFalse(adapter.isDirty());
+
+    // Nothing has changed.
+    //
+    validatedObjects.clear();
+    assertEquals(Diagnostic.OK, adapter.validate().getSeverity());
+    assertTrue(validatedObjects.isEmpty());
+
+    // Only the changed object and its container are revalidated.
+    //
+    EObject child = getChild(5);
+    child.eUnset(nameEAttribute);
+    Diagnostic diagnostic = adapter.validate();
+    assertEquals(Diagnostic.ERROR, diagnostic.getSeverity());
+    assertEquals(1, diagnostic.getChildren().size());
+    assertEquals("unnamed", diagnostic.getChildren().get(0).getMessage());
+    assertEquals(2, validatedObjects.size());
+    assertTrue(validatedObjects.contains(child));
+    assertEquals(1, adapter.getDiagnostics().size());
+    assertTrue(adapter.getDiagnostics().containsKey(child));
+
+    // Fixing it removes the diagnostic.
+    //
+    validatedObjects.clear();
+    child.eSet(nameEAttribute, "child5");
+    assertEquals(Diagnostic.OK, adapter.validate().getSeverity());
+    assertTrue(adapter.getDiagnostics().isEmpty());
+    assertEquals(2, validatedObjects.size());
+
+    // Removing an invalid object removes its diagnostic; adding one validates it.
+    //
+    child.eUnset(nameEAttribute);
+    assertEquals(Diagnostic.ERROR, adapter.validate().getSeverity());
+    EcoreUtil.remove(child);
+    validatedObjects.clear();
+    assertEquals(Diagnostic.OK, adapter.validate().getSeverity());
+    assertEquals(1, validatedObjects.size());
+    EObject newChild = createNode(null);
+    getChildren(getChild(0)).add(newChild);
+    validatedObjects.clear();
+    assertEquals(Diagnostic.ERROR, adapter.validate().getSeverity());
+
+    // The new object, the object that contains it, and that object's container.
+    //
+    assertEquals(3, validatedObjects.size());
+    assertTrue(validatedObjects.contains(newChild));
+  }
+
+  @Test
+  public void testDependencies()
+  {
+    EObject child = getChild(1);
+    EObject otherChild = getChild(2);
+    otherChild.eSet(nameEAttribute, "child1");
+    child.eSet(sameAsEReference, otherChild);
+    assertEquals(Diagnostic.OK, adapter.validate().getSeverity());
+
+    // Changing the name of the referenced object revalidates the object that declared a dependency on it.
+    //
+    validatedObjects.clear();
+    otherChild.eSet(nameEAttribute, "child2");
+    Diagnostic diagnostic = adapter.validate();
+    assertEquals(Diagnostic.ERROR, diagnostic.getSeverity());
+    assertEquals("different", diagnostic.getChildren().get(0).getMessage());
+    assertEquals(3, validatedObjects.size());
+    assertTrue(validatedObjects.contains(child));
+
+    // Once the reference is cleared, the dependency is gone too.
+    //
+    child.eUnset(sameAsEReference);
+    assertEquals(Diagnostic.OK, adapter.validate().getSeverity());
+    validatedObjects.clear();
+    otherChild.eSet(nameEAttribute, "child1");
+    adapter.validate();
+    assertFalse(validatedObjects.contains(child));
+
+    // Removing the referenced object revalidates the object that depended on it.
+    //
+    child.eSet(sameAsEReference, otherChild);
+    adapter.validate();
+    validatedObjects.clear();
+    EcoreUtil.remove(otherChild);
+    adapter.validate();
+    assertTrue(validatedObjects.contains(child));
+  }
+
+  @Test
+  public void testRemoveAdapter()
+  {
+    getChild(3).eUnset(nameEAttribute);
+    assertEquals(Diagnostic.ERROR, adapter.validate().getSeverity());
+    resource.eAdapters().remove(adapter);
+    assertTrue(adapter.getDiagnostics().isEmpty());
+    assertFalse(getChild(3).eAdapters().contains(adapter));
+  }
+}
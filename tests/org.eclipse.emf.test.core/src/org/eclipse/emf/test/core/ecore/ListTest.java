@@ -10,9 +10,14 @@
  */
 package org.eclipse.emf.test.core.ecore;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -22,16 +27,23 @@ import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.notify.impl.DelegatingNotifyingListImpl;
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.ETypedElement;
 import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EDataTypeBooleanEList;
+import org.eclipse.emf.ecore.util.EDataTypeDoubleEList;
+import org.eclipse.emf.ecore.util.EDataTypeIntEList;
+import org.eclipse.emf.ecore.util.EDataTypeLongEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
 import org.junit.Test;
@@ -207,4 +219,155 @@ public class ListTest
 
     assertEquals(2, notificationCount);
   }
+
+  protected InternalEObject createPrimitiveListOwner(EDataType eDataType, boolean unique, boolean unsettable)
+  {
+    EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    eAttribute.setName("values");
+    eAttribute.setEType(eDataType);
+    eAttribute.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+    eAttribute.setUnique(unique);
+    eAttribute.setUnsettable(unsettable);
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName("Owner");
+    eClass.getEStructuralFeatures().add(eAttribute);
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("primitive");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/primitive");
+    ePackage.getEClassifiers().add(eClass);
+    return (InternalEObject)EcoreUtil.create(eClass);
+  }
+
+  @Test
+  public void testPrimitiveIntList()
+  {
+    InternalEObject owner = createPrimitiveListOwner(EcorePackage.Literals.EINT, false, false);
+    final List<Notification> notifications = new ArrayList<Notification>();
+    owner.eAdapters().add
+      (new AdapterImpl()
+       {
+         @Override
+         public void notifyChanged(Notification notification)
+         {
+           notifications.add(notification);
+         }
+       });
+
+    EDataTypeIntEList list = new EDataTypeIntEList(owner, 0);
+    for (int i = 0; i < 100; ++i)
+    {
+      list.addInt(i % 10);
+    }
+    assertEquals(100, list.size());
+    assertEquals(100, notifications.size());
+    assertEquals(Notification.ADD, notifications.get(99).getEventType());
+    assertEquals(9, notifications.get(99).getNewValue());
+    assertEquals(99, notifications.get(99).getPosition());
+
+    assertEquals(7, list.getInt(57));
+    assertEquals(Integer.valueOf(7), list.get(57));
+    assertEquals(3, list.indexOfInt(3));
+    assertEquals(93, list.lastIndexOfInt(3));
+    assertEquals(3, list.indexOf(3));
+    assertEquals(-1, list.indexOf(3L));
+    assertTrue(list.containsInt(9));
+    assertFalse(list.containsInt(10));
+
+    list.addInt(0, -1);
+    assertEquals(-1, list.getInt(0));
+    assertEquals(0, list.getInt(1));
+    assertEquals(Integer.valueOf(-1), list.remove(0));
+    assertEquals(0, list.setInt(0, 42));
+    assertEquals(42, list.getInt(0));
+    list.move(99, 0);
+    assertEquals(42, list.getInt(99));
+    list.addAll(50, Arrays.asList(100, 101, 102));
+    assertEquals(103, list.size());
+    assertEquals(101, list.getInt(51));
+    assertEquals(1, list.getInt(53));
+
+    int [] values = list.toIntArray();
+    assertEquals(103, values.length);
+    for (int i = 0; i < values.length; ++i)
+    {
+      assertEquals(list.get(i).intValue(), values[i]);
+    }
+
+    try
+    {
+      list.add(null);
+      fail("Expecting null to be rejected");
+    }
+    catch (IllegalArgumentException exception)
+    {
+      // Expected.
+    }
+    try
+    {
+      list.getInt(103);
+      fail("Expecting an index out of bounds");
+    }
+    catch (IndexOutOfBoundsException exception)
+    {
+      // Expected.
+    }
+
+    notifications.clear();
+    list.clear();
+    assertTrue(list.isEmpty());
+    assertEquals(1, notifications.size());
+    assertEquals(Notification.REMOVE_MANY, notifications.get(0).getEventType());
+  }
+
+  @Test
+  public void testPrimitiveUniqueLongList()
+  {
+    InternalEObject owner = createPrimitiveListOwner(EcorePackage.Literals.ELONG, true, true);
+    EDataTypeLongEList list = new EDataTypeLongEList(owner, 0, true);
+    assertFalse(list.isSet());
+    assertTrue(list.addLong(Long.MAX_VALUE));
+    assertFalse(list.addLong(Long.MAX_VALUE));
+    assertTrue(list.addLong(Long.MIN_VALUE));
+    assertTrue(list.isSet());
+    assertArrayEquals(new long [] { Long.MAX_VALUE, Long.MIN_VALUE }, list.toLongArray());
+    list.unset();
+    assertFalse(list.isSet());
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  public void testPrimitiveDoubleList()
+  {
+    InternalEObject owner = createPrimitiveListOwner(EcorePackage.Literals.EDOUBLE, false, false);
+    EDataTypeDoubleEList list = new EDataTypeDoubleEList(owner, 0);
+    list.addDouble(0.0);
+    list.addDouble(Double.NaN);
+    list.addDouble(-0.0);
+    list.addDouble(1.5);
+
+    // Values compare as they do for Double.equals.
+    //
+    assertEquals(1, list.indexOfDouble(Double.NaN));
+    assertEquals(2, list.indexOf(-0.0));
+    assertEquals(0, list.indexOf(0.0));
+    assertEquals(1.5, list.getDouble(3), 0.0);
+    assertArrayEquals(new double [] { 0.0, Double.NaN, -0.0, 1.5 }, list.toDoubleArray(), 0.0);
+    assertEquals(Arrays.asList(0.0, Double.NaN, -0.0, 1.5), list);
+  }
+
+  @Test
+  public void testPrimitiveBooleanList()
+  {
+    InternalEObject owner = createPrimitiveListOwner(EcorePackage.Literals.EBOOLEAN, false, false);
+    EDataTypeBooleanEList list = new EDataTypeBooleanEList(owner, 0);
+    list.addBoolean(true);
+    list.addBoolean(false);
+    list.addBoolean(true);
+    assertEquals(1, list.indexOfBoolean(false));
+    assertEquals(2, list.lastIndexOfBoolean(true));
+    assertTrue(list.getBoolean(2));
+    list.remove(Boolean.TRUE);
+    assertFalse(list.getBoolean(0));
+    assertEquals(Arrays.asList(false, true), list);
+  }
 }
@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EValidatorRegistryImpl;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for {@link Diagnostician#VALIDATE_IN_PARALLEL parallel validation}.
+ */
+public class ParallelDiagnosticianTest
+{
+  private static final int FAN_OUT = 4;
+
+  private static final int DEPTH = 6;
+
+  private EPackage ePackage;
+
+  private EClass nodeEClass;
+
+  private EAttribute nameEAttribute;
+
+  private EReference childrenEReference;
+
+  private EObject root;
+
+  private NodeValidator nodeValidator;
+
+  private Diagnostician diagnostician;
+
+  private ForkJoinPool forkJoinPool;
+
+  /**
+   * A validator that reports a warning for each node whose name ends with <code>7</code>
+   * and that records how many threads call it concurrently.
+   */
+  protected class NodeValidator implements EValidator
+  {
+    protected final AtomicInteger activeCount = new AtomicInteger();
+
+    protected final AtomicInteger maximumActiveCount = new AtomicInteger();
+
+    protected final AtomicInteger validateCount = new AtomicInteger();
+
+    public boolean validate(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context)
+    {
+      return validate(eObject.eClass(), eObject, diagnostics, context);
+    }
+
+    public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context)
+    {
+      int active = activeCount.incrementAndGet();
+      try
+      {
+        for (int maximum = maximumActiveCount.get(); active > maximum && !maximumActiveCount.compareAndSet(maximum, active); maximum = maximumActiveCount.get())
+        {
+          // Retry.
+        }
+        validateCount.incrementAndGet();
+
+        // Give other threads a chance to overlap.
+        //
+        Thread.yield();
+
+        String name = (String)eObject.eGet(nameEAttribute);
+        if (name.endsWith("7"))
+        {
+          if (diagnostics != null)
+          {
+            diagnostics.add(new BasicDiagnostic(Diagnostic.WARNING, "test", 0, name, new Object [] { eObject }));
+          }
+          return false;
+        }
+        return true;
+      }
+      finally
+      {
+        activeCount.decrementAndGet();
+      }
+    }
+
+    public boolean validate(EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context)
+    {
+      return true;
+    }
+  }
+
+  @Before
+  public void setUp()
+  {
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("parallel");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/parallel");
+    nodeEClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeEClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeEClass);
+    nameEAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    nameEAttribute.setName("name");
+    nameEAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nodeEClass.getEStructuralFeatures().add(nameEAttribute);
+    childrenEReference = EcoreFactory.eINSTANCE.createEReference();
+    childrenEReference.setName("children");
+    childrenEReference.setEType(nodeEClass);
+    childrenEReference.setContainment(true);
+    childrenEReference.setUpperBound(-1);
+    nodeEClass.getEStructuralFeatures().add(childrenEReference);
+    EcoreUtil.freeze(ePackage);
+
+    root = createTree("n", DEPTH);
+
+    nodeValidator = new NodeValidator();
+    EValidator.Registry eValidatorRegistry = new EValidatorRegistryImpl();
+    eValidatorRegistry.put(ePackage, nodeValidator);
+    diagnostician = new Diagnostician(eValidatorRegistry);
+
+    forkJoinPool = new ForkJoinPool(4);
+  }
+
+  @After
+  public void tearDown()
+  {
+    forkJoinPool.shutdownNow();
+  }
+
+  protected EObject createTree(String name, int depth)
+  {
+    EObject result = EcoreUtil.create(nodeEClass);
+    result.eSet(nameEAttribute, name);
+    if (depth > 0)
+    {
+      @SuppressWarnings("unchecked")
+      List<EObject> children = (List<EObject>)result.eGet(childrenEReference);
+      for (int i = 0; i < FAN_OUT; ++i)
+      {
+        children.add(createTree(name + "." + (i + 4), depth - 1));
+      }
+    }
+    return result;
+  }
+
+  protected int countNodes()
+  {
+    int result = 0;
+    for (int i = 0, count = 1; i <= DEPTH; ++i, count *= FAN_OUT)
+    {
+      result += count;
+    }
+    return result;
+  }
+
+  protected List<String> getMessages(Diagnostic diagnostic)
+  {
+    List<String> result = new ArrayList<String>();
+    for (Diagnostic child : diagnostic.getChildren())
+    {
+      result.add(child.getMessage());
+    }
+    return result;
+  }
+
+  protected Map<Object, Object> createParallelContext()
+  {
+    Map<Object, Object> context = new HashMap<Object, Object>();
+    context.put(Diagnostician.VALIDATE_IN_PARALLEL, forkJoinPool);
+    return context;
+  }
+
+  @Test
+  public void testDeterministicOrder()
+  {
+    Diagnostic sequentialDiagnostic = diagnostician.validate(root);
+    assertEquals(countNodes(), nodeValidator.validateCount.get());
+    List<String> expectedMessages = getMessages(sequentialDiagnostic);
+    assertFalse(expectedMessages.isEmpty());
+
+    Map<Object, Object> context = createParallelContext();
+    context.put(Diagnostician.THREAD_SAFE_VALIDATORS, Collections.singleton(nodeValidator));
+    for (int i = 0; i < 5; ++i)
+    {
+      nodeValidator.validateCount.set(0);
+      Diagnostic parallelDiagnostic = diagnostician.validate(root, context);
+      assertEquals(countNodes(), nodeValidator.validateCount.get());
+      assertEquals(sequentialDiagnostic.getSeverity(), parallelDiagnostic.getSeverity());
+      assertEquals(expectedMessages, getMessages(parallelDiagnostic));
+    }
+  }
+
+  @Test
+  public void testSerializedValidator()
+  {
+    Diagnostic diagnostic = diagnostician.validate(root, createParallelContext());
+    assertEquals(countNodes(), nodeValidator.validateCount.get());
+    assertEquals(1, nodeValidator.maximumActiveCount.get());
+    assertEquals(getMessages(diagnostician.validate(root)), getMessages(diagnostic));
+  }
+
+  @Test
+  public void testWithoutDiagnostics()
+  {
+    Map<Object, Object> context = diagnostician.createDefaultContext();
+    context.putAll(createParallelContext());
+    context.put(Diagnostician.THREAD_SAFE_VALIDATORS, Boolean.TRUE);
+    assertFalse(diagnostician.validate(root, null, context));
+    nodeValidator.validateCount.set(0);
+
+    // The context map is restored.
+    //
+    assertEquals(null, context.get(Diagnostician.VALIDATE_RECURSIVELY));
+
+    // A valid tree is valid.
+    //
+    for (Iterator<EObject> i = EcoreUtil.getAllContents(Collections.singleton(root)); i.hasNext(); )
+    {
+      i.next().eSet(nameEAttribute, "valid");
+    }
+    assertTrue(diagnostician.validate(root, null, context));
+    assertEquals(countNodes(), nodeValidator.validateCount.get());
+  }
+}
@@ -0,0 +1,360 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceFactoryImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceSetLoadResourcesTest
+{
+  private static final int COUNT = 50;
+
+  private File directory;
+
+  private List<URI> uris;
+
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    directory = File.createTempFile("loadResources", "");
+    directory.delete();
+    directory.mkdirs();
+
+    // Create a chain of packages, each with a class whose super type is the class in the previous package's resource.
+    //
+    ResourceSet resourceSet = createResourceSet();
+    uris = new ArrayList<URI>();
+    EClass previousEClass = null;
+    for (int i = 0; i < COUNT; ++i)
+    {
+      URI uri = URI.createFileURI(new File(directory, "package" + i + ".ecore").getAbsolutePath());
+      uris.add(uri);
+      Resource resource = resourceSet.createResource(uri);
+      EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+      ePackage.setName("package" + i);
+      ePackage.setNsURI("http://www.eclipse.org/emf/test/loadResources/" + i);
+      EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+      eClass.setName("Class" + i);
+      if (previousEClass != null)
+      {
+        eClass.getESuperTypes().add(previousEClass);
+      }
+      ePackage.getEClassifiers().add(eClass);
+      resource.getContents().add(ePackage);
+      previousEClass = eClass;
+    }
+    for (Resource resource : resourceSet.getResources())
+    {
+      resource.save(null);
+    }
+
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown()
+  {
+    executor.shutdownNow();
+    for (File file : directory.listFiles())
+    {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  protected ResourceSetImpl createResourceSet()
+  {
+    ResourceSetImpl resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new EcoreResourceFactoryImpl());
+    return resourceSet;
+  }
+
+  @Test
+  public void testLoadResources()
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    resourceSet.setURIResourceMap(new HashMap<URI, Resource>());
+    final List<Notification> notifications = new ArrayList<Notification>();
+    resourceSet.eAdapters().add
+      (new AdapterImpl()
+       {
+         @Override
+         public void notifyChanged(Notification notification)
+         {
+           notifications.add(notification);
+         }
+       });
+
+    // Load them in reverse order so that none of the proxies can be resolved while loading.
+    //
+    List<URI> reversedURIs = new ArrayList<URI>(uris);
+    Collections.reverse(reversedURIs);
+    EList<Resource> resources = resourceSet.loadResources(reversedURIs, null, executor);
+
+    assertEquals(COUNT, resources.size());
+    assertEquals(resources, resourceSet.getResources());
+    assertEquals(1, notifications.size());
+    assertEquals(Notification.ADD_MANY, notifications.get(0).getEventType());
+
+    for (int i = 0; i < COUNT; ++i)
+    {
+      Resource resource = resources.get(i);
+      assertSame(reversedURIs.get(i), resource.getURI());
+      assertTrue(resource.isLoaded());
+      assertTrue(resource.getErrors().isEmpty());
+      assertSame(resourceSet, resource.getResourceSet());
+      assertSame(resource, resourceSet.getURIResourceMap().get(reversedURIs.get(i)));
+      assertSame(resource, resourceSet.getResource(reversedURIs.get(i), false));
+    }
+
+    // Proxies between the loaded resources are already resolved.
+    //
+    EClass lastEClass = (EClass)resources.get(0).getContents().get(0).eContents().get(0);
+    assertFalse(((InternalEList<EClass>)lastEClass.getESuperTypes()).basicGet(0).eIsProxy());
+    assertEquals(COUNT - 1, lastEClass.getEAllSuperTypes().size());
+    for (EClass eSuperType : lastEClass.getEAllSuperTypes())
+    {
+      assertFalse(eSuperType.eIsProxy());
+      assertSame(resourceSet, eSuperType.eResource().getResourceSet());
+    }
+    assertEquals(COUNT, resourceSet.getResources().size());
+
+    // Loading again returns the existing resources.
+    //
+    EList<Resource> reloadedResources = resourceSet.loadResources(reversedURIs, null, executor);
+    assertEquals(resources, reloadedResources);
+    assertEquals(COUNT, resourceSet.getResources().size());
+  }
+
+  @Test
+  public void testLoadResourcesWithExistingAndDuplicates()
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    Resource existingResource = resourceSet.createResource(uris.get(0));
+    List<URI> requestedURIs = new ArrayList<URI>(uris.subList(0, 3));
+    requestedURIs.add(uris.get(1));
+    EList<Resource> resources = resourceSet.loadResources(requestedURIs, null, executor);
+    assertEquals(4, resources.size());
+    assertSame(existingResource, resources.get(0));
+    assertTrue(existingResource.isLoaded());
+    assertSame(resources.get(1), resources.get(3));
+    assertEquals(3, resourceSet.getResources().size());
+    assertSame(existingResource, resourceSet.getResources().get(0));
+  }
+
+  @Test
+  public void testLoadResourcesWithFailure()
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    URI missingURI = URI.createFileURI(new File(directory, "missing.ecore").getAbsolutePath());
+    List<URI> requestedURIs = new ArrayList<URI>();
+    requestedURIs.add(uris.get(0));
+    requestedURIs.add(missingURI);
+    requestedURIs.add(uris.get(1));
+    try
+    {
+      resourceSet.loadResources(requestedURIs, null, executor);
+      fail("Expecting an exception");
+    }
+    catch (WrappedException exception)
+    {
+      assertTrue(exception instanceof Resource.Diagnostic);
+    }
+
+    assertEquals(3, resourceSet.getResources().size());
+    Resource missingResource = resourceSet.getResource(missingURI, false);
+    assertNotNull(missingResource);
+    assertEquals(1, missingResource.getErrors().size());
+    assertTrue(resourceSet.getResource(uris.get(1), false).isLoaded());
+  }
+
+  @Test
+  public void testLoadResourcesWithRuntimeFailure()
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put
+      ("broken",
+       new ResourceFactoryImpl()
+       {
+         @Override
+         public Resource createResource(URI uri)
+         {
+           return
+             new ResourceImpl(uri)
+             {
+               @Override
+               public void load(Map<?, ?> options)
+               {
+                 throw new IllegalStateException(getURI().toString());
+               }
+             };
+         }
+       });
+
+    List<URI> requestedURIs = new ArrayList<URI>(uris.subList(0, 3));
+    requestedURIs.add(URI.createURI("first.broken"));
+    requestedURIs.add(URI.createURI("second.broken"));
+    try
+    {
+      resourceSet.loadResources(requestedURIs, null, executor);
+      fail("Expecting an exception");
+    }
+    catch (IllegalStateException exception)
+    {
+      assertEquals("first.broken", exception.getMessage());
+      assertEquals(1, exception.getSuppressed().length);
+    }
+
+    // Nothing is added to the resource set.
+    //
+    assertTrue(resourceSet.getResources().isEmpty());
+  }
+
+  @Test
+  public void testLoadResourcesWithRejection()
+  {
+    ResourceSetImpl resourceSet = createResourceSet();
+    final List<Thread> threads = new ArrayList<Thread>();
+    Executor rejectingExecutor =
+      new Executor()
+      {
+        public void execute(Runnable command)
+        {
+          if (!threads.isEmpty())
+          {
+            throw new RejectedExecutionException();
+          }
+          Thread thread = new Thread(command);
+          threads.add(thread);
+          thread.start();
+        }
+      };
+
+    try
+    {
+      resourceSet.loadResources(uris.subList(0, 3), null, rejectingExecutor);
+      fail("Expecting an exception");
+    }
+    catch (RejectedExecutionException exception)
+    {
+      assertEquals(1, exception.getSuppressed().length);
+    }
+
+    // The task that was run completed before the failure was reported, and nothing is added to the resource set.
+    //
+    assertFalse(threads.get(0).isAlive());
+    assertTrue(resourceSet.getResources().isEmpty());
+  }
+
+  @Test
+  public void testLoadResourcesWithSharedDemandLoadedResource() throws Exception
+  {
+    // Two roots each have a class whose super type is the same class of a third resource,
+    // which each of them demand loads while being loaded.
+    //
+    ResourceSet resourceSet = createResourceSet();
+    URI sharedURI = URI.createFileURI(new File(directory, "shared.ecore").getAbsolutePath());
+    Resource sharedResource = resourceSet.createResource(sharedURI);
+    EPackage sharedEPackage = EcoreFactory.eINSTANCE.createEPackage();
+    sharedEPackage.setName("shared");
+    sharedEPackage.setNsURI("http://www.eclipse.org/emf/test/loadResources/shared");
+    EClass sharedEClass = EcoreFactory.eINSTANCE.createEClass();
+    sharedEClass.setName("Shared");
+    sharedEPackage.getEClassifiers().add(sharedEClass);
+    sharedResource.getContents().add(sharedEPackage);
+    sharedResource.save(null);
+    List<URI> rootURIs = new ArrayList<URI>();
+    for (String name : new String [] { "first", "second" })
+    {
+      URI uri = URI.createFileURI(new File(directory, name + ".ecore").getAbsolutePath());
+      rootURIs.add(uri);
+      Resource resource = resourceSet.createResource(uri);
+      EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+      ePackage.setName(name);
+      ePackage.setNsURI("http://www.eclipse.org/emf/test/loadResources/" + name);
+      EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+      eClass.setName(name);
+      eClass.getESuperTypes().add(sharedEClass);
+      ePackage.getEClassifiers().add(eClass);
+      resource.getContents().add(ePackage);
+      resource.save(null);
+    }
+
+    ResourceSetImpl loadingResourceSet = createResourceSet();
+    loadingResourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put
+      ("ecore",
+       new ResourceFactoryImpl()
+       {
+         @Override
+         public Resource createResource(URI uri)
+         {
+           return
+             new XMIResourceImpl(uri)
+             {
+               @Override
+               public void load(Map<?, ?> options) throws IOException
+               {
+                 super.load(options);
+                 EcoreUtil.resolveAll(this);
+               }
+             };
+         }
+       });
+    EList<Resource> resources = loadingResourceSet.loadResources(rootURIs, null, executor);
+
+    assertEquals(3, loadingResourceSet.getResources().size());
+    Resource loadedSharedResource = loadingResourceSet.getResource(sharedURI, false);
+    assertNotNull(loadedSharedResource);
+    EClass loadedSharedEClass = (EClass)loadedSharedResource.getContents().get(0).eContents().get(0);
+    for (Resource resource : resources)
+    {
+      EClass eClass = (EClass)resource.getContents().get(0).eContents().get(0);
+      assertSame(loadedSharedEClass, eClass.getESuperTypes().get(0));
+    }
+  }
+}
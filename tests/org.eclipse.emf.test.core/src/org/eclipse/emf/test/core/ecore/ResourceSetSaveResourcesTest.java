@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.core.ecore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceSetSaveResourcesTest
+{
+  private static final int COUNT = 50;
+
+  private File directory;
+
+  private ResourceSetImpl resourceSet;
+
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    directory = File.createTempFile("saveResources", "");
+    directory.delete();
+    directory.mkdirs();
+
+    // Create a chain of packages, each with a class whose super type is the class in the previous package's resource.
+    //
+    resourceSet = createResourceSet();
+    EClass previousEClass = null;
+    for (int i = 0; i < COUNT; ++i)
+    {
+      Resource resource = resourceSet.createResource(URI.createFileURI(new File(directory, "package" + i + ".ecore").getAbsolutePath()));
+      EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+      ePackage.setName("package" + i);
+      ePackage.setNsURI("http://www.eclipse.org/emf/test/saveResources/" + i);
+      EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+      eClass.setName("Class" + i);
+      if (previousEClass != null)
+      {
+        eClass.getESuperTypes().add(previousEClass);
+      }
+      ePackage.getEClassifiers().add(eClass);
+      resource.getContents().add(ePackage);
+      previousEClass = eClass;
+    }
+
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown()
+  {
+    executor.shutdownNow();
+    delete(directory);
+  }
+
+  protected void delete(File file)
+  {
+    File[] children = file.listFiles();
+    if (children != null)
+    {
+      for (File child : children)
+      {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+
+  protected ResourceSetImpl createResourceSet()
+  {
+    ResourceSetImpl resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new EcoreResourceFactoryImpl());
+    return resourceSet;
+  }
+
+  @Test
+  public void testSaveResources()
+  {
+    Diagnostic diagnostic = resourceSet.saveResources(resourceSet.getResources(), null, executor);
+    assertEquals(Diagnostic.OK, diagnostic.getSeverity());
+    assertTrue(diagnostic.getChildren().isEmpty());
+
+    // Only the resources' files remain.
+    //
+    assertEquals(COUNT, directory.listFiles().length);
+    for (Resource resource : resourceSet.getResources())
+    {
+      File file = new File(resource.getURI().toFileString());
+      assertTrue(file.isFile());
+      assertEquals(file.lastModified(), resource.getTimeStamp());
+    }
+
+    // The saved resources load and their cross references resolve.
+    //
+    ResourceSetImpl otherResourceSet = createResourceSet();
+    Resource lastResource = otherResourceSet.getResource(resourceSet.getResources().get(COUNT - 1).getURI(), true);
+    EClass eClass = (EClass)((EPackage)lastResource.getContents().get(0)).getEClassifiers().get(0);
+    assertEquals(COUNT - 1, eClass.getEAllSuperTypes().size());
+    assertEquals("Class0", eClass.getEAllSuperTypes().get(0).getName());
+    assertFalse(eClass.getEAllSuperTypes().get(0).eIsProxy());
+  }
+
+  @Test
+  public void testSaveResourcesSkipsUnmodified() throws Exception
+  {
+    Resource resource = resourceSet.getResources().get(0);
+    resource.setTrackingModification(true);
+    resource.setModified(false);
+
+    Diagnostic diagnostic = resourceSet.saveResources(resourceSet.getResources(), null, executor);
+    assertEquals(Diagnostic.OK, diagnostic.getSeverity());
+    assertFalse(new File(resource.getURI().toFileString()).exists());
+    assertEquals(COUNT - 1, directory.listFiles().length);
+
+    // Once it's modified, it's saved.
+    //
+    ((EPackage)resource.getContents().get(0)).setName("modified");
+    assertTrue(resource.isModified());
+    diagnostic = resourceSet.saveResources(Collections.singletonList(resource), null, executor);
+    assertEquals(Diagnostic.OK, diagnostic.getSeverity());
+    assertTrue(new File(resource.getURI().toFileString()).exists());
+    assertFalse(resource.isModified());
+  }
+
+  @Test
+  public void testSaveResourcesFailure() throws Exception
+  {
+    // A resource can't be saved in a folder whose path is that of an existing file.
+    //
+    File file = new File(directory, "file");
+    assertTrue(file.createNewFile());
+    Resource badResource = resourceSet.createResource(URI.createFileURI(new File(file, "bad.ecore").getAbsolutePath()));
+    badResource.getContents().add(EcoreFactory.eINSTANCE.createEPackage());
+
+    List<Resource> resources = new ArrayList<Resource>(resourceSet.getResources());
+    for (Resource resource : resources)
+    {
+      resource.setTrackingModification(true);
+      resource.setModified(true);
+    }
+    Diagnostic diagnostic = resourceSet.saveResources(resources, null, executor);
+    assertEquals(Diagnostic.ERROR, diagnostic.getSeverity());
+    assertEquals(1, diagnostic.getChildren().size());
+    assertSame(badResource, diagnostic.getChildren().get(0).getData().get(0));
+
+    // No contents are replaced, no temporary files remain, and all the resources are still modified.
+    //
+    assertEquals(1, directory.listFiles().length);
+    for (Resource resource : resources)
+    {
+      assertTrue(resource.isModified());
+    }
+  }
+
+  @Test
+  public void testSaveResourcesKeepsPermissions() throws Exception
+  {
+    Resource resource = resourceSet.getResources().get(0);
+    Path file = new File(resource.getURI().toFileString()).toPath();
+    Files.createFile(file);
+    Assume.assumeNotNull(Files.getFileAttributeView(file, PosixFileAttributeView.class));
+    Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+    Files.setPosixFilePermissions(file, permissions);
+
+    Diagnostic diagnostic = resourceSet.saveResources(Collections.singletonList(resource), null, executor);
+    assertEquals(Diagnostic.OK, diagnostic.getSeverity());
+    assertTrue(Files.size(file) > 0);
+    assertEquals(permissions, Files.getPosixFilePermissions(file));
+  }
+
+  @Test
+  public void testSaveResourcesNotifiesOnCallingThread() throws Exception
+  {
+    final List<Thread> threads = new ArrayList<Thread>();
+    List<Resource> resources = new ArrayList<Resource>(resourceSet.getResources());
+    for (Resource resource : resources)
+    {
+      resource.setTrackingModification(true);
+      resource.setModified(true);
+      resource.eAdapters().add
+        (new AdapterImpl()
+         {
+           @Override
+           public void notifyChanged(Notification notification)
+           {
+             if (notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_MODIFIED)
+             {
+               synchronized (threads)
+               {
+                 threads.add(Thread.currentThread());
+               }
+             }
+           }
+         });
+    }
+
+    Diagnostic diagnostic = resourceSet.saveResources(resources, null, executor);
+    assertEquals(Diagnostic.OK, diagnostic.getSeverity());
+    assertEquals(Collections.nCopies(COUNT, Thread.currentThread()), threads);
+    for (Resource resource : resources)
+    {
+      assertFalse(resource.isModified());
+      assertTrue(resource.eDeliver());
+    }
+  }
+}
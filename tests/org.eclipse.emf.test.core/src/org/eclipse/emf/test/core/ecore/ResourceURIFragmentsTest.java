@@ -8,8 +8,11 @@
 package org.eclipse.emf.test.core.ecore;
 
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
@@ -237,4 +240,125 @@ public class ResourceURIFragmentsTest
     addChild(node2, node3);
     Assert.assertEquals("/-1", resourceWithRelativeIDFragments.getURIFragment(node3));
   }
+
+  @Test
+  public void testFragmentPathMap()
+  {
+    Map<String, EObject> map = new HashMap<String, EObject>();
+    ((ResourceImpl)resource).setURIFragmentPathToEObjectMap(map);
+
+    EObject node0 = createNode();
+    resource.getContents().add(node0);
+    EObject node1 = createNode();
+    addChild(node0, node1);
+    EObject node2 = createNode();
+    addChild(node0, node2);
+    EObject node3 = createNode();
+    setID(node3, "id");
+    addChild(node2, node3);
+
+    Assert.assertEquals("//@nodes.1", resource.getURIFragment(node2));
+    Assert.assertSame(node2, resource.getEObject("//@nodes.1"));
+    Assert.assertSame(node1, resource.getEObject("//@nodes.0"));
+    Assert.assertSame(node3, resource.getEObject("id"));
+    Assert.assertNull(resource.getEObject("//@nodes.2"));
+
+    // The paths of all the objects in the root's tree are indexed, whether or not they've been resolved.
+    //
+    Assert.assertEquals(4, map.size());
+    Assert.assertSame(node0, map.get("/"));
+    Assert.assertSame(node2, map.get("//@nodes.1"));
+    Assert.assertSame(node3, map.get("//@nodes.1/@nodes.0"));
+    Assert.assertSame(node2, resource.getEObject("//@nodes.1"));
+
+    // An equivalent path that isn't the one indexed is navigated and cached.
+    //
+    Assert.assertSame(node2, resource.getEObject("/0/@nodes.1"));
+    Assert.assertSame(node2, map.get("/0/@nodes.1"));
+
+    // Moving an object between containers within the resource clears the index.
+    //
+    addChild(node1, node3);
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertNull(resource.getEObject("//@nodes.1/@nodes.0"));
+    Assert.assertSame(node3, resource.getEObject("//@nodes.0/@nodes.0"));
+
+    // So does moving an object within its containing list.
+    //
+    @SuppressWarnings("unchecked")
+    EList<EObject> nodes = (EList<EObject>)node0.eGet(NODES_REFERENCE);
+    nodes.move(0, 1);
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertSame(node3, resource.getEObject("//@nodes.1/@nodes.0"));
+    nodes.move(0, 1);
+
+    // Removing an object clears the cache so that positions are recomputed.
+    //
+    nodes.remove(node1);
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertSame(node2, resource.getEObject("//@nodes.0"));
+    Assert.assertNull(resource.getEObject("//@nodes.1"));
+
+    // So does adding an object.
+    //
+    nodes.add(0, node1);
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertSame(node2, resource.getEObject("//@nodes.1"));
+
+    // And unloading.
+    //
+    resource.unload();
+    Assert.assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testFragmentPathMapInvalidation()
+  {
+    EObject root0 = createNode();
+    EObject node0 = createNode();
+    addChild(root0, node0);
+    EObject root1 = createNode();
+    EObject node1 = createNode();
+    addChild(root1, node1);
+    resource.getContents().add(root0);
+    resource.getContents().add(root1);
+
+    // Without a map, no adapters are attached.
+    //
+    Assert.assertTrue(node0.eAdapters().isEmpty());
+
+    Map<String, EObject> map = new HashMap<String, EObject>();
+    ((ResourceImpl)resource).setURIFragmentPathToEObjectMap(map);
+    Assert.assertSame(node0, resource.getEObject("/0/@nodes.0"));
+    Assert.assertSame(node1, resource.getEObject("/1/@nodes.0"));
+    Assert.assertEquals(4, map.size());
+
+    // A change in one root's tree invalidates only the paths in that tree.
+    //
+    EObject node2 = createNode();
+    addChild(root1, node2);
+    Assert.assertEquals(2, map.size());
+    Assert.assertSame(node0, map.get("/0/@nodes.0"));
+    Assert.assertSame(node2, resource.getEObject("/1/@nodes.1"));
+    Assert.assertEquals(5, map.size());
+
+    // So does a change to an attribute.
+    //
+    setID(node0, "id");
+    Assert.assertEquals(3, map.size());
+    Assert.assertSame(node2, map.get("/1/@nodes.1"));
+    Assert.assertSame(node0, resource.getEObject("/0/@nodes.0"));
+
+    // A change to the contents of the resource clears the whole map.
+    //
+    resource.getContents().move(0, 1);
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertSame(node0, resource.getEObject("/1/@nodes.0"));
+
+    // Removing the map removes the adapters.
+    //
+    ((ResourceImpl)resource).setURIFragmentPathToEObjectMap(null);
+    Assert.assertTrue(node0.eAdapters().isEmpty());
+    Assert.assertTrue(root1.eAdapters().isEmpty());
+  }
 }
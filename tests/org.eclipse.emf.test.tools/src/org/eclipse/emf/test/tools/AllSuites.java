@@ -15,8 +15,10 @@ import org.eclipse.emf.test.tools.ant.AntTest;
 import org.eclipse.emf.test.tools.codegen.CodeGenUtilTest;
 import org.eclipse.emf.test.tools.codegen.GenModelDefaultsTest;
 import org.eclipse.emf.test.tools.codegen.GenModelTest;
+import org.eclipse.emf.test.tools.codegen.GeneratorTest;
 import org.eclipse.emf.test.tools.codegen.ImportSubstitutionTest;
 import org.eclipse.emf.test.tools.codegen.LiteralsTest;
+import org.eclipse.emf.test.tools.codegen.PrimitiveListTest;
 import org.eclipse.emf.test.tools.codegen.RemappedXMLTypesTest;
 import org.eclipse.emf.test.tools.converter.ConverterUtilTest;
 import org.eclipse.emf.test.tools.importer.ModelImporterTest;
@@ -36,8 +38,10 @@ import org.junit.runners.Suite;
     CodeGenUtilTest.class,
     GenModelDefaultsTest.class,
     GenModelTest.class,
+    GeneratorTest.class,
     ImportSubstitutionTest.class,
     LiteralsTest.class,
+    PrimitiveListTest.class,
     RemappedXMLTypesTest.class,
     ConverterUtilTest.class,
     ModelImporterTest.class,
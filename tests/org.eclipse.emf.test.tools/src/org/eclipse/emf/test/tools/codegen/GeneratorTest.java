@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.tools.codegen;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.codegen.ecore.generator.AbstractGeneratorAdapterFactory;
+import org.eclipse.emf.codegen.ecore.generator.Generator;
+import org.eclipse.emf.codegen.ecore.generator.GeneratorAdapter;
+import org.eclipse.emf.codegen.ecore.generator.GeneratorAdapterFactory;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.BasicMonitor;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.Monitor;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GeneratorTest
+{
+  private static final int CLASS_COUNT = 20;
+
+  private EPackage ePackage;
+
+  private List<String> generated;
+
+  private CountDownLatch concurrentClasses;
+
+  private ExecutorService executor;
+
+  /**
+   * A singleton adapter that, like a typical generator adapter, records the object for which it's generating.
+   */
+  protected class TestGeneratorAdapter extends AdapterImpl implements GeneratorAdapter
+  {
+    protected GeneratorAdapterFactory adapterFactory;
+
+    protected List<Notifier> targets = new ArrayList<Notifier>();
+
+    protected Object generatingObject;
+
+    public GeneratorAdapterFactory getAdapterFactory()
+    {
+      return adapterFactory;
+    }
+
+    public void setAdapterFactory(GeneratorAdapterFactory adapterFactory)
+    {
+      this.adapterFactory = adapterFactory;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type)
+    {
+      return type == adapterFactory;
+    }
+
+    @Override
+    public void setTarget(Notifier newTarget)
+    {
+      targets.add(newTarget);
+    }
+
+    @Override
+    public void unsetTarget(Notifier oldTarget)
+    {
+      targets.remove(oldTarget);
+    }
+
+    public Collection<?> getCanGenerateChildren(Object object, Object projectType)
+    {
+      return getGenerateChildren(object, projectType);
+    }
+
+    public Object getCanGenerateParent(Object object, Object projectType)
+    {
+      return null;
+    }
+
+    public boolean canGenerate(Object object, Object projectType)
+    {
+      return true;
+    }
+
+    public Collection<?> getGenerateChildren(Object object, Object projectType)
+    {
+      return object instanceof EPackage ? ((EPackage)object).getEClassifiers() : Collections.emptyList();
+    }
+
+    public Object getGenerateParent(Object object, Object projectType)
+    {
+      return null;
+    }
+
+    public Diagnostic preGenerate(Object object, Object projectType)
+    {
+      return Diagnostic.OK_INSTANCE;
+    }
+
+    public Diagnostic generate(final Object object, Object projectType, Monitor monitor)
+    {
+      try
+      {
+        generatingObject = object;
+        final String name = ((ENamedElement)object).getName();
+        generated.add(name);
+        String message =
+          adapterFactory.getGenerator().runConcurrently
+            (new Callable<String>()
+             {
+               public String call() throws Exception
+               {
+                 // The classes can only get past this point if at least two of them are generated at the same time.
+                 //
+                 if (object instanceof EClass)
+                 {
+                   concurrentClasses.countDown();
+                   if (!concurrentClasses.await(10, TimeUnit.SECONDS))
+                   {
+                     return "Not concurrent " + name;
+                   }
+                 }
+                 return name;
+               }
+             });
+        return
+          generatingObject == object ?
+            new BasicDiagnostic(Diagnostic.INFO, "test", 0, message, null) :
+            new BasicDiagnostic(Diagnostic.ERROR, "test", 0, "Interfered with " + name, null);
+      }
+      catch (Exception exception)
+      {
+        return BasicDiagnostic.toDiagnostic(exception);
+      }
+      finally
+      {
+        generatingObject = null;
+        monitor.done();
+      }
+    }
+
+    public Diagnostic postGenerate(Object object, Object projectType)
+    {
+      return Diagnostic.OK_INSTANCE;
+    }
+
+    public void dispose()
+    {
+      for (Notifier notifier : new ArrayList<Notifier>(targets))
+      {
+        notifier.eAdapters().remove(this);
+      }
+    }
+  }
+
+  protected class TestGeneratorAdapterFactory extends AbstractGeneratorAdapterFactory
+  {
+    protected TestGeneratorAdapter adapter;
+
+    @Override
+    protected Adapter createAdapter(Notifier target)
+    {
+      if (adapter == null)
+      {
+        adapter = new TestGeneratorAdapter();
+      }
+      return adapter;
+    }
+
+    @Override
+    public void dispose()
+    {
+      if (adapter != null)
+      {
+        adapter.dispose();
+      }
+    }
+  }
+
+  @Before
+  public void setUp()
+  {
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("p");
+    for (int i = 0; i < CLASS_COUNT; ++i)
+    {
+      EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+      eClass.setName("C" + i);
+      ePackage.getEClassifiers().add(eClass);
+    }
+    generated = Collections.synchronizedList(new ArrayList<String>());
+    concurrentClasses = new CountDownLatch(2);
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown()
+  {
+    executor.shutdownNow();
+  }
+
+  protected Generator createGenerator()
+  {
+    GeneratorAdapterFactory.Descriptor.Registry registry = new GeneratorAdapterFactory.Descriptor.DelegatingRegistry();
+    registry.addDescriptor
+      (EcorePackage.eNS_URI,
+       new GeneratorAdapterFactory.Descriptor()
+       {
+         public GeneratorAdapterFactory createAdapterFactory()
+         {
+           return new TestGeneratorAdapterFactory();
+         }
+       });
+    Generator generator = new Generator(registry);
+    generator.setInput(ePackage);
+    return generator;
+  }
+
+  protected List<String> getMessages(Diagnostic diagnostic)
+  {
+    List<String> result = new ArrayList<String>();
+    for (Diagnostic child : diagnostic.getChildren())
+    {
+      if (child.getSeverity() != Diagnostic.OK)
+      {
+        assertEquals(child.getMessage(), Diagnostic.INFO, child.getSeverity());
+        result.add(child.getMessage());
+      }
+    }
+    return result;
+  }
+
+  @Test
+  public void testParallelGeneration()
+  {
+    Generator generator = createGenerator();
+    concurrentClasses = new CountDownLatch(0);
+    List<String> expectedMessages = getMessages(generator.generate(ePackage, "test", new BasicMonitor()));
+    assertEquals(CLASS_COUNT + 1, expectedMessages.size());
+    assertEquals(expectedMessages, generated);
+
+    generated.clear();
+    concurrentClasses = new CountDownLatch(2);
+    generator.setExecutor(executor);
+    Diagnostic diagnostic = generator.generate(ePackage, "test", new BasicMonitor());
+
+    // The results are in the same order, the package is generated before its classes, and the classes are generated concurrently.
+    //
+    assertEquals(expectedMessages, getMessages(diagnostic));
+    assertEquals("p", generated.get(0));
+    assertEquals(CLASS_COUNT + 1, generated.size());
+
+    // The adapters of the parallel generators are disposed.
+    //
+    for (Object eClassifier : ePackage.getEClassifiers())
+    {
+      assertEquals(1, ((EClass)eClassifier).eAdapters().size());
+    }
+    generator.dispose();
+  }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.tools.codegen;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenJDKLevel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModelFactory;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests the list constructors generated for features with the {@link GenFeature#isPrimitiveList() primitive list} option.
+ */
+public class PrimitiveListTest extends BaseGenModelTest
+{
+  private GenModel genModel;
+
+  private GenClass genClass;
+
+  @Before
+  public void setUp()
+  {
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("primitives");
+    ePackage.setNsPrefix("primitives");
+    ePackage.setNsURI("http://www.example.com/primitives");
+
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName("Values");
+    ePackage.getEClassifiers().add(eClass);
+    addAttribute(eClass, "ints", EcorePackage.Literals.EINT, false);
+    addAttribute(eClass, "longs", EcorePackage.Literals.ELONG, true);
+    addAttribute(eClass, "doubles", EcorePackage.Literals.EDOUBLE, false);
+    addAttribute(eClass, "booleans", EcorePackage.Literals.EBOOLEAN, false);
+    addAttribute(eClass, "integers", EcorePackage.Literals.EINTEGER_OBJECT, false);
+
+    genModel = GenModelFactory.eINSTANCE.createGenModel();
+    genModel.initialize(Collections.singletonList(ePackage));
+    genModel.setComplianceLevel(GenJDKLevel.JDK50_LITERAL);
+    genClass = (GenClass)genModel.findGenClassifier(eClass);
+    prepareModel(genModel, genClass.getQualifiedClassName());
+  }
+
+  protected void addAttribute(EClass eClass, String name, EDataType eDataType, boolean unsettable)
+  {
+    EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+    eAttribute.setName(name);
+    eAttribute.setEType(eDataType);
+    eAttribute.setUpperBound(-1);
+    eAttribute.setUnsettable(unsettable);
+    eClass.getEStructuralFeatures().add(eAttribute);
+  }
+
+  protected GenFeature getGenFeature(String name)
+  {
+    for (GenFeature genFeature : genClass.getGenFeatures())
+    {
+      if (name.equals(genFeature.getName()))
+      {
+        return genFeature;
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  @Test
+  public void testListConstructor()
+  {
+    // Without the option, the usual list is constructed.
+    //
+    GenFeature ints = getGenFeature("ints");
+    assertFalse(ints.isPrimitiveListType());
+    assertEquals("EDataTypeUniqueEList<Integer>(Integer.class, this, PrimitivesPackage.VALUES__INTS)", genClass.getListConstructor(ints));
+
+    ints.setPrimitiveList(true);
+    assertTrue(ints.isPrimitiveListType());
+    assertEquals("EDataTypeIntEList(this, PrimitivesPackage.VALUES__INTS)", genClass.getListConstructor(ints));
+
+    // An unsettable attribute's list tracks whether it's set.
+    //
+    GenFeature longs = getGenFeature("longs");
+    longs.setPrimitiveList(true);
+    assertEquals("EDataTypeLongEList(this, PrimitivesPackage.VALUES__LONGS, true)", genClass.getListConstructor(longs));
+
+    GenFeature doubles = getGenFeature("doubles");
+    doubles.setPrimitiveList(true);
+    assertEquals("EDataTypeDoubleEList(this, PrimitivesPackage.VALUES__DOUBLES)", genClass.getListConstructor(doubles));
+
+    GenFeature booleans = getGenFeature("booleans");
+    booleans.setPrimitiveList(true);
+    assertEquals("EDataTypeBooleanEList(this, PrimitivesPackage.VALUES__BOOLEANS)", genClass.getListConstructor(booleans));
+
+    // The option is ignored for an attribute whose type isn't primitive.
+    //
+    GenFeature integers = getGenFeature("integers");
+    integers.setPrimitiveList(true);
+    assertFalse(integers.isPrimitiveListType());
+    assertEquals("EDataTypeUniqueEList<Integer>(Integer.class, this, PrimitivesPackage.VALUES__INTEGERS)", genClass.getListConstructor(integers));
+  }
+}
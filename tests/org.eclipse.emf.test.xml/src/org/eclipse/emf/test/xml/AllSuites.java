@@ -14,6 +14,9 @@ package org.eclipse.emf.test.xml;
 import org.eclipse.emf.test.xml.encoding.UnicodeEncodingTest;
 import org.eclipse.emf.test.xml.encoding.XMLHeaderTest;
 import org.eclipse.emf.test.xml.rss.RSSTests;
+import org.eclipse.emf.test.xml.xmi.BatchIDREFResolutionTest;
+import org.eclipse.emf.test.xml.xmi.CachedQualifiedNamesTest;
+import org.eclipse.emf.test.xml.xmi.ConcurrentParserPoolTest;
 import org.eclipse.emf.test.xml.xmi.CrossResourceReferencesTest;
 import org.eclipse.emf.test.xml.xmi.ElementHandlerTest;
 import org.eclipse.emf.test.xml.xmi.LaxFeatureNamespaceMatchingTest;
@@ -23,7 +26,9 @@ import org.eclipse.emf.test.xml.xmi.NamespaceTest;
 import org.eclipse.emf.test.xml.xmi.NullNamespaceTest;
 import org.eclipse.emf.test.xml.xmi.OrderTest;
 import org.eclipse.emf.test.xml.xmi.QNameTest;
+import org.eclipse.emf.test.xml.xmi.RootObjectHandlerTest;
 import org.eclipse.emf.test.xml.xmi.URIHandlerTest;
+import org.eclipse.emf.test.xml.xmi.UTF8SaveTest;
 import org.eclipse.emf.test.xml.xmi.UnloadXMIResourceTest;
 import org.eclipse.emf.test.xml.xmi.XMIExtendedMetadataTest;
 import org.eclipse.emf.test.xml.xmi.XMIResourceURIFragmentsTest;
@@ -58,7 +63,12 @@ import org.junit.runners.Suite;
     NullNamespaceTest.class,
     OrderTest.class,
     QNameTest.class,
+    RootObjectHandlerTest.class,
+    ConcurrentParserPoolTest.class,
     UnloadXMIResourceTest.class,
+    UTF8SaveTest.class,
+    CachedQualifiedNamesTest.class,
+    BatchIDREFResolutionTest.class,
     URIHandlerTest.class,
     XMIExtendedMetadataTest.class,
     XMIResourceURIFragmentsTest.class,
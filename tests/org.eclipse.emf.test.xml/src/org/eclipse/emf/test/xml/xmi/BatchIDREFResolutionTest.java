@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.UnresolvedReferenceException;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests that {@link XMLResource#OPTION_BATCH_IDREF_RESOLUTION batched resolution} of same document references
+ * produces the same model as resolving each reference as it's read.
+ */
+public class BatchIDREFResolutionTest
+{
+  protected static final int NODE_COUNT = 50;
+
+  protected EPackage ePackage;
+
+  protected EClass graphClass;
+
+  protected EClass nodeClass;
+
+  protected EReference nodes;
+
+  protected EAttribute name;
+
+  protected EReference next;
+
+  protected EReference targets;
+
+  protected EReference sources;
+
+  @Before
+  public void setUp()
+  {
+    ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("graph");
+    ePackage.setNsPrefix("graph");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/graph");
+
+    graphClass = EcoreFactory.eINSTANCE.createEClass();
+    graphClass.setName("Graph");
+    ePackage.getEClassifiers().add(graphClass);
+
+    nodeClass = EcoreFactory.eINSTANCE.createEClass();
+    nodeClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeClass);
+
+    nodes = EcoreFactory.eINSTANCE.createEReference();
+    nodes.setName("nodes");
+    nodes.setEType(nodeClass);
+    nodes.setContainment(true);
+    nodes.setUpperBound(-1);
+    graphClass.getEStructuralFeatures().add(nodes);
+
+    name = EcoreFactory.eINSTANCE.createEAttribute();
+    name.setName("name");
+    name.setEType(EcorePackage.Literals.ESTRING);
+    name.setID(true);
+    nodeClass.getEStructuralFeatures().add(name);
+
+    next = EcoreFactory.eINSTANCE.createEReference();
+    next.setName("next");
+    next.setEType(nodeClass);
+    nodeClass.getEStructuralFeatures().add(next);
+
+    targets = EcoreFactory.eINSTANCE.createEReference();
+    targets.setName("targets");
+    targets.setEType(nodeClass);
+    targets.setUpperBound(-1);
+    nodeClass.getEStructuralFeatures().add(targets);
+
+    sources = EcoreFactory.eINSTANCE.createEReference();
+    sources.setName("sources");
+    sources.setEType(nodeClass);
+    sources.setUpperBound(-1);
+    nodeClass.getEStructuralFeatures().add(sources);
+
+    targets.setEOpposite(sources);
+    sources.setEOpposite(targets);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected byte[] createDocument() throws Exception
+  {
+    XMIResourceImpl resource = new XMIResourceImpl(URI.createURI("http:///graph.xmi"));
+    EObject graph = EcoreUtil.create(graphClass);
+    resource.getContents().add(graph);
+    List<EObject> graphNodes = (List<EObject>)graph.eGet(nodes);
+    for (int i = 0; i < NODE_COUNT; ++i)
+    {
+      EObject node = EcoreUtil.create(nodeClass);
+      node.eSet(name, "n" + i);
+      graphNodes.add(node);
+    }
+    for (int i = 0; i < NODE_COUNT; ++i)
+    {
+      EObject node = graphNodes.get(i);
+
+      // Forward references, backward references, and lists long enough to be recorded as a single many-valued reference.
+      //
+      node.eSet(next, graphNodes.get((i + 1) % NODE_COUNT));
+      List<EObject> nodeTargets = (List<EObject>)node.eGet(targets);
+      for (int j = 1; j <= i % 10; ++j)
+      {
+        nodeTargets.add(graphNodes.get((i * 7 + j * 13) % NODE_COUNT));
+      }
+    }
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+    return outputStream.toByteArray();
+  }
+
+  protected XMIResourceImpl load(byte[] document, Map<Object, Object> options) throws Exception
+  {
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    XMIResourceImpl resource = new XMIResourceImpl(URI.createURI("http:///graph.xmi"));
+    resourceSet.getResources().add(resource);
+    try
+    {
+      resource.load(new ByteArrayInputStream(document), options);
+    }
+    catch (Resource.IOWrappedException exception)
+    {
+      // The errors are recorded in the resource.
+    }
+    return resource;
+  }
+
+  @Test
+  public void testBatchResolution() throws Exception
+  {
+    byte[] document = createDocument();
+
+    XMIResourceImpl expected = load(document, new HashMap<Object, Object>());
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_BATCH_IDREF_RESOLUTION, Boolean.TRUE);
+    XMIResourceImpl actual = load(document, options);
+
+    assertTrue(expected.getErrors().isEmpty());
+    assertTrue(actual.getErrors().isEmpty());
+    assertTrue(EcoreUtil.equals(expected.getContents(), actual.getContents()));
+
+    // The temporary index isn't left behind.
+    //
+    assertNull(actual.getIntrinsicIDToEObjectMap());
+
+    // Both ends of the bidirectional references are consistent and free of duplicates.
+    //
+    for (EObject node : actual.getContents().get(0).eContents())
+    {
+      @SuppressWarnings("unchecked")
+      List<EObject> nodeTargets = (List<EObject>)node.eGet(targets);
+      for (EObject target : nodeTargets)
+      {
+        @SuppressWarnings("unchecked")
+        List<EObject> targetSources = (List<EObject>)target.eGet(sources);
+        assertTrue(targetSources.contains(node));
+        assertEquals(targetSources.indexOf(node), targetSources.lastIndexOf(node));
+      }
+      assertSame(actual, ((EObject)node.eGet(next)).eResource());
+    }
+  }
+
+  @Test
+  public void testUnresolvedReference() throws Exception
+  {
+    String document =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+      "<graph:Graph xmlns:xmi=\"http://www.omg.org/XMI\" xmi:version=\"2.0\" xmlns:graph=\"http://www.eclipse.org/emf/test/graph\">\n" +
+      "  <nodes name=\"a\" next=\"b\" targets=\"b missing\"/>\n" +
+      "  <nodes name=\"b\" next=\"missing\"/>\n" +
+      "</graph:Graph>\n";
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_BATCH_IDREF_RESOLUTION, Boolean.TRUE);
+    XMIResourceImpl resource = load(document.getBytes("UTF-8"), options);
+    assertEquals(2, resource.getErrors().size());
+    for (Resource.Diagnostic error : resource.getErrors())
+    {
+      assertTrue(error instanceof UnresolvedReferenceException);
+      assertEquals("missing", ((UnresolvedReferenceException)error).getReference());
+    }
+
+    // The references that could be resolved are set.
+    //
+    EObject a = resource.getEObject("a");
+    EObject b = resource.getEObject("b");
+    assertSame(b, a.eGet(next));
+    assertEquals(Collections.singletonList(b), a.eGet(targets));
+    assertNull(b.eGet(next));
+  }
+}
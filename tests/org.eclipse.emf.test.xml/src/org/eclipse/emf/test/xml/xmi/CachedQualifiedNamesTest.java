@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.eclipse.emf.ecore.xmi.impl.GenericXMLResourceFactoryImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests that saving with {@link XMLResource#OPTION_CACHE_QUALIFIED_NAMES cached qualified names} produces the same document as saving without them.
+ */
+public class CachedQualifiedNamesTest
+{
+  protected static final String XML =
+    "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+    "<a:root xmlns:a=\"http://www.example.com/a\" xmlns:b=\"http://www.example.com/b\" b:attribute=\"value\">\n" +
+    "  <a:item b:name=\"first\">text</a:item>\n" +
+    "  <a:item b:name=\"second\"><b:nested xmlns:b=\"http://www.example.com/other\" b:x=\"1\"/></a:item>\n" +
+    "  <b:item a:name=\"third\"/>\n" +
+    "  <a:item b:name=\"fourth\"/>\n" +
+    "</a:root>\n";
+
+  protected ResourceSet resourceSet;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("xml", new GenericXMLResourceFactoryImpl());
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new EcoreResourceFactoryImpl());
+  }
+
+  protected String save(Resource resource, Map<Object, Object> options) throws Exception
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, options);
+    return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  protected void assertSameDocument(Resource resource, Map<Object, Object> options) throws Exception
+  {
+    String expected = save(resource, options);
+    options.put(XMLResource.OPTION_CACHE_QUALIFIED_NAMES, Boolean.TRUE);
+    assertEquals(expected, save(resource, options));
+
+    // The cached names and content kinds also work with a lookup table that's shared by subsequent saves.
+    //
+    options.put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, new ArrayList<Object>());
+    assertEquals(expected, save(resource, options));
+    assertEquals(expected, save(resource, options));
+  }
+
+  @Test
+  public void testEcore() throws Exception
+  {
+    Resource resource = resourceSet.createResource(URI.createURI("http:///test.ecore"));
+    EPackage ePackage = EcoreUtil.copy(EcorePackage.eINSTANCE);
+    resource.getContents().add(ePackage);
+
+    assertSameDocument(resource, new HashMap<Object, Object>());
+
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_KEEP_DEFAULT_CONTENT, Boolean.TRUE);
+    assertSameDocument(resource, options);
+  }
+
+  @Test
+  public void testExtendedMetaData() throws Exception
+  {
+    Resource resource = resourceSet.createResource(URI.createURI("http:///test.xml"));
+    resource.load(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)), null);
+
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_EXTENDED_META_DATA, Boolean.TRUE);
+    assertSameDocument(resource, options);
+
+    options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_EXTENDED_META_DATA, Boolean.TRUE);
+    options.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+    assertSameDocument(resource, options);
+  }
+}
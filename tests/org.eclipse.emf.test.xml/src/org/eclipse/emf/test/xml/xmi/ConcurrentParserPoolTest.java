@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.parsers.SAXParser;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLParserPool;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+import org.junit.Test;
+
+
+/**
+ * XMI tests: the {@link XMLParserPoolImpl parser pool} and the {@link org.eclipse.emf.ecore.xmi.impl.ConfigurationCache configuration cache}
+ * are used by many threads concurrently.
+ */
+public class ConcurrentParserPoolTest
+{
+  private static final int THREAD_COUNT = 8;
+
+  private static final int ITERATION_COUNT = 20;
+
+  @Test
+  public void testReuse() throws Exception
+  {
+    XMLParserPool parserPool = new XMLParserPoolImpl(1, false);
+    Map<String, Boolean> features = Collections.emptyMap();
+    Map<String, Object> properties = Collections.emptyMap();
+    SAXParser parser = parserPool.get(features, properties, false);
+    parserPool.release(parser, features, properties, false);
+    assertSame(parser, parserPool.get(features, properties, false));
+
+    // A parser for another configuration isn't reused.
+    //
+    parserPool.release(parser, features, properties, false);
+    assertNotSame(parser, parserPool.get(features, properties, true));
+
+    // No more than the given number of parsers is retained for each configuration.
+    //
+    SAXParser otherParser = parserPool.get(features, properties, false);
+    assertSame(parser, otherParser);
+    SAXParser newParser = parserPool.get(features, properties, false);
+    assertNotSame(parser, newParser);
+    parserPool.release(parser, features, properties, false);
+    parserPool.release(newParser, features, properties, false);
+    assertSame(parser, parserPool.get(features, properties, false));
+    assertNotSame(newParser, parserPool.get(features, properties, false));
+  }
+
+  @Test
+  public void testConcurrentLoadAndSave() throws Exception
+  {
+    final Map<Object, Object> saveOptions = new HashMap<Object, Object>();
+    saveOptions.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+    final Map<Object, Object> loadOptions = new HashMap<Object, Object>();
+    loadOptions.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+    loadOptions.put(XMLResource.OPTION_USE_PARSER_POOL, new XMLParserPoolImpl(true));
+    final byte[] expectedBytes = save(EcoreUtil.copy(EcorePackage.eINSTANCE), saveOptions);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    try
+    {
+      List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>();
+      for (int i = 0; i < THREAD_COUNT; ++i)
+      {
+        futures.add
+          (executor.submit
+            (new Callable<byte[]>()
+             {
+               public byte[] call() throws Exception
+               {
+                 byte[] bytes = expectedBytes;
+                 for (int j = 0; j < ITERATION_COUNT; ++j)
+                 {
+                   XMLResource resource = createResource();
+                   resource.load(new ByteArrayInputStream(bytes), loadOptions);
+                   assertTrue(resource.getErrors().isEmpty());
+                   bytes = save((EPackage)resource.getContents().get(0), saveOptions);
+                 }
+                 return bytes;
+               }
+             }));
+      }
+      for (Future<byte[]> future : futures)
+      {
+        assertArrayEquals(expectedBytes, future.get());
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testChangedClass() throws Exception
+  {
+    Map<Object, Object> saveOptions = new HashMap<Object, Object>();
+    saveOptions.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+
+    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("p");
+    ePackage.setNsPrefix("p");
+    ePackage.setNsURI("http:///p");
+    EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName("C");
+    ePackage.getEClassifiers().add(eClass);
+    EAttribute x = EcoreFactory.eINSTANCE.createEAttribute();
+    x.setName("x");
+    x.setEType(EcorePackage.Literals.EINT);
+    eClass.getEStructuralFeatures().add(x);
+
+    EObject eObject = EcoreUtil.create(eClass);
+    eObject.eSet(x, 1);
+    assertTrue(new String(save(eObject, saveOptions), "UTF-8").contains("x=\"1\""));
+
+    // The features of a class that's changed since a previous save must be saved too.
+    //
+    EAttribute y = EcoreFactory.eINSTANCE.createEAttribute();
+    y.setName("y");
+    y.setEType(EcorePackage.Literals.EINT);
+    eClass.getEStructuralFeatures().add(y);
+    eObject = EcoreUtil.create(eClass);
+    eObject.eSet(x, 1);
+    eObject.eSet(y, 2);
+    String document = new String(save(eObject, saveOptions), "UTF-8");
+    assertTrue(document.contains("x=\"1\""));
+    assertTrue(document.contains("y=\"2\""));
+  }
+
+  protected XMLResource createResource()
+  {
+    return (XMLResource)new EcoreResourceFactoryImpl().createResource(URI.createURI("http:///concurrent.ecore"));
+  }
+
+  protected byte[] save(EObject eObject, Map<?, ?> options) throws Exception
+  {
+    XMLResource resource = createResource();
+    resource.getContents().add(eObject);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, options);
+    return outputStream.toByteArray();
+  }
+}
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.UnresolvedReferenceException;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * XMI tests: a {@link XMLResource#OPTION_ROOT_OBJECT_HANDLER root object handler} sees each root object as it's read and can evict it.
+ */
+public class RootObjectHandlerTest
+{
+  private static final int COUNT = 20;
+
+  private EPackage ePackage;
+
+  private EClass nodeEClass;
+
+  private EAttribute nameEAttribute;
+
+  private EReference childrenEReference;
+
+  private EReference previousEReference;
+
+  private EReference nextEReference;
+
+  private byte[] bytes;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+    ePackage = ecoreFactory.createEPackage();
+    ePackage.setName("streaming");
+    ePackage.setNsPrefix("streaming");
+    ePackage.setNsURI("http://www.eclipse.org/emf/test/xml/streaming");
+
+    nodeEClass = ecoreFactory.createEClass();
+    nodeEClass.setName("Node");
+    ePackage.getEClassifiers().add(nodeEClass);
+
+    nameEAttribute = ecoreFactory.createEAttribute();
+    nameEAttribute.setName("name");
+    nameEAttribute.setEType(EcorePackage.Literals.ESTRING);
+    nameEAttribute.setID(true);
+    nodeEClass.getEStructuralFeatures().add(nameEAttribute);
+
+    childrenEReference = ecoreFactory.createEReference();
+    childrenEReference.setName("children");
+    childrenEReference.setEType(nodeEClass);
+    childrenEReference.setContainment(true);
+    childrenEReference.setUpperBound(-1);
+    nodeEClass.getEStructuralFeatures().add(childrenEReference);
+
+    previousEReference = ecoreFactory.createEReference();
+    previousEReference.setName("previous");
+    previousEReference.setEType(nodeEClass);
+    nodeEClass.getEStructuralFeatures().add(previousEReference);
+
+    nextEReference = ecoreFactory.createEReference();
+    nextEReference.setName("next");
+    nextEReference.setEType(nodeEClass);
+    nodeEClass.getEStructuralFeatures().add(nextEReference);
+
+    // Each root has one child; each root's child refers back to the previous root and forward to the next root.
+    //
+    XMLResource resource = createResource();
+    List<EObject> roots = new ArrayList<EObject>();
+    for (int i = 0; i < COUNT; ++i)
+    {
+      EObject root = EcoreUtil.create(nodeEClass);
+      root.eSet(nameEAttribute, "root" + i);
+      EObject child = EcoreUtil.create(nodeEClass);
+      child.eSet(nameEAttribute, "child" + i);
+      @SuppressWarnings("unchecked")
+      List<EObject> children = (List<EObject>)root.eGet(childrenEReference);
+      children.add(child);
+      roots.add(root);
+    }
+    for (int i = 0; i < COUNT; ++i)
+    {
+      EObject child = roots.get(i).eContents().get(0);
+      if (i > 0)
+      {
+        child.eSet(previousEReference, roots.get(i - 1));
+      }
+      if (i < COUNT - 1)
+      {
+        child.eSet(nextEReference, roots.get(i + 1));
+      }
+    }
+    resource.getContents().addAll(roots);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, null);
+    bytes = outputStream.toByteArray();
+  }
+
+  protected XMLResource createResource()
+  {
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+    XMLResource resource = new XMIResourceImpl(URI.createURI("http:///streaming.xmi"));
+    resourceSet.getResources().add(resource);
+    return resource;
+  }
+
+  @Test
+  public void testRetain() throws Exception
+  {
+    final List<EObject> handledRootObjects = new ArrayList<EObject>();
+    final XMLResource resource = createResource();
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put
+      (XMLResource.OPTION_ROOT_OBJECT_HANDLER,
+       new XMLResource.RootObjectHandler()
+       {
+         public boolean handleRootObject(XMLResource xmlResource, EObject rootObject)
+         {
+           assertSame(resource, xmlResource);
+           handledRootObjects.add(rootObject);
+           return false;
+         }
+       });
+    resource.load(new ByteArrayInputStream(bytes), options);
+
+    assertEquals(COUNT, handledRootObjects.size());
+    assertEquals(handledRootObjects, resource.getContents());
+    for (int i = 0; i < COUNT; ++i)
+    {
+      EObject child = handledRootObjects.get(i).eContents().get(0);
+      assertSame(i == 0 ? null : handledRootObjects.get(i - 1), child.eGet(previousEReference));
+      assertSame(i == COUNT - 1 ? null : handledRootObjects.get(i + 1), child.eGet(nextEReference));
+    }
+    assertTrue(resource.getErrors().isEmpty());
+  }
+
+  @Test
+  public void testEvict() throws Exception
+  {
+    final List<String> handledNames = new ArrayList<String>();
+    final List<Object> previousNames = new ArrayList<Object>();
+    final XMLResource resource = createResource();
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put
+      (XMLResource.OPTION_ROOT_OBJECT_HANDLER,
+       new XMLResource.RootObjectHandler()
+       {
+         public boolean handleRootObject(XMLResource xmlResource, EObject rootObject)
+         {
+           handledNames.add((String)rootObject.eGet(nameEAttribute));
+
+           // The backward reference is resolved before the handler is called.
+           //
+           EObject child = rootObject.eContents().get(0);
+           EObject previous = (EObject)child.eGet(previousEReference);
+           previousNames.add(previous == null ? null : previous.eGet(nameEAttribute));
+
+           // Only the last root is evicted.
+           //
+           return handledNames.size() == COUNT;
+         }
+       });
+    resource.load(new ByteArrayInputStream(bytes), options);
+
+    assertEquals(COUNT, handledNames.size());
+    for (int i = 0; i < COUNT; ++i)
+    {
+      assertEquals("root" + i, handledNames.get(i));
+      assertEquals(i == 0 ? null : "root" + (i - 1), previousNames.get(i));
+    }
+
+    assertEquals(COUNT - 1, resource.getContents().size());
+    assertNull(resource.getEObject("root" + (COUNT - 1)));
+    assertNull(resource.getEObject("child" + (COUNT - 1)));
+    assertSame(resource.getContents().get(0), resource.getEObject("root0"));
+
+    // The forward reference into the evicted tree was resolved before the evicted root was evicted.
+    //
+    EObject lastChild = resource.getContents().get(COUNT - 2).eContents().get(0);
+    EObject evictedRoot = (EObject)lastChild.eGet(nextEReference);
+    assertEquals("root" + (COUNT - 1), evictedRoot.eGet(nameEAttribute));
+    assertFalse(evictedRoot.eIsProxy());
+    assertNull(evictedRoot.eResource());
+    assertTrue(resource.getErrors().isEmpty());
+  }
+
+  @Test
+  public void testEvictReferenced() throws Exception
+  {
+    XMLResource resource = createResource();
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put
+      (XMLResource.OPTION_ROOT_OBJECT_HANDLER,
+       new XMLResource.RootObjectHandler()
+       {
+         public boolean handleRootObject(XMLResource xmlResource, EObject rootObject)
+         {
+           return "root0".equals(rootObject.eGet(nameEAttribute));
+         }
+       });
+    try
+    {
+      resource.load(new ByteArrayInputStream(bytes), options);
+      fail("Expecting an unresolved reference");
+    }
+    catch (IOException exception)
+    {
+      // The second root's child refers to the evicted first root.
+      //
+      assertEquals(1, resource.getErrors().size());
+      assertTrue(resource.getErrors().get(0) instanceof UnresolvedReferenceException);
+    }
+    assertEquals(COUNT - 1, resource.getContents().size());
+  }
+
+  @Test
+  public void testEvictAll() throws Exception
+  {
+    final int[] count = new int[1];
+    XMLResource resource = createResource();
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put
+      (XMLResource.OPTION_ROOT_OBJECT_HANDLER,
+       new XMLResource.RootObjectHandler()
+       {
+         public boolean handleRootObject(XMLResource xmlResource, EObject rootObject)
+         {
+           ++count[0];
+           return true;
+         }
+       });
+    resource.load(new ByteArrayInputStream(bytes), options);
+
+    assertEquals(COUNT, count[0]);
+    assertTrue(resource.getContents().isEmpty());
+    assertTrue(resource.getEObjectToIDMap().isEmpty());
+    assertTrue(resource.getIDToEObjectMap().isEmpty());
+    assertTrue(resource.getErrors().isEmpty());
+  }
+}
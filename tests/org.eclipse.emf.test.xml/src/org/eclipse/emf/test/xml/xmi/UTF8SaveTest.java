@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * All rights reserved.   This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+package org.eclipse.emf.test.xml.xmi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests that a document written directly as UTF-8 bytes is identical to one written via a {@link java.io.Writer}.
+ */
+public class UTF8SaveTest
+{
+  protected Resource resource;
+
+  @Before
+  public void setUp() throws Exception
+  {
+    ResourceSet resourceSet = new ResourceSetImpl();
+    resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore", new EcoreResourceFactoryImpl());
+    resource = resourceSet.createResource(URI.createURI("http:///test.ecore"));
+    EPackage ePackage = EcoreUtil.copy(EcorePackage.eINSTANCE);
+    EAnnotation eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+    eAnnotation.setSource("http://www.eclipse.org/emf/test/utf8");
+    eAnnotation.getDetails().put("text", "café € 😀 <&> \"quoted\"\nline");
+    ePackage.getEAnnotations().add(eAnnotation);
+    resource.getContents().add(ePackage);
+  }
+
+  protected byte[] saveToWriter(Map<Object, Object> options) throws Exception
+  {
+    StringWriter writer = new StringWriter();
+    resource.save(new URIConverter.WriteableOutputStream(writer, "UTF-8"), options);
+    return writer.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  protected byte[] saveToStream(Map<Object, Object> options) throws Exception
+  {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    resource.save(outputStream, options);
+    return outputStream.toByteArray();
+  }
+
+  protected byte[] saveToFile(Map<Object, Object> options) throws Exception
+  {
+    File file = File.createTempFile("UTF8SaveTest", ".ecore");
+    try
+    {
+      OutputStream outputStream = new FileOutputStream(file);
+      try
+      {
+        resource.save(outputStream, options);
+      }
+      finally
+      {
+        outputStream.close();
+      }
+      return Files.readAllBytes(file.toPath());
+    }
+    finally
+    {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testSave() throws Exception
+  {
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_ENCODING, "UTF-8");
+    byte[] expected = saveToWriter(options);
+    assertArrayEquals(expected, saveToStream(options));
+    assertArrayEquals(expected, saveToFile(options));
+
+    options.put(XMLResource.OPTION_FLUSH_THRESHOLD, 100);
+    assertArrayEquals(expected, saveToStream(options));
+  }
+
+  @Test
+  public void testSaveWithFileBuffer() throws Exception
+  {
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_ENCODING, "UTF-8");
+    byte[] expected = saveToWriter(options);
+
+    options.put(XMLResource.OPTION_USE_FILE_BUFFER, Boolean.TRUE);
+    assertArrayEquals(expected, saveToWriter(options));
+    assertArrayEquals(expected, saveToStream(options));
+    assertArrayEquals(expected, saveToFile(options));
+
+    options.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+    assertArrayEquals(expected, saveToStream(options));
+    assertArrayEquals(expected, saveToFile(options));
+  }
+
+  @Test
+  public void testSaveSupplementaryCharacters() throws Exception
+  {
+    Map<Object, Object> options = new HashMap<Object, Object>();
+    options.put(XMLResource.OPTION_ENCODING, "UTF-8");
+    String saved = new String(saveToStream(options), StandardCharsets.UTF_8);
+    assertEquals(1, saved.split("😀", -1).length - 1);
+    assertEquals(1, saved.split("café €", -1).length - 1);
+  }
+}